@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.hql.internal.ast;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.spi.QueryTranslator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import antlr.collections.AST;
+
+/**
+ * Compares {@link RecursiveDescentHqlParser} with the ANTLR generated {@link HqlParser}, on the parse phase
+ * alone and on the whole translation of a query, as happens on a query plan cache miss.
+ * <p/>
+ * Run with {@code ./gradlew :hibernate-core:jmh}, which also reports the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HqlParserBenchmark {
+
+	@Param({
+			"select c.name, count(o) from Customer c join c.orders o where c.region = :region and o.total > 100 group by c.name order by c.name",
+			"select o from PurchaseOrder o left join fetch o.customer c where o.status in (:statuses) and c.name like :name and o.total between 10 and 1000 and o.shipped is not null order by o.total desc",
+			"select sum(o.total), max(o.total), upper(c.name) from PurchaseOrder o join o.customer c where not ( c.region = 'EU' or c.region = 'US' ) group by upper(c.name) having sum(o.total) > ?1"
+	})
+	public String hql;
+
+	@Param({ "false", "true" })
+	public boolean recursiveDescent;
+
+	private StandardServiceRegistry serviceRegistry;
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup(Level.Trial)
+	public void buildSessionFactory() {
+		serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DIALECT, H2Dialect.class.getName() )
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:benchmark" )
+				.applySetting( AvailableSettings.RECURSIVE_DESCENT_HQL_PARSER, Boolean.toString( recursiveDescent ) )
+				.build();
+		sessionFactory = (SessionFactoryImplementor) new MetadataSources( serviceRegistry )
+				.addAnnotatedClass( Customer.class )
+				.addAnnotatedClass( PurchaseOrder.class )
+				.buildMetadata()
+				.buildSessionFactory();
+	}
+
+	@TearDown(Level.Trial)
+	public void closeSessionFactory() {
+		sessionFactory.close();
+		StandardServiceRegistryBuilder.destroy( serviceRegistry );
+	}
+
+	@Benchmark
+	public AST parse() throws Exception {
+		final HqlParser parser = HqlParser.getInstance( hql );
+		parser.setFilter( true );
+		if ( recursiveDescent ) {
+			final AST ast = RecursiveDescentHqlParser.parse( hql, parser.getASTFactory() );
+			if ( ast != null ) {
+				return ast;
+			}
+		}
+		parser.statement();
+		return parser.getAST();
+	}
+
+	@Benchmark
+	public String translate() {
+		final QueryTranslator translator = new ASTQueryTranslatorFactory().createQueryTranslator(
+				hql,
+				hql,
+				Collections.emptyMap(),
+				sessionFactory,
+				null
+		);
+		translator.compile( Collections.emptyMap(), false );
+		return translator.getSQLString();
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		Long id;
+
+		String name;
+
+		String region;
+
+		@OneToMany(mappedBy = "customer")
+		Set<PurchaseOrder> orders;
+	}
+
+	@Entity(name = "PurchaseOrder")
+	public static class PurchaseOrder {
+		@Id
+		Long id;
+
+		String status;
+
+		Double total;
+
+		java.util.Date shipped;
+
+		@ManyToOne
+		Customer customer;
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads multiple entities at once by natural id, ultimately via one of the {@link #multiLoad} methods,
+ * using the various options specified (if any).
+ * <p/>
+ * The natural ids are first resolved against the Session and the second-level natural-id cache; the
+ * remaining ones are resolved in batches of natural id restrictions, and the entities are then loaded
+ * by identifier as in {@link MultiIdentifierLoadAccess}.
+ * <p/>
+ * A simple (single attribute) natural id is given as its value; a natural id made up of multiple
+ * attributes is given as a {@code Map} of the attribute names to their values, see {@link #compoundValue}.
+ *
+ * @see Session#byMultipleNaturalIds
+ * @see NaturalIdLoadAccess
+ */
+public interface MultiNaturalIdLoadAccess<T> {
+	/**
+	 * Specify the {@link LockOptions} to use when retrieving the entities.
+	 *
+	 * @param lockOptions The lock options to use.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	MultiNaturalIdLoadAccess<T> with(LockOptions lockOptions);
+
+	/**
+	 * Specify the {@link CacheMode} to use when retrieving the entities.
+	 *
+	 * @param cacheMode The CacheMode to use.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	MultiNaturalIdLoadAccess<T> with(CacheMode cacheMode);
+
+	/**
+	 * Specify a batch size for resolving the natural ids and loading the entities (how many at a time).
+	 * The default is to use a batch sizing strategy defined by the Dialect in use.
+	 *
+	 * @param batchSize The batch size
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see MultiIdentifierLoadAccess#withBatchSize
+	 */
+	MultiNaturalIdLoadAccess<T> withBatchSize(int batchSize);
+
+	/**
+	 * For entities with mutable natural ids, should Hibernate perform "synchronization" prior to performing
+	 * lookups?  The default is to perform "synchronization" (for correctness).
+	 * <p/>
+	 * See {@link NaturalIdLoadAccess#setSynchronizationEnabled} for detailed discussion.
+	 *
+	 * @param enabled Should synchronization be performed?  {@code true} indicates synchronization will be performed;
+	 * {@code false} indicates it will be circumvented.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	MultiNaturalIdLoadAccess<T> setSynchronizationEnabled(boolean enabled);
+
+	/**
+	 * Should the return List be ordered and positional in relation to the incoming natural ids?  If enabled
+	 * (the default), a {@code null} is inserted into the List for each unknown natural id.  If disabled, the
+	 * nulls are not put into the return List.
+	 *
+	 * @param enabled {@code true} (the default) enables ordering; {@code false} disables it.
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see MultiIdentifierLoadAccess#enableOrderedReturn
+	 */
+	MultiNaturalIdLoadAccess<T> enableOrderedReturn(boolean enabled);
+
+	/**
+	 * Perform a load of multiple entities by natural ids.  See {@link #enableOrderedReturn} for options which
+	 * effect the size and "shape" of the return list.
+	 *
+	 * @param naturalIds The natural ids to load
+	 *
+	 * @return The persistent entities.
+	 */
+	List<T> multiLoad(Object... naturalIds);
+
+	/**
+	 * Perform a load of multiple entities by natural ids.  See {@link #enableOrderedReturn} for options which
+	 * effect the size and "shape" of the return list.
+	 *
+	 * @param naturalIds The natural ids to load
+	 *
+	 * @return The persistent entities.
+	 */
+	List<T> multiLoad(List<?> naturalIds);
+
+	/**
+	 * Helper for creating a natural id made up of multiple attributes, from the alternating attribute names
+	 * and values.  For example, {@code compoundValue( "system", "prod", "userName", "steve" )}.
+	 *
+	 * @param elements The attribute names and values
+	 *
+	 * @return The natural id, to be passed to {@link #multiLoad}
+	 */
+	static Map<String, Object> compoundValue(Object... elements) {
+		if ( elements.length % 2 != 0 ) {
+			throw new IllegalArgumentException( "Compound natural id values must be given as name/value pairs" );
+		}
+
+		final Map<String, Object> naturalId = new HashMap<>();
+		for ( int i = 0; i < elements.length; i += 2 ) {
+			naturalId.put( (String) elements[i], elements[i + 1] );
+		}
+		return naturalId;
+	}
+}
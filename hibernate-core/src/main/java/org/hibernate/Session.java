@@ -9,6 +9,7 @@ package org.hibernate;
 import java.io.Closeable;
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.Collection;
 import java.util.List;
 import javax.persistence.EntityGraph;
 import javax.persistence.EntityManager;
@@ -507,6 +508,19 @@ public interface Session extends SharedSessionContract, EntityManager, Hibernate
 	 */
 	Object merge(String entityName, Object object);
 
+	/**
+	 * Copy the state of each of the given objects onto the persistent object with the same
+	 * identifier, as {@link #merge(Object)} does.  The persistent instances not associated with
+	 * the session yet, of the given objects and of the instances reachable from them through
+	 * associations mapped with {@code cascade="merge"}, are loaded beforehand: with one
+	 * statement per entity type and batch, rather than one statement per instance.
+	 *
+	 * @param objects detached instances with state to be copied
+	 *
+	 * @return the updated persistent instances, positional to the given objects
+	 */
+	<T> List<T> mergeAll(Collection<? extends T> objects);
+
 	/**
 	 * Make a transient instance persistent. This operation cascades to associated
 	 * instances if the association is mapped with {@code cascade="persist"}
@@ -894,6 +908,32 @@ public interface Session extends SharedSessionContract, EntityManager, Hibernate
 	 */
 	<T> SimpleNaturalIdLoadAccess<T> bySimpleNaturalId(Class<T> entityClass);
 
+	/**
+	 * Create a {@link MultiNaturalIdLoadAccess} instance to retrieve multiple entities at once
+	 * as specified by natural id values.
+	 *
+	 * @param entityClass The entity type to be retrieved
+	 *
+	 * @return load delegate for loading the specified entity type by natural id values
+	 *
+	 * @throws HibernateException If the specified Class cannot be resolved as a mapped entity, or if the
+	 * entity does not define a natural-id
+	 */
+	<T> MultiNaturalIdLoadAccess<T> byMultipleNaturalIds(Class<T> entityClass);
+
+	/**
+	 * Create a {@link MultiNaturalIdLoadAccess} instance to retrieve multiple entities at once
+	 * as specified by natural id values.
+	 *
+	 * @param entityName The entity name of the entity type to be retrieved
+	 *
+	 * @return load delegate for loading the specified entity type by natural id values
+	 *
+	 * @throws HibernateException If the specified entity name cannot be resolved as an entity name, or if the
+	 * entity does not define a natural-id
+	 */
+	MultiNaturalIdLoadAccess byMultipleNaturalIds(String entityName);
+
 	/**
 	 * Enable the named filter for this current session.
 	 *
@@ -106,6 +106,22 @@ public interface SessionBuilder<T extends SessionBuilder> {
 	 */
 	T flushMode(FlushMode flushMode);
 
+	/**
+	 * Should the opened Session be read-only?  A read-only Session loads all entities read-only and takes
+	 * no snapshot of their collections.  It never flushes, neither before queries nor at transaction
+	 * completion.  It rejects the operations which would write, like flush, persist, merge, delete or
+	 * bulk updates, as well as the lock modes which increment the version (like
+	 * {@link LockMode#PESSIMISTIC_FORCE_INCREMENT}) when locking, loading or refreshing an entity or when
+	 * running a HQL or native query.  The lock modes of legacy Criteria queries are not checked.
+	 *
+	 * @param readOnly Whether the opened Session should be read-only
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see Session#setDefaultReadOnly
+	 */
+	T readOnly(boolean readOnly);
+
 	/**
 	 * Define the tenant identifier to be associated with the opened session.
 	 *
@@ -46,5 +46,20 @@ public interface SessionEventListener extends Serializable {
 	public void dirtyCalculationStart();
 	public void dirtyCalculationEnd(boolean dirty);
 
+	/**
+	 * An N+1 select was detected: the query was followed by the given number of association fetches of the
+	 * same entity or collection role, each hitting the database.
+	 *
+	 * @param query The query the association fetches are attributed to, {@code null} if the Session has not
+	 * executed any query
+	 * @param role The fetched entity name or collection role
+	 * @param collection Whether the role is a collection role
+	 * @param fetchCount The number of association fetches
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_DETECTION_THRESHOLD
+	 */
+	default void nPlusOneDetected(String query, String role, boolean collection, int fetchCount) {
+	}
+
 	public void end();
 }
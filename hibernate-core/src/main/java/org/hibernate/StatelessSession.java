@@ -9,6 +9,9 @@ package org.hibernate;
 import java.io.Closeable;
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.hibernate.query.NativeQuery;
 
@@ -53,6 +56,21 @@ public interface StatelessSession extends SharedSessionContract, AutoCloseable,
 	 */
 	Serializable insert(String entityName, Object entity);
 
+	/**
+	 * Insert several rows.  The inserts are grouped by entity, so that the rows of each entity are
+	 * written through JDBC batches of <tt>hibernate.jdbc.batch_size</tt> statements, the entities
+	 * referenced through many-to-one associations being inserted first.  The identifiers of each
+	 * entity are generated before any of its rows is inserted.  All the rows have been written to
+	 * the database once the method returns.
+	 *
+	 * @param entities new transient instances
+	 *
+	 * @return the identifiers of the instances, in iteration order
+	 *
+	 * @since 5.4.2
+	 */
+	List<Serializable> insertAll(Collection<?> entities);
+
 	/**
 	 * Update a row.
 	 *
@@ -68,6 +86,18 @@ public interface StatelessSession extends SharedSessionContract, AutoCloseable,
 	 */
 	void update(String entityName, Object entity);
 
+	/**
+	 * Update several rows, grouping the updates by entity into JDBC batches.  All the rows have been
+	 * written to the database once the method returns.
+	 *
+	 * @param entities detached entity instances
+	 *
+	 * @see #insertAll(Collection)
+	 *
+	 * @since 5.4.2
+	 */
+	void updateAll(Collection<?> entities);
+
 	/**
 	 * Delete a row.
 	 *
@@ -83,6 +113,19 @@ public interface StatelessSession extends SharedSessionContract, AutoCloseable,
 	 */
 	void delete(String entityName, Object entity);
 
+	/**
+	 * Delete several rows, grouping the deletes by entity into JDBC batches, the entities referencing
+	 * others through many-to-one associations being deleted first.  All the rows have been deleted
+	 * from the database once the method returns.
+	 *
+	 * @param entities detached entity instances
+	 *
+	 * @see #insertAll(Collection)
+	 *
+	 * @since 5.4.2
+	 */
+	void deleteAll(Collection<?> entities);
+
 	/**
 	 * Retrieve a row.
 	 *
@@ -175,4 +218,51 @@ public interface StatelessSession extends SharedSessionContract, AutoCloseable,
 
 	@Override
 	NativeQuery createSQLQuery(String queryString);
+
+	/**
+	 * Stream all the instances of the given entity, scanning them in identifier ranges.  Each
+	 * range is read through its own stateless session, so that the parallel stream returned can
+	 * use several connections at once.  The entity must have an integral identifier.
+	 *
+	 * @param entityClass The entity to stream
+	 * @param partitionCount The number of identifier ranges
+	 *
+	 * @return The parallel stream of the entity instances
+	 *
+	 * @see org.hibernate.query.Query#partitionedStream(String, int)
+	 *
+	 * @since 5.4.2
+	 */
+	<T> Stream<T> streamPartitioned(Class<T> entityClass, int partitionCount);
+
+	/**
+	 * Enable the named filter for the queries of this stateless session.
+	 *
+	 * @param filterName The name of the filter to be enabled.
+	 *
+	 * @return The Filter instance representing the enabled filter.
+	 *
+	 * @since 5.4.2
+	 */
+	Filter enableFilter(String filterName);
+
+	/**
+	 * Retrieve a currently enabled filter by name.
+	 *
+	 * @param filterName The name of the filter to be retrieved.
+	 *
+	 * @return The Filter instance representing the enabled filter.
+	 *
+	 * @since 5.4.2
+	 */
+	Filter getEnabledFilter(String filterName);
+
+	/**
+	 * Disable the named filter for this stateless session.
+	 *
+	 * @param filterName The name of the filter to be disabled.
+	 *
+	 * @since 5.4.2
+	 */
+	void disableFilter(String filterName);
 }
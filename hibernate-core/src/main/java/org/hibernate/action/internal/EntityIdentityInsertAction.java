@@ -7,6 +7,8 @@
 package org.hibernate.action.internal;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -19,7 +21,10 @@ import org.hibernate.event.spi.PostInsertEvent;
 import org.hibernate.event.spi.PostInsertEventListener;
 import org.hibernate.event.spi.PreInsertEvent;
 import org.hibernate.event.spi.PreInsertEventListener;
+import org.hibernate.id.PostInsertIdentityPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
 
 /**
  * The action for performing entity insertions when entity is using IDENTITY column identifier generation
@@ -66,19 +71,125 @@ public final class EntityIdentityInsertAction extends AbstractEntityInsertAction
 
 	@Override
 	public void execute() throws HibernateException {
-		nullifyTransientReferencesIfNotAlready();
+		if ( prepareInsert() ) {
+			generatedId = getPersister().insert( getState(), getInstance(), getSession() );
+		}
+		completeInsert();
+	}
 
-		final EntityPersister persister = getPersister();
-		final SharedSessionContractImplementor session = getSession();
-		final Object instance = getInstance();
+	/**
+	 * Execute the given IDENTITY inserts as a single JDBC batch.  All the actions must be
+	 * {@link #canBeBatchedWith batchable} together.
+	 *
+	 * @param actions The insert actions
+	 *
+	 * @throws HibernateException Indicates a problem performing the inserts
+	 */
+	public static void executeBatch(List<EntityIdentityInsertAction> actions) throws HibernateException {
+		final List<EntityIdentityInsertAction> inserts = new ArrayList<>( actions.size() );
+		for ( EntityIdentityInsertAction action : actions ) {
+			if ( action.prepareInsert() ) {
+				inserts.add( action );
+			}
+		}
 
-		setVeto( preInsert() );
+		if ( !inserts.isEmpty() ) {
+			final EntityIdentityInsertAction first = inserts.get( 0 );
+			final Object[][] states = new Object[inserts.size()][];
+			final Object[] instances = new Object[inserts.size()];
+			for ( int i = 0; i < inserts.size(); i++ ) {
+				states[i] = inserts.get( i ).getState();
+				instances[i] = inserts.get( i ).getInstance();
+			}
+			final Serializable[] ids = ( (PostInsertIdentityPersister) first.getPersister() ).insert(
+					states,
+					instances,
+					first.getSession()
+			);
+			for ( int i = 0; i < inserts.size(); i++ ) {
+				inserts.get( i ).generatedId = ids[i];
+			}
+		}
 
+		for ( EntityIdentityInsertAction action : actions ) {
+			action.completeInsert();
+		}
+	}
+
+	/**
+	 * Can this (delayed) insert be executed as part of a JDBC batch?
+	 *
+	 * @return {@code true} if the insert is batchable
+	 *
+	 * @see PostInsertIdentityPersister#isIdentityInsertBatchable()
+	 */
+	public boolean isBatchable() {
+		return isDelayed
+				&& getPersister() instanceof PostInsertIdentityPersister
+				&& ( (PostInsertIdentityPersister) getPersister() ).isIdentityInsertBatchable();
+	}
+
+	/**
+	 * Can this insert be executed in the same JDBC batch as the given inserts?  That is the case
+	 * for inserts of the same entity, provided this one does not reference any of the entities
+	 * inserted by the batch (whose identifiers are not known until the batch is executed).
+	 *
+	 * @param batch The (batchable) inserts making up the batch so far
+	 *
+	 * @return {@code true} if this insert can be added to the batch
+	 */
+	public boolean canBeBatchedWith(List<EntityIdentityInsertAction> batch) {
+		if ( !isBatchable() || batch.get( 0 ).getPersister() != getPersister() ) {
+			return false;
+		}
+		final Type[] types = getPersister().getPropertyTypes();
+		final Object[] state = getState();
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( references( state[i], types[i], batch ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean references(Object value, Type type, List<EntityIdentityInsertAction> batch) {
+		if ( value == null ) {
+			return false;
+		}
+		if ( type.isEntityType() || type.isAnyType() ) {
+			for ( EntityIdentityInsertAction action : batch ) {
+				if ( action.getInstance() == value ) {
+					return true;
+				}
+			}
+		}
+		else if ( type.isComponentType() ) {
+			final CompositeType compositeType = (CompositeType) type;
+			final Object[] values = compositeType.getPropertyValues( value, getSession() );
+			final Type[] subtypes = compositeType.getSubtypes();
+			for ( int i = 0; i < subtypes.length; i++ ) {
+				if ( references( values[i], subtypes[i], batch ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean prepareInsert() {
+		nullifyTransientReferencesIfNotAlready();
+		setVeto( preInsert() );
 		// Don't need to lock the cache here, since if someone
 		// else inserted the same pk first, the insert would fail
+		return !isVeto();
+	}
+
+	private void completeInsert() {
+		final EntityPersister persister = getPersister();
+		final SharedSessionContractImplementor session = getSession();
+		final Object instance = getInstance();
 
 		if ( !isVeto() ) {
-			generatedId = persister.insert( getState(), instance, session );
 			if ( persister.hasInsertGeneratedProperties() ) {
 				persister.processInsertGeneratedProperties( generatedId, instance, getState(), session );
 			}
@@ -112,21 +112,10 @@ public class JarFileBasedArchiveDescriptor extends AbstractArchiveDescriptor {
 				else {
 					final String name = extractName( zipEntry );
 					final String relativeName = extractRelativeName( zipEntry );
-					final InputStreamAccess inputStreamAccess;
-					try (InputStream is = jarFile.getInputStream( zipEntry )) {
-						inputStreamAccess = buildByteBasedInputStreamAccess( name, is );
-					}
-					catch (IOException e) {
-						throw new ArchiveException(
-								String.format(
-										"Unable to access stream from jar file [%s] for entry [%s]",
-										jarFile.getName(),
-										zipEntry.getName()
-								)
-						);
-					}
 
 					final ArchiveEntry entry = new ArchiveEntry() {
+						private InputStreamAccess inputStreamAccess;
+
 						@Override
 						public String getName() {
 							return name;
@@ -139,6 +128,23 @@ public class JarFileBasedArchiveDescriptor extends AbstractArchiveDescriptor {
 
 						@Override
 						public InputStreamAccess getStreamAccess() {
+							// the bytes are only extracted when first asked for (while the JarFile is still
+							// open) so that entries the handler can categorize without reading them - e.g.
+							// from a Jandex index - are never read
+							if ( inputStreamAccess == null ) {
+								try (InputStream is = jarFile.getInputStream( zipEntry )) {
+									inputStreamAccess = buildByteBasedInputStreamAccess( name, is );
+								}
+								catch (IOException e) {
+									throw new ArchiveException(
+											String.format(
+													"Unable to access stream from jar file [%s] for entry [%s]",
+													jarFile.getName(),
+													zipEntry.getName()
+											)
+									);
+								}
+							}
 							return inputStreamAccess;
 						}
 					};
@@ -0,0 +1,242 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.archive.scan.internal;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Enumeration;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.jboss.logging.Logger;
+
+/**
+ * Locates the Jandex index to use when scanning an archive: either one bundled with the
+ * archive as {@value #INDEX_ENTRY_NAME}, or one previously built by the scanner and persisted
+ * in the {@link ScanOptions#getArchiveIndexCacheDirectory() index cache directory}.
+ * <p/>
+ * Only archives available as local files (jar files and directories) are considered; any other
+ * archive, as well as any problem reading an index, simply leads to the class files being read.
+ * A bundled index is ignored when any class file of the archive is more recent than the index.
+ */
+public class ArchiveIndexResolver {
+	private static final Logger log = Logger.getLogger( ArchiveIndexResolver.class );
+
+	public static final String INDEX_ENTRY_NAME = "META-INF/jandex.idx";
+
+	private final boolean enabled;
+	private final File cacheDirectory;
+
+	public ArchiveIndexResolver(ScanOptions options) {
+		this.enabled = options.canUseArchiveIndexes();
+		this.cacheDirectory = enabled && options.getArchiveIndexCacheDirectory() != null
+				? new File( options.getArchiveIndexCacheDirectory() )
+				: null;
+	}
+
+	/**
+	 * Resolve the index to use for the given archive.
+	 *
+	 * @param archiveUrl The archive URL
+	 *
+	 * @return The index, or {@code null} if there is none.
+	 */
+	public IndexView resolveIndex(URL archiveUrl) {
+		if ( !enabled ) {
+			return null;
+		}
+
+		final File archiveFile = toLocalFile( archiveUrl );
+		if ( archiveFile == null ) {
+			return null;
+		}
+
+		if ( archiveFile.isDirectory() ) {
+			final File indexFile = new File( archiveFile, INDEX_ENTRY_NAME );
+			if ( !indexFile.isFile() ) {
+				return null;
+			}
+			if ( hasNewerClassFile( archiveFile, indexFile.lastModified() ) ) {
+				log.debugf( "Ignoring out of date Jandex index of archive [%s]", archiveUrl );
+				return null;
+			}
+			return readIndex( indexFile );
+		}
+
+		if ( archiveFile.isFile() ) {
+			try ( JarFile jarFile = new JarFile( archiveFile ) ) {
+				final ZipEntry indexEntry = jarFile.getEntry( INDEX_ENTRY_NAME );
+				if ( indexEntry != null && hasNewerClassEntry( jarFile, indexEntry.getTime() ) ) {
+					log.debugf( "Ignoring out of date Jandex index of archive [%s]", archiveUrl );
+				}
+				else if ( indexEntry != null ) {
+					try ( InputStream stream = jarFile.getInputStream( indexEntry ) ) {
+						return readIndex( stream, archiveUrl );
+					}
+				}
+			}
+			catch (IOException e) {
+				log.debugf( e, "Unable to access bundled Jandex index of archive [%s]", archiveUrl );
+			}
+
+			final File cachedIndexFile = cachedIndexFile( archiveFile );
+			if ( cachedIndexFile != null && cachedIndexFile.isFile() ) {
+				return readIndex( cachedIndexFile );
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Creates the indexer to fill while scanning the given archive, if the index it builds is
+	 * to be persisted.  Should be called only when {@link #resolveIndex} did not find an index.
+	 *
+	 * @param archiveUrl The archive URL
+	 *
+	 * @return The indexer, or {@code null} if no index should be built for the archive.
+	 */
+	public Indexer createIndexer(URL archiveUrl) {
+		if ( cacheDirectory == null ) {
+			return null;
+		}
+		final File archiveFile = toLocalFile( archiveUrl );
+		return archiveFile != null && archiveFile.isFile() ? new Indexer() : null;
+	}
+
+	/**
+	 * Persists the index built while scanning the given archive.
+	 *
+	 * @param archiveUrl The archive URL
+	 * @param indexer The indexer, as obtained from {@link #createIndexer}
+	 */
+	public void storeIndex(URL archiveUrl, Indexer indexer) {
+		final File archiveFile = toLocalFile( archiveUrl );
+		final File indexFile = archiveFile == null ? null : cachedIndexFile( archiveFile );
+		if ( indexFile == null ) {
+			return;
+		}
+
+		try {
+			if ( !cacheDirectory.isDirectory() && !cacheDirectory.mkdirs() ) {
+				log.debugf( "Unable to create Jandex index cache directory [%s]", cacheDirectory );
+				return;
+			}
+
+			// drop indexes built for previous versions of the archive
+			final String prefix = cachedIndexFilePrefix( archiveFile );
+			final File[] staleIndexFiles = cacheDirectory.listFiles( (dir, name) -> name.startsWith( prefix ) );
+			if ( staleIndexFiles != null ) {
+				for ( File staleIndexFile : staleIndexFiles ) {
+					staleIndexFile.delete();
+				}
+			}
+
+			final File tempFile = File.createTempFile( prefix, ".tmp", cacheDirectory );
+			try ( OutputStream stream = new FileOutputStream( tempFile ) ) {
+				new IndexWriter( stream ).write( indexer.complete() );
+			}
+			Files.move( tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to persist Jandex index of archive [%s]", archiveUrl );
+		}
+	}
+
+	// a bundled index is only trusted if no class file of the archive was modified after it was written
+
+	private static boolean hasNewerClassEntry(JarFile jarFile, long indexTime) {
+		if ( indexTime < 0 ) {
+			return true;
+		}
+		final Enumeration<JarEntry> entries = jarFile.entries();
+		while ( entries.hasMoreElements() ) {
+			final JarEntry entry = entries.nextElement();
+			if ( entry.getName().endsWith( ".class" ) && entry.getTime() > indexTime ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean hasNewerClassFile(File directory, long indexTime) {
+		try ( Stream<Path> files = Files.walk( directory.toPath() ) ) {
+			return files.anyMatch(
+					path -> path.toString().endsWith( ".class" ) && path.toFile().lastModified() > indexTime
+			);
+		}
+		catch (IOException | UncheckedIOException e) {
+			log.debugf( e, "Unable to check Jandex index of archive [%s]", directory );
+			return true;
+		}
+	}
+
+	private File cachedIndexFile(File archiveFile) {
+		if ( cacheDirectory == null ) {
+			return null;
+		}
+		return new File(
+				cacheDirectory,
+				cachedIndexFilePrefix( archiveFile ) + archiveFile.length() + '-' + archiveFile.lastModified() + ".idx"
+		);
+	}
+
+	private static String cachedIndexFilePrefix(File archiveFile) {
+		return archiveFile.getName() + '-' + Integer.toHexString( archiveFile.getAbsolutePath().hashCode() ) + '-';
+	}
+
+	private static IndexView readIndex(File indexFile) {
+		try ( InputStream stream = new FileInputStream( indexFile ) ) {
+			return readIndex( stream, indexFile );
+		}
+		catch (IOException e) {
+			log.debugf( e, "Unable to read Jandex index [%s]", indexFile );
+			return null;
+		}
+	}
+
+	private static IndexView readIndex(InputStream stream, Object origin) {
+		try {
+			return new IndexReader( stream ).read();
+		}
+		catch (IOException | RuntimeException e) {
+			// RuntimeException : IllegalArgumentException/UnsupportedVersion for indexes written by another Jandex version
+			log.debugf( e, "Unable to read Jandex index [%s]", origin );
+			return null;
+		}
+	}
+
+	private static File toLocalFile(URL url) {
+		if ( !"file".equals( url.getProtocol() ) ) {
+			return null;
+		}
+		try {
+			return new File( url.toURI() );
+		}
+		catch (URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+}
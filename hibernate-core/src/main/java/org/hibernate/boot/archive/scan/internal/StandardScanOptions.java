@@ -15,12 +15,25 @@ public class StandardScanOptions implements ScanOptions {
 	private final boolean detectClassesInRoot;
 	private final boolean detectClassesInNonRoot;
 	private final boolean detectHibernateMappingFiles;
+	private final boolean useArchiveIndexes;
+	private final String archiveIndexCacheDirectory;
 
 	public StandardScanOptions() {
 		this( "hbm,class", false );
 	}
 
 	public StandardScanOptions(String explicitDetectionSetting, boolean persistenceUnitExcludeUnlistedClassesValue) {
+		this( explicitDetectionSetting, persistenceUnitExcludeUnlistedClassesValue, false, null );
+	}
+
+	public StandardScanOptions(
+			String explicitDetectionSetting,
+			boolean persistenceUnitExcludeUnlistedClassesValue,
+			boolean useArchiveIndexes,
+			String archiveIndexCacheDirectory) {
+		this.useArchiveIndexes = useArchiveIndexes;
+		this.archiveIndexCacheDirectory = archiveIndexCacheDirectory;
+
 		if ( explicitDetectionSetting == null ) {
 			detectHibernateMappingFiles = true;
 			detectClassesInRoot = ! persistenceUnitExcludeUnlistedClassesValue;
@@ -47,4 +60,14 @@ public class StandardScanOptions implements ScanOptions {
 	public boolean canDetectHibernateMappingFiles() {
 		return detectHibernateMappingFiles;
 	}
+
+	@Override
+	public boolean canUseArchiveIndexes() {
+		return useArchiveIndexes;
+	}
+
+	@Override
+	public String getArchiveIndexCacheDirectory() {
+		return archiveIndexCacheDirectory;
+	}
 }
@@ -10,6 +10,7 @@ import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.hibernate.boot.archive.scan.internal.ArchiveIndexResolver;
 import org.hibernate.boot.archive.scan.internal.ScanResultCollector;
 import org.hibernate.boot.archive.spi.ArchiveContext;
 import org.hibernate.boot.archive.spi.ArchiveDescriptor;
@@ -18,6 +19,9 @@ import org.hibernate.boot.archive.spi.ArchiveEntry;
 import org.hibernate.boot.archive.spi.ArchiveEntryHandler;
 import org.hibernate.boot.archive.spi.JarFileEntryUrlAdjuster;
 
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+
 /**
  * @author Steve Ebersole
  */
@@ -32,24 +36,47 @@ public abstract class AbstractScannerImpl implements Scanner {
 	@Override
 	public ScanResult scan(ScanEnvironment environment, ScanOptions options, ScanParameters parameters) {
 		final ScanResultCollector collector = new ScanResultCollector( environment, options, parameters );
+		final ArchiveIndexResolver indexResolver = new ArchiveIndexResolver( options );
 
 		if ( environment.getNonRootUrls() != null ) {
-			final ArchiveContext context = new ArchiveContextImpl( false, collector );
 			for ( URL url : environment.getNonRootUrls() ) {
-				final ArchiveDescriptor descriptor = buildArchiveDescriptor( url, environment, false );
-				descriptor.visitArchive( context );
+				visitArchive( url, environment, false, collector, indexResolver );
 			}
 		}
 
 		if ( environment.getRootUrl() != null ) {
-			final ArchiveContext context = new ArchiveContextImpl( true, collector );
-			final ArchiveDescriptor descriptor = buildArchiveDescriptor( environment.getRootUrl(), environment, true );
-			descriptor.visitArchive( context );
+			visitArchive( environment.getRootUrl(), environment, true, collector, indexResolver );
 		}
 
 		return collector.toScanResult();
 	}
 
+	private void visitArchive(
+			URL url,
+			ScanEnvironment environment,
+			boolean isRootUrl,
+			ScanResultCollector collector,
+			ArchiveIndexResolver indexResolver) {
+		final ArchiveDescriptor descriptor = buildArchiveDescriptor( url, environment, isRootUrl );
+
+		final URL archiveUrl = adjustUrl( url, environment, isRootUrl );
+		final IndexView index = indexResolver.resolveIndex( archiveUrl );
+		final Indexer indexer = index == null ? indexResolver.createIndexer( archiveUrl ) : null;
+
+		descriptor.visitArchive( new ArchiveContextImpl( isRootUrl, collector, index, indexer ) );
+
+		if ( indexer != null ) {
+			indexResolver.storeIndex( archiveUrl, indexer );
+		}
+	}
+
+	private URL adjustUrl(URL url, ScanEnvironment environment, boolean isRootUrl) {
+		if ( !isRootUrl && archiveDescriptorFactory instanceof JarFileEntryUrlAdjuster ) {
+			return ( (JarFileEntryUrlAdjuster) archiveDescriptorFactory ).adjustJarFileEntryUrl( url, environment.getRootUrl() );
+		}
+		return url;
+	}
+
 
 	private ArchiveDescriptor buildArchiveDescriptor(
 			URL url,
@@ -58,10 +85,7 @@ public abstract class AbstractScannerImpl implements Scanner {
 		final ArchiveDescriptor descriptor;
 		final ArchiveDescriptorInfo descriptorInfo = archiveDescriptorCache.get( url );
 		if ( descriptorInfo == null ) {
-			if ( !isRootUrl && archiveDescriptorFactory instanceof JarFileEntryUrlAdjuster ) {
-				url = ( (JarFileEntryUrlAdjuster) archiveDescriptorFactory ).adjustJarFileEntryUrl( url, environment.getRootUrl() );
-			}
-			descriptor = archiveDescriptorFactory.buildArchiveDescriptor( url );
+			descriptor = archiveDescriptorFactory.buildArchiveDescriptor( adjustUrl( url, environment, isRootUrl ) );
 			archiveDescriptorCache.put(
 					url,
 					new ArchiveDescriptorInfo( descriptor, isRootUrl )
@@ -113,9 +137,17 @@ public abstract class AbstractScannerImpl implements Scanner {
 		private final ArchiveEntryHandler fileEntryHandler;
 
 		public ArchiveContextImpl(boolean isRootUrl, ScanResultCollector scanResultCollector) {
+			this( isRootUrl, scanResultCollector, null, null );
+		}
+
+		public ArchiveContextImpl(
+				boolean isRootUrl,
+				ScanResultCollector scanResultCollector,
+				IndexView index,
+				Indexer indexer) {
 			this.isRootUrl = isRootUrl;
 
-			this.classEntryHandler = new ClassFileArchiveEntryHandler( scanResultCollector );
+			this.classEntryHandler = new ClassFileArchiveEntryHandler( scanResultCollector, index, indexer );
 			this.packageEntryHandler = new PackageInfoArchiveEntryHandler( scanResultCollector );
 			this.fileEntryHandler = new NonClassFileArchiveEntryHandler( scanResultCollector );
 		}
@@ -24,28 +24,68 @@ import org.hibernate.boot.archive.spi.ArchiveEntry;
 import org.hibernate.boot.archive.spi.ArchiveEntryHandler;
 import org.hibernate.boot.archive.spi.ArchiveException;
 
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+
 /**
  * Defines handling and filtering for class file entries within an archive
  *
  * @author Steve Ebersole
  */
 public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
+	private static final DotName ENTITY = DotName.createSimple( Entity.class.getName() );
+	private static final DotName MAPPED_SUPERCLASS = DotName.createSimple( MappedSuperclass.class.getName() );
+	private static final DotName EMBEDDABLE = DotName.createSimple( Embeddable.class.getName() );
+	private static final DotName CONVERTER = DotName.createSimple( Converter.class.getName() );
+
 	private final ScanResultCollector resultCollector;
+	private final IndexView index;
+	private final Indexer indexer;
 
 	public ClassFileArchiveEntryHandler(ScanResultCollector resultCollector) {
+		this( resultCollector, null, null );
+	}
+
+	/**
+	 * Constructs a handler for the classes of a single archive.
+	 *
+	 * @param resultCollector The collector of the scan results
+	 * @param index An existing index of the archive classes, if any; classes are
+	 * then categorized from the index instead of reading their class file.
+	 * @param indexer An indexer to fill with the archive classes, if any; class files
+	 * which need to be read are then read through Jandex so that an index of the
+	 * archive can be persisted.
+	 */
+	public ClassFileArchiveEntryHandler(ScanResultCollector resultCollector, IndexView index, Indexer indexer) {
 		this.resultCollector = resultCollector;
+		this.index = index;
+		this.indexer = indexer;
 	}
 
 	@Override
 	public void handleEntry(ArchiveEntry entry, ArchiveContext context) {
-		// Ultimately we'd like to leverage Jandex here as long term we want to move to
-		// using Jandex for annotation processing.  But even then, Jandex atm does not have
-		// any facility for passing a stream and conditionally indexing it into an Index or
-		// returning existing ClassInfo objects.
-		//
-		// So not sure we can ever not do this unconditional input stream read :(
-		final ClassFile classFile = toClassFile( entry );
-		final ClassDescriptor classDescriptor = toClassDescriptor( classFile, entry );
+		final ClassDescriptor classDescriptor;
+		final ClassInfo indexedClass = index == null ? null : index.getClassByName( toDotName( entry ) );
+		if ( indexedClass != null || indexer != null ) {
+			final ClassInfo classInfo = indexedClass != null ? indexedClass : indexClass( entry );
+			final ClassDescriptor.Categorization categorization = categorize( classInfo );
+			if ( categorization == ClassDescriptor.Categorization.OTHER ) {
+				// not reported, so a class categorized from the index never has its class file read
+				return;
+			}
+			// the bytes are read right away, while the archive is still open
+			classDescriptor = new ClassDescriptorImpl( classInfo.name().toString(), categorization, entry.getStreamAccess() );
+		}
+		else {
+			// Jandex does not have any facility for passing a stream and conditionally indexing
+			// it into an Index or returning existing ClassInfo objects, so unless the archive comes
+			// with an index (or we are building one) we need this unconditional input stream read :(
+			final ClassFile classFile = toClassFile( entry );
+			classDescriptor = toClassDescriptor( classFile, entry );
+		}
 
 		if ( classDescriptor.getCategorization() == ClassDescriptor.Categorization.OTHER ) {
 			return;
@@ -78,6 +118,40 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 		}
 	}
 
+	private static DotName toDotName(ArchiveEntry entry) {
+		final String nameWithinArchive = entry.getNameWithinArchive();
+		final String className = nameWithinArchive.substring( 0, nameWithinArchive.length() - ".class".length() );
+		return DotName.createSimple( className.replace( '/', '.' ) );
+	}
+
+	private ClassInfo indexClass(ArchiveEntry entry) {
+		try ( InputStream inputStream = entry.getStreamAccess().accessInputStream() ) {
+			return indexer.index( inputStream );
+		}
+		catch (IOException e) {
+			throw new ArchiveException( "Could not index class file", e );
+		}
+	}
+
+	private static ClassDescriptor.Categorization categorize(ClassInfo classInfo) {
+		ClassDescriptor.Categorization categorization = ClassDescriptor.Categorization.OTHER;
+
+		for ( AnnotationInstance annotation : classInfo.classAnnotations() ) {
+			final DotName annotationName = annotation.name();
+			if ( ENTITY.equals( annotationName )
+					|| MAPPED_SUPERCLASS.equals( annotationName )
+					|| EMBEDDABLE.equals( annotationName ) ) {
+				categorization = ClassDescriptor.Categorization.MODEL;
+				break;
+			}
+			else if ( CONVERTER.equals( annotationName ) ) {
+				categorization = ClassDescriptor.Categorization.CONVERTER;
+			}
+		}
+
+		return categorization;
+	}
+
 	private ClassDescriptor toClassDescriptor(ClassFile classFile, ArchiveEntry entry) {
 		ClassDescriptor.Categorization categorization = ClassDescriptor.Categorization.OTHER;
 
@@ -39,4 +39,26 @@ public interface ScanOptions {
 	 */
 	@Deprecated
 	public boolean canDetectHibernateMappingFiles();
+
+	/**
+	 * Should a Jandex index bundled in an archive be used to categorize its classes?
+	 *
+	 * @return Whether archive indexes are used.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SCANNER_USE_ARCHIVE_INDEX
+	 */
+	default boolean canUseArchiveIndexes() {
+		return false;
+	}
+
+	/**
+	 * The directory in which Jandex indexes built while scanning jar files are persisted.
+	 *
+	 * @return The index cache directory, or {@code null} if built indexes are not persisted.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SCANNER_ARCHIVE_INDEX_CACHE
+	 */
+	default String getArchiveIndexCacheDirectory() {
+		return null;
+	}
 }
@@ -28,7 +28,8 @@ public interface ArchiveEntry {
 	public String getNameWithinArchive();
 
 	/**
-	 * Get access to the stream for the entry
+	 * Get access to the stream for the entry.  Archives may only read the entry when this is first
+	 * called, so it must be called while the entry is being handled (i.e. while the archive is visited).
 	 *
 	 * @return Obtain stream access to the entry
 	 */
@@ -36,6 +36,7 @@ import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.annotations.reflection.JPAMetadataProvider;
 import org.hibernate.dialect.function.SQLFunction;
 import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.jpa.internal.MutableJpaComplianceImpl;
 import org.hibernate.jpa.spi.MutableJpaCompliance;
 import org.hibernate.type.spi.TypeConfiguration;
@@ -94,7 +95,9 @@ public class BootstrapContextImpl implements BootstrapContext {
 		this.jpaCompliance = new MutableJpaComplianceImpl( configService.getSettings(), false );
 		this.scanOptions = new StandardScanOptions(
 				(String) configService.getSettings().get( AvailableSettings.SCANNER_DISCOVERY ),
-				false
+				false,
+				configService.getSetting( AvailableSettings.SCANNER_USE_ARCHIVE_INDEX, StandardConverters.BOOLEAN, false ),
+				configService.getSetting( AvailableSettings.SCANNER_ARCHIVE_INDEX_CACHE, StandardConverters.STRING )
 		);
 
 		// ScanEnvironment must be set explicitly
@@ -68,6 +68,7 @@ import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
@@ -616,6 +617,7 @@ public class MetadataBuilderImpl implements MetadataBuilderImplementor, TypeCont
 
 		private String schemaCharset;
 		private boolean xmlMappingEnabled;
+		private int annotationPreloadThreadCount;
 
 		public MetadataBuildingOptionsImpl(StandardServiceRegistry serviceRegistry) {
 			this.serviceRegistry = serviceRegistry;
@@ -633,6 +635,12 @@ public class MetadataBuilderImpl implements MetadataBuilderImplementor, TypeCont
 					true
 			);
 
+			this.annotationPreloadThreadCount = ConfigurationHelper.getInt(
+					AvailableSettings.ANNOTATION_PRELOAD_THREADS,
+					configService.getSettings(),
+					0
+			);
+
 			this.implicitDiscriminatorsForJoinedInheritanceSupported = configService.getSetting(
 					AvailableSettings.IMPLICIT_DISCRIMINATOR_COLUMNS_FOR_JOINED_SUBCLASS,
 					StandardConverters.BOOLEAN,
@@ -912,6 +920,11 @@ public class MetadataBuilderImpl implements MetadataBuilderImplementor, TypeCont
 			return xmlMappingEnabled;
 		}
 
+		@Override
+		public int getAnnotationPreloadThreadCount() {
+			return annotationPreloadThreadCount;
+		}
+
 		/**
 		 * Yuck.  This is needed because JPA lets users define "global building options"
 		 * in {@code orm.xml} mappings.  Forget that there are generally multiple
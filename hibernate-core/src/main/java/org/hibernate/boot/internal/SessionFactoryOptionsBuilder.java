@@ -65,6 +65,8 @@ import org.hibernate.tuple.entity.EntityTuplizer;
 import org.hibernate.tuple.entity.EntityTuplizerFactory;
 
 import static org.hibernate.cfg.AvailableSettings.ACQUIRE_CONNECTIONS;
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_BATCH_FETCH;
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_BATCH_FETCH_MIN_SIZE;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_JTA_TRANSACTION_ACCESS;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_REFRESH_DETACHED_ENTITY;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTION;
@@ -72,9 +74,11 @@ import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
+import static org.hibernate.cfg.AvailableSettings.BATCH_IDENTITY_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
+import static org.hibernate.cfg.AvailableSettings.COLLECTION_OPERATION_LOG_THRESHOLD;
 import static org.hibernate.cfg.AvailableSettings.COLLECTION_JOIN_SUBQUERY;
 import static org.hibernate.cfg.AvailableSettings.CONNECTION_HANDLING;
 import static org.hibernate.cfg.AvailableSettings.CONVENTIONAL_JAVA_CONSTANTS;
@@ -84,6 +88,7 @@ import static org.hibernate.cfg.AvailableSettings.DEFAULT_BATCH_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_ENTITY_MODE;
 import static org.hibernate.cfg.AvailableSettings.DELAY_ENTITY_LOADER_CREATIONS;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
+import static org.hibernate.cfg.AvailableSettings.EXTRA_LAZY_COLLECTION_PAGE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
@@ -91,21 +96,29 @@ import static org.hibernate.cfg.AvailableSettings.HQL_BULK_ID_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
+import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_SQL_EXPANSION;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TYLE_PARAMS_ZERO_BASE;
 import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
+import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_CONNECTION_LIMIT;
+import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_CONNECTION_LIMIT_TIMEOUT;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
+import static org.hibernate.cfg.AvailableSettings.N_PLUS_ONE_DETECTION_THRESHOLD;
+import static org.hibernate.cfg.AvailableSettings.N_PLUS_ONE_DETECTION_WINDOW;
 import static org.hibernate.cfg.AvailableSettings.NATIVE_EXCEPTION_HANDLING_51_COMPLIANCE;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PERSISTER_INITIALIZATION_THREADS;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.PROCEDURE_NULL_PARAM_PASSING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
+import static org.hibernate.cfg.AvailableSettings.QUERY_STREAMING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_SUBSTITUTIONS;
+import static org.hibernate.cfg.AvailableSettings.RECURSIVE_DESCENT_HQL_PARSER;
 import static org.hibernate.cfg.AvailableSettings.RELEASE_CONNECTIONS;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
@@ -169,6 +182,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	// Statistics/Interceptor/observers
 	private boolean statisticsEnabled;
+	private int nPlusOneDetectionThreshold;
+	private long nPlusOneDetectionWindow;
 	private Interceptor interceptor;
 	private Class<? extends Interceptor> statelessInterceptorClass;
 	private Supplier<? extends Interceptor> statelessInterceptorSupplier;
@@ -190,6 +205,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private BatchFetchStyle batchFetchStyle;
 	private boolean delayBatchFetchLoaderCreations;
 	private int defaultBatchFetchSize;
+	private boolean adaptiveBatchFetchEnabled;
+	private int adaptiveBatchFetchMinSize;
+	private int collectionOperationLogThreshold;
+	private int extraLazyCollectionPageSize;
 	private Integer maximumFetchDepth;
 	private NullPrecedence defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
@@ -202,6 +221,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	// multi-tenancy
 	private MultiTenancyStrategy multiTenancyStrategy;
 	private CurrentTenantIdentifierResolver currentTenantIdentifierResolver;
+	private int multiTenantConnectionLimit;
+	private long multiTenantConnectionLimitTimeout;
 
 	// Queries
 	private Map querySubstitutions;
@@ -228,6 +249,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean getGeneratedKeysEnabled;
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
+	private boolean identityInsertBatchingEnabled;
 	private Integer jdbcFetchSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
@@ -245,9 +267,13 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private boolean failOnPaginationOverCollectionFetchEnabled;
 	private boolean inClauseParameterPaddingEnabled;
+	private boolean inClauseParameterSqlExpansionEnabled;
+	private boolean queryStreamingEnabled;
+	private boolean recursiveDescentHqlParserEnabled;
 
 	private boolean nativeExceptionHandling51Compliance;
 	private int queryStatisticsMaxSize;
+	private int persisterInitializationThreadCount;
 
 	@SuppressWarnings({"WeakerAccess", "deprecation"})
 	public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, BootstrapContext context) {
@@ -293,6 +319,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.autoCloseSessionEnabled = cfgService.getSetting( AUTO_CLOSE_SESSION, BOOLEAN, false );
 
 		this.statisticsEnabled = cfgService.getSetting( GENERATE_STATISTICS, BOOLEAN, false );
+		this.nPlusOneDetectionThreshold = ConfigurationHelper.getInt( N_PLUS_ONE_DETECTION_THRESHOLD, configurationSettings, 0 );
+		this.nPlusOneDetectionWindow = ConfigurationHelper.getLong( N_PLUS_ONE_DETECTION_WINDOW, configurationSettings, 1000 );
 		this.interceptor = determineInterceptor( configurationSettings, strategySelector );
 		this.statelessInterceptorSupplier = determineStatelessInterceptor( configurationSettings, strategySelector );
 		this.statementInspector = strategySelector.resolveStrategy(
@@ -328,6 +356,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				CurrentTenantIdentifierResolver.class,
 				configurationSettings.get( MULTI_TENANT_IDENTIFIER_RESOLVER )
 		);
+		this.multiTenantConnectionLimit = ConfigurationHelper.getInt( MULTI_TENANT_CONNECTION_LIMIT, configurationSettings, 0 );
+		this.multiTenantConnectionLimitTimeout = ConfigurationHelper.getLong( MULTI_TENANT_CONNECTION_LIMIT_TIMEOUT, configurationSettings, 30000 );
 
 		this.multiTableBulkIdStrategy = strategySelector.resolveDefaultableStrategy(
 				MultiTableBulkIdStrategy.class,
@@ -338,6 +368,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.batchFetchStyle = BatchFetchStyle.interpret( configurationSettings.get( BATCH_FETCH_STYLE ) );
 		this.delayBatchFetchLoaderCreations = cfgService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
 		this.defaultBatchFetchSize = ConfigurationHelper.getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
+		this.adaptiveBatchFetchEnabled = ConfigurationHelper.getBoolean( ADAPTIVE_BATCH_FETCH, configurationSettings, false );
+		this.adaptiveBatchFetchMinSize = ConfigurationHelper.getInt( ADAPTIVE_BATCH_FETCH_MIN_SIZE, configurationSettings, 2 );
+		this.collectionOperationLogThreshold = ConfigurationHelper.getInt( COLLECTION_OPERATION_LOG_THRESHOLD, configurationSettings, 0 );
+		this.extraLazyCollectionPageSize = ConfigurationHelper.getInt( EXTRA_LAZY_COLLECTION_PAGE_SIZE, configurationSettings, 0 );
 		this.maximumFetchDepth = ConfigurationHelper.getInteger( MAX_FETCH_DEPTH, configurationSettings );
 		final String defaultNullPrecedence = ConfigurationHelper.getString(
 				AvailableSettings.DEFAULT_NULL_ORDERING, configurationSettings, "none", "first", "last"
@@ -420,6 +454,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		}
 
 		this.jdbcBatchVersionedData = ConfigurationHelper.getBoolean( BATCH_VERSIONED_DATA, configurationSettings, true );
+		this.identityInsertBatchingEnabled = ConfigurationHelper.getBoolean( BATCH_IDENTITY_INSERTS, configurationSettings, false );
 		this.scrollableResultSetsEnabled = ConfigurationHelper.getBoolean(
 				USE_SCROLLABLE_RESULTSET,
 				configurationSettings,
@@ -511,6 +546,24 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				false
 		);
 
+		this.inClauseParameterSqlExpansionEnabled = ConfigurationHelper.getBoolean(
+				IN_CLAUSE_PARAMETER_SQL_EXPANSION,
+				configurationSettings,
+				false
+		);
+
+		this.queryStreamingEnabled = ConfigurationHelper.getBoolean(
+				QUERY_STREAMING,
+				configurationSettings,
+				false
+		);
+
+		this.recursiveDescentHqlParserEnabled = ConfigurationHelper.getBoolean(
+				RECURSIVE_DESCENT_HQL_PARSER,
+				configurationSettings,
+				false
+		);
+
 		this.nativeExceptionHandling51Compliance = ConfigurationHelper.getBoolean(
 				NATIVE_EXCEPTION_HANDLING_51_COMPLIANCE,
 				configurationSettings,
@@ -523,6 +576,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE
 		);
 
+		this.persisterInitializationThreadCount = ConfigurationHelper.getInt(
+				PERSISTER_INITIALIZATION_THREADS,
+				configurationSettings,
+				0
+		);
+
 		if ( context.isJpaBootstrap() && nativeExceptionHandling51Compliance ) {
 			log.nativeExceptionHandling51ComplianceJpaBootstrapping();
 			this.nativeExceptionHandling51Compliance = false;
@@ -735,6 +794,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return statisticsEnabled;
 	}
 
+	@Override
+	public int getNPlusOneDetectionThreshold() {
+		return nPlusOneDetectionThreshold;
+	}
+
+	@Override
+	public long getNPlusOneDetectionWindow() {
+		return nPlusOneDetectionWindow;
+	}
+
 	@Override
 	public Interceptor getInterceptor() {
 		return interceptor == null ? EmptyInterceptor.INSTANCE : interceptor;
@@ -815,6 +884,26 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return defaultBatchFetchSize;
 	}
 
+	@Override
+	public boolean isAdaptiveBatchFetchEnabled() {
+		return adaptiveBatchFetchEnabled;
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchMinSize() {
+		return adaptiveBatchFetchMinSize;
+	}
+
+	@Override
+	public int getCollectionOperationLogThreshold() {
+		return collectionOperationLogThreshold;
+	}
+
+	@Override
+	public int getExtraLazyCollectionPageSize() {
+		return extraLazyCollectionPageSize;
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return maximumFetchDepth;
@@ -845,6 +934,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return currentTenantIdentifierResolver;
 	}
 
+	@Override
+	public int getMultiTenantConnectionLimit() {
+		return multiTenantConnectionLimit;
+	}
+
+	@Override
+	public long getMultiTenantConnectionLimitTimeout() {
+		return multiTenantConnectionLimitTimeout;
+	}
+
 	@Override
 	public boolean isJtaTrackByThread() {
 		return jtaTrackByThread;
@@ -930,6 +1029,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcBatchVersionedData;
 	}
 
+	@Override
+	public boolean isIdentityInsertBatchingEnabled() {
+		return identityInsertBatchingEnabled;
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return scrollableResultSetsEnabled;
@@ -1035,6 +1139,21 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return this.inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public boolean isInClauseParameterSqlExpansionEnabled() {
+		return this.inClauseParameterSqlExpansionEnabled;
+	}
+
+	@Override
+	public boolean isQueryStreamingEnabled() {
+		return this.queryStreamingEnabled;
+	}
+
+	@Override
+	public boolean isRecursiveDescentHqlParserEnabled() {
+		return this.recursiveDescentHqlParserEnabled;
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return jpaCompliance;
@@ -1050,6 +1169,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return queryStatisticsMaxSize;
 	}
 
+	@Override
+	public int getPersisterInitializationThreadCount() {
+		return persisterInitializationThreadCount;
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return callbacksEnabled;
@@ -43,7 +43,7 @@ public class ManagedResourcesImpl implements ManagedResources {
 		return impl;
 	}
 
-	private ManagedResourcesImpl() {
+	ManagedResourcesImpl() {
 	}
 
 	@Override
@@ -94,4 +94,12 @@ public class ManagedResourcesImpl implements ManagedResources {
 	void addXmlBinding(Binding binding) {
 		mappingFileBindings.add( binding );
 	}
+
+	void addAll(ManagedResourcesImpl other) {
+		attributeConverterInfoMap.putAll( other.attributeConverterInfoMap );
+		annotatedClassReferences.addAll( other.annotatedClassReferences );
+		annotatedClassNames.addAll( other.annotatedClassNames );
+		annotatedPackageNames.addAll( other.annotatedPackageNames );
+		mappingFileBindings.addAll( other.mappingFileBindings );
+	}
 }
@@ -0,0 +1,342 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.model.process.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.persistence.AttributeConverter;
+import javax.xml.bind.JAXBElement;
+import javax.xml.namespace.QName;
+
+import org.hibernate.Version;
+import org.hibernate.boot.AttributeConverterInfo;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.cfg.AttributeConverterDefinition;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A serializable record of the resources discovered by scanning (class and package names,
+ * converters and the bound mapping files), along with a fingerprint of the scanned archives.
+ * <p/>
+ * Persisted to the file named by {@link org.hibernate.cfg.AvailableSettings#SCANNER_SNAPSHOT_FILE},
+ * it lets subsequent bootstraps against unchanged archives skip the scanning of the archives
+ * and the parsing of the discovered mapping files altogether.
+ * <p/>
+ * As the file is read through Java serialization, only the classes a snapshot is made of
+ * can be read from it (see {@link SnapshotInputStream}); a file referencing any other class
+ * is ignored.
+ *
+ * @see ScanningCoordinator
+ */
+public class ScanSnapshot implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final Logger log = Logger.getLogger( ScanSnapshot.class );
+
+	private final String fingerprint;
+	private final List<String> annotatedClassNames;
+	private final List<String> annotatedPackageNames;
+	private final List<String> converterClassNames;
+	private final List<Binding> xmlBindings;
+
+	private ScanSnapshot(String fingerprint, ManagedResourcesImpl scannedResources) {
+		this.fingerprint = fingerprint;
+		this.annotatedClassNames = new ArrayList<>( scannedResources.getAnnotatedClassNames() );
+		this.annotatedPackageNames = new ArrayList<>( scannedResources.getAnnotatedPackageNames() );
+		this.converterClassNames = new ArrayList<>();
+		for ( AttributeConverterInfo converterInfo : scannedResources.getAttributeConverterDefinitions() ) {
+			converterClassNames.add( converterInfo.getConverterClass().getName() );
+		}
+		this.xmlBindings = new ArrayList<>( scannedResources.getXmlMappingBindings() );
+	}
+
+	/**
+	 * Apply the recorded scan results to the given managed resources.
+	 */
+	@SuppressWarnings("unchecked")
+	void applyTo(ManagedResourcesImpl managedResources, ClassLoaderService classLoaderService) {
+		for ( String converterClassName : converterClassNames ) {
+			managedResources.addAttributeConverterDefinition(
+					AttributeConverterDefinition.from(
+							classLoaderService.<AttributeConverter>classForName( converterClassName )
+					)
+			);
+		}
+		annotatedClassNames.forEach( managedResources::addAnnotatedClassName );
+		annotatedPackageNames.forEach( managedResources::addAnnotatedPackageName );
+		xmlBindings.forEach( managedResources::addXmlBinding );
+	}
+
+	/**
+	 * Read the snapshot stored in the given file, provided it was taken for the given fingerprint.
+	 *
+	 * @return The snapshot, or {@code null} if there is no usable snapshot.
+	 */
+	static ScanSnapshot read(File snapshotFile, String fingerprint) {
+		if ( fingerprint == null || !snapshotFile.isFile() ) {
+			return null;
+		}
+
+		try ( ObjectInputStream stream = new SnapshotInputStream( new BufferedInputStream( new FileInputStream( snapshotFile ) ) ) ) {
+			final ScanSnapshot snapshot = (ScanSnapshot) stream.readObject();
+			if ( fingerprint.equals( snapshot.fingerprint ) ) {
+				return snapshot;
+			}
+			log.debugf( "Scan snapshot [%s] is out of date", snapshotFile );
+		}
+		catch (InvalidClassException e) {
+			// written by an incompatible version of the snapshot (or of a class it references),
+			// or referencing a class a snapshot cannot contain
+			log.debugf( "Scan snapshot [%s] is out of date or invalid: %s", snapshotFile, e.getMessage() );
+		}
+		catch (IOException | ClassNotFoundException | ClassCastException e) {
+			log.debugf( e, "Unable to read scan snapshot [%s]", snapshotFile );
+		}
+		return null;
+	}
+
+	/**
+	 * Store a snapshot of the scanned resources in the given file.
+	 */
+	static void write(File snapshotFile, String fingerprint, ManagedResourcesImpl scannedResources) {
+		if ( fingerprint == null ) {
+			return;
+		}
+
+		try {
+			final File directory = snapshotFile.getAbsoluteFile().getParentFile();
+			if ( !directory.isDirectory() && !directory.mkdirs() ) {
+				log.debugf( "Unable to create directory for scan snapshot [%s]", snapshotFile );
+				return;
+			}
+
+			final File tempFile = File.createTempFile( snapshotFile.getName(), ".tmp", directory );
+			try ( ObjectOutputStream stream = new ObjectOutputStream( new BufferedOutputStream( new FileOutputStream( tempFile ) ) ) ) {
+				stream.writeObject( new ScanSnapshot( fingerprint, scannedResources ) );
+			}
+			catch (IOException e) {
+				tempFile.delete();
+				throw e;
+			}
+			Files.move( tempFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING );
+		}
+		catch (IOException e) {
+			log.debugf( e, "Unable to write scan snapshot [%s]", snapshotFile );
+		}
+	}
+
+	/**
+	 * Computes the fingerprint of everything that influences the outcome of the scan: the scan
+	 * environment and options, as well as the size and last modification time of the scanned
+	 * archives and explicitly listed mapping files (or of the files they contain, for directories).
+	 *
+	 * @return The fingerprint, or {@code null} if one of the archives is not a local file, in which
+	 * case changes to it cannot be detected and no snapshot should be used.
+	 */
+	static String fingerprint(
+			ScanEnvironment environment,
+			ScanOptions options,
+			ClassLoaderService classLoaderService) {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			log.debugf( e, "Unable to compute scan fingerprint; scan snapshot not used" );
+			return null;
+		}
+
+		update( digest, Version.getVersionString() );
+		update( digest, options.canDetectUnlistedClassesInRoot() );
+		update( digest, options.canDetectUnlistedClassesInNonRoot() );
+		update( digest, options.canDetectHibernateMappingFiles() );
+		update( digest, environment.getExplicitlyListedClassNames() );
+		update( digest, environment.getExplicitlyListedMappingFiles() );
+
+		final List<URL> urls = new ArrayList<>();
+		if ( environment.getRootUrl() != null ) {
+			urls.add( environment.getRootUrl() );
+		}
+		if ( environment.getNonRootUrls() != null ) {
+			urls.addAll( environment.getNonRootUrls() );
+		}
+		if ( environment.getExplicitlyListedMappingFiles() != null ) {
+			for ( String mappingFileName : environment.getExplicitlyListedMappingFiles() ) {
+				final URL url = classLoaderService.locateResource( mappingFileName );
+				if ( url != null ) {
+					urls.add( url );
+				}
+			}
+		}
+
+		for ( URL url : urls ) {
+			final File file = toLocalFile( url );
+			if ( file == null || !file.exists() ) {
+				log.debugf( "Scanned URL [%s] is not a local file; scan snapshot not used", url );
+				return null;
+			}
+			update( digest, url );
+			updateFileState( digest, file );
+		}
+
+		final StringBuilder hex = new StringBuilder();
+		for ( byte b : digest.digest() ) {
+			hex.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) ).append( Character.forDigit( b & 0xF, 16 ) );
+		}
+		return hex.toString();
+	}
+
+	private static void updateFileState(MessageDigest digest, File file) {
+		if ( file.isDirectory() ) {
+			final File[] children = file.listFiles();
+			if ( children != null ) {
+				for ( File child : children ) {
+					update( digest, child.getName() );
+					updateFileState( digest, child );
+				}
+			}
+		}
+		else {
+			update( digest, file.length() + ":" + file.lastModified() );
+		}
+	}
+
+	private static void update(MessageDigest digest, Object value) {
+		digest.update( String.valueOf( value ).getBytes( StandardCharsets.UTF_8 ) );
+		digest.update( (byte) 0 );
+	}
+
+	private static File toLocalFile(URL url) {
+		try {
+			if ( "jar".equals( url.getProtocol() ) ) {
+				// the state of an entry is that of the (outermost) jar file containing it
+				final String path = url.getPath();
+				final int separatorPosition = path.indexOf( "!/" );
+				return toLocalFile( new URL( separatorPosition < 0 ? path : path.substring( 0, separatorPosition ) ) );
+			}
+			if ( "file".equals( url.getProtocol() ) ) {
+				return new File( url.toURI() );
+			}
+		}
+		catch (MalformedURLException | URISyntaxException | IllegalArgumentException e) {
+			log.debugf( e, "Unable to resolve URL [%s] as a local file", url );
+		}
+		return null;
+	}
+
+	/**
+	 * Reads snapshots, refusing any class which is not part of a snapshot: the snapshot itself,
+	 * the JDK value and collection types, the bound mapping files (the JAXB hbm.xml model and
+	 * the dom4j orm.xml documents) and the Hibernate enums they reference.
+	 */
+	private static class SnapshotInputStream extends ObjectInputStream {
+		private static final Set<String> ALLOWED_CLASS_NAMES = new HashSet<>( Arrays.asList(
+				ScanSnapshot.class.getName(),
+				Object.class.getName(),
+				String.class.getName(),
+				Boolean.class.getName(),
+				Character.class.getName(),
+				Number.class.getName(),
+				Byte.class.getName(),
+				Short.class.getName(),
+				Integer.class.getName(),
+				Long.class.getName(),
+				Float.class.getName(),
+				Double.class.getName(),
+				Enum.class.getName(),
+				BigInteger.class.getName(),
+				BigDecimal.class.getName(),
+				JAXBElement.class.getName(),
+				QName.class.getName()
+		) );
+
+		private static final String[] ALLOWED_PACKAGE_PREFIXES = {
+				"org.hibernate.boot.jaxb.",
+				"org.dom4j."
+		};
+
+		private SnapshotInputStream(InputStream in) throws IOException {
+			super( in );
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			String name = desc.getName();
+			while ( name.startsWith( "[" ) ) {
+				name = name.substring( 1 );
+			}
+			if ( name.startsWith( "L" ) && name.endsWith( ";" ) ) {
+				name = name.substring( 1, name.length() - 1 );
+			}
+			else if ( name.length() == 1 ) {
+				// array of primitives
+				return super.resolveClass( desc );
+			}
+
+			if ( isAllowed( name ) ) {
+				return super.resolveClass( desc );
+			}
+			if ( name.startsWith( "org.hibernate." ) ) {
+				final Class<?> resolved = super.resolveClass( desc );
+				if ( resolved.isEnum() || resolved.getSuperclass() != null && resolved.getSuperclass().isEnum() ) {
+					return resolved;
+				}
+			}
+			throw new InvalidClassException( desc.getName(), "Class not allowed in a scan snapshot" );
+		}
+
+		@Override
+		protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+			throw new InvalidClassException( Arrays.toString( interfaces ), "Proxy not allowed in a scan snapshot" );
+		}
+
+		private static boolean isAllowed(String name) {
+			if ( ALLOWED_CLASS_NAMES.contains( name ) ) {
+				return true;
+			}
+			// the collections (including their nested implementations), not the sub-packages
+			if ( name.startsWith( "java.util." ) && name.indexOf( '.', "java.util.".length() ) < 0 ) {
+				return true;
+			}
+			for ( String prefix : ALLOWED_PACKAGE_PREFIXES ) {
+				if ( name.startsWith( prefix ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.boot.model.process.internal;
 
+import java.io.File;
 import java.lang.reflect.Constructor;
 import java.net.URL;
 import java.util.ArrayList;
@@ -35,6 +36,9 @@ import org.hibernate.boot.spi.ClassLoaderAccess;
 import org.hibernate.boot.spi.MetadataBuildingOptions;
 import org.hibernate.boot.spi.XmlMappingBinderAccess;
 import org.hibernate.cfg.AttributeConverterDefinition;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.service.ServiceRegistry;
 
 import org.jboss.logging.Logger;
@@ -65,6 +69,22 @@ public class ScanningCoordinator {
 		}
 
 		final ClassLoaderService classLoaderService = bootstrapContext.getServiceRegistry().getService( ClassLoaderService.class );
+
+		final File snapshotFile = resolveSnapshotFile( bootstrapContext );
+		final String fingerprint = snapshotFile == null ? null : ScanSnapshot.fingerprint(
+				bootstrapContext.getScanEnvironment(),
+				bootstrapContext.getScanOptions(),
+				classLoaderService
+		);
+		if ( fingerprint != null ) {
+			final ScanSnapshot snapshot = ScanSnapshot.read( snapshotFile, fingerprint );
+			if ( snapshot != null ) {
+				log.debugf( "Using scan snapshot [%s]", snapshotFile );
+				snapshot.applyTo( managedResources, classLoaderService );
+				return;
+			}
+		}
+
 		final ClassLoaderAccess classLoaderAccess = new ClassLoaderAccessImpl(
 				bootstrapContext.getJpaTempClassLoader(),
 				classLoaderService
@@ -79,7 +99,28 @@ public class ScanningCoordinator {
 				StandardScanParameters.INSTANCE
 		);
 
-		applyScanResultsToManagedResources( managedResources, scanResult, bootstrapContext, xmlMappingBinderAccess );
+		if ( fingerprint == null ) {
+			applyScanResultsToManagedResources( managedResources, scanResult, bootstrapContext, xmlMappingBinderAccess );
+		}
+		else {
+			// collect the scanned resources separately, so that we can snapshot them
+			final ManagedResourcesImpl scannedResources = new ManagedResourcesImpl();
+			applyScanResultsToManagedResources( scannedResources, scanResult, bootstrapContext, xmlMappingBinderAccess );
+			ScanSnapshot.write( snapshotFile, fingerprint, scannedResources );
+			managedResources.addAll( scannedResources );
+		}
+	}
+
+	private static File resolveSnapshotFile(BootstrapContext bootstrapContext) {
+		final ConfigurationService configService = bootstrapContext.getServiceRegistry().getService( ConfigurationService.class );
+		if ( configService == null ) {
+			return null;
+		}
+		final String snapshotFileName = configService.getSetting(
+				AvailableSettings.SCANNER_SNAPSHOT_FILE,
+				StandardConverters.STRING
+		);
+		return snapshotFileName == null ? null : new File( snapshotFileName );
 	}
 
 	private static final Class[] SINGLE_ARG = new Class[] { ArchiveDescriptorFactory.class };
@@ -0,0 +1,107 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.model.source.internal.annotations;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Concurrently pre-loads the reflective information of the annotated classes ahead of the
+ * (serial) annotation binding.
+ * <p/>
+ * The JDK caches declared members and parsed annotations per class, so touching them here
+ * from several threads means that the later calls made through the
+ * {@link org.hibernate.annotations.common.reflection.ReflectionManager} during binding
+ * find everything already resolved.  Nothing is handed over to the binders: the
+ * {@code ReflectionManager} itself is not thread-safe and is only ever used from the
+ * bootstrap thread.
+ * <p/>
+ * Any failure here is ignored; the very same reflective access is performed again during
+ * binding, which is where problems get reported.
+ */
+class AnnotatedClassPreloader {
+	private static final Logger log = Logger.getLogger( AnnotatedClassPreloader.class );
+
+	private final int threadCount;
+
+	AnnotatedClassPreloader(int threadCount) {
+		this.threadCount = threadCount;
+	}
+
+	void preload(Collection<Class> annotatedClasses) {
+		if ( threadCount < 2 || annotatedClasses.size() < 2 ) {
+			return;
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool(
+				Math.min( threadCount, annotatedClasses.size() ),
+				new PreloadThreadFactory()
+		);
+		try {
+			final List<Future<?>> futures = new ArrayList<>( annotatedClasses.size() );
+			for ( Class annotatedClass : annotatedClasses ) {
+				futures.add( executor.submit( () -> preload( annotatedClass ) ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException e) {
+			log.debugf( e.getCause(), "Unable to pre-load annotated class information" );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void preload(Class annotatedClass) {
+		Class current = annotatedClass;
+		while ( current != null && current != Object.class ) {
+			try {
+				current.getDeclaredAnnotations();
+				for ( Field field : current.getDeclaredFields() ) {
+					field.getGenericType();
+					field.getDeclaredAnnotations();
+				}
+				for ( Method method : current.getDeclaredMethods() ) {
+					method.getGenericReturnType();
+					method.getDeclaredAnnotations();
+				}
+			}
+			catch (RuntimeException | LinkageError e) {
+				log.debugf( e, "Unable to pre-load annotated class information for [%s]", current.getName() );
+				return;
+			}
+			current = current.getSuperclass();
+		}
+	}
+
+	private static class PreloadThreadFactory implements ThreadFactory {
+		private final AtomicInteger counter = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable, "hibernate-annotation-preload-" + counter.incrementAndGet() );
+			thread.setDaemon( true );
+			return thread;
+		}
+	}
+}
@@ -105,12 +105,16 @@ public class AnnotationMetadataSourceProcessorImpl implements MetadataSourceProc
 		}
 
 		final ClassLoaderService cls = rootMetadataBuildingContext.getBuildingOptions().getServiceRegistry().getService( ClassLoaderService.class );
+		final List<Class> annotatedClasses = new ArrayList<Class>();
 		for ( String className : managedResources.getAnnotatedClassNames() ) {
-			final Class annotatedClass = cls.classForName( className );
-			categorizeAnnotatedClass( annotatedClass, attributeConverterManager );
+			annotatedClasses.add( cls.classForName( className ) );
 		}
+		annotatedClasses.addAll( managedResources.getAnnotatedClassReferences() );
+
+		new AnnotatedClassPreloader( rootMetadataBuildingContext.getBuildingOptions().getAnnotationPreloadThreadCount() )
+				.preload( annotatedClasses );
 
-		for ( Class annotatedClass : managedResources.getAnnotatedClassReferences() ) {
+		for ( Class annotatedClass : annotatedClasses ) {
 			categorizeAnnotatedClass( annotatedClass, attributeConverterManager );
 		}
 	}
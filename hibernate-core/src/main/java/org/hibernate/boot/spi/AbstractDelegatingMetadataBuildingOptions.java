@@ -202,4 +202,9 @@ public abstract class AbstractDelegatingMetadataBuildingOptions implements Metad
 		return delegate.isXmlMappingEnabled();
 	}
 
+	@Override
+	public int getAnnotationPreloadThreadCount() {
+		return delegate.getAnnotationPreloadThreadCount();
+	}
+
 }
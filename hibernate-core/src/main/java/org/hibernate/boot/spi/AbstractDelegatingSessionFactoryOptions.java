@@ -112,6 +112,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isStatisticsEnabled();
 	}
 
+	@Override
+	public int getNPlusOneDetectionThreshold() {
+		return delegate.getNPlusOneDetectionThreshold();
+	}
+
+	@Override
+	public long getNPlusOneDetectionWindow() {
+		return delegate.getNPlusOneDetectionWindow();
+	}
+
 	@Override
 	public Interceptor getInterceptor() {
 		return delegate.getInterceptor();
@@ -182,6 +192,26 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getDefaultBatchFetchSize();
 	}
 
+	@Override
+	public boolean isAdaptiveBatchFetchEnabled() {
+		return delegate.isAdaptiveBatchFetchEnabled();
+	}
+
+	@Override
+	public int getAdaptiveBatchFetchMinSize() {
+		return delegate.getAdaptiveBatchFetchMinSize();
+	}
+
+	@Override
+	public int getCollectionOperationLogThreshold() {
+		return delegate.getCollectionOperationLogThreshold();
+	}
+
+	@Override
+	public int getExtraLazyCollectionPageSize() {
+		return delegate.getExtraLazyCollectionPageSize();
+	}
+
 	@Override
 	public Integer getMaximumFetchDepth() {
 		return delegate.getMaximumFetchDepth();
@@ -212,6 +242,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getCurrentTenantIdentifierResolver();
 	}
 
+	@Override
+	public int getMultiTenantConnectionLimit() {
+		return delegate.getMultiTenantConnectionLimit();
+	}
+
+	@Override
+	public long getMultiTenantConnectionLimitTimeout() {
+		return delegate.getMultiTenantConnectionLimitTimeout();
+	}
+
 	@Override
 	public boolean isJtaTrackByThread() {
 		return delegate.isJtaTrackByThread();
@@ -307,6 +347,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isJdbcBatchVersionedData();
 	}
 
+	@Override
+	public boolean isIdentityInsertBatchingEnabled() {
+		return delegate.isIdentityInsertBatchingEnabled();
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return delegate.isScrollableResultSetsEnabled();
@@ -428,6 +473,21 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public boolean isInClauseParameterSqlExpansionEnabled() {
+		return delegate.isInClauseParameterSqlExpansionEnabled();
+	}
+
+	@Override
+	public boolean isQueryStreamingEnabled() {
+		return delegate.isQueryStreamingEnabled();
+	}
+
+	@Override
+	public boolean isRecursiveDescentHqlParserEnabled() {
+		return delegate.isRecursiveDescentHqlParserEnabled();
+	}
+
 	@Override
 	public boolean nativeExceptionHandling51Compliance() {
 		return delegate.nativeExceptionHandling51Compliance();
@@ -438,6 +498,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getQueryStatisticsMaxSize();
 	}
 
+	@Override
+	public int getPersisterInitializationThreadCount() {
+		return delegate.getPersisterInitializationThreadCount();
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return delegate.areJPACallbacksEnabled();
@@ -245,6 +245,18 @@ public interface MetadataBuildingOptions {
 		return true;
 	}
 
+	/**
+	 * The number of threads to use for pre-loading the reflective information of annotated
+	 * classes before binding them.
+	 *
+	 * @return The number of threads; values lower than 2 indicate that pre-loading is disabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ANNOTATION_PRELOAD_THREADS
+	 */
+	default int getAnnotationPreloadThreadCount() {
+		return 0;
+	}
+
 	/**
 	 * Access to any SQL functions explicitly registered with the MetadataBuilder.  This
 	 * does not include Dialect defined functions, etc.
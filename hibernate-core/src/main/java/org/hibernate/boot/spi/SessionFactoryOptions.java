@@ -108,6 +108,25 @@ public interface SessionFactoryOptions {
 
 	boolean isStatisticsEnabled();
 
+	/**
+	 * The number of association fetches of the same role following a query, within
+	 * {@link #getNPlusOneDetectionWindow()}, reported as an N+1 select.
+	 *
+	 * @return The threshold, {@code 0} if the detection is disabled
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_DETECTION_THRESHOLD
+	 */
+	default int getNPlusOneDetectionThreshold() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_DETECTION_WINDOW
+	 */
+	default long getNPlusOneDetectionWindow() {
+		return 1000L;
+	}
+
 	/**
 	 * Get the interceptor to use by default for all sessions opened from this factory.
 	 *
@@ -166,6 +185,28 @@ public interface SessionFactoryOptions {
 
 	int getDefaultBatchFetchSize();
 
+	default boolean isAdaptiveBatchFetchEnabled() {
+		return false;
+	}
+
+	default int getAdaptiveBatchFetchMinSize() {
+		return 2;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#COLLECTION_OPERATION_LOG_THRESHOLD
+	 */
+	default int getCollectionOperationLogThreshold() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#EXTRA_LAZY_COLLECTION_PAGE_SIZE
+	 */
+	default int getExtraLazyCollectionPageSize() {
+		return 0;
+	}
+
 	Integer getMaximumFetchDepth();
 
 	NullPrecedence getDefaultNullPrecedence();
@@ -178,6 +219,14 @@ public interface SessionFactoryOptions {
 
 	CurrentTenantIdentifierResolver getCurrentTenantIdentifierResolver();
 
+	default int getMultiTenantConnectionLimit() {
+		return 0;
+	}
+
+	default long getMultiTenantConnectionLimitTimeout() {
+		return 30000;
+	}
+
 	boolean isJtaTrackByThread();
 
 	Map getQuerySubstitutions();
@@ -217,6 +266,13 @@ public interface SessionFactoryOptions {
 
 	boolean isJdbcBatchVersionedData();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	default boolean isIdentityInsertBatchingEnabled() {
+		return false;
+	}
+
 	boolean isScrollableResultSetsEnabled();
 
 	boolean isWrapResultSetsEnabled();
@@ -288,6 +344,18 @@ public interface SessionFactoryOptions {
 		return false;
 	}
 
+	default boolean isInClauseParameterSqlExpansionEnabled() {
+		return false;
+	}
+
+	default boolean isQueryStreamingEnabled() {
+		return false;
+	}
+
+	default boolean isRecursiveDescentHqlParserEnabled() {
+		return false;
+	}
+
 	default boolean nativeExceptionHandling51Compliance() {
 		return false;
 	}
@@ -296,6 +364,15 @@ public interface SessionFactoryOptions {
 		return Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE;
 	}
 
+	/**
+	 * The number of threads to use for initializing the persisters.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PERSISTER_INITIALIZATION_THREADS
+	 */
+	default int getPersisterInitializationThreadCount() {
+		return 0;
+	}
+
 	/**
 	 * @deprecated Since 5.4.1, this is no longer used.
 	 */
@@ -642,6 +642,40 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String SCANNER_DISCOVERY = "hibernate.archive.autodetection";
 
+	/**
+	 * Should the scanner consult a Jandex index ({@code META-INF/jandex.idx}) bundled in
+	 * a scanned archive to categorize its classes, rather than reading each class file?
+	 * Classes not found in the index are still read from the archive.  Default is
+	 * {@code false}.
+	 *
+	 * @see #SCANNER_ARCHIVE_INDEX_CACHE
+	 * @since 5.4.2
+	 */
+	String SCANNER_USE_ARCHIVE_INDEX = "hibernate.archive.use_jandex_index";
+
+	/**
+	 * Names a directory in which the scanner persists the Jandex indexes it builds for
+	 * scanned jar files which do not bundle one.  Subsequent scans of an unchanged jar file
+	 * (same path, size and last modification time) use the persisted index instead of reading
+	 * the class files again.  Only used when {@link #SCANNER_USE_ARCHIVE_INDEX} is enabled.
+	 *
+	 * @since 5.4.2
+	 */
+	String SCANNER_ARCHIVE_INDEX_CACHE = "hibernate.archive.jandex_index_cache_dir";
+
+	/**
+	 * Names a file in which the outcome of scanning (the discovered managed classes, packages
+	 * and converters, along with the bound mapping files) is persisted.  As long as the scanned
+	 * archives are unchanged (same size and last modification time of the jar files, or of the
+	 * files within the directories), subsequent bootstraps reload that outcome instead of
+	 * scanning the archives and parsing the mapping files again.
+	 * <p/>
+	 * Only applies when all scanned archives are local files.  By default no snapshot is used.
+	 *
+	 * @since 5.4.2
+	 */
+	String SCANNER_SNAPSHOT_FILE = "hibernate.archive.scan_snapshot_file";
+
 	/**
 	 * Used to specify the {@link org.hibernate.boot.model.naming.ImplicitNamingStrategy} class to use.  The following
 	 * short-names are defined for this setting:<ul>
@@ -698,6 +732,19 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String XML_MAPPING_ENABLED = "hibernate.xml_mapping_enabled";
 
+	/**
+	 * Specifies the number of threads used to pre-load the reflective information (class
+	 * hierarchy, declared fields and methods, and their annotations) of the annotated classes
+	 * before they are bound.  The binding itself is still performed serially; the pre-loading
+	 * simply warms the JDK reflection caches concurrently so that the binding pass does not
+	 * pay for the annotation parsing and class loading one class at a time.
+	 * <p/>
+	 * Values lower than 2 disable the pre-loading, which is the default.
+	 *
+	 * @since 5.4.2
+	 */
+	String ANNOTATION_PRELOAD_THREADS = "hibernate.metadata.annotation_preload_threads";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// SessionFactoryBuilder level settings
@@ -795,6 +842,22 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * Should inserts of entities using IDENTITY generated identifiers be delayed until flush, and be
+	 * executed in JDBC batches (of up to {@link #STATEMENT_BATCH_SIZE} statements) from which the
+	 * generated keys are read back?  Only applies to entities persisted (rather than saved) within a
+	 * transaction, and requires a Dialect returning the generated keys of batched statements (see
+	 * {@link org.hibernate.dialect.identity.IdentityColumnSupport#supportsBatchedGetGeneratedKeys()})
+	 * as well as {@link #USE_GET_GENERATED_KEYS} to be enabled.
+	 * <p/>
+	 * Note that the identifier of such entities is only available after the next flush.
+	 * <p/>
+	 * Default is {@code false}.
+	 *
+	 * @since 5.4.2
+	 */
+	String BATCH_IDENTITY_INSERTS = "hibernate.jdbc.batch_identity_inserts";
+
 	/**
 	 * Default JDBC TimeZone. Unless specified, the JVM default TimeZone is going to be used by the underlying JDBC Driver.
 	 *
@@ -1545,6 +1608,31 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String MULTI_TENANT_IDENTIFIER_RESOLVER = "hibernate.tenant_identifier_resolver";
 
+	/**
+	 * The maximum number of connections that the sessions of a single tenant may hold at the same time,
+	 * when using a {@link org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider}.  A
+	 * session needing a connection beyond that limit waits, in first-come first-served order, for another
+	 * session of the same tenant to release one, so that a busy tenant cannot take up the whole pool.
+	 * <p/>
+	 * The default value is {@code 0}, meaning no limit.
+	 *
+	 * @see #MULTI_TENANT_CONNECTION_LIMIT_TIMEOUT
+	 * @since 5.4.2
+	 */
+	String MULTI_TENANT_CONNECTION_LIMIT = "hibernate.multi_tenant.connection_limit";
+
+	/**
+	 * The maximum amount of time, in milliseconds, a session waits for a connection when its tenant
+	 * already holds {@link #MULTI_TENANT_CONNECTION_LIMIT} connections, before failing with a
+	 * {@link org.hibernate.exception.JDBCConnectionException}.  A negative value makes the session wait
+	 * as long as needed.
+	 * <p/>
+	 * The default value is {@code 30000}.
+	 *
+	 * @since 5.4.2
+	 */
+	String MULTI_TENANT_CONNECTION_LIMIT_TIMEOUT = "hibernate.multi_tenant.connection_limit_timeout";
+
 	/**
 	 * Names a {@link org.hibernate.Interceptor} implementation to be applied to the
 	 * {@link org.hibernate.SessionFactory} and propagated to each Session created from the SessionFactory.
@@ -1606,13 +1694,66 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String BATCH_FETCH_STYLE = "hibernate.batch_fetch_style";
 
+	/**
+	 * Enables adaptive batch fetching.  For each entity and collection role, Hibernate then observes
+	 * how many of the keys batch fetched ahead of demand are actually used within the session, and
+	 * tunes the number of keys fetched per batch accordingly.  The batch size mapped for the role
+	 * (or {@link #DEFAULT_BATCH_FETCH_SIZE}) is the upper bound of the tuned size, and
+	 * {@link #ADAPTIVE_BATCH_FETCH_MIN_SIZE} its lower bound.
+	 * <p/>
+	 * The tuned sizes are reported by {@link org.hibernate.stat.EntityStatistics#getBatchFetchSize()}
+	 * and {@link org.hibernate.stat.CollectionStatistics#getBatchFetchSize()}.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.4.2
+	 */
+	String ADAPTIVE_BATCH_FETCH = "hibernate.batch_fetch_adaptive";
+
+	/**
+	 * The lower bound of the batch sizes tuned by {@link #ADAPTIVE_BATCH_FETCH}.
+	 * <p/>
+	 * The default value is {@code 2}.
+	 *
+	 * @since 5.4.2
+	 */
+	String ADAPTIVE_BATCH_FETCH_MIN_SIZE = "hibernate.batch_fetch_adaptive_min_size";
+
+	/**
+	 * The number of elements from which a set or bag, whose elements are of an immutable type (such as
+	 * entities or basic values), records the elements added and removed since it was loaded or flushed
+	 * rather than keeping a copy of its elements as snapshot.  The flush then processes the recorded
+	 * elements only instead of comparing the whole collection against its snapshot.  A collection modified
+	 * through one of its iterators or views falls back to a full snapshot.
+	 * <p/>
+	 * The default value is {@code 0}, meaning full snapshots are always used.
+	 *
+	 * @since 5.4.2
+	 */
+	String COLLECTION_OPERATION_LOG_THRESHOLD = "hibernate.collection_operation_log_threshold";
+
+	/**
+	 * The number of elements read per query when iterating an uninitialized extra-lazy set or bag.  Rather
+	 * than initializing the collection, iteration then reads its elements from the database window by
+	 * window, so that the whole collection is never held in memory, and {@code containsAll()} checks its
+	 * elements by batches of that size with a single query each.  Changes flushed to the collection while
+	 * it is iterated may shift the windows.
+	 * <p/>
+	 * The default value is {@code 0}, meaning iterating an extra-lazy collection initializes it.
+	 *
+	 * @see org.hibernate.annotations.LazyCollectionOption#EXTRA
+	 * @since 5.4.2
+	 */
+	String EXTRA_LAZY_COLLECTION_PAGE_SIZE = "hibernate.extra_lazy_collection_page_size";
+
 	/**
 	 * Controls how the individual Loaders for an entity are created.
 	 *
 	 * When `true` (the default), only the minimal set of Loaders are
 	 * created.  These include the handling for {@link org.hibernate.LockMode#READ}
-	 * and {@link org.hibernate.LockMode#NONE} as well as specialized Loaders for
-	 * merge and refresh handling.
+	 * and {@link org.hibernate.LockMode#NONE}.  The Loaders for the other lock modes,
+	 * the specialized Loaders for merge and refresh handling as well as the Loaders
+	 * for the individual batch sizes of batch-fetching Loaders are created on first use.
 	 *
 	 * `false` indicates that all loaders should be created up front
 	 *
@@ -1620,6 +1761,15 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String DELAY_ENTITY_LOADER_CREATIONS = "hibernate.loader.delay_entity_loader_creations";
 
+	/**
+	 * The number of threads used to initialize the entity and collection persisters (generating
+	 * their SQL and building their Loaders) once they have all been created.  Values less than
+	 * {@code 2} indicate that the persisters are initialized serially, which is the default.
+	 *
+	 * @since 5.4.2
+	 */
+	String PERSISTER_INITIALIZATION_THREADS = "hibernate.loader.persister_initialization_threads";
+
 	/**
 	 * A transaction can be rolled back by another thread ("tracking by thread")
 	 * -- not the original application. Examples of this include a JTA
@@ -1687,6 +1837,31 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String AUTO_SESSION_EVENTS_LISTENER = "hibernate.session.events.auto";
 
+	/**
+	 * Enables the detection of N+1 select patterns: the number of association fetches (lazy entity
+	 * and collection initializations hitting the database) of the same entity or collection role,
+	 * following a query executed by the Session, which constitutes an N+1 select.  Detections are
+	 * reported to {@link org.hibernate.SessionEventListener#nPlusOneDetected} and, if statistics
+	 * are enabled, to the {@link org.hibernate.stat.QueryStatistics} of the originating query.
+	 * <p/>
+	 * The default value is {@code 0}, meaning the detection is disabled.
+	 *
+	 * @see #N_PLUS_ONE_DETECTION_WINDOW
+	 *
+	 * @since 5.4.2
+	 */
+	String N_PLUS_ONE_DETECTION_THRESHOLD = "hibernate.n_plus_one_detection.threshold";
+
+	/**
+	 * The window, in milliseconds, within which the {@link #N_PLUS_ONE_DETECTION_THRESHOLD} number
+	 * of association fetches must happen to be reported as an N+1 select.
+	 * <p/>
+	 * The default value is {@code 1000}.
+	 *
+	 * @since 5.4.2
+	 */
+	String N_PLUS_ONE_DETECTION_WINDOW = "hibernate.n_plus_one_detection.window";
+
 	/**
 	 * Global setting for whether NULL parameter bindings should be passed to database
 	 * procedure/function calls as part of {@link org.hibernate.procedure.ProcedureCall}
@@ -1986,6 +2161,55 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * By default, the HQL/JPQL query string is rewritten to include one parameter for each value
+	 * bound to a multi-valued (IN clause) named parameter, so that every distinct number of values
+	 * results in a distinct query plan to be translated and cached.
+	 * </p>
+	 * When this property is set to {@code true}, the query is instead translated once and the
+	 * placeholder of the multi-valued parameter is expanded in the generated SQL when the query
+	 * is executed, keeping such queries from filling up the query plan cache.  Queries for which
+	 * the placeholder cannot be located in the SQL, as well as positional parameters and
+	 * bulk update/delete queries, still have their query string rewritten.
+	 * </p>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.4.2
+	 * @see #IN_CLAUSE_PARAMETER_PADDING
+	 */
+	String IN_CLAUSE_PARAMETER_SQL_EXPANSION = "hibernate.query.in_clause_parameter_sql_expansion";
+
+	/**
+	 * When set to {@code true}, {@link org.hibernate.query.Query#stream()} streams the results off a database
+	 * cursor: unless a fetch size is set on the query, the
+	 * {@link org.hibernate.dialect.Dialect#getDefaultStreamingFetchSize() fetch size} appropriate for the
+	 * Dialect is applied so that the driver does not buffer the whole result set, and the entities of a
+	 * row are evicted from the persistence context once the stream moves on to the next row.
+	 * </p>
+	 * Note that on some databases (MySQL, for instance) no other statement can be executed on the
+	 * connection while the stream is open, so lazy associations should not be initialized from within
+	 * the stream.
+	 * </p>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.4.2
+	 */
+	String QUERY_STREAMING = "hibernate.query.streaming";
+
+	/**
+	 * When set to {@code true}, HQL queries are parsed by a hand-written recursive-descent parser whenever
+	 * they only use the common subset of the select statement syntax it understands, which is much cheaper
+	 * than the ANTLR generated parser.  Other queries are still parsed by the ANTLR generated parser.
+	 * Either way the HQL AST handed over to the rest of the translation is the same.
+	 * </p>
+	 * The default value is {@code false}.
+	 *
+	 * @see org.hibernate.hql.internal.ast.RecursiveDescentHqlParser
+	 *
+	 * @since 5.4.2
+	 */
+	String RECURSIVE_DESCENT_HQL_PARSER = "hibernate.query.recursive_descent_parser";
+
 	/**
 	 * This setting controls the number of {@link org.hibernate.stat.QueryStatistics} entries
 	 * that will be stored by the Hibernate {@link org.hibernate.stat.Statistics} object.
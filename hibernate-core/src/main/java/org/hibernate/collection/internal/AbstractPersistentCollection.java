@@ -15,6 +15,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.FlushMode;
@@ -62,6 +63,8 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 	private transient List<DelayedOperation> operationQueue;
 	private transient boolean directlyAccessible;
 	private transient boolean initializing;
+	// set on collections fetched ahead of demand by a batch fetch, until they are read
+	private transient boolean prefetched;
 	private Object owner;
 	private int cachedSize = -1;
 
@@ -72,6 +75,8 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 	private boolean dirty;
 	protected boolean elementRemoved;
 	private Serializable storedSnapshot;
+	// the operation log standing for the snapshot, see CollectionOperationLog
+	private CollectionOperationLog operationLog;
 
 	private String sessionFactoryUuid;
 	private boolean allowLoadOutsideTransaction;
@@ -148,11 +153,28 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 		initialize( false );
 	}
 
+	/**
+	 * Marks this collection as fetched ahead of demand by a batch fetch, see {@link #isUnreadPrefetch}.
+	 */
+	public final void markPrefetched() {
+		prefetched = true;
+	}
+
+	/**
+	 * Has this collection been left unread since it was {@link #markPrefetched marked as prefetched}?
+	 *
+	 * @return {@code true} if the collection has not been read since
+	 */
+	public final boolean isUnreadPrefetch() {
+		return prefetched;
+	}
+
 	/**
 	 * Called by the {@link Collection#size} method
 	 */
 	@SuppressWarnings({"JavaDoc"})
 	protected boolean readSize() {
+		prefetched = false;
 		if ( !initialized ) {
 			if ( cachedSize != -1 && !hasQueuedOperations() ) {
 				return true;
@@ -295,6 +317,7 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 	}
 
 	protected Boolean readIndexExistence(final Object index) {
+		prefetched = false;
 		if ( !initialized ) {
 			final Boolean extraLazyExistenceCheck = withTemporarySessionIfNeeded(
 					new LazyInitializationWork<Boolean>() {
@@ -323,6 +346,7 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 	}
 
 	protected Boolean readElementExistence(final Object element) {
+		prefetched = false;
 		if ( !initialized ) {
 			final Boolean extraLazyExistenceCheck = withTemporarySessionIfNeeded(
 					new LazyInitializationWork<Boolean>() {
@@ -350,9 +374,145 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 		return null;
 	}
 
+	/**
+	 * Called by the {@link Collection#containsAll} method of sets and bags
+	 *
+	 * @return Whether the extra-lazy collection contains all of the elements, or {@code null} if the collection
+	 * got initialized
+	 */
+	protected Boolean readElementsExistence(final Collection elements) {
+		prefetched = false;
+		if ( !initialized ) {
+			final Boolean extraLazyExistenceCheck = withTemporarySessionIfNeeded(
+					new LazyInitializationWork<Boolean>() {
+						@Override
+						public Boolean doWork() {
+							final CollectionEntry entry = session.getPersistenceContext().getCollectionEntry( AbstractPersistentCollection.this );
+							final CollectionPersister persister = entry.getLoadedPersister();
+							final int batchSize = session.getFactory().getSessionFactoryOptions().getExtraLazyCollectionPageSize();
+							if ( persister.isExtraLazy() && batchSize > 0 ) {
+								if ( hasQueuedOperations() ) {
+									session.flush();
+								}
+								return persister.elementsExist( entry.getLoadedKey(), elements, batchSize, session );
+							}
+							else {
+								read();
+							}
+							return null;
+						}
+					}
+			);
+			if ( extraLazyExistenceCheck != null ) {
+				return extraLazyExistenceCheck;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Called by the {@link Collection#iterator} method of sets and bags
+	 *
+	 * @return An iterator reading the elements of the extra-lazy collection from the database window by window,
+	 * or {@code null} if the collection got initialized
+	 */
+	protected Iterator readElementsByWindow() {
+		prefetched = false;
+		if ( !initialized ) {
+			class ExtraLazyFirstWindowReader implements LazyInitializationWork<List> {
+				private int windowSize;
+
+				@Override
+				public List doWork() {
+					final CollectionEntry entry = session.getPersistenceContext().getCollectionEntry( AbstractPersistentCollection.this );
+					final CollectionPersister persister = entry.getLoadedPersister();
+					windowSize = session.getFactory().getSessionFactoryOptions().getExtraLazyCollectionPageSize();
+					if ( persister.isExtraLazy() && windowSize > 0 ) {
+						if ( hasQueuedOperations() ) {
+							session.flush();
+						}
+						final List window = persister.getElements( entry.getLoadedKey(), 0, windowSize, session, getOwner() );
+						if ( window != null ) {
+							return window;
+						}
+					}
+					read();
+					return null;
+				}
+			}
+
+			final ExtraLazyFirstWindowReader reader = new ExtraLazyFirstWindowReader();
+			final List firstWindow = withTemporarySessionIfNeeded( reader );
+			if ( firstWindow != null ) {
+				return new WindowIterator( reader.windowSize, firstWindow );
+			}
+		}
+		return null;
+	}
+
+	private List readElementWindow(final int firstRow, final int maxRows) {
+		return withTemporarySessionIfNeeded(
+				new LazyInitializationWork<List>() {
+					@Override
+					public List doWork() {
+						final CollectionEntry entry = session.getPersistenceContext().getCollectionEntry( AbstractPersistentCollection.this );
+						return entry.getLoadedPersister().getElements( entry.getLoadedKey(), firstRow, maxRows, session, getOwner() );
+					}
+				}
+		);
+	}
+
+	/**
+	 * Iterates an extra-lazy collection by reading windows of its elements, until a window comes back incomplete.
+	 * Removing an element goes through {@link Collection#remove} of the collection.
+	 */
+	private class WindowIterator implements Iterator {
+		private final int windowSize;
+		private List window;
+		private int firstRow;
+		private int position;
+		private Object current;
+		private boolean removable;
+
+		private WindowIterator(int windowSize, List firstWindow) {
+			this.windowSize = windowSize;
+			this.window = firstWindow;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if ( position == windowSize && window.size() == windowSize ) {
+				firstRow += window.size();
+				window = readElementWindow( firstRow, windowSize );
+				position = 0;
+			}
+			return position < window.size();
+		}
+
+		@Override
+		public Object next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			current = window.get( position++ );
+			removable = true;
+			return current;
+		}
+
+		@Override
+		public void remove() {
+			if ( !removable ) {
+				throw new IllegalStateException();
+			}
+			removable = false;
+			( (Collection) AbstractPersistentCollection.this ).remove( current );
+		}
+	}
+
 	protected static final Object UNKNOWN = new MarkerObject( "UNKNOWN" );
 
 	protected Object readElementByIndex(final Object index) {
+		prefetched = false;
 		if ( !initialized ) {
 			class ExtraLazyElementByIndexReader implements LazyInitializationWork {
 				private boolean isExtraLazy;
@@ -406,9 +566,92 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 	 */
 	protected final void write() {
 		initialize( true );
+		if ( operationLog != null ) {
+			// the modification is not tracked by the operation log
+			discardOperationLog();
+		}
 		dirty();
 	}
 
+	/**
+	 * Start recording the modifications of this collection in an operation log, which then stands for its
+	 * snapshot, rather than copying its elements, if enabled for collections of this size and applicable to
+	 * the collection: it must {@link #supportsOperationLog support operation logs}, its elements must be of
+	 * an immutable type, and only modified through this wrapper.
+	 *
+	 * @param persister The collection persister
+	 * @param size The number of elements of the collection
+	 *
+	 * @return The operation log to use as the snapshot, {@code null} if a full snapshot is to be taken
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#COLLECTION_OPERATION_LOG_THRESHOLD
+	 */
+	protected final Serializable startOperationLog(CollectionPersister persister, int size) {
+		final int threshold = persister.getFactory().getSessionFactoryOptions().getCollectionOperationLogThreshold();
+		if ( threshold > 0
+				&& size >= threshold
+				&& supportsOperationLog()
+				&& !directlyAccessible
+				&& !persister.getElementType().isMutable() ) {
+			operationLog = new CollectionOperationLog( size );
+		}
+		else {
+			operationLog = null;
+		}
+		return operationLog;
+	}
+
+	/**
+	 * Get the operation log standing for the snapshot of this collection, to record a modification in.
+	 *
+	 * @return The operation log, {@code null} if the collection has a full snapshot
+	 */
+	protected final CollectionOperationLog getOperationLog() {
+		return operationLog;
+	}
+
+	/**
+	 * Does this type of collection support recording its modifications in an operation log rather than
+	 * copying its elements into a snapshot?  Those which do record the modifications of their elements
+	 * in the {@link #getOperationLog() operation log}, diff against it, and {@link #restoreSnapshot restore}
+	 * their full snapshot from it.
+	 *
+	 * @return {@code true} if operation logs are supported; {@code false} by default.
+	 */
+	protected boolean supportsOperationLog() {
+		return false;
+	}
+
+	/**
+	 * Rebuild the full snapshot the given operation log stands for.  Only called on collections which
+	 * {@link #supportsOperationLog support operation logs}, as no other collection has one.
+	 *
+	 * @param operationLog The operation log
+	 *
+	 * @return The full snapshot
+	 */
+	protected Serializable restoreSnapshot(CollectionOperationLog operationLog) {
+		throw new AssertionFailure( "Operation log of a collection not supporting them: " + getClass().getName() );
+	}
+
+	/**
+	 * Replace the operation log by the full snapshot it stands for, before this collection gets modified in
+	 * a way the log does not track (through an iterator or a view).
+	 */
+	private void discardOperationLog() {
+		final Serializable snapshot = restoreSnapshot( operationLog );
+		if ( session != null ) {
+			final CollectionEntry entry = session.getPersistenceContext().getCollectionEntry( this );
+			if ( entry != null && entry.getSnapshot() == operationLog ) {
+				entry.replaceSnapshot( snapshot );
+			}
+		}
+		if ( storedSnapshot == operationLog ) {
+			storedSnapshot = snapshot;
+		}
+		operationLog = null;
+	}
+
 	/**
 	 * Is this collection in a state that would allow us to
 	 * "queue" operations?
@@ -521,6 +764,9 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 		this.key = key;
 		this.role = role;
 		this.storedSnapshot = snapshot;
+		this.operationLog = snapshot instanceof CollectionOperationLog && supportsOperationLog()
+				? (CollectionOperationLog) snapshot
+				: null;
 	}
 
 	@Override
@@ -574,6 +820,7 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 	 * @throws LazyInitializationException if we cannot initialize
 	 */
 	protected final void initialize(final boolean writing) {
+		prefetched = false;
 		if ( initialized ) {
 			return;
 		}
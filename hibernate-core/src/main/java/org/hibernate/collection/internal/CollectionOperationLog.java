@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.collection.internal;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the elements added to and removed from a collection since its snapshot was taken, and stands for the
+ * snapshot itself: the state of the collection at that time is its current state minus the additions plus the
+ * removals.  An addition and a removal of equal elements cancel each other out, so that only the net changes
+ * are held.
+ * <p/>
+ * Only used for elements of an immutable type, which cannot change without being removed and added again.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#COLLECTION_OPERATION_LOG_THRESHOLD
+ */
+final class CollectionOperationLog implements Serializable {
+	private final int snapshotSize;
+	private final HashMap<Object, Integer> additions = new HashMap<>();
+	private final HashMap<Object, Integer> removals = new HashMap<>();
+
+	CollectionOperationLog(int snapshotSize) {
+		this.snapshotSize = snapshotSize;
+	}
+
+	void added(Object element) {
+		if ( !decrement( removals, element ) ) {
+			increment( additions, element );
+		}
+	}
+
+	void removed(Object element) {
+		if ( !decrement( additions, element ) ) {
+			increment( removals, element );
+		}
+	}
+
+	boolean isAdded(Object element) {
+		return additions.containsKey( element );
+	}
+
+	boolean isEmpty() {
+		return additions.isEmpty() && removals.isEmpty();
+	}
+
+	int getSnapshotSize() {
+		return snapshotSize;
+	}
+
+	/**
+	 * @return The removed elements, as many times as they were removed
+	 */
+	List getRemovals() {
+		final List result = new ArrayList( removals.size() );
+		for ( Map.Entry<Object, Integer> entry : removals.entrySet() ) {
+			for ( int i = 0; i < entry.getValue(); i++ ) {
+				result.add( entry.getKey() );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Rebuilds the elements of the snapshot.
+	 *
+	 * @param currentElements The current elements of the collection
+	 *
+	 * @return The elements of the collection at the time the snapshot was taken
+	 */
+	@SuppressWarnings("unchecked")
+	List restore(Collection currentElements) {
+		final HashMap<Object, Integer> pendingAdditions = new HashMap<>( additions );
+		final List result = new ArrayList( snapshotSize );
+		for ( Object element : currentElements ) {
+			if ( !decrement( pendingAdditions, element ) ) {
+				result.add( element );
+			}
+		}
+		result.addAll( getRemovals() );
+		return result;
+	}
+
+	private static void increment(Map<Object, Integer> counts, Object element) {
+		counts.merge( element, 1, Integer::sum );
+	}
+
+	private static boolean decrement(Map<Object, Integer> counts, Object element) {
+		final Integer count = counts.get( element );
+		if ( count == null ) {
+			return false;
+		}
+		if ( count == 1 ) {
+			counts.remove( element );
+		}
+		else {
+			counts.put( element, count - 1 );
+		}
+		return true;
+	}
+}
@@ -11,6 +11,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
@@ -132,8 +133,12 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 
 	@Override
 	public boolean equalsSnapshot(CollectionPersister persister) throws HibernateException {
+		final Serializable snapshot = getSnapshot();
+		if ( snapshot instanceof CollectionOperationLog ) {
+			return ( (CollectionOperationLog) snapshot ).isEmpty();
+		}
 		final Type elementType = persister.getElementType();
-		final List sn = (List) getSnapshot();
+		final List sn = (List) snapshot;
 		if ( sn.size() != bag.size() ) {
 			return false;
 		}
@@ -148,6 +153,9 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 
 	@Override
 	public boolean isSnapshotEmpty(Serializable snapshot) {
+		if ( snapshot instanceof CollectionOperationLog ) {
+			return ( (CollectionOperationLog) snapshot ).getSnapshotSize() == 0;
+		}
 		return ( (Collection) snapshot ).isEmpty();
 	}
 
@@ -167,6 +175,11 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public Serializable getSnapshot(CollectionPersister persister)
 			throws HibernateException {
+		final Serializable operationLog = startOperationLog( persister, bag.size() );
+		if ( operationLog != null ) {
+			return operationLog;
+		}
+
 		final ArrayList clonedList = new ArrayList( bag.size() );
 		for ( Object item : bag ) {
 			clonedList.add( persister.getElementType().deepCopy( item, persister.getFactory() ) );
@@ -176,10 +189,24 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 
 	@Override
 	public Collection getOrphans(Serializable snapshot, String entityName) throws HibernateException {
+		if ( snapshot instanceof CollectionOperationLog ) {
+			return getOrphans( ( (CollectionOperationLog) snapshot ).getRemovals(), bag, entityName, getSession() );
+		}
 		final List sn = (List) snapshot;
 		return getOrphans( sn, bag, entityName, getSession() );
 	}
 
+	@Override
+	protected boolean supportsOperationLog() {
+		return true;
+	}
+
+	@Override
+	protected Serializable restoreSnapshot(CollectionOperationLog operationLog) {
+		// the elements are immutable, no need to copy them
+		return (Serializable) operationLog.restore( bag );
+	}
+
 	@Override
 	public Serializable disassemble(CollectionPersister persister)
 			throws HibernateException {
@@ -223,9 +250,18 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@Override
 	@SuppressWarnings("unchecked")
 	public Iterator getDeletes(CollectionPersister persister, boolean indexIsFormula) throws HibernateException {
+		final Serializable snapshot = getSnapshot();
+		if ( snapshot instanceof CollectionOperationLog ) {
+			final List removals = ( (CollectionOperationLog) snapshot ).getRemovals();
+			if ( !removals.isEmpty() ) {
+				// set semantics: an element still in the bag is not deleted
+				removals.removeAll( new HashSet( bag ) );
+			}
+			return removals.iterator();
+		}
 		final Type elementType = persister.getElementType();
 		final ArrayList deletes = new ArrayList();
-		final List sn = (List) getSnapshot();
+		final List sn = (List) snapshot;
 		final Iterator olditer = sn.iterator();
 		int i=0;
 		while ( olditer.hasNext() ) {
@@ -255,7 +291,11 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 
 	@Override
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
-		final List sn = (List) getSnapshot();
+		final Serializable snapshot = getSnapshot();
+		if ( snapshot instanceof CollectionOperationLog ) {
+			return ( (CollectionOperationLog) snapshot ).isAdded( entry );
+		}
+		final List sn = (List) snapshot;
 		if ( sn.size() > i && elemType.isSame( sn.get( i ), entry ) ) {
 			//a shortcut if its location didn't change!
 			return false;
@@ -300,8 +340,10 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 
 	@Override
 	public Iterator iterator() {
-		read();
-		return new IteratorProxy( bag.iterator() );
+		final Iterator windowIterator = readElementsByWindow();
+		return windowIterator == null
+				? new IteratorProxy( bag.iterator() )
+				: windowIterator;
 	}
 
 	@Override
@@ -320,7 +362,11 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public boolean add(Object object) {
 		if ( !isOperationQueueEnabled() ) {
-			write();
+			initialize( true );
+			dirty();
+			if ( getOperationLog() != null ) {
+				getOperationLog().added( object );
+			}
 			return bag.add( object );
 		}
 		else {
@@ -333,6 +379,9 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	public boolean remove(Object o) {
 		initialize( true );
 		if ( bag.remove( o ) ) {
+			if ( getOperationLog() != null ) {
+				getOperationLog().removed( o );
+			}
 			elementRemoved = true;
 			dirty();
 			return true;
@@ -345,8 +394,10 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean containsAll(Collection c) {
-		read();
-		return bag.containsAll( c );
+		final Boolean exist = readElementsExistence( c );
+		return exist == null
+				? bag.containsAll( c )
+				: exist;
 	}
 
 	@Override
@@ -356,7 +407,13 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 			return false;
 		}
 		if ( !isOperationQueueEnabled() ) {
-			write();
+			initialize( true );
+			dirty();
+			if ( getOperationLog() != null ) {
+				for ( Object value : values ) {
+					getOperationLog().added( value );
+				}
+			}
 			return bag.addAll( values );
 		}
 		else {
@@ -372,6 +429,9 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	public boolean removeAll(Collection c) {
 		if ( c.size()>0 ) {
 			initialize( true );
+			if ( getOperationLog() != null ) {
+				return removeLogged( c, true );
+			}
 			if ( bag.removeAll( c ) ) {
 				elementRemoved = true;
 				dirty();
@@ -390,6 +450,9 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public boolean retainAll(Collection c) {
 		initialize( true );
+		if ( getOperationLog() != null ) {
+			return removeLogged( c, false );
+		}
 		if ( bag.retainAll( c ) ) {
 			dirty();
 			return true;
@@ -408,12 +471,39 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 		else {
 			initialize( true );
 			if ( ! bag.isEmpty() ) {
+				if ( getOperationLog() != null ) {
+					for ( Object element : bag ) {
+						getOperationLog().removed( element );
+					}
+				}
 				bag.clear();
 				dirty();
 			}
 		}
 	}
 
+	/**
+	 * Remove the elements contained, or not contained, in the given collection, recording them in the
+	 * operation log.
+	 */
+	private boolean removeLogged(Collection c, boolean contained) {
+		boolean changed = false;
+		final Iterator itr = bag.iterator();
+		while ( itr.hasNext() ) {
+			final Object element = itr.next();
+			if ( c.contains( element ) == contained ) {
+				itr.remove();
+				getOperationLog().removed( element );
+				changed = true;
+			}
+		}
+		if ( changed ) {
+			elementRemoved = true;
+			dirty();
+		}
+		return changed;
+	}
+
 	@Override
 	public Object getIndex(Object entry, int i, CollectionPersister persister) {
 		throw new UnsupportedOperationException("Bags don't have indexes");
@@ -455,7 +545,11 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@Override
 	@SuppressWarnings("unchecked")
 	public void add(int i, Object o) {
-		write();
+		initialize( true );
+		dirty();
+		if ( getOperationLog() != null ) {
+			getOperationLog().added( o );
+		}
 		bag.add( i, o );
 	}
 
@@ -463,7 +557,13 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@SuppressWarnings("unchecked")
 	public boolean addAll(int i, Collection c) {
 		if ( c.size() > 0 ) {
-			write();
+			initialize( true );
+			dirty();
+			if ( getOperationLog() != null ) {
+				for ( Object element : c ) {
+					getOperationLog().added( element );
+				}
+			}
 			return bag.addAll( i, c );
 		}
 		else {
@@ -509,15 +609,26 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 	@Override
 	@SuppressWarnings("unchecked")
 	public Object remove(int i) {
-		write();
-		return bag.remove( i );
+		initialize( true );
+		dirty();
+		final Object removed = bag.remove( i );
+		if ( getOperationLog() != null ) {
+			getOperationLog().removed( removed );
+		}
+		return removed;
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	public Object set(int i, Object o) {
-		write();
-		return bag.set( i, o );
+		initialize( true );
+		dirty();
+		final Object old = bag.set( i, o );
+		if ( getOperationLog() != null ) {
+			getOperationLog().removed( old );
+			getOperationLog().added( o );
+		}
+		return old;
 	}
 
 	@Override
@@ -100,6 +100,11 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@Override
 	@SuppressWarnings( {"unchecked"})
 	public Serializable getSnapshot(CollectionPersister persister) throws HibernateException {
+		final Serializable operationLog = startOperationLog( persister, set.size() );
+		if ( operationLog != null ) {
+			return operationLog;
+		}
+
 		final HashMap clonedSet = new HashMap( set.size() );
 		for ( Object aSet : set ) {
 			final Object copied = persister.getElementType().deepCopy( aSet, persister.getFactory() );
@@ -110,14 +115,38 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 
 	@Override
 	public Collection getOrphans(Serializable snapshot, String entityName) throws HibernateException {
+		if ( snapshot instanceof CollectionOperationLog ) {
+			return getOrphans( ( (CollectionOperationLog) snapshot ).getRemovals(), set, entityName, getSession() );
+		}
 		final java.util.Map sn = (java.util.Map) snapshot;
 		return getOrphans( sn.keySet(), set, entityName, getSession() );
 	}
 
+	@Override
+	protected boolean supportsOperationLog() {
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Serializable restoreSnapshot(CollectionOperationLog operationLog) {
+		// the elements are immutable, no need to copy them
+		final List elements = operationLog.restore( set );
+		final HashMap snapshot = new HashMap( elements.size() );
+		for ( Object element : elements ) {
+			snapshot.put( element, element );
+		}
+		return snapshot;
+	}
+
 	@Override
 	public boolean equalsSnapshot(CollectionPersister persister) throws HibernateException {
+		final Serializable snapshot = getSnapshot();
+		if ( snapshot instanceof CollectionOperationLog ) {
+			return ( (CollectionOperationLog) snapshot ).isEmpty();
+		}
 		final Type elementType = persister.getElementType();
-		final java.util.Map sn = (java.util.Map) getSnapshot();
+		final java.util.Map sn = (java.util.Map) snapshot;
 		if ( sn.size()!=set.size() ) {
 			return false;
 		}
@@ -134,6 +163,9 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 
 	@Override
 	public boolean isSnapshotEmpty(Serializable snapshot) {
+		if ( snapshot instanceof CollectionOperationLog ) {
+			return ( (CollectionOperationLog) snapshot ).getSnapshotSize() == 0;
+		}
 		return ( (java.util.Map) snapshot ).isEmpty();
 	}
 
@@ -185,8 +217,10 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@Override
 	@SuppressWarnings("unchecked")
 	public Iterator iterator() {
-		read();
-		return new IteratorProxy( set.iterator() );
+		final Iterator windowIterator = readElementsByWindow();
+		return windowIterator == null
+				? new IteratorProxy( set.iterator() )
+				: windowIterator;
 	}
 
 	@Override
@@ -209,6 +243,9 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		if ( exists == null ) {
 			initialize( true );
 			if ( set.add( value ) ) {
+				if ( getOperationLog() != null ) {
+					getOperationLog().added( value );
+				}
 				dirty();
 				return true;
 			}
@@ -231,6 +268,9 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		if ( exists == null ) {
 			initialize( true );
 			if ( set.remove( value ) ) {
+				if ( getOperationLog() != null ) {
+					getOperationLog().removed( value );
+				}
 				elementRemoved = true;
 				dirty();
 				return true;
@@ -252,8 +292,10 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean containsAll(Collection coll) {
-		read();
-		return set.containsAll( coll );
+		final Boolean exist = readElementsExistence( coll );
+		return exist == null
+				? set.containsAll( coll )
+				: exist;
 	}
 
 	@Override
@@ -261,6 +303,20 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	public boolean addAll(Collection coll) {
 		if ( coll.size() > 0 ) {
 			initialize( true );
+			final CollectionOperationLog operationLog = getOperationLog();
+			if ( operationLog != null ) {
+				boolean changed = false;
+				for ( Object element : coll ) {
+					if ( set.add( element ) ) {
+						operationLog.added( element );
+						changed = true;
+					}
+				}
+				if ( changed ) {
+					dirty();
+				}
+				return changed;
+			}
 			if ( set.addAll( coll ) ) {
 				dirty();
 				return true;
@@ -278,6 +334,23 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@SuppressWarnings("unchecked")
 	public boolean retainAll(Collection coll) {
 		initialize( true );
+		final CollectionOperationLog operationLog = getOperationLog();
+		if ( operationLog != null ) {
+			boolean changed = false;
+			final Iterator itr = set.iterator();
+			while ( itr.hasNext() ) {
+				final Object element = itr.next();
+				if ( !coll.contains( element ) ) {
+					itr.remove();
+					operationLog.removed( element );
+					changed = true;
+				}
+			}
+			if ( changed ) {
+				dirty();
+			}
+			return changed;
+		}
 		if ( set.retainAll( coll ) ) {
 			dirty();
 			return true;
@@ -292,6 +365,21 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	public boolean removeAll(Collection coll) {
 		if ( coll.size() > 0 ) {
 			initialize( true );
+			final CollectionOperationLog operationLog = getOperationLog();
+			if ( operationLog != null ) {
+				boolean changed = false;
+				for ( Object element : coll ) {
+					if ( set.remove( element ) ) {
+						operationLog.removed( element );
+						changed = true;
+					}
+				}
+				if ( changed ) {
+					elementRemoved = true;
+					dirty();
+				}
+				return changed;
+			}
 			if ( set.removeAll( coll ) ) {
 				elementRemoved = true;
 				dirty();
@@ -315,6 +403,11 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		else {
 			initialize( true );
 			if ( !set.isEmpty() ) {
+				if ( getOperationLog() != null ) {
+					for ( Object element : set ) {
+						getOperationLog().removed( element );
+					}
+				}
 				set.clear();
 				dirty();
 			}
@@ -379,8 +472,13 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@Override
 	@SuppressWarnings("unchecked")
 	public Iterator getDeletes(CollectionPersister persister, boolean indexIsFormula) throws HibernateException {
+		final Serializable snapshot = getSnapshot();
+		if ( snapshot instanceof CollectionOperationLog ) {
+			// the removed elements are no longer in the set
+			return ( (CollectionOperationLog) snapshot ).getRemovals().iterator();
+		}
 		final Type elementType = persister.getElementType();
-		final java.util.Map sn = (java.util.Map) getSnapshot();
+		final java.util.Map sn = (java.util.Map) snapshot;
 		final ArrayList deletes = new ArrayList( sn.size() );
 
 		Iterator itr = sn.keySet().iterator();
@@ -408,7 +506,11 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 	@Override
 	@SuppressWarnings("unchecked")
 	public boolean needsInserting(Object entry, int i, Type elemType) throws HibernateException {
-		final Object oldValue = ( (java.util.Map) getSnapshot() ).get( entry );
+		final Serializable snapshot = getSnapshot();
+		if ( snapshot instanceof CollectionOperationLog ) {
+			return ( (CollectionOperationLog) snapshot ).isAdded( entry );
+		}
+		final Object oldValue = ( (java.util.Map) snapshot ).get( entry );
 		// note that it might be better to iterate the snapshot but this is safe,
 		// assuming the user implements equals() properly, as required by the Set
 		// contract!
@@ -2837,6 +2837,18 @@ public abstract class Dialect implements ConversionContext {
 		return ScrollMode.SCROLL_INSENSITIVE;
 	}
 
+	/**
+	 * The JDBC fetch size to apply to a query whose results are streamed, so that the driver reads them
+	 * off a database cursor rather than buffering the whole result set.
+	 *
+	 * @return The fetch size, or {@code 0} to leave the driver's default in place
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_STREAMING
+	 */
+	public int getDefaultStreamingFetchSize() {
+		return 0;
+	}
+
 	/**
 	 * Does this dialect support tuples in subqueries?  Ex:
 	 * delete from Table1 where (col1, col2) in (select col1, col2 from Table2)
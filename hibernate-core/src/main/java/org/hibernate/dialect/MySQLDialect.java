@@ -598,4 +598,13 @@ public class MySQLDialect extends Dialect {
 	protected String escapeLiteral(String literal) {
 		return super.escapeLiteral( literal ).replace("\\", "\\\\");
 	}
+
+	/**
+	 * MySQL Connector/J only streams the rows of a forward-only result set one at a time when the fetch size
+	 * is set to {@link Integer#MIN_VALUE}; any other value reads the whole result set into memory.
+	 */
+	@Override
+	public int getDefaultStreamingFetchSize() {
+		return Integer.MIN_VALUE;
+	}
 }
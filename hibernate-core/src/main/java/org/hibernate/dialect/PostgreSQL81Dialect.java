@@ -643,4 +643,13 @@ public class PostgreSQL81Dialect extends Dialect {
 	public boolean supportsJdbcConnectionLobCreation(DatabaseMetaData databaseMetaData) {
 		return false;
 	}
+
+	/**
+	 * The PostgreSQL driver reads the results off a cursor as soon as a fetch size is set, provided the
+	 * statement is executed within a transaction.
+	 */
+	@Override
+	public int getDefaultStreamingFetchSize() {
+		return 256;
+	}
 }
@@ -10,14 +10,17 @@ import java.io.Serializable;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.PostInsertIdentityPersister;
 import org.hibernate.id.insert.AbstractReturningDelegate;
+import org.hibernate.id.insert.Binder;
 import org.hibernate.id.insert.IdentifierGeneratingInsert;
 import org.hibernate.id.insert.InsertGeneratedIdentifierDelegate;
+import org.hibernate.pretty.MessageHelper;
 
 /**
  * Delegate for dealing with IDENTITY columns using JDBC3 getGeneratedKeys
@@ -71,4 +74,64 @@ public class GetGeneratedKeysDelegate
 			}
 		}
 	}
+
+	/**
+	 * Perform the insert of several entities as a single JDBC batch, reading back the generated
+	 * keys in the order the entities were bound.  Requires the driver to return the keys of all
+	 * the batched statements (see {@link IdentityColumnSupport#supportsBatchedGetGeneratedKeys()}).
+	 *
+	 * @param insertSQL The INSERT statement string
+	 * @param session The session in which we are operating
+	 * @param binders The parameter binders, one per entity to insert
+	 *
+	 * @return The generated identifier values, in the order of the binders
+	 */
+	public Serializable[] performBatchedInsert(
+			String insertSQL,
+			SharedSessionContractImplementor session,
+			List<Binder> binders) {
+		try {
+			final PreparedStatement insert = prepare( insertSQL, session );
+			try {
+				for ( Binder binder : binders ) {
+					binder.bindValues( insert );
+					insert.addBatch();
+				}
+				try {
+					session.getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchStart();
+					insert.executeBatch();
+				}
+				finally {
+					session.getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
+				}
+
+				final Serializable[] ids = new Serializable[binders.size()];
+				final ResultSet rs = insert.getGeneratedKeys();
+				try {
+					for ( int i = 0; i < ids.length; i++ ) {
+						ids[i] = IdentifierGeneratorHelper.getGeneratedIdentity(
+								rs,
+								persister.getRootTableKeyColumnNames()[0],
+								persister.getIdentifierType(),
+								dialect
+						);
+					}
+				}
+				finally {
+					session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( rs, insert );
+				}
+				return ids;
+			}
+			finally {
+				releaseStatement( insert, session );
+			}
+		}
+		catch (SQLException sqle) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					sqle,
+					"could not insert: " + MessageHelper.infoString( persister ),
+					insertSQL
+			);
+		}
+	}
 }
@@ -103,4 +103,17 @@ public interface IdentityColumnSupport {
 	GetGeneratedKeysDelegate buildGetGeneratedKeysDelegate(
 			PostInsertIdentityPersister persister,
 			Dialect dialect);
+
+	/**
+	 * Does the JDBC driver return the keys generated by all the statements of a batch
+	 * (executed with {@link java.sql.Statement#RETURN_GENERATED_KEYS}), in the order
+	 * the statements were added to the batch?
+	 *
+	 * @return {@code true} if the generated keys of batched inserts can be read back
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	default boolean supportsBatchedGetGeneratedKeys() {
+		return false;
+	}
 }
@@ -29,4 +29,9 @@ public class PostgreSQL10IdentityColumnSupport extends IdentityColumnSupportImpl
 	public boolean hasDataTypeInIdentityColumn() {
 		return true;
 	}
+
+	@Override
+	public boolean supportsBatchedGetGeneratedKeys() {
+		return true;
+	}
 }
@@ -9,19 +9,23 @@ package org.hibernate.engine.internal;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.CascadingAction;
+import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
@@ -43,10 +47,51 @@ import org.hibernate.type.Type;
 public final class Cascade {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( Cascade.class );
 
+	private static final CascadingAction[] PLANNED_ACTIONS = {
+			CascadingActions.DELETE,
+			CascadingActions.LOCK,
+			CascadingActions.REFRESH,
+			CascadingActions.EVICT,
+			CascadingActions.SAVE_UPDATE,
+			CascadingActions.MERGE,
+			CascadingActions.PERSIST,
+			CascadingActions.PERSIST_ON_FLUSH,
+			CascadingActions.REPLICATE
+	};
+
 	private Cascade() {
 		// NOP
 	}
 
+	/**
+	 * Determine, for each of the standard cascading actions, the properties of an entity that {@link #cascade}
+	 * has to visit: those the action cascades to, those whose orphans it removes, and those it has to verify
+	 * when not cascading.  The other properties are skipped without reading their values, and entities left
+	 * with no property to visit are not walked at all.
+	 *
+	 * @param types The entity property types
+	 * @param cascadeStyles The entity property cascade styles
+	 *
+	 * @return The indexes of the properties to visit, per action
+	 */
+	public static Map<CascadingAction, int[]> buildCascadePlans(Type[] types, CascadeStyle[] cascadeStyles) {
+		final Map<CascadingAction, int[]> plans = new IdentityHashMap<>( PLANNED_ACTIONS.length );
+		for ( CascadingAction action : PLANNED_ACTIONS ) {
+			final int[] propertyIndexes = new int[types.length];
+			int count = 0;
+			for ( int i = 0; i < types.length; i++ ) {
+				final CascadeStyle style = cascadeStyles[i];
+				if ( style.doCascade( action )
+						|| action.deleteOrphans() && style.hasOrphanDelete() && isLogicalOneToOne( types[i] )
+						|| action.requiresNoCascadeChecking() && action.requiresNoCascadeChecking( types[i] ) ) {
+					propertyIndexes[count++] = i;
+				}
+			}
+			plans.put( action, ArrayHelper.trim( propertyIndexes, count ) );
+		}
+		return plans;
+	}
+
 	/**
 	 * Cascade an action from the parent entity instance to all its children.
 	 *
@@ -78,7 +123,11 @@ public final class Cascade {
 			final Object parent,
 			final Object anything) throws HibernateException {
 
-		if ( persister.hasCascades() || action.requiresNoCascadeChecking() ) { // performance opt
+		final int[] propertyIndexes = persister.getCascadingPropertyIndexes( action );
+		final boolean hasPropertiesToVisit = propertyIndexes == null
+				? persister.hasCascades() || action.requiresNoCascadeChecking() // performance opt
+				: propertyIndexes.length > 0;
+		if ( hasPropertiesToVisit ) {
 			final boolean traceEnabled = LOG.isTraceEnabled();
 			if ( traceEnabled ) {
 				LOG.tracev( "Processing cascade {0} for: {1}", action, persister.getEntityName() );
@@ -89,7 +138,9 @@ public final class Cascade {
 			final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
 			final boolean hasUninitializedLazyProperties = persister.hasUninitializedLazyProperties( parent );
 			final int componentPathStackDepth = 0;
-			for ( int i = 0; i < types.length; i++) {
+			final int propertySpan = propertyIndexes == null ? types.length : propertyIndexes.length;
+			for ( int j = 0; j < propertySpan; j++ ) {
+				final int i = propertyIndexes == null ? j : propertyIndexes[j];
 				final CascadeStyle style = cascadeStyles[ i ];
 				final String propertyName = propertyNames[ i ];
 				final boolean isUninitializedProperty =
@@ -10,13 +10,16 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.persister.entity.EntityPersister;
@@ -80,6 +83,9 @@ public class NaturalIdXrefDelegate {
 				entityNaturalIdResolutionCache = previousInstance;
 			}
 		}
+		if ( !persister.getEntityMetamodel().hasImmutableNaturalId() && pk != null ) {
+			entityNaturalIdResolutionCache.synchronizationCandidates.add( pk );
+		}
 		return entityNaturalIdResolutionCache.cache( pk, naturalIdValues );
 	}
 
@@ -99,6 +105,7 @@ public class NaturalIdXrefDelegate {
 		final NaturalIdResolutionCache entityNaturalIdResolutionCache = naturalIdResolutionCacheMap.get( persister );
 		Object[] sessionCachedNaturalIdValues = null;
 		if ( entityNaturalIdResolutionCache != null ) {
+			entityNaturalIdResolutionCache.synchronizationCandidates.remove( pk );
 			final CachedNaturalId cachedNaturalId = entityNaturalIdResolutionCache.pkToNaturalIdMap
 					.remove( pk );
 			if ( cachedNaturalId != null ) {
@@ -138,6 +145,89 @@ public class NaturalIdXrefDelegate {
 				&& entityNaturalIdResolutionCache.sameAsCached( pk, naturalIdValues );
 	}
 
+	/**
+	 * Find the primary keys of the cross-referenced entities whose (mutable) natural id values have to be
+	 * synchronized before a natural id lookup.  An entity is a candidate from the time its cross-reference is
+	 * cached (on load, insert or reassociation) or it is made modifiable, until its cross-reference is removed or
+	 * it is found to be read-only.
+	 *
+	 * @param persister The persister representing the entity type.
+	 *
+	 * @return The primary keys of the candidates, reflecting later changes
+	 */
+	public Collection<Serializable> getSynchronizationCandidates(EntityPersister persister) {
+		persister = locatePersisterForKey( persister );
+		final NaturalIdResolutionCache entityNaturalIdResolutionCache = naturalIdResolutionCacheMap.get( persister );
+		if ( entityNaturalIdResolutionCache == null ) {
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet( entityNaturalIdResolutionCache.synchronizationCandidates );
+	}
+
+	/**
+	 * Make the given cross-referenced entity a candidate for synchronization again.
+	 *
+	 * @param persister The persister representing the entity type.
+	 * @param pk The primary key value
+	 */
+	public void addSynchronizationCandidate(EntityPersister persister, Serializable pk) {
+		persister = locatePersisterForKey( persister );
+		final NaturalIdResolutionCache entityNaturalIdResolutionCache = naturalIdResolutionCacheMap.get( persister );
+		if ( entityNaturalIdResolutionCache != null
+				&& !persister.getEntityMetamodel().hasImmutableNaturalId()
+				&& entityNaturalIdResolutionCache.pkToNaturalIdMap.containsKey( pk ) ) {
+			entityNaturalIdResolutionCache.synchronizationCandidates.add( pk );
+		}
+	}
+
+	/**
+	 * Stop synchronizing the given cross-referenced entity, whose natural id values cannot change.
+	 *
+	 * @param persister The persister representing the entity type.
+	 * @param pk The primary key value
+	 */
+	public void removeSynchronizationCandidate(EntityPersister persister, Serializable pk) {
+		persister = locatePersisterForKey( persister );
+		final NaturalIdResolutionCache entityNaturalIdResolutionCache = naturalIdResolutionCacheMap.get( persister );
+		if ( entityNaturalIdResolutionCache != null ) {
+			entityNaturalIdResolutionCache.synchronizationCandidates.remove( pk );
+		}
+	}
+
+	/**
+	 * Could the natural id values of the given entity have changed since they were cross-referenced here?
+	 * <p/>
+	 * An entity tracking its own dirtiness (bytecode enhancement) only needs to be compared against the cached
+	 * values when one of its natural id attributes has been written since it was loaded or last flushed, as the
+	 * cross-reference is refreshed on flush.  Any other entity has to be compared value by value.
+	 *
+	 * @param persister The persister representing the entity type.
+	 * @param entity The entity instance
+	 *
+	 * @return {@code false} if the natural id values are known to be unchanged; {@code true} otherwise.
+	 */
+	public boolean mayHaveChangedNaturalId(EntityPersister persister, Object entity) {
+		if ( !( entity instanceof SelfDirtinessTracker ) ) {
+			return true;
+		}
+
+		final SelfDirtinessTracker tracker = (SelfDirtinessTracker) entity;
+		if ( !tracker.$$_hibernate_hasDirtyAttributes() ) {
+			return false;
+		}
+
+		final String[] propertyNames = persister.getPropertyNames();
+		final int[] naturalIdPropertyIndexes = persister.getNaturalIdentifierProperties();
+		for ( String dirtyAttributeName : tracker.$$_hibernate_getDirtyAttributes() ) {
+			for ( int naturalIdPropertyIndex : naturalIdPropertyIndexes ) {
+				if ( propertyNames[naturalIdPropertyIndex].equals( dirtyAttributeName ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * It is only valid to define natural ids at the root of an entity hierarchy.  This method makes sure we are 
 	 * using the root persister.
@@ -419,6 +509,7 @@ public class NaturalIdXrefDelegate {
 
 		private Map<Serializable, CachedNaturalId> pkToNaturalIdMap = new ConcurrentHashMap<>();
 		private Map<CachedNaturalId, Serializable> naturalIdToPkMap = new ConcurrentHashMap<>();
+		private Set<Serializable> synchronizationCandidates = ConcurrentHashMap.newKeySet();
 
 		private List<CachedNaturalId> invalidNaturalIdList;
 
@@ -259,6 +259,17 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 		}
 	}
 
+	@Override
+	public void nPlusOneDetected(String query, String role, boolean collection, int fetchCount) {
+		if ( listenerList == null ) {
+			return;
+		}
+
+		for ( SessionEventListener listener : listenerList ) {
+			listener.nPlusOneDetected( query, role, collection, fetchCount );
+		}
+	}
+
 	@Override
 	public void end() {
 		if ( listenerList == null ) {
@@ -137,6 +137,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	private boolean defaultReadOnly;
 	private boolean hasNonReadOnlyEntities;
+	private final boolean readOnlySession;
 
 	private LoadContexts loadContexts;
 	private BatchFetchQueue batchFetchQueue;
@@ -148,7 +149,18 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 * @param session The session "owning" this context.
 	 */
 	public StatefulPersistenceContext(SharedSessionContractImplementor session) {
+		this( session, false );
+	}
+
+	/**
+	 * Constructs a PersistentContext, bound to the given session.
+	 *
+	 * @param session The session "owning" this context.
+	 * @param readOnlySession Whether the session is read-only
+	 */
+	public StatefulPersistenceContext(SharedSessionContractImplementor session, boolean readOnlySession) {
 		this.session = session;
+		this.readOnlySession = readOnlySession;
 
 		entitiesByKey = new HashMap<>( INIT_COLL_SIZE );
 		entitiesByUniqueKey = new HashMap<>( INIT_COLL_SIZE );
@@ -259,7 +271,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		proxiesByKey.clear();
 		nullifiableEntityKeys.clear();
 		if ( batchFetchQueue != null ) {
-			batchFetchQueue.clear();
+			batchFetchQueue.clearAndReportBatchFetchUsages();
 		}
 		// defaultReadOnly is unaffected by clear()
 		hasNonReadOnlyEntities = false;
@@ -271,7 +283,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public boolean isDefaultReadOnly() {
-		return defaultReadOnly;
+		return defaultReadOnly || readOnlySession;
 	}
 
 	@Override
@@ -279,6 +291,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		this.defaultReadOnly = defaultReadOnly;
 	}
 
+	@Override
+	public boolean isReadOnlySession() {
+		return readOnlySession;
+	}
+
 	@Override
 	public boolean hasNonReadOnlyEntities() {
 		return hasNonReadOnlyEntities;
@@ -422,6 +439,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		nullifiableEntityKeys.remove( key );
 		if( batchFetchQueue != null ) {
 			getBatchFetchQueue().removeBatchLoadableEntityKey(key);
+			getBatchFetchQueue().removeBatchLoadableLazyAttributesEntityKey(key);
 			getBatchFetchQueue().removeSubselect(key);
 		}
 		return entity;
@@ -1404,6 +1422,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		}
 		entry.setReadOnly( readOnly, entity );
 		hasNonReadOnlyEntities = hasNonReadOnlyEntities || ! readOnly;
+		if ( !readOnly && entry.getPersister().hasNaturalIdentifier() ) {
+			naturalIdXrefDelegate.addSynchronizationCandidate( entry.getPersister(), entry.getId() );
+		}
 	}
 
 	@Override
@@ -1441,6 +1462,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			LOG.trace( "Serializing persistence-context" );
 		}
 
+		oos.writeBoolean( readOnlySession );
 		oos.writeBoolean( defaultReadOnly );
 		oos.writeBoolean( hasNonReadOnlyEntities );
 
@@ -1536,7 +1558,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		if ( tracing ) {
 			LOG.trace( "Deserializing persistence-context" );
 		}
-		final StatefulPersistenceContext rtn = new StatefulPersistenceContext( session );
+		final StatefulPersistenceContext rtn = new StatefulPersistenceContext( session, ois.readBoolean() );
 		SessionFactoryImplementor sfi = session.getFactory();
 
 		// during deserialization, we need to reconnect all proxies and
@@ -1990,6 +2012,16 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			return naturalIdXrefDelegate.getCachedPkResolutions( entityPersister );
 		}
 
+		@Override
+		public Collection<Serializable> getSynchronizationCandidates(EntityPersister persister) {
+			return naturalIdXrefDelegate.getSynchronizationCandidates( persister );
+		}
+
+		@Override
+		public void removeSynchronizationCandidate(EntityPersister persister, Serializable pk) {
+			naturalIdXrefDelegate.removeSynchronizationCandidate( persister, pk );
+		}
+
 		@Override
 		public void handleSynchronization(EntityPersister persister, Serializable pk, Object entity) {
 			if ( !persister.hasNaturalIdentifier() ) {
@@ -1999,6 +2031,10 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 			persister = locateProperPersister( persister );
 
+			if ( !naturalIdXrefDelegate.mayHaveChangedNaturalId( persister, entity ) ) {
+				return;
+			}
+
 			final Object[] naturalIdValuesFromCurrentObjectState = extractNaturalIdValues( entity, persister );
 			final boolean changed = ! naturalIdXrefDelegate.sameAsCached(
 					persister,
@@ -292,87 +292,50 @@ public class QueryPlanCache implements Serializable {
 	private static class HQLQueryPlanKey implements Serializable {
 		private final String query;
 		private final boolean shallow;
-		private final Set<DynamicFilterKey> filterKeys;
+		private final Set<String> filterNames;
+		private final Map<String,Integer> filterParameterListSizes;
 		private final int hashCode;
 
+		@SuppressWarnings({ "unchecked" })
 		public HQLQueryPlanKey(String query, boolean shallow, Map enabledFilters) {
 			this.query = query;
 			this.shallow = shallow;
 			if ( CollectionHelper.isEmpty( enabledFilters ) ) {
-				filterKeys = Collections.emptySet();
+				filterNames = Collections.emptySet();
+				filterParameterListSizes = Collections.emptyMap();
 			}
 			else {
-				final Set<DynamicFilterKey> tmp = new HashSet<DynamicFilterKey>(
-						CollectionHelper.determineProperSizing( enabledFilters ),
-						CollectionHelper.LOAD_FACTOR
-				);
-				for ( Object o : enabledFilters.values() ) {
-					tmp.add( new DynamicFilterKey( (FilterImpl) o ) );
-				}
-				this.filterKeys = Collections.unmodifiableSet( tmp );
+				// the plan only depends on the names of the filters, and on the number of values bound to
+				// their multi-valued parameters, each value being rendered as a placeholder in the SQL
+				filterNames = Collections.unmodifiableSet( new HashSet<String>( enabledFilters.keySet() ) );
+				filterParameterListSizes = determineFilterParameterListSizes( enabledFilters.values() );
 			}
 
 			int hash = query.hashCode();
 			hash = 29 * hash + ( shallow ? 1 : 0 );
-			hash = 29 * hash + filterKeys.hashCode();
+			hash = 29 * hash + filterNames.hashCode();
+			hash = 29 * hash + filterParameterListSizes.hashCode();
 			this.hashCode = hash;
 		}
 
-		@Override
-		public boolean equals(Object o) {
-			if ( this == o ) {
-				return true;
-			}
-			if ( o == null || getClass() != o.getClass() ) {
-				return false;
-			}
-
-			final HQLQueryPlanKey that = (HQLQueryPlanKey) o;
-
-			return shallow == that.shallow
-					&& filterKeys.equals( that.filterKeys )
-					&& query.equals( that.query );
-
-		}
-
-		@Override
-		public int hashCode() {
-			return hashCode;
-		}
-	}
-
-	private static class DynamicFilterKey implements Serializable {
-		private final String filterName;
-		private final Map<String,Integer> parameterMetadata;
-		private final int hashCode;
-
-		private DynamicFilterKey(FilterImpl filter) {
-			this.filterName = filter.getName();
-			if ( filter.getParameters().isEmpty() ) {
-				parameterMetadata = Collections.emptyMap();
-			}
-			else {
-				parameterMetadata = new HashMap<String,Integer>(
-						CollectionHelper.determineProperSizing( filter.getParameters() ),
-						CollectionHelper.LOAD_FACTOR
-				);
+		private static Map<String,Integer> determineFilterParameterListSizes(Collection<FilterImpl> filters) {
+			Map<String,Integer> sizes = Collections.emptyMap();
+			for ( FilterImpl filter : filters ) {
 				for ( Object o : filter.getParameters().entrySet() ) {
 					final Map.Entry entry = (Map.Entry) o;
-					final String key = (String) entry.getKey();
-					final Integer valueCount;
-					if ( Collection.class.isInstance( entry.getValue() ) ) {
-						valueCount = ( (Collection) entry.getValue() ).size();
-					}
-					else {
-						valueCount = 1;
+					if ( entry.getValue() instanceof Collection ) {
+						final int size = ( (Collection) entry.getValue() ).size();
+						// a single value renders the same placeholders whether it is bound as a list or not
+						if ( size != 1 ) {
+							if ( sizes.isEmpty() ) {
+								sizes = new HashMap<String,Integer>();
+							}
+							sizes.put( filter.getName() + '.' + entry.getKey(), size );
+						}
 					}
-					parameterMetadata.put( key, valueCount );
 				}
 			}
-
-			int hash = filterName.hashCode();
-			hash = 31 * hash + parameterMetadata.hashCode();
-			this.hashCode = hash;
+			return sizes;
 		}
 
 		@Override
@@ -384,9 +347,12 @@ public class QueryPlanCache implements Serializable {
 				return false;
 			}
 
-			final DynamicFilterKey that = (DynamicFilterKey) o;
-			return filterName.equals( that.filterName )
-					&& parameterMetadata.equals( that.parameterMetadata );
+			final HQLQueryPlanKey that = (HQLQueryPlanKey) o;
+
+			return shallow == that.shallow
+					&& filterNames.equals( that.filterNames )
+					&& filterParameterListSizes.equals( that.filterParameterListSizes )
+					&& query.equals( that.query );
 
 		}
 
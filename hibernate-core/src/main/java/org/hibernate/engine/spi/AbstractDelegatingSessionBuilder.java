@@ -139,6 +139,12 @@ public abstract class AbstractDelegatingSessionBuilder<T extends SessionBuilder>
 		return getThis();
 	}
 
+	@Override
+	public T readOnly(boolean readOnly) {
+		delegate.readOnly( readOnly );
+		return getThis();
+	}
+
 	@Override
 	public T flushMode(FlushMode flushMode) {
 		delegate.flushMode( flushMode );
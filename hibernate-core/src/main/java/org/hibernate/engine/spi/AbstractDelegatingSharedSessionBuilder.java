@@ -173,6 +173,12 @@ public abstract class AbstractDelegatingSharedSessionBuilder<T extends SharedSes
 		return getThis();
 	}
 
+	@Override
+	public T readOnly(boolean readOnly) {
+		delegate.readOnly( readOnly );
+		return getThis();
+	}
+
 	@Override
 	public T flushMode(FlushMode flushMode) {
 		delegate.flushMode( flushMode );
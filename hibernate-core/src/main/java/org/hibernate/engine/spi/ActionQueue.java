@@ -599,23 +599,35 @@ public class ActionQueue {
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
 		try {
-			for ( E e : list ) {
+			final int batchSize = session.getConfiguredJdbcBatchSize();
+			for ( int i = 0; i < list.size(); i++ ) {
+				final E e = list.get( i );
+				if ( batchSize > 1 && e instanceof EntityIdentityInsertAction && ( (EntityIdentityInsertAction) e ).isBatchable() ) {
+					// gather the following IDENTITY inserts which can be executed in the same JDBC batch
+					final List<EntityIdentityInsertAction> batch = new ArrayList<>();
+					batch.add( (EntityIdentityInsertAction) e );
+					while ( batch.size() < batchSize
+							&& i + 1 < list.size()
+							&& list.get( i + 1 ) instanceof EntityIdentityInsertAction
+							&& ( (EntityIdentityInsertAction) list.get( i + 1 ) ).canBeBatchedWith( batch ) ) {
+						batch.add( (EntityIdentityInsertAction) list.get( ++i ) );
+					}
+					if ( batch.size() > 1 ) {
+						try {
+							EntityIdentityInsertAction.executeBatch( batch );
+						}
+						finally {
+							batch.forEach( this::registerCompletionProcesses );
+						}
+						continue;
+					}
+				}
+
 				try {
 					e.execute();
 				}
 				finally {
-					if( e.getBeforeTransactionCompletionProcess() != null ) {
-						if( beforeTransactionProcesses == null ) {
-							beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
-						}
-						beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
-					}
-					if( e.getAfterTransactionCompletionProcess() != null ) {
-						if( afterTransactionProcesses == null ) {
-							afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
-						}
-						afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
-					}
+					registerCompletionProcesses( e );
 				}
 			}
 		}
@@ -633,6 +645,21 @@ public class ActionQueue {
 		session.getJdbcCoordinator().executeBatch();
 	}
 
+	private void registerCompletionProcesses(Executable e) {
+		if( e.getBeforeTransactionCompletionProcess() != null ) {
+			if( beforeTransactionProcesses == null ) {
+				beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
+			}
+			beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
+		}
+		if( e.getAfterTransactionCompletionProcess() != null ) {
+			if( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
+		}
+	}
+
 	private static String[] convertTimestampSpaces(Set spaces) {
 		return (String[]) spaces.toArray( new String[ spaces.size() ] );
 	}
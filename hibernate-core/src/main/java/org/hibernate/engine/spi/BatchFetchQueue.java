@@ -7,20 +7,26 @@
 package org.hibernate.engine.spi;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import org.hibernate.EntityMode;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.collection.internal.AbstractPersistentCollection;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
 
 import org.jboss.logging.Logger;
 
@@ -52,6 +58,13 @@ public class BatchFetchQueue {
 	 * type at a time.
 	 */
 	private final Map <String,LinkedHashSet<EntityKey>> batchLoadableEntityKeys = new HashMap<>( 8 );
+
+	/**
+	 * Used to hold information about the bytecode enhanced entities having lazy attributes not yet loaded, that
+	 * are currently eligible for batch-fetching of these attributes.  Ultimately used by {@link #getLazyAttributesBatch}
+	 * to build lazy attribute load batches.
+	 */
+	private final Map<String, LinkedHashSet<EntityKey>> batchLoadableLazyAttributesEntityKeys = new HashMap<>( 8 );
 	
 	/**
 	 * Used to hold information about the collections that are currently eligible for batch-fetching.  Ultimately
@@ -59,6 +72,19 @@ public class BatchFetchQueue {
 	 */
 	private final Map<String, LinkedHashMap<CollectionEntry, PersistentCollection>> batchLoadableCollections = new HashMap<>( 8 );
 
+	/**
+	 * The tuner of the batch sizes, when adaptive batch fetching is enabled.
+	 */
+	private final BatchFetchSizeTuner batchFetchSizeTuner;
+
+	/**
+	 * Used to hold the batch fetches performed for each entity name and collection role, and the entity proxies
+	 * and collections fetched ahead of demand, when adaptive batch fetching is enabled.  Kept across flushes, as
+	 * the instances fetched ahead of demand are typically used after them, and ultimately reported to the
+	 * {@link BatchFetchSizeTuner} by {@link #clearAndReportBatchFetchUsages} when the session is cleared or closed.
+	 */
+	private Map<String, BatchFetchUsage> batchFetchUsages;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -66,12 +92,14 @@ public class BatchFetchQueue {
 	 */
 	public BatchFetchQueue(PersistenceContext context) {
 		this.context = context;
+		this.batchFetchSizeTuner = context.getSession().getFactory().getBatchFetchSizeTuner();
 	}
 
 	/**
-	 * Clears all entries from this fetch queue.
+	 * Clears all entries from this fetch queue, but the entities having lazy attributes not yet loaded:
+	 * those are checked again whenever a batch of lazy attributes is built, so they stay valid.
 	 * <p/>
-	 * Called after flushing or clearing the session.
+	 * Called after flushing the session.
 	 */
 	public void clear() {
 		batchLoadableEntityKeys.clear();
@@ -79,6 +107,18 @@ public class BatchFetchQueue {
 		subselectsByEntityKey.clear();
 	}
 
+	/**
+	 * Clears all entries from this fetch queue, and reports the usage of the batch fetches performed since the
+	 * session was last cleared when adaptive batch fetching is enabled.
+	 * <p/>
+	 * Called when clearing or closing the session.
+	 */
+	public void clearAndReportBatchFetchUsages() {
+		clear();
+		batchLoadableLazyAttributesEntityKeys.clear();
+		reportBatchFetchUsages();
+	}
+
 
 	// sub-select support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -151,6 +191,80 @@ public class BatchFetchQueue {
 		}
 	}
 
+	/**
+	 * If an EntityKey represents a batch loadable entity whose lazy attributes are not all loaded, add
+	 * it to the queue.
+	 * <p/>
+	 * The entity is expected to be associated with the {@link PersistenceContext} under the given key.
+	 */
+	public void addBatchLoadableLazyAttributesEntityKey(EntityKey key) {
+		if ( key.isBatchLoadable() ) {
+			LinkedHashSet<EntityKey> set = batchLoadableLazyAttributesEntityKeys.get( key.getEntityName() );
+			if ( set == null ) {
+				set = new LinkedHashSet<>( 8 );
+				batchLoadableLazyAttributesEntityKeys.put( key.getEntityName(), set );
+			}
+			set.add( key );
+		}
+	}
+
+	/**
+	 * After evicting or deleting an entity, we don't need to batch
+	 * fetch its lazy attributes anymore, remove it from the queue
+	 * if necessary
+	 */
+	public void removeBatchLoadableLazyAttributesEntityKey(EntityKey key) {
+		if ( key.isBatchLoadable() ) {
+			LinkedHashSet<EntityKey> set = batchLoadableLazyAttributesEntityKeys.get( key.getEntityName() );
+			if ( set != null ) {
+				set.remove( key );
+			}
+		}
+	}
+
+	/**
+	 * Get a batch of identifiers of the entities associated with the persistence context whose given lazy
+	 * attribute is not loaded.  Entities whose lazy attributes were all loaded meanwhile are removed from
+	 * the queue.
+	 *
+	 * @param persister The persister for the entities whose lazy attribute is being loaded.
+	 * @param id The identifier of the entity currently demanding load.
+	 * @param batchSize The maximum number of keys to return
+	 * @param attributeName The name of the lazy attribute being loaded
+	 * @return an array of identifiers, the first one being the given identifier, of length at most batchSize
+	 */
+	public Serializable[] getLazyAttributesBatch(
+			final EntityPersister persister,
+			final Serializable id,
+			final int batchSize,
+			final String attributeName) {
+		final List<Serializable> ids = new ArrayList<>( batchSize );
+		ids.add( id ); //first element of array is reserved for the actual instance we are loading!
+
+		final LinkedHashSet<EntityKey> set = batchLoadableLazyAttributesEntityKeys.get( persister.getEntityName() );
+		if ( set != null ) {
+			final Iterator<EntityKey> keys = set.iterator();
+			while ( keys.hasNext() && ids.size() < batchSize ) {
+				final EntityKey key = keys.next();
+				final Object entity = context.getEntity( key );
+				final EntityEntry entry = entity == null ? null : context.getEntry( entity );
+				final LazyAttributeLoadingInterceptor interceptor = entry == null
+						? null
+						: persister.getEntityMetamodel().getBytecodeEnhancementMetadata().extractInterceptor( entity );
+				if ( interceptor == null || !interceptor.hasAnyUninitializedAttributes() ) {
+					keys.remove();
+				}
+				else if ( entry.getPersister() == persister
+						&& entry.getStatus() != Status.DELETED
+						&& !interceptor.isAttributeLoaded( attributeName )
+						&& !persister.getIdentifierType().isEqual( id, key.getIdentifier() ) ) {
+					ids.add( key.getIdentifier() );
+				}
+			}
+		}
+		return ids.toArray( new Serializable[ids.size()] );
+	}
+
 	/**
 	 * Intended for test usage.  Really has no use-case in Hibernate proper.
 	 */
@@ -179,8 +293,43 @@ public class BatchFetchQueue {
 			final Serializable id,
 			final int batchSize,
 			final EntityMode entityMode) {
+		if ( batchFetchSizeTuner == null ) {
+			return getEntityBatch( persister, id, batchSize, batchSize, null );
+		}
+
+		final String entityName = persister.getEntityName();
+		final EntityKey[] keys = new EntityKey[batchSize];
+		final Serializable[] ids = getEntityBatch(
+				persister,
+				id,
+				batchSize,
+				batchFetchSizeTuner.getBatchSize( entityName, batchSize ),
+				keys
+		);
+
+		final BatchFetchUsage usage = getBatchFetchUsage( entityName, false, batchSize );
+		usage.batchFetchCount++;
+		for ( int i = 1; i < keys.length; i++ ) {
+			// only an entity fetched through its proxy can be seen being used
+			final Object proxy = keys[i] == null ? null : context.getProxy( keys[i] );
+			if ( proxy instanceof HibernateProxy ) {
+				usage.prefetched.add( proxy );
+			}
+		}
+		return ids;
+	}
+
+	private Serializable[] getEntityBatch(
+			final EntityPersister persister,
+			final Serializable id,
+			final int batchSize,
+			final int tunedBatchSize,
+			final EntityKey[] keys) {
 		Serializable[] ids = new Serializable[batchSize];
 		ids[0] = id; //first element of array is reserved for the actual instance we are loading!
+		if ( tunedBatchSize < 2 ) {
+			return ids;
+		}
 		int i = 1;
 		int end = -1;
 		boolean checkForEnd = false;
@@ -199,10 +348,13 @@ public class BatchFetchQueue {
 				}
 				else {
 					if ( !isCached( key, persister ) ) {
+						if ( keys != null ) {
+							keys[i] = key;
+						}
 						ids[i++] = key.getIdentifier();
 					}
 				}
-				if ( i == batchSize ) {
+				if ( i == tunedBatchSize ) {
 					i = 1; // end of array, start filling again from start
 					if ( end != -1 ) {
 						checkForEnd = true;
@@ -270,9 +422,44 @@ public class BatchFetchQueue {
 			final CollectionPersister collectionPersister,
 			final Serializable id,
 			final int batchSize) {
+		if ( batchFetchSizeTuner == null ) {
+			return getCollectionBatch( collectionPersister, id, batchSize, batchSize, null );
+		}
+
+		final String role = collectionPersister.getRole();
+		final PersistentCollection[] collections = new PersistentCollection[batchSize];
+		final Serializable[] keys = getCollectionBatch(
+				collectionPersister,
+				id,
+				batchSize,
+				batchFetchSizeTuner.getBatchSize( role, batchSize ),
+				collections
+		);
+
+		final BatchFetchUsage usage = getBatchFetchUsage( role, true, batchSize );
+		usage.batchFetchCount++;
+		for ( int i = 1; i < collections.length; i++ ) {
+			// only our own collections can be seen being read
+			if ( collections[i] instanceof AbstractPersistentCollection ) {
+				( (AbstractPersistentCollection) collections[i] ).markPrefetched();
+				usage.prefetched.add( collections[i] );
+			}
+		}
+		return keys;
+	}
+
+	private Serializable[] getCollectionBatch(
+			final CollectionPersister collectionPersister,
+			final Serializable id,
+			final int batchSize,
+			final int tunedBatchSize,
+			final PersistentCollection[] collections) {
 
 		Serializable[] keys = new Serializable[batchSize];
 		keys[0] = id;
+		if ( tunedBatchSize < 2 ) {
+			return keys;
+		}
 
 		int i = 1;
 		int end = -1;
@@ -314,11 +501,14 @@ public class BatchFetchQueue {
 					//checkForEnd = false;
 				}
 				else if ( !isCached( ce.getLoadedKey(), collectionPersister ) ) {
+					if ( collections != null ) {
+						collections[i] = collection;
+					}
 					keys[i++] = ce.getLoadedKey();
 					//count++;
 				}
 
-				if ( i == batchSize ) {
+				if ( i == tunedBatchSize ) {
 					i = 1; //end of array, start filling again from start
 					if ( end != -1 ) {
 						checkForEnd = true;
@@ -344,4 +534,58 @@ public class BatchFetchQueue {
 		return false;
 	}
 
+
+	// adaptive batch fetching support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	private BatchFetchUsage getBatchFetchUsage(String role, boolean collection, int maxBatchSize) {
+		if ( batchFetchUsages == null ) {
+			batchFetchUsages = new HashMap<>( 8 );
+		}
+		return batchFetchUsages.computeIfAbsent( role, r -> new BatchFetchUsage( collection, maxBatchSize ) );
+	}
+
+	/**
+	 * Reports the usage of the batch fetches performed since the usages were last reported: an entity fetched
+	 * ahead of demand was used if its proxy got initialized, a collection if it was read.  Instances which cannot
+	 * be observed that way (entities without a proxy, custom collection types) are not recorded, hence never
+	 * counted as used.
+	 */
+	private void reportBatchFetchUsages() {
+		if ( batchFetchUsages == null ) {
+			return;
+		}
+
+		for ( Entry<String, BatchFetchUsage> entry : batchFetchUsages.entrySet() ) {
+			final BatchFetchUsage usage = entry.getValue();
+			int usedPrefetchedKeyCount = 0;
+			for ( Object prefetched : usage.prefetched ) {
+				final boolean used = prefetched instanceof HibernateProxy
+						? !( (HibernateProxy) prefetched ).getHibernateLazyInitializer().isUninitialized()
+						: !( (AbstractPersistentCollection) prefetched ).isUnreadPrefetch();
+				if ( used ) {
+					usedPrefetchedKeyCount++;
+				}
+			}
+			batchFetchSizeTuner.reportUsage(
+					entry.getKey(),
+					usage.collection,
+					usage.maxBatchSize,
+					usage.batchFetchCount,
+					usedPrefetchedKeyCount
+			);
+		}
+		batchFetchUsages = null;
+	}
+
+	private static class BatchFetchUsage {
+		private final boolean collection;
+		private final int maxBatchSize;
+		private final List<Object> prefetched = new ArrayList<>();
+		private int batchFetchCount;
+
+		private BatchFetchUsage(boolean collection, int maxBatchSize) {
+			this.collection = collection;
+			this.maxBatchSize = maxBatchSize;
+		}
+	}
 }
@@ -0,0 +1,96 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Learns, per entity and collection role, the number of keys worth fetching per batch, from the usage the
+ * sessions reported by their {@link BatchFetchQueue}.
+ * <p/>
+ * A session needing {@code n} keys of a role performed one batch fetch per key it demanded, and used some of
+ * the keys fetched ahead of demand: {@code n} is the sum of both.  The tuned size moves halfway towards the
+ * {@code n} of each session, within the lower bound given by
+ * {@link org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH_MIN_SIZE} and the upper bound of the batch
+ * size mapped for the role, which the batch loaders of the role are built for.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH
+ */
+public class BatchFetchSizeTuner {
+	private static final Logger LOG = CoreLogging.logger( BatchFetchSizeTuner.class );
+
+	private final int minBatchSize;
+	private final SessionFactoryImplementor sessionFactory;
+	private final ConcurrentHashMap<String, Integer> batchSizes = new ConcurrentHashMap<>();
+
+	public BatchFetchSizeTuner(int minBatchSize, SessionFactoryImplementor sessionFactory) {
+		this.minBatchSize = Math.max( 1, minBatchSize );
+		this.sessionFactory = sessionFactory;
+	}
+
+	/**
+	 * The number of keys to fetch per batch for the given role.
+	 *
+	 * @param role The entity name or collection role
+	 * @param maxBatchSize The batch size mapped for the role
+	 *
+	 * @return The tuned batch size, the mapped one until usage of the role has been reported
+	 */
+	public int getBatchSize(String role, int maxBatchSize) {
+		final Integer batchSize = batchSizes.get( role );
+		return batchSize == null ? maxBatchSize : Math.min( batchSize, maxBatchSize );
+	}
+
+	/**
+	 * Reports the batch fetch usage of the given role within a session.
+	 *
+	 * @param role The entity name or collection role
+	 * @param collection Whether the role is a collection role
+	 * @param maxBatchSize The batch size mapped for the role
+	 * @param batchFetchCount The number of batch fetches performed, one per demanded key
+	 * @param usedPrefetchedKeyCount The number of keys fetched ahead of demand, which were then used
+	 */
+	public void reportUsage(
+			String role,
+			boolean collection,
+			int maxBatchSize,
+			int batchFetchCount,
+			int usedPrefetchedKeyCount) {
+		final int neededKeyCount = batchFetchCount + usedPrefetchedKeyCount;
+		final int batchSize = batchSizes.compute(
+				role,
+				(key, current) -> {
+					final int previous = current == null ? maxBatchSize : current;
+					final int next = ( previous + neededKeyCount + 1 ) / 2;
+					return Math.max( minBatchSize, Math.min( maxBatchSize, next ) );
+				}
+		);
+
+		LOG.tracef(
+				"Session needed %s keys of %s in %s batch fetches, batch size tuned to %s",
+				neededKeyCount,
+				role,
+				batchFetchCount,
+				batchSize
+		);
+
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			if ( collection ) {
+				statistics.collectionBatchFetchSizeTuned( role, batchSize );
+			}
+			else {
+				statistics.entityBatchFetchSizeTuned( role, batchSize );
+			}
+		}
+	}
+}
@@ -81,6 +81,18 @@ public interface CascadingAction {
 	 */
 	void noCascade(EventSource session, Object parent, EntityPersister persister, Type propertyType, int propertyIndex);
 
+	/**
+	 * Does the no-cascade verification apply to properties of the given type?  Properties it does not apply to
+	 * are left out of the cascade plans of the entities, see {@link EntityPersister#getCascadingPropertyIndexes}.
+	 *
+	 * @param propertyType The property type
+	 *
+	 * @return True if {@link #noCascade} has to be consulted for properties of this type; false otherwise.
+	 */
+	default boolean requiresNoCascadeChecking(Type propertyType) {
+		return requiresNoCascadeChecking();
+	}
+
 	/**
 	 * Should this action be performed (or noCascade consulted) in the case of lazy properties.
 	 */
@@ -360,6 +360,11 @@ public class CascadingActions {
 			return true;
 		}
 
+		@Override
+		public boolean requiresNoCascadeChecking(Type propertyType) {
+			return propertyType.isEntityType();
+		}
+
 		@Override
 		public void noCascade(
 				EventSource session,
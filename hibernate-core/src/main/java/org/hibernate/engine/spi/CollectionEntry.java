@@ -123,6 +123,18 @@ public final class CollectionEntry implements Serializable {
 		setLoadedPersister( factory.getMetamodel().collectionPersister( collection.getRole() ) );
 
 		snapshot = collection.getStoredSnapshot();
+		if ( snapshot == null && collection.wasInitialized() && getLoadedPersister().isMutable() ) {
+			// the collection was loaded by a read-only session, which takes no snapshot: unless modified
+			// since, the collection still holds the state it was loaded with
+			if ( collection.isDirty() ) {
+				throw new HibernateException(
+						"Cannot reattach a collection modified after being loaded by a read-only session: "
+								+ MessageHelper.collectionInfoString( role, loadedKey )
+				);
+			}
+			snapshot = collection.getSnapshot( getLoadedPersister() );
+			collection.setSnapshot( loadedKey, role, snapshot );
+		}
 	}
 
 	/**
@@ -196,7 +208,8 @@ public final class CollectionEntry implements Serializable {
 	}
 
 	public void postInitialize(PersistentCollection collection) throws HibernateException {
-		snapshot = getLoadedPersister().isMutable()
+		// a read-only session never flushes, so never compares the collection with its snapshot
+		snapshot = getLoadedPersister().isMutable() && !isOwnedByReadOnlySession( collection )
 				? collection.getSnapshot( getLoadedPersister() )
 				: null;
 		collection.setSnapshot(loadedKey, role, snapshot);
@@ -208,6 +221,12 @@ public final class CollectionEntry implements Serializable {
 		}
 	}
 
+	private static boolean isOwnedByReadOnlySession(PersistentCollection collection) {
+		return collection instanceof AbstractPersistentCollection
+				&& ( (AbstractPersistentCollection) collection ).getSession() != null
+				&& ( (AbstractPersistentCollection) collection ).getSession().getPersistenceContext().isReadOnlySession();
+	}
+
 	/**
 	 * Called after a successful flush
 	 */
@@ -272,6 +291,16 @@ public final class CollectionEntry implements Serializable {
 		fromMerge = true;
 	}
 
+	/**
+	 * Replace the snapshot of this entry by an equivalent one, e.g. the full snapshot an operation log
+	 * stands for.  Unlike {@link #resetStoredSnapshot}, the stored snapshot of the collection is left as is.
+	 *
+	 * @param snapshot the equivalent snapshot
+	 */
+	public void replaceSnapshot(Serializable snapshot) {
+		this.snapshot = snapshot;
+	}
+
 	private void setLoadedPersister(CollectionPersister persister) {
 		loadedPersister = persister;
 		setRole( persister == null ? null : persister.getRole() );
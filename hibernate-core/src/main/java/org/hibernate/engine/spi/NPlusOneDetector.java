@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Detects N+1 selects within a Session: the association fetches (lazy entity and collection initializations
+ * hitting the database) are attributed to the query the Session executed last, and counted per entity name
+ * or collection role.  Once {@code threshold} fetches of the same role happen within {@code window}
+ * milliseconds of each other, an N+1 select is reported, once per query execution and role, to the
+ * {@link org.hibernate.SessionEventListener}s of the Session and to the statistics of the query.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_DETECTION_THRESHOLD
+ */
+public class NPlusOneDetector {
+	private static final Logger LOG = CoreLogging.logger( NPlusOneDetector.class );
+
+	private final SharedSessionContractImplementor session;
+	private final int threshold;
+	private final long window;
+
+	private String query;
+	private Map<String, AssociationFetches> fetchesByRole;
+
+	public NPlusOneDetector(SharedSessionContractImplementor session, int threshold, long window) {
+		this.session = session;
+		this.threshold = threshold;
+		this.window = window;
+	}
+
+	/**
+	 * Called when the Session executes a query, to which the following association fetches get attributed.
+	 *
+	 * @param query The HQL or SQL query
+	 */
+	public void queryExecuted(String query) {
+		this.query = query;
+		if ( fetchesByRole != null ) {
+			fetchesByRole.clear();
+		}
+	}
+
+	/**
+	 * Called when an entity is fetched from the database as an association.
+	 *
+	 * @param entityName The entity name
+	 */
+	public void entityFetched(String entityName) {
+		associationFetched( entityName, false );
+	}
+
+	/**
+	 * Called when a collection is initialized from the database.
+	 *
+	 * @param role The collection role
+	 */
+	public void collectionFetched(String role) {
+		associationFetched( role, true );
+	}
+
+	private void associationFetched(String role, boolean collection) {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( query != null && statistics.isStatisticsEnabled() ) {
+			statistics.queryAssociationFetched( query );
+		}
+
+		if ( fetchesByRole == null ) {
+			fetchesByRole = new HashMap<>();
+		}
+		final AssociationFetches fetches = fetchesByRole.computeIfAbsent(
+				role,
+				r -> new AssociationFetches( threshold )
+		);
+		if ( !fetches.fetched( System.currentTimeMillis(), window ) ) {
+			return;
+		}
+
+		if ( LOG.isDebugEnabled() ) {
+			LOG.debugf(
+					"N+1 select detected: %s was fetched %s times following query [%s]; consider fetching it "
+							+ "along with the query (join fetch or entity graph) or enabling batch fetching for it",
+					role,
+					fetches.count,
+					query
+			);
+		}
+		if ( query != null && statistics.isStatisticsEnabled() ) {
+			statistics.queryNPlusOneDetected( query, role );
+		}
+		session.getEventListenerManager().nPlusOneDetected( query, role, collection, fetches.count );
+	}
+
+	/**
+	 * The fetches of a role following the current query, keeping the times of the last {@code threshold} ones.
+	 */
+	private static class AssociationFetches {
+		private final long[] times;
+		private int next;
+		private int count;
+		private boolean reported;
+
+		private AssociationFetches(int threshold) {
+			this.times = new long[threshold];
+		}
+
+		/**
+		 * @return {@code true} if the fetch completes an N+1 select not reported yet
+		 */
+		private boolean fetched(long time, long window) {
+			times[next] = time;
+			next = ( next + 1 ) % times.length;
+			count++;
+
+			// the slot to be written next holds the oldest of the last fetches
+			if ( reported || count < times.length || time - times[next] > window ) {
+				return false;
+			}
+			reported = true;
+			return true;
+		}
+	}
+}
@@ -641,6 +641,17 @@ public interface PersistenceContext {
 	 */
 	void setDefaultReadOnly(boolean readOnly);
 
+	/**
+	 * Does this persistence context belong to a read-only session?  Such a persistence context
+	 * loads all entities and proxies read-only, whatever its default, and takes no snapshot of
+	 * the collections, since the session never flushes.
+	 *
+	 * @return true, if this persistence context belongs to a read-only session
+	 *
+	 * @see org.hibernate.SessionBuilder#readOnly(boolean)
+	 */
+	boolean isReadOnlySession();
+
 	/**
 	 * Is the entity or proxy read-only?
 	 * <p/>
@@ -840,6 +851,27 @@ public interface PersistenceContext {
 		 */
 		Collection<Serializable> getCachedPkResolutions(EntityPersister persister);
 
+		/**
+		 * Find the primary keys of the locally cross-referenced entities whose natural id values may have been
+		 * changed, which are the ones to synchronize before a mutable natural id lookup.  Entities become candidates
+		 * as their cross-reference is cached or they are made modifiable, rather than being looked for among all
+		 * the cross-referenced entities on each lookup.
+		 *
+		 * @param persister The persister representing the entity type.
+		 *
+		 * @return The primary keys, reflecting later changes
+		 */
+		Collection<Serializable> getSynchronizationCandidates(EntityPersister persister);
+
+		/**
+		 * Stop synchronizing the given entity, found to be read-only or no longer part of the persistence context,
+		 * until it is made modifiable or cross-referenced again.
+		 *
+		 * @param persister The persister representing the entity type.
+		 * @param pk The primary key value
+		 */
+		void removeSynchronizationCandidate(EntityPersister persister, Serializable pk);
+
 		/**
 		 * Part of the "load synchronization process".  Responsible for maintaining cross-reference entries
 		 * when natural-id values were found to have changed.  Also responsible for tracking the old values 
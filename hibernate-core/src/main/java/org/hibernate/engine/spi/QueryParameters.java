@@ -9,6 +9,7 @@ package org.hibernate.engine.spi;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +47,7 @@ public final class QueryParameters {
 	private Type[] positionalParameterTypes;
 	private Object[] positionalParameterValues;
 	private Map<String,TypedValue> namedParameters;
+	private Map<String,Integer> namedParameterListSizes = Collections.emptyMap();
 
 	private LockOptions lockOptions;
 	private RowSelection rowSelection;
@@ -262,7 +264,7 @@ public final class QueryParameters {
 				optionalId,
 				resultTransformer
 		);
-
+		this.namedParameterListSizes = queryParameterBindings.collectNamedParameterListSizes();
 	}
 
 	@SuppressWarnings( {"UnusedDeclaration"})
@@ -295,6 +297,23 @@ public final class QueryParameters {
 		namedParameters = map;
 	}
 
+	/**
+	 * The number of values bound to each multi-valued named parameter whose placeholder is to be
+	 * expanded in the SQL rather than in the query string.  The values themselves are bound as
+	 * {@code name_0}, {@code name_1}, ... in {@link #getNamedParameters()}.
+	 *
+	 * @return The number of values per parameter name; never {@code null}
+	 */
+	public Map<String,Integer> getNamedParameterListSizes() {
+		return namedParameterListSizes;
+	}
+
+	public void setNamedParameterListSizes(Map<String,Integer> namedParameterListSizes) {
+		this.namedParameterListSizes = namedParameterListSizes == null
+				? Collections.emptyMap()
+				: namedParameterListSizes;
+	}
+
 	public void setPositionalParameterTypes(Type[] types) {
 		positionalParameterTypes = types;
 	}
@@ -654,6 +673,7 @@ public final class QueryParameters {
 		copy.processedPositionalParameterTypes = this.processedPositionalParameterTypes;
 		copy.processedPositionalParameterValues = this.processedPositionalParameterValues;
 		copy.passDistinctThrough = this.passDistinctThrough;
+		copy.namedParameterListSizes = this.namedParameterListSizes;
 		return copy;
 	}
 
@@ -8,6 +8,7 @@ package org.hibernate.engine.spi;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +38,7 @@ import org.hibernate.LobHelper;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.MultiIdentifierLoadAccess;
+import org.hibernate.MultiNaturalIdLoadAccess;
 import org.hibernate.NaturalIdLoadAccess;
 import org.hibernate.Query;
 import org.hibernate.ReplicationMode;
@@ -446,6 +448,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		return delegate.isQueryParametersValidationEnabled();
 	}
 
+	@Override
+	public NPlusOneDetector getNPlusOneDetector() {
+		return delegate.getNPlusOneDetector();
+	}
+
 	@Override
 	public boolean shouldAutoJoinTransaction() {
 		return delegate.shouldAutoJoinTransaction();
@@ -860,6 +867,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		return delegate.merge( entityName, object );
 	}
 
+	@Override
+	public <T> List<T> mergeAll(Collection<? extends T> objects) {
+		return delegate.mergeAll( objects );
+	}
+
 	@Override
 	public void persist(Object object) {
 		delegate.persist( object );
@@ -1060,6 +1072,16 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		return delegate.bySimpleNaturalId( entityClass );
 	}
 
+	@Override
+	public <T> MultiNaturalIdLoadAccess<T> byMultipleNaturalIds(Class<T> entityClass) {
+		return delegate.byMultipleNaturalIds( entityClass );
+	}
+
+	@Override
+	public MultiNaturalIdLoadAccess byMultipleNaturalIds(String entityName) {
+		return delegate.byMultipleNaturalIds( entityName );
+	}
+
 	@Override
 	public Filter enableFilter(String filterName) {
 		return delegate.enableFilter( filterName );
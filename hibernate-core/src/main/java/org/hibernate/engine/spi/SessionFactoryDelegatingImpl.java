@@ -252,6 +252,11 @@ public class SessionFactoryDelegatingImpl implements SessionFactoryImplementor,
 		return delegate.getQueryPlanCache();
 	}
 
+	@Override
+	public BatchFetchSizeTuner getBatchFetchSizeTuner() {
+		return delegate.getBatchFetchSizeTuner();
+	}
+
 	@Override
 	public Type[] getReturnTypes(String queryString) throws HibernateException {
 		return delegate.getReturnTypes( queryString );
@@ -117,6 +117,16 @@ public interface SessionFactoryImplementor extends Mapping, SessionFactory, Quer
 	@Deprecated
 	QueryPlanCache getQueryPlanCache();
 
+	/**
+	 * Access to the tuner of the batch fetch sizes.
+	 *
+	 * @return The tuner, or {@code null} unless
+	 * {@link org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH adaptive batch fetching} is enabled
+	 */
+	default BatchFetchSizeTuner getBatchFetchSizeTuner() {
+		return null;
+	}
+
 	/**
 	 * Provides access to the named query repository
 	 *
@@ -466,4 +466,17 @@ public interface SharedSessionContractImplementor
 			) :
 			sessionJdbcBatchSize;
 	}
+
+	/**
+	 * Get the detector of N+1 selects of this session.
+	 *
+	 * @return The detector, {@code null} unless N+1 select detection is enabled
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_DETECTION_THRESHOLD
+	 *
+	 * @since 5.4.2
+	 */
+	default NPlusOneDetector getNPlusOneDetector() {
+		return null;
+	}
 }
@@ -29,6 +29,7 @@ import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.id.IdentifierGenerationException;
 import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.PostInsertIdentityPersister;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.jpa.event.spi.CallbackRegistry;
@@ -245,7 +246,9 @@ public abstract class AbstractSaveEventListener
 		Serializable id = key == null ? null : key.getIdentifier();
 
 		boolean inTrx = source.isTransactionInProgress();
-		boolean shouldDelayIdentityInserts = !inTrx && !requiresImmediateIdAccess;
+		// within a transaction, identity inserts are only delayed to be executed as JDBC batches at flush time
+		boolean shouldDelayIdentityInserts = !requiresImmediateIdAccess
+				&& ( !inTrx || useIdentityColumn && isIdentityInsertBatchable( persister ) );
 
 		// Put a placeholder in entries, so we don't recurse back and try to save() the
 		// same object again. QUESTION: should this be done before onSave() is called?
@@ -317,6 +320,11 @@ public abstract class AbstractSaveEventListener
 		return id;
 	}
 
+	private static boolean isIdentityInsertBatchable(EntityPersister persister) {
+		return persister instanceof PostInsertIdentityPersister
+				&& ( (PostInsertIdentityPersister) persister ).isIdentityInsertBatchable();
+	}
+
 	private AbstractEntityInsertAction addInsertAction(
 			Object[] values,
 			Serializable id,
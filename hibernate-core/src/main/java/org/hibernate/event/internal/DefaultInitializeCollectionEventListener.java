@@ -14,6 +14,7 @@ import org.hibernate.cache.spi.entry.CollectionCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.NPlusOneDetector;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -82,6 +83,11 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 							ce.getLoadedPersister().getRole()
 					);
 				}
+
+				final NPlusOneDetector nPlusOneDetector = source.getNPlusOneDetector();
+				if ( nPlusOneDetector != null ) {
+					nPlusOneDetector.collectionFetched( ce.getLoadedPersister().getRole() );
+				}
 			}
 		}
 	}
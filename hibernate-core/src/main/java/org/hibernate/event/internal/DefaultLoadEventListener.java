@@ -18,6 +18,7 @@ import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.NPlusOneDetector;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
@@ -486,8 +487,14 @@ public class DefaultLoadEventListener implements LoadEventListener {
 				event.getSession()
 		);
 
-		if ( event.isAssociationFetch() && event.getSession().getFactory().getStatistics().isStatisticsEnabled() ) {
-			event.getSession().getFactory().getStatistics().fetchEntity( event.getEntityClassName() );
+		if ( event.isAssociationFetch() ) {
+			if ( event.getSession().getFactory().getStatistics().isStatisticsEnabled() ) {
+				event.getSession().getFactory().getStatistics().fetchEntity( event.getEntityClassName() );
+			}
+			final NPlusOneDetector nPlusOneDetector = event.getSession().getNPlusOneDetector();
+			if ( nPlusOneDetector != null ) {
+				nPlusOneDetector.entityFetched( persister.getEntityName() );
+			}
 		}
 
 		return entity;
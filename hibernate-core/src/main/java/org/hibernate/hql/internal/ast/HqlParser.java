@@ -25,10 +25,12 @@ import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.StringHelper;
 
+import antlr.ASTFactory;
 import antlr.ASTPair;
 import antlr.MismatchedTokenException;
 import antlr.RecognitionException;
 import antlr.Token;
+import antlr.TokenStream;
 import antlr.TokenStreamException;
 import antlr.collections.AST;
 
@@ -56,12 +58,30 @@ public final class HqlParser extends HqlBaseParser {
 
 	private HqlParser(String hql) {
 		// The fix for HHH-558...
-		super( new HqlLexer( new StringReader( hql ) ) );
+		super( lazyLexer( hql ) );
 		parseErrorHandler = new ErrorTracker( hql );
 		// Create nodes that track line and column number.
 		setASTFactory( new HqlASTFactory() );
 	}
 
+	/**
+	 * The lexer, with its table of keywords, is only created once the parser asks for tokens, which it never
+	 * does when the query was parsed by the {@link RecursiveDescentHqlParser}.
+	 */
+	private static TokenStream lazyLexer(String hql) {
+		return new TokenStream() {
+			private HqlLexer lexer;
+
+			@Override
+			public Token nextToken() throws TokenStreamException {
+				if ( lexer == null ) {
+					lexer = new HqlLexer( new StringReader( hql ) );
+				}
+				return lexer.nextToken();
+			}
+		};
+	}
+
 
 	// handle trace logging ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -110,6 +130,16 @@ public final class HqlParser extends HqlBaseParser {
 		return parseErrorHandler;
 	}
 
+	/**
+	 * Use the given HQL AST, as built by {@link RecursiveDescentHqlParser}, instead of calling
+	 * {@link #statement()}.
+	 *
+	 * @param hqlAst The HQL AST of the query
+	 */
+	void setAST(AST hqlAst) {
+		returnAST = hqlAst;
+	}
+
 	/**
 	 * Overrides the base behavior to retry keywords as identifiers.
 	 *
@@ -163,21 +193,30 @@ public final class HqlParser extends HqlBaseParser {
 	 */
 	@Override
 	public AST negateNode(AST x) {
+		return negateNode( astFactory, x );
+	}
+
+	/**
+	 * Shared with {@link RecursiveDescentHqlParser}, so that both parsers produce the same trees.
+	 *
+	 * @see #negateNode(AST)
+	 */
+	static AST negateNode(ASTFactory astFactory, AST x) {
 		//TODO: switch statements are always evil! We already had bugs because
 		//      of forgotten token types. Use polymorphism for this!
 		switch ( x.getType() ) {
 			case OR: {
 				x.setType( AND );
 				x.setText( "{and}" );
-				x.setFirstChild( negateNode( x.getFirstChild() ) );
-				x.getFirstChild().setNextSibling( negateNode( x.getFirstChild().getNextSibling() ) );
+				x.setFirstChild( negateNode( astFactory, x.getFirstChild() ) );
+				x.getFirstChild().setNextSibling( negateNode( astFactory, x.getFirstChild().getNextSibling() ) );
 				return x;
 			}
 			case AND: {
 				x.setType( OR );
 				x.setText( "{or}" );
-				x.setFirstChild( negateNode( x.getFirstChild() ) );
-				x.getFirstChild().setNextSibling( negateNode( x.getFirstChild().getNextSibling() ) );
+				x.setFirstChild( negateNode( astFactory, x.getFirstChild() ) );
+				x.getFirstChild().setNextSibling( negateNode( astFactory, x.getFirstChild().getNextSibling() ) );
 				return x;
 			}
 			case EQ: {
@@ -270,7 +309,7 @@ public final class HqlParser extends HqlBaseParser {
 */
 			default: {
 				// Just add a 'not' parent.
-				AST not = super.negateNode( x );
+				AST not = ASTUtil.createParent( astFactory, NOT, "not", x );
 				if ( not != x ) {
 					// relink the next sibling to the new 'not' parent
 					not.setNextSibling( x.getNextSibling() );
@@ -295,6 +334,15 @@ public final class HqlParser extends HqlBaseParser {
 			return null;
 		}
 
+		return processEqualityExpression( astFactory, x );
+	}
+
+	/**
+	 * Shared with {@link RecursiveDescentHqlParser}, so that both parsers produce the same trees.
+	 *
+	 * @see #processEqualityExpression(AST)
+	 */
+	static AST processEqualityExpression(ASTFactory astFactory, AST x) {
 		int type = x.getType();
 		if ( type == EQ || type == NE ) {
 			boolean negated = type == NE;
@@ -303,14 +351,14 @@ public final class HqlParser extends HqlBaseParser {
 				AST b = a.getNextSibling();
 				// (EQ NULL b) => (IS_NULL b)
 				if ( a.getType() == NULL && b.getType() != NULL ) {
-					return createIsNullParent( b, negated );
+					return createIsNullParent( astFactory, b, negated );
 				}
 				// (EQ a NULL) => (IS_NULL a)
 				else if ( b.getType() == NULL && a.getType() != NULL ) {
-					return createIsNullParent( a, negated );
+					return createIsNullParent( astFactory, a, negated );
 				}
 				else if ( b.getType() == EMPTY ) {
-					return processIsEmpty( a, negated );
+					return processIsEmpty( astFactory, a, negated );
 				}
 				else {
 					return x;
@@ -325,18 +373,18 @@ public final class HqlParser extends HqlBaseParser {
 		}
 	}
 
-	private AST createIsNullParent(AST node, boolean negated) {
+	private static AST createIsNullParent(ASTFactory astFactory, AST node, boolean negated) {
 		node.setNextSibling( null );
 		int type = negated ? IS_NOT_NULL : IS_NULL;
 		String text = negated ? "is not null" : "is null";
 		return ASTUtil.createParent( astFactory, type, text, node );
 	}
 
-	private AST processIsEmpty(AST node, boolean negated) {
+	private static AST processIsEmpty(ASTFactory astFactory, AST node, boolean negated) {
 		node.setNextSibling( null );
 		// NOTE: Because we're using ASTUtil.createParent(), the tree must be created from the bottom up.
 		// IS EMPTY x => (EXISTS (QUERY (SELECT_FROM (FROM x) ) ) )
-		AST ast = createSubquery( node );
+		AST ast = createSubquery( astFactory, node );
 		ast = ASTUtil.createParent( astFactory, EXISTS, "exists", ast );
 		// Add NOT if it's negated.
 		if ( !negated ) {
@@ -345,7 +393,7 @@ public final class HqlParser extends HqlBaseParser {
 		return ast;
 	}
 
-	private AST createSubquery(AST node) {
+	private static AST createSubquery(ASTFactory astFactory, AST node) {
 		AST ast = ASTUtil.createParent( astFactory, RANGE, "RANGE", node );
 		ast = ASTUtil.createParent( astFactory, FROM, "from", ast );
 		ast = ASTUtil.createParent( astFactory, SELECT_FROM, "SELECT_FROM", ast );
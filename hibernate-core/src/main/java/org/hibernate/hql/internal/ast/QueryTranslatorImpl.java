@@ -8,8 +8,10 @@ package org.hibernate.hql.internal.ast;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -47,11 +49,16 @@ import org.hibernate.hql.internal.ast.util.TokenPrinters;
 import org.hibernate.hql.spi.FilterTranslator;
 import org.hibernate.hql.spi.ParameterTranslations;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.FilterImpl;
 import org.hibernate.internal.util.ReflectHelper;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.loader.hql.QueryLoader;
+import org.hibernate.param.DynamicFilterParameterSpecification;
+import org.hibernate.param.NamedParameterSpecification;
 import org.hibernate.param.ParameterSpecification;
+import org.hibernate.param.PositionalParameterSpecification;
 import org.hibernate.persister.entity.Queryable;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.type.Type;
@@ -90,6 +97,7 @@ public class QueryTranslatorImpl implements FilterTranslator {
 
 	private Statement sqlAst;
 	private String sql;
+	private Map<String, int[]> namedParameterPlaceholderLocations;
 
 	private ParameterTranslations paramTranslations;
 	private List<ParameterSpecification> collectedParameterSpecifications;
@@ -210,6 +218,7 @@ public class QueryTranslatorImpl implements FilterTranslator {
 			else {
 				// PHASE 3 : Generate the SQL.
 				generate( (QueryNode) sqlAst );
+				namedParameterPlaceholderLocations = locateNamedParameterPlaceholders();
 				queryLoader = new QueryLoader( this, factory, w.getSelectClause() );
 			}
 
@@ -286,11 +295,19 @@ public class QueryTranslatorImpl implements FilterTranslator {
 		parser.setFilter( filter );
 
 		LOG.debugf( "parse() - HQL: %s", hql );
-		try {
-			parser.statement();
+		final AST recursiveDescentAst = factory.getSessionFactoryOptions().isRecursiveDescentHqlParserEnabled()
+				? RecursiveDescentHqlParser.parse( hql, parser.getASTFactory() )
+				: null;
+		if ( recursiveDescentAst != null ) {
+			parser.setAST( recursiveDescentAst );
 		}
-		catch (RecognitionException e) {
-			throw new HibernateException( "Unexpected error parsing HQL", e );
+		else {
+			try {
+				parser.statement();
+			}
+			catch (RecognitionException e) {
+				throw new HibernateException( "Unexpected error parsing HQL", e );
+			}
 		}
 
 		final AST hqlAst = parser.getAST();
@@ -491,6 +508,116 @@ public class QueryTranslatorImpl implements FilterTranslator {
 	public int[] getNamedParameterLocs(String name) {
 		return getWalker().getNamedParameterLocations( name );
 	}
+
+	/**
+	 * The locations, in the generated SQL, of the single placeholders rendered for the given named
+	 * parameter.
+	 *
+	 * @param name The name of the parameter
+	 *
+	 * @return The offsets of the placeholders in the SQL, or {@code null} if they are unknown
+	 */
+	public int[] getNamedParameterPlaceholderLocations(String name) {
+		return namedParameterPlaceholderLocations == null ? null : namedParameterPlaceholderLocations.get( name );
+	}
+
+	@Override
+	public boolean canExpandParameterListInSql(String parameterName) {
+		return queryLoader != null && queryLoader.canExpandParameterListInSql( parameterName );
+	}
+
+	/**
+	 * Locate the placeholders rendered for the named parameters in the generated SQL, by matching
+	 * the collected parameter specifications against the placeholders of the SQL, in order.
+	 *
+	 * @return The offsets of the placeholders of each named parameter rendered as a single
+	 * placeholder, or {@code null} if the placeholders of the SQL could not be accounted for.
+	 */
+	private Map<String, int[]> locateNamedParameterPlaceholders() {
+		if ( collectedParameterSpecifications.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+
+		final List<Integer> placeholders = new ArrayList<>();
+		final char openQuote = factory.getDialect().openQuote();
+		final char closeQuote = factory.getDialect().closeQuote();
+		char expectedQuote = 0;
+		for ( int i = 0; i < sql.length(); i++ ) {
+			final char c = sql.charAt( i );
+			if ( expectedQuote != 0 ) {
+				if ( c == expectedQuote ) {
+					expectedQuote = 0;
+				}
+			}
+			else if ( c == '\'' || c == '"' ) {
+				expectedQuote = c;
+			}
+			else if ( c == openQuote ) {
+				expectedQuote = closeQuote;
+			}
+			else if ( c == '?' ) {
+				placeholders.add( i );
+			}
+		}
+
+		final Map<String, List<Integer>> locations = new HashMap<>();
+		final Set<String> multiColumnParameters = new HashSet<>();
+		int placeholderIndex = 0;
+		for ( ParameterSpecification specification : collectedParameterSpecifications ) {
+			final int placeholderCount = renderedPlaceholderCount( specification );
+			if ( placeholderCount < 0 || placeholderIndex + placeholderCount > placeholders.size() ) {
+				return null;
+			}
+			if ( specification instanceof NamedParameterSpecification ) {
+				final String name = ( (NamedParameterSpecification) specification ).getName();
+				if ( placeholderCount == 1 ) {
+					locations.computeIfAbsent( name, n -> new ArrayList<>() ).add( placeholders.get( placeholderIndex ) );
+				}
+				else {
+					multiColumnParameters.add( name );
+				}
+			}
+			placeholderIndex += placeholderCount;
+		}
+		if ( placeholderIndex != placeholders.size() ) {
+			LOG.debugf( "Unable to locate the parameter placeholders of the SQL: %s", sql );
+			return null;
+		}
+
+		final Map<String, int[]> result = new HashMap<>();
+		for ( Map.Entry<String, List<Integer>> entry : locations.entrySet() ) {
+			if ( !multiColumnParameters.contains( entry.getKey() ) ) {
+				result.put( entry.getKey(), ArrayHelper.toIntArray( entry.getValue() ) );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * The number of placeholders rendered in the SQL for the given parameter specification.
+	 *
+	 * @return The number of placeholders, or -1 if unknown
+	 */
+	private int renderedPlaceholderCount(ParameterSpecification specification) {
+		if ( specification instanceof NamedParameterSpecification
+				|| specification instanceof PositionalParameterSpecification ) {
+			// see ParameterNode#getRenderText
+			final Type expectedType = specification.getExpectedType();
+			return expectedType == null ? 1 : Math.max( 1, expectedType.getColumnSpan( factory ) );
+		}
+		else if ( specification instanceof DynamicFilterParameterSpecification ) {
+			// see JoinProcessor#processDynamicFilterParameters
+			final DynamicFilterParameterSpecification filterSpecification = (DynamicFilterParameterSpecification) specification;
+			final FilterImpl filter = (FilterImpl) enabledFilters.get( filterSpecification.getFilterName() );
+			if ( filter == null ) {
+				return -1;
+			}
+			final Object value = filter.getParameter( filterSpecification.getParameterName() );
+			final int columnSpan = specification.getExpectedType().getColumnSpan( factory );
+			return value instanceof Collection ? columnSpan * ( (Collection) value ).size() : columnSpan;
+		}
+		return -1;
+	}
 	@Override
 	public boolean containsCollectionFetches() {
 		errorIfDML();
@@ -0,0 +1,1051 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.hql.internal.ast;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.hql.internal.antlr.HqlTokenTypes;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+import antlr.ASTFactory;
+import antlr.collections.AST;
+
+/**
+ * A hand-written recursive-descent parser for the common subset of HQL select statements: select lists of
+ * paths, function calls, aggregates and arithmetic, entity ranges and joins, restrictions made of comparisons,
+ * {@code [not] in}, {@code [not] like}, {@code [not] between}, {@code is [not] null} and parameters, group by
+ * and having, order by.
+ * <p/>
+ * It builds the very same HQL AST as {@link HqlParser} (node types, texts, lines and columns) so that the
+ * rest of the translation is unaffected, but without the allocations of the ANTLR lexer and parser.  Queries
+ * using anything else (DML, subqueries, case expressions, {@code new}, {@code treat()}, {@code member of},
+ * keywords used as identifiers...) are left to {@link HqlParser}: {@link #parse} returns {@code null} for them,
+ * as well as for queries that are not well-formed, so that {@link HqlParser} reports the errors.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#RECURSIVE_DESCENT_HQL_PARSER
+ *
+ * @since 5.4.2
+ */
+public final class RecursiveDescentHqlParser implements HqlTokenTypes {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( RecursiveDescentHqlParser.class );
+
+	// the literals of the HqlBaseLexer, that is the keywords of hql.g
+	private static final Map<String, Integer> KEYWORDS = new HashMap<>();
+
+	static {
+		final String[] keywords = {
+				"all", "any", "and", "as", "asc", "avg", "between", "class", "count", "delete", "desc", "distinct",
+				"elements", "escape", "exists", "false", "fetch", "from", "full", "group", "having", "in", "indices",
+				"inner", "insert", "into", "is", "join", "left", "like", "max", "min", "new", "not", "null", "or",
+				"order", "outer", "properties", "right", "select", "set", "some", "sum", "true", "update",
+				"versioned", "where", "nulls", "case", "end", "else", "then", "when", "on", "with", "both", "empty",
+				"leading", "member", "object", "of", "trailing", "by", "ascending", "descending"
+		};
+		final int[] types = {
+				ALL, ANY, AND, AS, ASCENDING, AVG, BETWEEN, CLASS, COUNT, DELETE, DESCENDING, DISTINCT,
+				ELEMENTS, ESCAPE, EXISTS, FALSE, FETCH, FROM, FULL, GROUP, HAVING, IN, INDICES,
+				INNER, INSERT, INTO, IS, JOIN, LEFT, LIKE, MAX, MIN, NEW, NOT, NULL, OR,
+				ORDER, OUTER, PROPERTIES, RIGHT, SELECT, SET, SOME, SUM, TRUE, UPDATE,
+				VERSIONED, WHERE, NULLS, CASE, END, ELSE, THEN, WHEN, ON, WITH, BOTH, EMPTY,
+				LEADING, MEMBER, OBJECT, OF, TRAILING, LITERAL_by, LITERAL_ascending, LITERAL_descending
+		};
+		for ( int i = 0; i < keywords.length; i++ ) {
+			KEYWORDS.put( keywords[i], types[i] );
+		}
+	}
+
+	// the default tab size of the ANTLR CharScanner, which affects the token columns
+	private static final int TAB_SIZE = 8;
+
+	/**
+	 * Signals syntax this parser leaves to {@link HqlParser}.  Control flow only, hence no stack trace.
+	 */
+	private static final class UnsupportedSyntaxException extends RuntimeException {
+		private UnsupportedSyntaxException(String message) {
+			super( message, null, false, false );
+		}
+	}
+
+	/**
+	 * Parse the given HQL query into an HQL AST.
+	 *
+	 * @param hql The HQL query string
+	 * @param astFactory The factory of the HQL AST nodes, that of the {@link HqlParser}
+	 *
+	 * @return The HQL AST, or {@code null} if the query should be parsed by {@link HqlParser}
+	 */
+	public static AST parse(String hql, ASTFactory astFactory) {
+		try {
+			return new RecursiveDescentHqlParser( hql, astFactory ).statement();
+		}
+		catch (UnsupportedSyntaxException e) {
+			LOG.debugf( "Leaving HQL to the ANTLR parser (%s) : %s", e.getMessage(), hql );
+			return null;
+		}
+	}
+
+	private final String hql;
+	private final ASTFactory astFactory;
+	private final List<HqlToken> tokens;
+	private int position;
+
+	private RecursiveDescentHqlParser(String hql, ASTFactory astFactory) {
+		this.hql = hql;
+		this.astFactory = astFactory;
+		this.tokens = new ArrayList<>( hql.length() / 4 );
+		tokenize();
+	}
+
+
+	// lexer ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	private int index;
+	private int line = 1;
+	private int column = 1;
+
+	private void tokenize() {
+		final int length = hql.length();
+		while ( index < length ) {
+			final char c = hql.charAt( index );
+			switch ( c ) {
+				case ' ':
+				case '\t':
+					advance( 1 );
+					continue;
+				case '\r':
+					if ( index + 1 < length && hql.charAt( index + 1 ) == '\n' ) {
+						index++;
+					}
+					newline();
+					continue;
+				case '\n':
+					newline();
+					continue;
+				default:
+					break;
+			}
+
+			final int start = index;
+			final int startColumn = column;
+			int type;
+			boolean possibleID = false;
+			if ( isIdentifierStart( c ) ) {
+				int end = start + 1;
+				while ( end < length && isIdentifierPart( hql.charAt( end ) ) ) {
+					end++;
+				}
+				type = IDENT;
+				possibleID = true;
+				advance( end - start );
+			}
+			else if ( isDigit( c ) || ( c == '.' && index + 1 < length && isDigit( hql.charAt( index + 1 ) ) ) ) {
+				type = number();
+			}
+			else if ( c == '\'' ) {
+				int end = start + 1;
+				while ( true ) {
+					if ( end >= length ) {
+						throw new UnsupportedSyntaxException( "unterminated string literal" );
+					}
+					if ( hql.charAt( end ) == '\'' ) {
+						if ( end + 1 < length && hql.charAt( end + 1 ) == '\'' ) {
+							end += 2;
+							continue;
+						}
+						end++;
+						break;
+					}
+					end++;
+				}
+				type = QUOTED_STRING;
+				advance( end - start );
+			}
+			else {
+				type = operator( c, index + 1 < length ? hql.charAt( index + 1 ) : 0 );
+			}
+
+			final String text = hql.substring( start, index );
+			if ( possibleID ) {
+				// toLowerCase() does not copy text which is lower case already
+				final Integer keyword = KEYWORDS.get( text.toLowerCase( Locale.ROOT ) );
+				if ( keyword != null ) {
+					type = keyword;
+				}
+			}
+
+			final HqlToken token = new HqlToken();
+			token.setType( type );
+			token.setText( text );
+			token.setLine( line );
+			token.setColumn( startColumn );
+			token.setPossibleID( possibleID );
+			tokens.add( token );
+		}
+	}
+
+	private int operator(char c, char next) {
+		switch ( c ) {
+			case '=':
+				advance( 1 );
+				return EQ;
+			case '<':
+				if ( next == '=' ) {
+					advance( 2 );
+					return LE;
+				}
+				else if ( next == '>' ) {
+					advance( 2 );
+					return SQL_NE;
+				}
+				advance( 1 );
+				return LT;
+			case '>':
+				if ( next == '=' ) {
+					advance( 2 );
+					return GE;
+				}
+				advance( 1 );
+				return GT;
+			case '!':
+			case '^':
+				if ( next == '=' ) {
+					advance( 2 );
+					return NE;
+				}
+				break;
+			case '|':
+				if ( next == '|' ) {
+					advance( 2 );
+					return CONCAT;
+				}
+				break;
+			case ',':
+				advance( 1 );
+				return COMMA;
+			case '(':
+				advance( 1 );
+				return OPEN;
+			case ')':
+				advance( 1 );
+				return CLOSE;
+			case '[':
+				advance( 1 );
+				return OPEN_BRACKET;
+			case ']':
+				advance( 1 );
+				return CLOSE_BRACKET;
+			case '.':
+				advance( 1 );
+				return DOT;
+			case '+':
+				advance( 1 );
+				return PLUS;
+			case '-':
+				advance( 1 );
+				return MINUS;
+			case '*':
+				advance( 1 );
+				return STAR;
+			case '/':
+				advance( 1 );
+				return DIV;
+			case '%':
+				advance( 1 );
+				return MOD;
+			case ':':
+				advance( 1 );
+				return COLON;
+			case '?':
+				advance( 1 );
+				return PARAM;
+			default:
+				break;
+		}
+		throw new UnsupportedSyntaxException( "unexpected character '" + c + "'" );
+	}
+
+	/**
+	 * Mirrors the NUM_INT rule of hql.g, except for hexadecimal and octal literals.
+	 */
+	private int number() {
+		final int start = index;
+		int end = start;
+		int type = NUM_INT;
+		boolean fractional;
+		if ( hql.charAt( end ) == '.' ) {
+			end = digits( end + 1 );
+			fractional = true;
+		}
+		else {
+			if ( hql.charAt( end ) == '0' && end + 1 < hql.length()
+					&& ( isDigit( hql.charAt( end + 1 ) ) || lowerCharAt( end + 1 ) == 'x' ) ) {
+				throw new UnsupportedSyntaxException( "hexadecimal or octal literal" );
+			}
+			end = digits( end );
+			if ( lowerCharAt( end ) == 'l' ) {
+				advance( end + 1 - start );
+				return NUM_LONG;
+			}
+			else if ( lowerCharAt( end ) == 'b' && lowerCharAt( end + 1 ) == 'i' ) {
+				advance( end + 2 - start );
+				return NUM_BIG_INTEGER;
+			}
+			fractional = lowerCharAt( end ) == '.';
+			if ( fractional ) {
+				end = digits( end + 1 );
+			}
+		}
+
+		if ( lowerCharAt( end ) == 'e' ) {
+			fractional = true;
+			end++;
+			if ( lowerCharAt( end ) == '+' || lowerCharAt( end ) == '-' ) {
+				end++;
+			}
+			if ( !isDigit( lowerCharAt( end ) ) ) {
+				throw new UnsupportedSyntaxException( "malformed exponent" );
+			}
+			end = digits( end );
+		}
+
+		final char suffix = lowerCharAt( end );
+		if ( suffix == 'f' ) {
+			type = NUM_FLOAT;
+			end++;
+		}
+		else if ( suffix == 'd' ) {
+			type = NUM_DOUBLE;
+			end++;
+		}
+		else if ( suffix == 'b' ) {
+			if ( lowerCharAt( end + 1 ) != 'd' ) {
+				throw new UnsupportedSyntaxException( "malformed numeric literal" );
+			}
+			type = NUM_BIG_DECIMAL;
+			end += 2;
+		}
+		else if ( fractional ) {
+			type = NUM_DOUBLE;
+		}
+
+		advance( end - start );
+		return type;
+	}
+
+	private int digits(int from) {
+		int end = from;
+		while ( end < hql.length() && isDigit( hql.charAt( end ) ) ) {
+			end++;
+		}
+		return end;
+	}
+
+	private char lowerCharAt(int i) {
+		return i < hql.length() ? Character.toLowerCase( hql.charAt( i ) ) : 0;
+	}
+
+	private void advance(int count) {
+		for ( int i = 0; i < count; i++ ) {
+			if ( hql.charAt( index++ ) == '\t' ) {
+				column = ( ( column - 1 ) / TAB_SIZE + 1 ) * TAB_SIZE + 1;
+			}
+			else {
+				column++;
+			}
+		}
+	}
+
+	private void newline() {
+		index++;
+		line++;
+		column = 1;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isIdentifierStart(char c) {
+		return c == '_' || c == '$' || ( c >= 'a' && c <= 'z' ) || ( c >= 'A' && c <= 'Z' ) || ( c >= '\u0080' && c <= '\ufffe' );
+	}
+
+	private static boolean isIdentifierPart(char c) {
+		return isIdentifierStart( c ) || isDigit( c );
+	}
+
+
+	// token stream ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	private int la(int i) {
+		final int tokenIndex = position + i - 1;
+		return tokenIndex < tokens.size() ? tokens.get( tokenIndex ).getType() : EOF;
+	}
+
+	private HqlToken lt(int i) {
+		final int tokenIndex = position + i - 1;
+		return tokenIndex < tokens.size() ? tokens.get( tokenIndex ) : null;
+	}
+
+	private int previousType() {
+		return position == 0 ? EOF : tokens.get( position - 1 ).getType();
+	}
+
+	private HqlToken consume() {
+		return tokens.get( position++ );
+	}
+
+	private HqlToken match(int type) {
+		if ( la( 1 ) != type ) {
+			throw unexpectedToken();
+		}
+		return consume();
+	}
+
+	private AST consumeNode() {
+		return astFactory.create( consume() );
+	}
+
+	private AST create(int type, String text) {
+		return astFactory.create( type, text );
+	}
+
+	private UnsupportedSyntaxException unexpectedToken() {
+		final HqlToken token = lt( 1 );
+		return new UnsupportedSyntaxException(
+				token == null ? "unexpected end of query" : "unexpected token '" + token.getText() + "'"
+		);
+	}
+
+	/**
+	 * Same as {@link HqlParser#weakKeywords()}.
+	 */
+	private void weakKeywords() {
+		final int type = la( 1 );
+		if ( type == ORDER || type == GROUP ) {
+			if ( la( 2 ) != LITERAL_by ) {
+				lt( 1 ).setType( IDENT );
+			}
+		}
+		else if ( previousType() == FROM && type != IDENT && la( 2 ) == DOT && lt( 1 ).isPossibleID() ) {
+			lt( 1 ).setType( IDENT );
+		}
+	}
+
+
+	// statements ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	private AST statement() {
+		if ( la( 1 ) != SELECT && la( 1 ) != FROM ) {
+			throw new UnsupportedSyntaxException( "not a select statement" );
+		}
+		final AST query = create( QUERY, "query" );
+		queryRule( query );
+		if ( la( 1 ) != EOF ) {
+			throw unexpectedToken();
+		}
+		return query;
+	}
+
+	private void queryRule(AST query) {
+		final AST select = la( 1 ) == SELECT ? selectClause() : null;
+		if ( la( 1 ) != FROM ) {
+			throw new UnsupportedSyntaxException( "no from clause" );
+		}
+		final AST selectFrom = create( SELECT_FROM, "SELECT_FROM" );
+		selectFrom.addChild( fromClause() );
+		if ( select != null ) {
+			selectFrom.addChild( select );
+		}
+		query.addChild( selectFrom );
+
+		if ( la( 1 ) == WHERE ) {
+			final AST where = consumeNode();
+			where.addChild( expression() );
+			query.addChild( where );
+		}
+		if ( la( 1 ) == GROUP ) {
+			query.addChild( groupByClause() );
+		}
+		if ( la( 1 ) == ORDER ) {
+			query.addChild( orderByClause() );
+		}
+	}
+
+	private AST selectClause() {
+		final AST select = consumeNode();
+		weakKeywords();
+		if ( la( 1 ) == DISTINCT ) {
+			select.addChild( consumeNode() );
+		}
+		if ( la( 1 ) == NEW || la( 1 ) == OBJECT ) {
+			throw new UnsupportedSyntaxException( "constructor or object selection" );
+		}
+		select.addChild( aliasedExpression() );
+		while ( la( 1 ) == COMMA ) {
+			consume();
+			select.addChild( aliasedExpression() );
+		}
+		return select;
+	}
+
+	private AST aliasedExpression() {
+		final AST expression = expression();
+		if ( la( 1 ) != AS ) {
+			return expression;
+		}
+		final AST as = consumeNode();
+		as.addChild( expression );
+		as.addChild( identifier() );
+		return as;
+	}
+
+	private AST fromClause() {
+		final AST from = consumeNode();
+		weakKeywords();
+		from.addChild( fromRange() );
+		while ( true ) {
+			switch ( la( 1 ) ) {
+				case COMMA:
+					consume();
+					weakKeywords();
+					from.addChild( fromRange() );
+					break;
+				case LEFT:
+				case RIGHT:
+				case FULL:
+				case INNER:
+				case JOIN:
+					from.addChild( fromJoin() );
+					break;
+				default:
+					return from;
+			}
+		}
+	}
+
+	private AST fromRange() {
+		if ( la( 1 ) == IN || la( 2 ) == IN ) {
+			throw new UnsupportedSyntaxException( "in-style from element" );
+		}
+		final AST path = path();
+		weakKeywords();
+		final AST range = create( RANGE, "RANGE" );
+		range.addChild( path );
+		if ( la( 1 ) == AS || la( 1 ) == IDENT ) {
+			range.addChild( asAlias() );
+		}
+		if ( la( 1 ) == FETCH ) {
+			throw new UnsupportedSyntaxException( "property fetch" );
+		}
+		return range;
+	}
+
+	private AST fromJoin() {
+		AST joinType = null;
+		AST outer = null;
+		if ( la( 1 ) == LEFT || la( 1 ) == RIGHT ) {
+			joinType = consumeNode();
+			if ( la( 1 ) == OUTER ) {
+				outer = consumeNode();
+			}
+		}
+		else if ( la( 1 ) == FULL || la( 1 ) == INNER ) {
+			joinType = consumeNode();
+		}
+
+		final AST join = astFactory.create( match( JOIN ) );
+		if ( joinType != null ) {
+			join.addChild( joinType );
+		}
+		if ( outer != null ) {
+			join.addChild( outer );
+		}
+		if ( la( 1 ) == FETCH ) {
+			join.addChild( consumeNode() );
+		}
+		if ( la( 2 ) == OPEN ) {
+			throw new UnsupportedSyntaxException( "treated join path" );
+		}
+		join.addChild( path() );
+		if ( la( 1 ) == AS || la( 1 ) == IDENT ) {
+			join.addChild( asAlias() );
+		}
+		if ( la( 1 ) == FETCH ) {
+			throw new UnsupportedSyntaxException( "property fetch" );
+		}
+		if ( la( 1 ) == WITH ) {
+			final AST with = consumeNode();
+			with.addChild( expression() );
+			join.addChild( with );
+		}
+		else if ( la( 1 ) == ON ) {
+			consume();
+			final AST with = create( WITH, "with" );
+			with.addChild( expression() );
+			join.addChild( with );
+		}
+		return join;
+	}
+
+	private AST asAlias() {
+		if ( la( 1 ) == AS ) {
+			consume();
+		}
+		final AST alias = identifier();
+		alias.setType( ALIAS );
+		return alias;
+	}
+
+	private AST groupByClause() {
+		final AST group = consumeNode();
+		match( LITERAL_by );
+		group.addChild( expression() );
+		while ( la( 1 ) == COMMA ) {
+			consume();
+			group.addChild( expression() );
+		}
+		if ( la( 1 ) == HAVING ) {
+			final AST having = consumeNode();
+			having.addChild( expression() );
+			group.addChild( having );
+		}
+		return group;
+	}
+
+	private AST orderByClause() {
+		final AST order = consumeNode();
+		match( LITERAL_by );
+		orderElement( order );
+		while ( la( 1 ) == COMMA ) {
+			consume();
+			orderElement( order );
+		}
+		return order;
+	}
+
+	private void orderElement(AST order) {
+		order.addChild( expression() );
+		switch ( la( 1 ) ) {
+			case ASCENDING:
+			case LITERAL_ascending: {
+				final AST ascending = consumeNode();
+				ascending.setType( ASCENDING );
+				order.addChild( ascending );
+				break;
+			}
+			case DESCENDING:
+			case LITERAL_descending: {
+				final AST descending = consumeNode();
+				descending.setType( DESCENDING );
+				order.addChild( descending );
+				break;
+			}
+			default:
+				break;
+		}
+		if ( la( 1 ) == NULLS ) {
+			order.addChild( consumeNode() );
+			final AST precedence = astFactory.create( match( IDENT ) );
+			if ( "first".equalsIgnoreCase( precedence.getText() ) ) {
+				precedence.setType( FIRST );
+			}
+			else if ( "last".equalsIgnoreCase( precedence.getText() ) ) {
+				precedence.setType( LAST );
+			}
+			else {
+				throw new UnsupportedSyntaxException( "null precedence" );
+			}
+			order.addChild( precedence );
+		}
+	}
+
+	private AST path() {
+		AST path = identifier();
+		while ( la( 1 ) == DOT ) {
+			final AST dot = consumeNode();
+			weakKeywords();
+			dot.addChild( path );
+			dot.addChild( identifier() );
+			path = dot;
+		}
+		return path;
+	}
+
+	private AST identifier() {
+		return astFactory.create( match( IDENT ) );
+	}
+
+
+	// expressions ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	private AST expression() {
+		AST x = logicalAndExpression();
+		while ( la( 1 ) == OR ) {
+			x = binary( consumeNode(), x, logicalAndExpression() );
+		}
+		return x;
+	}
+
+	/**
+	 * An expression the ANTLR parser only enters after predicting it from the lookahead tokens, that is
+	 * before {@link #weakKeywords()} has a chance to turn a leading {@code order} or {@code group} into an
+	 * identifier: HqlParser rejects those.
+	 */
+	private AST predictedExpression() {
+		if ( la( 1 ) == ORDER || la( 1 ) == GROUP ) {
+			throw unexpectedToken();
+		}
+		return expression();
+	}
+
+	private AST logicalAndExpression() {
+		AST x = negatedExpression();
+		while ( la( 1 ) == AND ) {
+			x = binary( consumeNode(), x, negatedExpression() );
+		}
+		return x;
+	}
+
+	private AST negatedExpression() {
+		weakKeywords();
+		if ( la( 1 ) == NOT ) {
+			consume();
+			return HqlParser.negateNode( astFactory, negatedExpression() );
+		}
+		return equalityExpression();
+	}
+
+	private AST equalityExpression() {
+		AST x = relationalExpression();
+		while ( true ) {
+			final AST operator;
+			switch ( la( 1 ) ) {
+				case EQ:
+				case NE:
+					operator = consumeNode();
+					break;
+				case IS:
+					operator = consumeNode();
+					operator.setType( EQ );
+					if ( la( 1 ) == NOT ) {
+						consume();
+						operator.setType( NE );
+					}
+					break;
+				case SQL_NE:
+					operator = consumeNode();
+					operator.setType( NE );
+					break;
+				default:
+					return HqlParser.processEqualityExpression( astFactory, x );
+			}
+			x = binary( operator, x, relationalExpression() );
+		}
+	}
+
+	private AST relationalExpression() {
+		AST x = concatenation();
+		switch ( la( 1 ) ) {
+			case LT:
+			case GT:
+			case LE:
+			case GE:
+				do {
+					x = binary( consumeNode(), x, additiveExpression() );
+				}
+				while ( la( 1 ) == LT || la( 1 ) == GT || la( 1 ) == LE || la( 1 ) == GE );
+				return x;
+			case NOT:
+				consume();
+				return negatableRelation( x, true );
+			case IN:
+			case BETWEEN:
+			case LIKE:
+			case MEMBER:
+				return negatableRelation( x, false );
+			default:
+				return x;
+		}
+	}
+
+	private AST negatableRelation(AST x, boolean negated) {
+		final AST operator;
+		switch ( la( 1 ) ) {
+			case IN:
+				operator = consumeNode();
+				operator.setType( negated ? NOT_IN : IN );
+				operator.setText( negated ? "not in" : "in" );
+				operator.addChild( x );
+				operator.addChild( inList() );
+				return operator;
+			case BETWEEN:
+				operator = consumeNode();
+				operator.setType( negated ? NOT_BETWEEN : BETWEEN );
+				operator.setText( negated ? "not between" : "between" );
+				operator.addChild( x );
+				operator.addChild( concatenation() );
+				match( AND );
+				operator.addChild( concatenation() );
+				return operator;
+			case LIKE:
+				operator = consumeNode();
+				operator.setType( negated ? NOT_LIKE : LIKE );
+				operator.setText( negated ? "not like" : "like" );
+				operator.addChild( x );
+				operator.addChild( concatenation() );
+				if ( la( 1 ) == ESCAPE ) {
+					final AST escape = consumeNode();
+					escape.addChild( concatenation() );
+					operator.addChild( escape );
+				}
+				return operator;
+			case MEMBER:
+				throw new UnsupportedSyntaxException( "member of" );
+			default:
+				throw unexpectedToken();
+		}
+	}
+
+	private AST inList() {
+		final AST inList = create( IN_LIST, "inList" );
+		switch ( la( 1 ) ) {
+			case COLON:
+			case PARAM:
+				inList.addChild( parameter() );
+				return inList;
+			case OPEN:
+				if ( la( 2 ) == SELECT || la( 2 ) == FROM ) {
+					throw new UnsupportedSyntaxException( "subquery" );
+				}
+				consume();
+				if ( la( 1 ) != CLOSE ) {
+					inList.addChild( predictedExpression() );
+					while ( la( 1 ) == COMMA ) {
+						consume();
+						inList.addChild( expression() );
+					}
+				}
+				match( CLOSE );
+				return inList;
+			default:
+				throw new UnsupportedSyntaxException( "collection valued in list" );
+		}
+	}
+
+	private AST concatenation() {
+		final AST x = additiveExpression();
+		if ( la( 1 ) != CONCAT ) {
+			return x;
+		}
+		final AST concatList = consumeNode();
+		concatList.setType( EXPR_LIST );
+		concatList.setText( "concatList" );
+		concatList.addChild( x );
+		concatList.addChild( additiveExpression() );
+		while ( la( 1 ) == CONCAT ) {
+			consume();
+			concatList.addChild( additiveExpression() );
+		}
+		final AST concat = create( METHOD_CALL, "||" );
+		concat.addChild( create( IDENT, "concat" ) );
+		concat.addChild( concatList );
+		return concat;
+	}
+
+	private AST additiveExpression() {
+		AST x = multiplyExpression();
+		while ( la( 1 ) == PLUS || la( 1 ) == MINUS ) {
+			x = binary( consumeNode(), x, multiplyExpression() );
+		}
+		return x;
+	}
+
+	private AST multiplyExpression() {
+		AST x = unaryExpression();
+		while ( la( 1 ) == STAR || la( 1 ) == DIV || la( 1 ) == MOD ) {
+			x = binary( consumeNode(), x, unaryExpression() );
+		}
+		return x;
+	}
+
+	private AST unaryExpression() {
+		switch ( la( 1 ) ) {
+			case MINUS:
+			case PLUS: {
+				final AST operator = consumeNode();
+				operator.setType( operator.getType() == MINUS ? UNARY_MINUS : UNARY_PLUS );
+				operator.addChild( unaryExpression() );
+				return operator;
+			}
+			case CASE:
+			case SOME:
+			case EXISTS:
+			case ALL:
+			case ANY:
+				throw new UnsupportedSyntaxException( "case or quantified expression" );
+			default: {
+				final AST x = primaryExpression();
+				if ( la( 1 ) == DOT || la( 1 ) == OPEN_BRACKET ) {
+					throw new UnsupportedSyntaxException( "dereferenced expression" );
+				}
+				return x;
+			}
+		}
+	}
+
+	private AST primaryExpression() {
+		switch ( la( 1 ) ) {
+			case IDENT:
+				return identPrimary();
+			case SUM:
+			case AVG:
+			case MAX:
+			case MIN:
+			case COUNT:
+				return aggregate();
+			case NUM_INT:
+			case NUM_FLOAT:
+			case NUM_LONG:
+			case NUM_DOUBLE:
+			case NUM_BIG_INTEGER:
+			case NUM_BIG_DECIMAL:
+			case QUOTED_STRING:
+			case NULL:
+			case TRUE:
+			case FALSE:
+			case EMPTY:
+				return consumeNode();
+			case COLON:
+			case PARAM:
+				return parameter();
+			case OPEN: {
+				if ( la( 2 ) == SELECT || la( 2 ) == FROM ) {
+					throw new UnsupportedSyntaxException( "subquery" );
+				}
+				consume();
+				AST x = predictedExpression();
+				if ( la( 1 ) == COMMA ) {
+					final AST vector = create( VECTOR_EXPR, "{vector}" );
+					vector.addChild( x );
+					while ( la( 1 ) == COMMA ) {
+						consume();
+						vector.addChild( expression() );
+					}
+					x = vector;
+				}
+				match( CLOSE );
+				return x;
+			}
+			default:
+				throw unexpectedToken();
+		}
+	}
+
+	private AST identPrimary() {
+		final String firstText = lt( 1 ).getText();
+		if ( la( 2 ) == OPEN
+				&& ( "function".equalsIgnoreCase( firstText ) || "cast".equalsIgnoreCase( firstText ) || "treat".equalsIgnoreCase( firstText ) ) ) {
+			throw new UnsupportedSyntaxException( firstText + "()" );
+		}
+
+		AST x = consumeNode();
+		// as HqlParser#handleDotIdent(), turn keywords following a dot into identifiers
+		while ( la( 1 ) == DOT && lt( 2 ) != null && lt( 2 ).isPossibleID() ) {
+			final AST dot = consumeNode();
+			lt( 1 ).setType( IDENT );
+			x = binary( dot, x, consumeNode() );
+		}
+
+		if ( la( 1 ) == OPEN ) {
+			if ( "key".equalsIgnoreCase( firstText ) || "value".equalsIgnoreCase( firstText ) || "entry".equalsIgnoreCase( firstText ) ) {
+				throw new UnsupportedSyntaxException( firstText + "()" );
+			}
+			final AST methodCall = consumeNode();
+			methodCall.setType( METHOD_CALL );
+			x = binary( methodCall, x, exprList() );
+			match( CLOSE );
+		}
+		return x;
+	}
+
+	private AST exprList() {
+		switch ( la( 1 ) ) {
+			case TRAILING:
+			case LEADING:
+			case BOTH:
+			case FROM:
+				throw new UnsupportedSyntaxException( "trim or extract arguments" );
+			default:
+				break;
+		}
+		final AST exprList = create( EXPR_LIST, "exprList" );
+		if ( la( 1 ) != CLOSE ) {
+			exprList.addChild( predictedExpression() );
+			while ( la( 1 ) == COMMA ) {
+				consume();
+				exprList.addChild( expression() );
+			}
+			if ( la( 1 ) == FROM || la( 1 ) == AS ) {
+				throw new UnsupportedSyntaxException( "trim or extract arguments" );
+			}
+		}
+		return exprList;
+	}
+
+	private AST aggregate() {
+		final AST aggregate = consumeNode();
+		match( OPEN );
+		if ( aggregate.getType() == COUNT ) {
+			if ( la( 1 ) == STAR ) {
+				final AST star = consumeNode();
+				star.setType( ROW_STAR );
+				aggregate.addChild( star );
+			}
+			else {
+				if ( la( 1 ) == DISTINCT || la( 1 ) == ALL ) {
+					aggregate.addChild( consumeNode() );
+				}
+				aggregate.addChild( path() );
+			}
+		}
+		else {
+			if ( la( 1 ) == SELECT || la( 1 ) == FROM ) {
+				throw new UnsupportedSyntaxException( "subquery" );
+			}
+			aggregate.addChild( additiveExpression() );
+			aggregate.setType( AGGREGATE );
+		}
+		match( CLOSE );
+		return aggregate;
+	}
+
+	private AST parameter() {
+		final AST parameter = consumeNode();
+		if ( parameter.getType() == COLON ) {
+			// as HqlParser#expectNamedParameterName()
+			if ( la( 1 ) != IDENT && lt( 1 ) != null && lt( 1 ).isPossibleID() ) {
+				lt( 1 ).setType( IDENT );
+			}
+			parameter.addChild( identifier() );
+		}
+		else if ( la( 1 ) == NUM_INT ) {
+			parameter.addChild( consumeNode() );
+		}
+		return parameter;
+	}
+
+	private static AST binary(AST operator, AST left, AST right) {
+		operator.addChild( left );
+		operator.addChild( right );
+		return operator;
+	}
+}
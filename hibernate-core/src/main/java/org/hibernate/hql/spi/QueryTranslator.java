@@ -180,5 +180,19 @@ public interface QueryTranslator {
 		return new ArrayList<>();
 	}
 
+	/**
+	 * Can the placeholder of the given named parameter be expanded in the generated SQL when
+	 * multiple values are bound to it, rather than by rewriting (and re-translating) the query?
+	 *
+	 * @param parameterName The name of the parameter
+	 *
+	 * @return {@code true} if the placeholder can be expanded in the SQL
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_SQL_EXPANSION
+	 */
+	default boolean canExpandParameterListInSql(String parameterName) {
+		return false;
+	}
+
 	Class getDynamicInstantiationResultType();
 }
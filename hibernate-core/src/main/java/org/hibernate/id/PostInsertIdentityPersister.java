@@ -5,6 +5,9 @@
  * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
  */
 package org.hibernate.id;
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 
 /**
@@ -40,4 +43,34 @@ public interface PostInsertIdentityPersister extends EntityPersister {
 	 * @return The primary key column names.
 	 */
 	public String[] getRootTableKeyColumnNames();
+
+	/**
+	 * Can the IDENTITY inserts of this entity be delayed until flush and executed together
+	 * through {@link #insert(Object[][], Object[], SharedSessionContractImplementor)}?
+	 *
+	 * @return {@code true} if the inserts can be batched
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	default boolean isIdentityInsertBatchable() {
+		return false;
+	}
+
+	/**
+	 * Persist several instances, using native identifier generation, as a single batch
+	 * when {@link #isIdentityInsertBatchable() possible}.
+	 *
+	 * @param fields The state of each of the instances
+	 * @param objects The instances
+	 * @param session The session in which we are operating
+	 *
+	 * @return The generated identifiers, in the order of the instances
+	 */
+	default Serializable[] insert(Object[][] fields, Object[] objects, SharedSessionContractImplementor session) {
+		final Serializable[] ids = new Serializable[objects.length];
+		for ( int i = 0; i < objects.length; i++ ) {
+			ids[i] = insert( fields[i], objects[i], session );
+		}
+		return ids;
+	}
 }
@@ -0,0 +1,184 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IdentifierGenerationException;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which does not serialize the threads generating identifiers.
+ * <p/>
+ * Identifiers are handed out of the current block of values by atomically incrementing a counter.
+ * Once the number of values remaining in the current block drops below a low-water mark (a quarter
+ * of the increment size), the thread crossing it fetches the next block from the database, so that
+ * the other threads keep on being served from the current block in the meantime.  Only threads
+ * finding both blocks exhausted go to the database themselves.
+ * <p/>
+ * The next block is fetched through the {@link AccessCallback} of the session crossing the mark,
+ * rather than in the background, as the callback is bound to that session's JDBC resources.
+ * <p/>
+ * Values are unique, but not necessarily handed out in ascending order across threads, and up to
+ * two blocks of values may be lost when the application stops.
+ *
+ * @see PooledLoOptimizer
+ */
+public class NonBlockingPooledLoOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			NonBlockingPooledLoOptimizer.class.getName()
+	);
+
+	/**
+	 * A block of values, from the current value (inclusive) to the upper limit (exclusive).
+	 */
+	private static class Block {
+		private final AtomicLong value;
+		private final long upperLimitValue;
+
+		private Block(long lowValue, long upperLimitValue) {
+			this.value = new AtomicLong( lowValue );
+			this.upperLimitValue = upperLimitValue;
+		}
+	}
+
+	private static class GenerationState {
+		// last value read from db source
+		private volatile IntegralDataTypeHolder lastSourceValue;
+		// the block values are currently handed out from
+		private final AtomicReference<Block> currentBlock = new AtomicReference<>();
+		// the block fetched ahead of time, to be used once the current one is exhausted
+		private final AtomicReference<Block> nextBlock = new AtomicReference<>();
+		private final AtomicBoolean fetchingNextBlock = new AtomicBoolean();
+	}
+
+	private final long lowWaterMark;
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a NonBlockingPooledLoOptimizer.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public NonBlockingPooledLoOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		if ( returnClass != Long.class
+				&& returnClass != Integer.class
+				&& returnClass != Short.class
+				&& returnClass != BigInteger.class
+				&& returnClass != BigDecimal.class ) {
+			throw new IdentifierGenerationException( "Unknown integral data type for ids : " + returnClass.getName() );
+		}
+		this.lowWaterMark = Math.max( 1, incrementSize / 4 );
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+
+		while ( true ) {
+			final Block block = generationState.currentBlock.get();
+			if ( block != null ) {
+				final long value = block.value.getAndIncrement();
+				if ( value < block.upperLimitValue ) {
+					if ( block.upperLimitValue - value <= lowWaterMark ) {
+						prefetchNextBlock( generationState, callback );
+					}
+					return makeValue( value );
+				}
+			}
+
+			// the current block is exhausted (or there is none yet)
+			Block replacement = generationState.nextBlock.getAndSet( null );
+			if ( replacement == null ) {
+				replacement = fetchBlock( generationState, callback );
+			}
+			if ( !generationState.currentBlock.compareAndSet( block, replacement ) ) {
+				// another thread replaced the block first; keep ours for later, if there is room
+				generationState.nextBlock.compareAndSet( null, replacement );
+			}
+		}
+	}
+
+	private void prefetchNextBlock(GenerationState generationState, AccessCallback callback) {
+		if ( generationState.nextBlock.get() != null
+				|| !generationState.fetchingNextBlock.compareAndSet( false, true ) ) {
+			return;
+		}
+		try {
+			if ( generationState.nextBlock.get() == null ) {
+				generationState.nextBlock.compareAndSet( null, fetchBlock( generationState, callback ) );
+			}
+		}
+		finally {
+			generationState.fetchingNextBlock.set( false );
+		}
+	}
+
+	private Block fetchBlock(GenerationState generationState, AccessCallback callback) {
+		final IntegralDataTypeHolder sourceValue = callback.getNextValue();
+		generationState.lastSourceValue = sourceValue;
+
+		final long lastSourceValue = IdentifierGeneratorHelper.extractLong( sourceValue );
+		// handle cases where initial-value is less that one (hsqldb for instance).
+		return new Block( Math.max( lastSourceValue, 1 ), lastSourceValue + incrementSize );
+	}
+
+	private Serializable makeValue(long value) {
+		if ( returnClass == Long.class ) {
+			return value;
+		}
+		else if ( returnClass == Integer.class ) {
+			return (int) value;
+		}
+		else if ( returnClass == Short.class ) {
+			return (short) value;
+		}
+		else if ( returnClass == BigInteger.class ) {
+			return BigInteger.valueOf( value );
+		}
+		else {
+			return BigDecimal.valueOf( value );
+		}
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		if ( tenantIdentifier == null ) {
+			return noTenantState;
+		}
+		return tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantState.lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+}
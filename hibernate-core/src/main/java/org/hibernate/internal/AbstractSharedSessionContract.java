@@ -496,7 +496,9 @@ public abstract class AbstractSharedSessionContract implements SharedSessionCont
 				jdbcConnectionAccess = new ContextualJdbcConnectionAccess(
 						getTenantIdentifier(),
 						getEventListenerManager(),
-						factory.getServiceRegistry().getService( MultiTenantConnectionProvider.class )
+						factory.getServiceRegistry().getService( MultiTenantConnectionProvider.class ),
+						factory.getTenantConnectionLimiter(),
+						factory.getStatistics()
 				);
 			}
 		}
@@ -17,9 +17,18 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
  */
 public class ConnectionObserverStatsBridge implements ConnectionObserver, Serializable {
 	private final SessionFactoryImplementor sessionFactory;
+	private final String tenantIdentifier;
 
 	public ConnectionObserverStatsBridge(SessionFactoryImplementor sessionFactory) {
+		this( sessionFactory, null );
+	}
+
+	/**
+	 * @param tenantIdentifier The tenant to which the prepared statements are attributed, or {@code null}
+	 */
+	public ConnectionObserverStatsBridge(SessionFactoryImplementor sessionFactory, String tenantIdentifier) {
 		this.sessionFactory = sessionFactory;
+		this.tenantIdentifier = tenantIdentifier;
 	}
 
 	@Override
@@ -41,6 +50,9 @@ public class ConnectionObserverStatsBridge implements ConnectionObserver, Serial
 	public void statementPrepared() {
 		if ( sessionFactory.getStatistics().isStatisticsEnabled() ) {
 			sessionFactory.getStatistics().prepareStatement();
+			if ( tenantIdentifier != null ) {
+				sessionFactory.getStatistics().tenantPrepareStatement( tenantIdentifier );
+			}
 		}
 	}
 }
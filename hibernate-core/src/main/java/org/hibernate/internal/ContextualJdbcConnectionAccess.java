@@ -9,11 +9,14 @@ package org.hibernate.internal;
 import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.SessionEventListener;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * @author Steve Ebersole
@@ -22,14 +25,36 @@ public class ContextualJdbcConnectionAccess implements JdbcConnectionAccess, Ser
 	private final String tenantIdentifier;
 	private final SessionEventListener listener;
 	private final MultiTenantConnectionProvider connectionProvider;
+	private final transient TenantConnectionLimiter connectionLimiter;
+	private final transient StatisticsImplementor statistics;
+
+	private transient int heldConnectionCount;
+	private transient Map<Connection, Long> connectionObtainedAt;
 
 	public ContextualJdbcConnectionAccess(
 			String tenantIdentifier,
 			SessionEventListener listener,
 			MultiTenantConnectionProvider connectionProvider) {
+		this( tenantIdentifier, listener, connectionProvider, null, null );
+	}
+
+	/**
+	 * @param connectionLimiter The limiter of the connections held by each tenant, or {@code null}.  The
+	 * session counts against the limit once, however many connections it holds: the connections it obtains
+	 * while already holding one, such as the ones of isolated work, do not wait for another permit.
+	 * @param statistics The statistics to which the connection usage of the tenant is reported, or {@code null}
+	 */
+	public ContextualJdbcConnectionAccess(
+			String tenantIdentifier,
+			SessionEventListener listener,
+			MultiTenantConnectionProvider connectionProvider,
+			TenantConnectionLimiter connectionLimiter,
+			StatisticsImplementor statistics) {
 		this.tenantIdentifier = tenantIdentifier;
 		this.listener = listener;
 		this.connectionProvider = connectionProvider;
+		this.connectionLimiter = connectionLimiter;
+		this.statistics = statistics;
 	}
 
 	@Override
@@ -38,13 +63,37 @@ public class ContextualJdbcConnectionAccess implements JdbcConnectionAccess, Ser
 			throw new HibernateException( "Tenant identifier required!" );
 		}
 
+		// a session holding a connection already holds the permit of its tenant
+		final boolean limited = connectionLimiter != null && heldConnectionCount == 0;
+		final long waitStart = System.nanoTime();
+		if ( limited ) {
+			connectionLimiter.acquire( tenantIdentifier );
+		}
+		final Connection connection;
 		try {
 			listener.jdbcConnectionAcquisitionStart();
-			return connectionProvider.getConnection( tenantIdentifier );
+			connection = connectionProvider.getConnection( tenantIdentifier );
+		}
+		catch (SQLException | RuntimeException e) {
+			if ( limited ) {
+				connectionLimiter.release( tenantIdentifier );
+			}
+			throw e;
 		}
 		finally {
 			listener.jdbcConnectionAcquisitionEnd();
 		}
+		heldConnectionCount++;
+
+		final long obtainedAt = System.nanoTime();
+		if ( connectionObtainedAt == null ) {
+			connectionObtainedAt = new IdentityHashMap<>();
+		}
+		connectionObtainedAt.put( connection, obtainedAt );
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.tenantConnect( tenantIdentifier, limited ? obtainedAt - waitStart : 0 );
+		}
+		return connection;
 	}
 
 	@Override
@@ -59,6 +108,16 @@ public class ContextualJdbcConnectionAccess implements JdbcConnectionAccess, Ser
 		}
 		finally {
 			listener.jdbcConnectionReleaseEnd();
+			if ( heldConnectionCount > 0 ) {
+				heldConnectionCount--;
+				if ( connectionLimiter != null && heldConnectionCount == 0 ) {
+					connectionLimiter.release( tenantIdentifier );
+				}
+			}
+			final Long obtainedAt = connectionObtainedAt == null ? null : connectionObtainedAt.remove( connection );
+			if ( statistics != null && statistics.isStatisticsEnabled() && obtainedAt != null ) {
+				statistics.tenantConnectionRelease( tenantIdentifier, System.nanoTime() - obtainedAt );
+			}
 		}
 	}
 
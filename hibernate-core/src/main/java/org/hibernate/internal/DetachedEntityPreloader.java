@@ -0,0 +1,138 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+/**
+ * Loads, ahead of merging them, the persistent instances of detached entities: the ones given and the ones
+ * reachable from them through associations cascading merges.  The instances are loaded with one
+ * {@link org.hibernate.MultiIdentifierLoadAccess#multiLoad multi-load} per entity type, so that merging each
+ * detached entity then finds its persistent instance in the persistence context instead of selecting it.
+ *
+ * @see org.hibernate.Session#mergeAll
+ */
+final class DetachedEntityPreloader {
+	private final SessionImplementor session;
+	private final Map<Object, Object> visited = new IdentityHashMap<>();
+	private final Map<EntityPersister, List<Serializable>> idsByPersister = new LinkedHashMap<>();
+
+	DetachedEntityPreloader(SessionImplementor session) {
+		this.session = session;
+	}
+
+	void preload(Collection<?> entities) {
+		for ( Object entity : entities ) {
+			collectEntity( entity );
+		}
+		for ( Map.Entry<EntityPersister, List<Serializable>> entry : idsByPersister.entrySet() ) {
+			session.byMultipleIds( entry.getKey().getEntityName() )
+					.enableSessionCheck( true )
+					.multiLoad( entry.getValue() );
+		}
+	}
+
+	private void collectEntity(Object entity) {
+		if ( entity instanceof HibernateProxy ) {
+			if ( ( (HibernateProxy) entity ).getHibernateLazyInitializer().isUninitialized() ) {
+				// merging an uninitialized proxy does not copy any state
+				return;
+			}
+			entity = ( (HibernateProxy) entity ).getHibernateLazyInitializer().getImplementation();
+		}
+		if ( visited.put( entity, entity ) != null ) {
+			return;
+		}
+
+		final EntityPersister persister = session.getEntityPersister( null, entity );
+		if ( session.getPersistenceContext().getEntry( entity ) == null ) {
+			final Serializable id = persister.getIdentifier( entity, session );
+			if ( id != null
+					&& !Boolean.TRUE.equals( persister.getEntityMetamodel().getIdentifierProperty().getUnsavedValue().isUnsaved( id ) )
+					&& session.getPersistenceContext().getEntity( session.generateEntityKey( id, persister ) ) == null ) {
+				idsByPersister.computeIfAbsent( persister, p -> new ArrayList<>() ).add( id );
+			}
+		}
+
+		final Type[] types = persister.getPropertyTypes();
+		final String[] propertyNames = persister.getPropertyNames();
+		final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+		final boolean hasUninitializedLazyProperties = persister.hasUninitializedLazyProperties( entity );
+		for ( int i : cascadingPropertyIndexes( persister ) ) {
+			if ( !cascadeStyles[i].doCascade( CascadingActions.MERGE ) ) {
+				continue;
+			}
+			if ( hasUninitializedLazyProperties
+					&& !persister.getInstrumentationMetadata().isAttributeLoaded( entity, propertyNames[i] ) ) {
+				continue;
+			}
+			collectValue( persister.getPropertyValue( entity, i ), types[i] );
+		}
+	}
+
+	private static int[] cascadingPropertyIndexes(EntityPersister persister) {
+		final int[] propertyIndexes = persister.getCascadingPropertyIndexes( CascadingActions.MERGE );
+		if ( propertyIndexes != null ) {
+			return propertyIndexes;
+		}
+		final int[] allPropertyIndexes = new int[persister.getPropertyTypes().length];
+		for ( int i = 0; i < allPropertyIndexes.length; i++ ) {
+			allPropertyIndexes[i] = i;
+		}
+		return allPropertyIndexes;
+	}
+
+	private void collectValue(Object value, Type type) {
+		if ( value == null ) {
+			return;
+		}
+		if ( type.isEntityType() ) {
+			collectEntity( value );
+		}
+		else if ( type.isCollectionType() ) {
+			if ( value instanceof PersistentCollection && !( (PersistentCollection) value ).wasInitialized() ) {
+				return;
+			}
+			final CollectionType collectionType = (CollectionType) type;
+			final Type elementType = collectionType.getElementType( session.getFactory() );
+			if ( elementType.isEntityType() || elementType.isComponentType() ) {
+				final Iterator elements = collectionType.getElementsIterator( value, session );
+				while ( elements.hasNext() ) {
+					collectValue( elements.next(), elementType );
+				}
+			}
+		}
+		else if ( type.isComponentType() ) {
+			final CompositeType componentType = (CompositeType) type;
+			final Type[] subtypes = componentType.getSubtypes();
+			final Object[] values = componentType.getPropertyValues( value, session );
+			for ( int i = 0; i < subtypes.length; i++ ) {
+				if ( componentType.getCascadeStyle( i ).doCascade( CascadingActions.MERGE ) ) {
+					collectValue( values[i], subtypes[i] );
+				}
+			}
+		}
+	}
+}
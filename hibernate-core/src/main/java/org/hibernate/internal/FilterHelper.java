@@ -6,11 +6,13 @@
  */
 package org.hibernate.internal;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.sql.Template;
 
@@ -28,6 +30,7 @@ public class FilterHelper {
 	private final String[] filterConditions;
 	private final boolean[] filterAutoAliasFlags;
 	private final Map<String, String>[] filterAliasTableMaps;
+	private final FilterFragment[] filterFragments;
 
 	/**
 	 * The map of defined filters.  This is expected to be in format
@@ -43,6 +46,7 @@ public class FilterHelper {
 		filterConditions = new String[filterCount];
 		filterAutoAliasFlags = new boolean[filterCount];
 		filterAliasTableMaps = new Map[filterCount];
+		filterFragments = new FilterFragment[filterCount];
 		filterCount = 0;
 		for ( final FilterConfiguration filter : filters ) {
 			filterAutoAliasFlags[filterCount] = false;
@@ -68,10 +72,68 @@ public class FilterHelper {
 						":" + filterNames[filterCount] + "."
 					)
 			);
+			filterFragments[filterCount] = compile( filterConditions[filterCount], filterAliasTableMaps[filterCount], filterAutoAliasFlags[filterCount] );
 			filterCount++;
 		}
 	}
 
+	/**
+	 * Split the condition around its alias placeholders, so that rendering it only has to append
+	 * the aliases in between the pieces.
+	 */
+	private static FilterFragment compile(String condition, Map<String, String> aliasTableMap, boolean autoAlias) {
+		final String[] placeholders;
+		final String[] tableNames;
+		if ( autoAlias ) {
+			placeholders = new String[] { FilterImpl.MARKER };
+			tableNames = new String[] { aliasTableMap.get( null ) };
+		}
+		else if ( isTableFromPersistentClass( aliasTableMap ) ) {
+			placeholders = new String[] { "{alias}" };
+			tableNames = new String[] { aliasTableMap.get( null ) };
+		}
+		else {
+			placeholders = new String[aliasTableMap.size()];
+			tableNames = new String[aliasTableMap.size()];
+			int i = 0;
+			for ( Map.Entry<String, String> entry : aliasTableMap.entrySet() ) {
+				placeholders[i] = "{" + entry.getKey() + "}";
+				tableNames[i] = entry.getValue();
+				i++;
+			}
+		}
+
+		final List<String> pieces = new ArrayList<>();
+		final List<Integer> tableIndexes = new ArrayList<>();
+		int start = 0;
+		int index = 0;
+		while ( index < condition.length() ) {
+			int matched = -1;
+			for ( int i = 0; i < placeholders.length; i++ ) {
+				if ( condition.startsWith( placeholders[i], index ) ) {
+					matched = i;
+					break;
+				}
+			}
+			if ( matched < 0 ) {
+				index++;
+			}
+			else {
+				pieces.add( condition.substring( start, index ) );
+				tableIndexes.add( matched );
+				index += placeholders[matched].length();
+				start = index;
+			}
+		}
+		pieces.add( condition.substring( start ) );
+
+		return new FilterFragment(
+				ArrayHelper.toStringArray( pieces ),
+				ArrayHelper.toIntArray( tableIndexes ),
+				tableNames
+		);
+	}
+
 	private static boolean isTableFromPersistentClass(Map<String, String> aliasTableMap) {
 		return aliasTableMap.size() == 1 && aliasTableMap.containsKey( null );
 	}
@@ -99,33 +161,40 @@ public class FilterHelper {
 			if ( enabledFilters.containsKey( filterNames[i] ) ) {
 				final String condition = filterConditions[i];
 				if ( StringHelper.isNotEmpty( condition ) ) {
-					buffer.append( " and " ).append( render( aliasGenerator, i ) );
+					buffer.append( " and " );
+					filterFragments[i].render( buffer, aliasGenerator );
 				}
 			}
 		}
 	}
 
-	private String render(FilterAliasGenerator aliasGenerator, int filterIndex) {
-		Map<String, String> aliasTableMap = filterAliasTableMaps[filterIndex];
-		String condition = filterConditions[filterIndex];
-		if ( filterAutoAliasFlags[filterIndex] ) {
-			return StringHelper.replace(
-					condition,
-					FilterImpl.MARKER,
-					aliasGenerator.getAlias( aliasTableMap.get( null ) )
-			);
-		}
-		else if ( isTableFromPersistentClass( aliasTableMap ) ) {
-			return condition.replace( "{alias}", aliasGenerator.getAlias( aliasTableMap.get( null ) ) );
+	/**
+	 * A filter condition split around its alias placeholders.
+	 */
+	private static final class FilterFragment {
+		private final String[] pieces;
+		private final int[] tableIndexes;
+		private final String[] tableNames;
+
+		private FilterFragment(String[] pieces, int[] tableIndexes, String[] tableNames) {
+			this.pieces = pieces;
+			this.tableIndexes = tableIndexes;
+			this.tableNames = tableNames;
 		}
-		else {
-			for ( Map.Entry<String, String> entry : aliasTableMap.entrySet() ) {
-				condition = condition.replace(
-						"{" + entry.getKey() + "}",
-						aliasGenerator.getAlias( entry.getValue() )
-				);
+
+		private void render(StringBuilder buffer, FilterAliasGenerator aliasGenerator) {
+			buffer.append( pieces[0] );
+			if ( tableIndexes.length == 0 ) {
+				return;
+			}
+			final String[] aliases = new String[tableNames.length];
+			for ( int i = 0; i < tableIndexes.length; i++ ) {
+				final int tableIndex = tableIndexes[i];
+				if ( aliases[tableIndex] == null ) {
+					aliases[tableIndex] = aliasGenerator.getAlias( tableNames[tableIndex] );
+				}
+				buffer.append( aliases[tableIndex] ).append( pieces[i + 1] );
 			}
-			return condition;
 		}
 	}
 }
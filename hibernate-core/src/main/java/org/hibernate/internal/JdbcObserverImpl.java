@@ -24,7 +24,7 @@ public class JdbcObserverImpl implements JdbcObserver {
 	public JdbcObserverImpl(SharedSessionContractImplementor session) {
 		this.session = session;
 		this.observers = new ArrayList<>();
-		this.observers.add( new ConnectionObserverStatsBridge( session.getFactory() ) );
+		this.observers.add( new ConnectionObserverStatsBridge( session.getFactory(), session.getTenantIdentifier() ) );
 	}
 
 	@Override
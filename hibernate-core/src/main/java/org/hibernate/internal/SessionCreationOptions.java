@@ -45,6 +45,8 @@ public interface SessionCreationOptions {
 
 	TimeZone getJdbcTimeZone();
 
+	boolean isReadOnly();
+
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// deprecations
 
@@ -73,6 +73,7 @@ import org.hibernate.engine.profile.Fetch;
 import org.hibernate.engine.profile.FetchProfile;
 import org.hibernate.engine.query.spi.QueryPlanCache;
 import org.hibernate.engine.query.spi.ReturnMetadata;
+import org.hibernate.engine.spi.BatchFetchSizeTuner;
 import org.hibernate.engine.spi.FilterDefinition;
 import org.hibernate.engine.spi.NamedQueryDefinition;
 import org.hibernate.engine.spi.NamedQueryDefinitionBuilder;
@@ -178,6 +179,8 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 	private final transient CacheImplementor cacheAccess;
 	private final transient org.hibernate.query.spi.NamedQueryRepository namedQueryRepository;
 	private final transient QueryPlanCache queryPlanCache;
+	private final transient TenantConnectionLimiter tenantConnectionLimiter;
+	private final transient BatchFetchSizeTuner batchFetchSizeTuner;
 
 	private final transient CurrentSessionContext currentSessionContext;
 
@@ -252,6 +255,12 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 		LOG.debugf( "Instantiating session factory with properties: %s", properties );
 
 		this.queryPlanCache = new QueryPlanCache( this );
+		this.tenantConnectionLimiter = options.getMultiTenantConnectionLimit() > 0
+				? new TenantConnectionLimiter( options.getMultiTenantConnectionLimit(), options.getMultiTenantConnectionLimitTimeout() )
+				: null;
+		this.batchFetchSizeTuner = options.isAdaptiveBatchFetchEnabled()
+				? new BatchFetchSizeTuner( options.getAdaptiveBatchFetchMinSize(), this )
+				: null;
 
 		class IntegratorObserver implements SessionFactoryObserver {
 			private ArrayList<Integrator> integrators = new ArrayList<>();
@@ -566,6 +575,18 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 		return queryPlanCache;
 	}
 
+	@Override
+	public BatchFetchSizeTuner getBatchFetchSizeTuner() {
+		return batchFetchSizeTuner;
+	}
+
+	/**
+	 * The limiter of the connections held by each tenant, if any.
+	 */
+	TenantConnectionLimiter getTenantConnectionLimiter() {
+		return tenantConnectionLimiter;
+	}
+
 	private Map<String,HibernateException> checkNamedQueries() throws HibernateException {
 		return namedQueryRepository.checkNamedQueries( queryPlanCache );
 	}
@@ -1152,6 +1173,7 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 		private FlushMode flushMode;
 		private boolean autoClose;
 		private boolean autoClear;
+		private boolean readOnly;
 		private String tenantIdentifier;
 		private TimeZone jdbcTimeZone;
 		private boolean queryParametersValidationEnabled;
@@ -1236,7 +1258,8 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 
 		@Override
 		public FlushMode getInitialSessionFlushMode() {
-			return flushMode;
+			// a read-only session never flushes
+			return readOnly ? FlushMode.MANUAL : flushMode;
 		}
 
 		@Override
@@ -1249,6 +1272,11 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 			return autoClear;
 		}
 
+		@Override
+		public boolean isReadOnly() {
+			return readOnly;
+		}
+
 		@Override
 		public Connection getConnection() {
 			return connection;
@@ -1378,6 +1406,13 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 			return (T) this;
 		}
 
+		@Override
+		@SuppressWarnings("unchecked")
+		public T readOnly(boolean readOnly) {
+			this.readOnly = readOnly;
+			return (T) this;
+		}
+
 		@Override
 		@SuppressWarnings("unchecked")
 		public T tenantIdentifier(String tenantIdentifier) {
@@ -1464,6 +1499,11 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 			return false;
 		}
 
+		@Override
+		public boolean isReadOnly() {
+			return false;
+		}
+
 		@Override
 		public Connection getConnection() {
 			return connection;
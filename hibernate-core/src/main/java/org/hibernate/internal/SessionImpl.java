@@ -19,6 +19,7 @@ import java.sql.NClob;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -28,6 +29,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import javax.persistence.CacheRetrieveMode;
 import javax.persistence.CacheStoreMode;
@@ -58,6 +60,7 @@ import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.MappingException;
 import org.hibernate.MultiIdentifierLoadAccess;
+import org.hibernate.MultiNaturalIdLoadAccess;
 import org.hibernate.NaturalIdLoadAccess;
 import org.hibernate.ObjectDeletedException;
 import org.hibernate.ObjectNotFoundException;
@@ -91,6 +94,7 @@ import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.NamedQueryDefinition;
+import org.hibernate.engine.spi.NPlusOneDetector;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -187,6 +191,7 @@ import org.hibernate.resource.transaction.spi.TransactionCoordinator;
 import org.hibernate.resource.transaction.spi.TransactionStatus;
 import org.hibernate.stat.SessionStatistics;
 import org.hibernate.stat.internal.SessionStatisticsImpl;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_SCOPE;
 import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_TIMEOUT;
@@ -254,11 +259,13 @@ public final class SessionImpl
 
 	private transient TransactionObserver transactionObserver;
 
+	private transient NPlusOneDetector nPlusOneDetector;
+
 	public SessionImpl(SessionFactoryImpl factory, SessionCreationOptions options) {
 		super( factory, options );
 
 		this.actionQueue = new ActionQueue( this );
-		this.persistenceContext = new StatefulPersistenceContext( this );
+		this.persistenceContext = new StatefulPersistenceContext( this, options.isReadOnly() );
 
 		this.sessionOwner = options.getSessionOwner();
 		initializeFromSessionOwner( sessionOwner );
@@ -278,6 +285,15 @@ public final class SessionImpl
 
 		loadQueryInfluencers = new LoadQueryInfluencers( factory );
 
+		final int nPlusOneDetectionThreshold = factory.getSessionFactoryOptions().getNPlusOneDetectionThreshold();
+		if ( nPlusOneDetectionThreshold > 0 ) {
+			this.nPlusOneDetector = new NPlusOneDetector(
+					this,
+					nPlusOneDetectionThreshold,
+					factory.getSessionFactoryOptions().getNPlusOneDetectionWindow()
+			);
+		}
+
 		if ( getFactory().getStatistics().isStatisticsEnabled() ) {
 			getFactory().getStatistics().openSession();
 		}
@@ -483,6 +499,17 @@ public final class SessionImpl
 		return queryParametersValidationEnabled;
 	}
 
+	@Override
+	public NPlusOneDetector getNPlusOneDetector() {
+		return nPlusOneDetector;
+	}
+
+	private void queryExecuted(String query) {
+		if ( nPlusOneDetector != null ) {
+			nPlusOneDetector.queryExecuted( query );
+		}
+	}
+
 	@Override
 	public boolean isOpen() {
 		checkSessionFactoryOpen();
@@ -647,6 +674,33 @@ public final class SessionImpl
 		}
 	}
 
+	private void checkNotReadOnlySession() {
+		if ( persistenceContext.isReadOnlySession() ) {
+			throw new IllegalStateException( "Write operations are not allowed in a read-only session" );
+		}
+	}
+
+	private void checkNoVersionIncrementInReadOnlySession(LockOptions lockOptions) {
+		if ( lockOptions == null || !persistenceContext.isReadOnlySession() ) {
+			return;
+		}
+		checkNoVersionIncrementInReadOnlySession( lockOptions.getLockMode() );
+		for ( Map.Entry<String, LockMode> aliasSpecificLock : lockOptions.getAliasSpecificLocks() ) {
+			checkNoVersionIncrementInReadOnlySession( aliasSpecificLock.getValue() );
+		}
+	}
+
+	private void checkNoVersionIncrementInReadOnlySession(LockMode lockMode) {
+		if ( persistenceContext.isReadOnlySession()
+				&& ( lockMode == LockMode.FORCE
+						|| lockMode == LockMode.OPTIMISTIC_FORCE_INCREMENT
+						|| lockMode == LockMode.PESSIMISTIC_FORCE_INCREMENT ) ) {
+			throw new IllegalStateException(
+					"Lock mode " + lockMode + " increments the version, which is not allowed in a read-only session"
+			);
+		}
+	}
+
 	private void checkNoUnresolvedActionsAfterOperation() {
 		if ( persistenceContext.getCascadeLevel() == 0 ) {
 			actionQueue.checkNoUnresolvedActionsAfterOperation();
@@ -676,6 +730,7 @@ public final class SessionImpl
 
 	private void fireSaveOrUpdate(SaveOrUpdateEvent event) {
 		checkOpen();
+		checkNotReadOnlySession();
 		checkTransactionSynchStatus();
 		checkNoUnresolvedActionsBeforeOperation();
 		for ( SaveOrUpdateEventListener listener : listeners( EventType.SAVE_UPDATE ) ) {
@@ -707,6 +762,7 @@ public final class SessionImpl
 
 	private Serializable fireSave(SaveOrUpdateEvent event) {
 		checkOpen();
+		checkNotReadOnlySession();
 		checkTransactionSynchStatus();
 		checkNoUnresolvedActionsBeforeOperation();
 		for ( SaveOrUpdateEventListener listener : listeners( EventType.SAVE ) ) {
@@ -731,6 +787,7 @@ public final class SessionImpl
 
 	private void fireUpdate(SaveOrUpdateEvent event) {
 		checkOpen();
+		checkNotReadOnlySession();
 		checkTransactionSynchStatus();
 		checkNoUnresolvedActionsBeforeOperation();
 		for ( SaveOrUpdateEventListener listener : listeners( EventType.UPDATE ) ) {
@@ -768,6 +825,7 @@ public final class SessionImpl
 	private void fireLock(LockEvent event) {
 		checkOpen();
 		checkTransactionSynchStatus();
+		checkNoVersionIncrementInReadOnlySession( event.getLockOptions() );
 		for ( LockEventListener listener : listeners( EventType.LOCK ) ) {
 			listener.onLock( event );
 		}
@@ -796,6 +854,7 @@ public final class SessionImpl
 	}
 
 	private void firePersist(PersistEvent event) {
+		checkNotReadOnlySession();
 		try {
 			checkTransactionSynchStatus();
 			checkNoUnresolvedActionsBeforeOperation();
@@ -868,6 +927,7 @@ public final class SessionImpl
 
 	private void firePersistOnFlush(PersistEvent event) {
 		checkOpen();
+		checkNotReadOnlySession();
 		checkTransactionSynchStatus();
 		checkNoUnresolvedActionsBeforeOperation();
 		for ( PersistEventListener listener : listeners( EventType.PERSIST_ONFLUSH ) ) {
@@ -891,6 +951,18 @@ public final class SessionImpl
 		return fireMerge( new MergeEvent( null, object, this ));
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> List<T> mergeAll(Collection<? extends T> objects) throws HibernateException {
+		checkOpen();
+		new DetachedEntityPreloader( this ).preload( objects );
+		final List<T> merged = new ArrayList<>( objects.size() );
+		for ( T object : objects ) {
+			merged.add( (T) fireMerge( new MergeEvent( null, object, this ) ) );
+		}
+		return merged;
+	}
+
 	@Override
 	public void merge(String entityName, Object object, Map copiedAlready) throws HibernateException {
 		checkOpenOrWaitingForAutoClose();
@@ -898,6 +970,7 @@ public final class SessionImpl
 	}
 
 	private Object fireMerge(MergeEvent event) {
+		checkNotReadOnlySession();
 		try {
 			checkTransactionSynchStatus();
 			checkNoUnresolvedActionsBeforeOperation();
@@ -1009,6 +1082,7 @@ public final class SessionImpl
 	}
 
 	private void fireDelete(DeleteEvent event) {
+		checkNotReadOnlySession();
 		try{
 		checkTransactionSynchStatus();
 		for ( DeleteEventListener listener : listeners( EventType.DELETE ) ) {
@@ -1280,9 +1354,20 @@ public final class SessionImpl
 		return new SimpleNaturalIdLoadAccessImpl<T>( entityClass );
 	}
 
+	@Override
+	public <T> MultiNaturalIdLoadAccess<T> byMultipleNaturalIds(Class<T> entityClass) {
+		return new MultiNaturalIdLoadAccessImpl<T>( locateEntityPersister( entityClass ) );
+	}
+
+	@Override
+	public MultiNaturalIdLoadAccess byMultipleNaturalIds(String entityName) {
+		return new MultiNaturalIdLoadAccessImpl( locateEntityPersister( entityName ) );
+	}
+
 	private void fireLoad(LoadEvent event, LoadType loadType) {
 		checkOpenOrWaitingForAutoClose();
 		checkTransactionSynchStatus();
+		checkNoVersionIncrementInReadOnlySession( event.getLockOptions() );
 		for ( LoadEventListener listener : listeners( EventType.LOAD ) ) {
 			listener.onLoad( event, loadType );
 		}
@@ -1352,6 +1437,7 @@ public final class SessionImpl
 				}
 			}
 			checkTransactionSynchStatus();
+			checkNoVersionIncrementInReadOnlySession( event.getLockOptions() );
 			for ( RefreshEventListener listener : listeners( EventType.REFRESH ) ) {
 				listener.onRefresh( event );
 			}
@@ -1373,6 +1459,7 @@ public final class SessionImpl
 	private void fireRefresh(Map refreshedAlready, RefreshEvent event) {
 		try {
 			checkTransactionSynchStatus();
+			checkNoVersionIncrementInReadOnlySession( event.getLockOptions() );
 			for ( RefreshEventListener listener : listeners( EventType.REFRESH ) ) {
 				listener.onRefresh( event, refreshedAlready );
 			}
@@ -1402,6 +1489,7 @@ public final class SessionImpl
 
 	private void fireReplicate(ReplicateEvent event) {
 		checkOpen();
+		checkNotReadOnlySession();
 		checkTransactionSynchStatus();
 		for ( ReplicateEventListener listener : listeners( EventType.REPLICATE ) ) {
 			listener.onReplicate( event );
@@ -1440,6 +1528,10 @@ public final class SessionImpl
 			// do not auto-flush while outside a transaction
 			return false;
 		}
+		if ( persistenceContext.isReadOnlySession() ) {
+			// a read-only session has nothing to flush
+			return false;
+		}
 		AutoFlushEvent event = new AutoFlushEvent( querySpaces, this );
 		for ( AutoFlushEventListener listener : listeners( EventType.AUTO_FLUSH ) ) {
 			listener.onAutoFlush( event );
@@ -1452,6 +1544,10 @@ public final class SessionImpl
 		checkOpen();
 		checkTransactionSynchStatus();
 		log.debug( "Checking session dirtiness" );
+		if ( persistenceContext.isReadOnlySession() ) {
+			log.debug( "Session not dirty (read-only session)" );
+			return false;
+		}
 		if ( actionQueue.areInsertionsOrDeletionsQueued() ) {
 			log.debug( "Session dirty (scheduled updates and insertions)" );
 			return true;
@@ -1467,6 +1563,7 @@ public final class SessionImpl
 	@Override
 	public void flush() throws HibernateException {
 		checkOpen();
+		checkNotReadOnlySession();
 		doFlush();
 	}
 
@@ -1474,6 +1571,12 @@ public final class SessionImpl
 		checkTransactionNeeded();
 		checkTransactionSynchStatus();
 
+		if ( persistenceContext.isReadOnlySession() ) {
+			// explicit flushes are rejected, this is the managed flush (e.g. at transaction completion)
+			log.trace( "Skipping flush of read-only session" );
+			return;
+		}
+
 		try {
 			if ( persistenceContext.getCascadeLevel() > 0 ) {
 				throw new HibernateException( "Flush during cascade is dangerous" );
@@ -1521,6 +1624,7 @@ public final class SessionImpl
 	public List list(String query, QueryParameters queryParameters) throws HibernateException {
 		checkOpenOrWaitingForAutoClose();
 		checkTransactionSynchStatus();
+		checkNoVersionIncrementInReadOnlySession( queryParameters.getLockOptions() );
 		queryParameters.validateParameters();
 
 		HQLQueryPlan plan = queryParameters.getQueryPlan();
@@ -1529,6 +1633,7 @@ public final class SessionImpl
 		}
 
 		autoFlushIfRequired( plan.getQuerySpaces() );
+		queryExecuted( query );
 
 		List results = Collections.EMPTY_LIST;
 		boolean success = false;
@@ -1549,6 +1654,7 @@ public final class SessionImpl
 	@Override
 	public int executeUpdate(String query, QueryParameters queryParameters) throws HibernateException {
 		checkOpenOrWaitingForAutoClose();
+		checkNotReadOnlySession();
 		checkTransactionSynchStatus();
 		queryParameters.validateParameters();
 		HQLQueryPlan plan = getQueryPlan( query, false );
@@ -1620,6 +1726,7 @@ public final class SessionImpl
 			NativeSQLQuerySpecification nativeQuerySpecification,
 			QueryParameters queryParameters) throws HibernateException {
 		checkOpenOrWaitingForAutoClose();
+		checkNotReadOnlySession();
 		checkTransactionSynchStatus();
 		queryParameters.validateParameters();
 		NativeSQLQueryPlan plan = getNativeQueryPlan( nativeQuerySpecification );
@@ -1644,6 +1751,7 @@ public final class SessionImpl
 	public Iterator iterate(String query, QueryParameters queryParameters) throws HibernateException {
 		checkOpenOrWaitingForAutoClose();
 		checkTransactionSynchStatus();
+		checkNoVersionIncrementInReadOnlySession( queryParameters.getLockOptions() );
 		queryParameters.validateParameters();
 
 		HQLQueryPlan plan = queryParameters.getQueryPlan();
@@ -1652,6 +1760,7 @@ public final class SessionImpl
 		}
 
 		autoFlushIfRequired( plan.getQuerySpaces() );
+		queryExecuted( query );
 
 		dontFlushFromFind++; //stops flush being called multiple times if this method is recursively called
 		try {
@@ -1667,6 +1776,7 @@ public final class SessionImpl
 	public ScrollableResultsImplementor scroll(String query, QueryParameters queryParameters) throws HibernateException {
 		checkOpenOrWaitingForAutoClose();
 		checkTransactionSynchStatus();
+		checkNoVersionIncrementInReadOnlySession( queryParameters.getLockOptions() );
 
 		HQLQueryPlan plan = queryParameters.getQueryPlan();
 		if ( plan == null ) {
@@ -1674,6 +1784,7 @@ public final class SessionImpl
 		}
 
 		autoFlushIfRequired( plan.getQuerySpaces() );
+		queryExecuted( query );
 
 		dontFlushFromFind++;
 		try {
@@ -1867,6 +1978,7 @@ public final class SessionImpl
 		checkOpenOrWaitingForAutoClose();
 		checkTransactionSynchStatus();
 		FilterQueryPlan plan = getFilterQueryPlan( collection, filter, queryParameters, false );
+		queryExecuted( filter );
 		List results = Collections.EMPTY_LIST;
 
 		boolean success = false;
@@ -1888,6 +2000,7 @@ public final class SessionImpl
 		checkOpenOrWaitingForAutoClose();
 		checkTransactionSynchStatus();
 		FilterQueryPlan plan = getFilterQueryPlan( collection, filter, queryParameters, true );
+		queryExecuted( filter );
 		Iterator itr = plan.performIterate( queryParameters, this );
 		delayedAfterCompletion();
 		return itr;
@@ -1942,6 +2055,8 @@ public final class SessionImpl
 				getLoadQueryInfluencers()
 		);
 		autoFlushIfRequired( loader.getQuerySpaces() );
+		// criteria queries have no query string to attribute association fetches to
+		queryExecuted( null );
 		dontFlushFromFind++;
 		try {
 			return loader.scroll( this, scrollMode );
@@ -1990,6 +2105,8 @@ public final class SessionImpl
 		}
 
 		autoFlushIfRequired( spaces );
+		// criteria queries have no query string to attribute association fetches to
+		queryExecuted( null );
 
 		List results = Collections.EMPTY_LIST;
 		dontFlushFromFind++;
@@ -2224,6 +2341,7 @@ public final class SessionImpl
 	public ScrollableResultsImplementor scrollCustomQuery(CustomQuery customQuery, QueryParameters queryParameters) {
 		checkOpenOrWaitingForAutoClose();
 //		checkTransactionSynchStatus();
+		checkNoVersionIncrementInReadOnlySession( queryParameters.getLockOptions() );
 
 		if ( log.isTraceEnabled() ) {
 			log.tracev( "Scroll SQL query: {0}", customQuery.getSQL() );
@@ -2232,6 +2350,7 @@ public final class SessionImpl
 		CustomLoader loader = getFactory().getQueryPlanCache().getNativeQueryInterpreter().createCustomLoader( customQuery, getFactory() );
 
 		autoFlushIfRequired( loader.getQuerySpaces() );
+		queryExecuted( customQuery.getSQL() );
 
 		dontFlushFromFind++; //stops flush being called multiple times if this method is recursively called
 		try {
@@ -2248,6 +2367,7 @@ public final class SessionImpl
 	public List listCustomQuery(CustomQuery customQuery, QueryParameters queryParameters) {
 		checkOpenOrWaitingForAutoClose();
 //		checkTransactionSynchStatus();
+		checkNoVersionIncrementInReadOnlySession( queryParameters.getLockOptions() );
 
 		if ( log.isTraceEnabled() ) {
 			log.tracev( "SQL query: {0}", customQuery.getSQL() );
@@ -2256,6 +2376,7 @@ public final class SessionImpl
 		CustomLoader loader = getFactory().getQueryPlanCache().getNativeQueryInterpreter().createCustomLoader( customQuery, getFactory() );
 
 		autoFlushIfRequired( loader.getQuerySpaces() );
+		queryExecuted( customQuery.getSQL() );
 
 		dontFlushFromFind++;
 		boolean success = false;
@@ -3126,6 +3247,86 @@ public final class SessionImpl
 			}
 		}
 
+		/**
+		 * Resolves several natural ids at once: the ones not known to the Session or to the second-level
+		 * natural-id cache are resolved against the database in batches.
+		 *
+		 * @return The ids, positional to the natural ids; {@code null} where no entity matches
+		 */
+		protected final Serializable[] resolveNaturalIds(List<Object[]> orderedNaturalIdValues, Integer batchSize) {
+			checkOpenOrWaitingForAutoClose();
+			checkTransactionSynchStatus();
+			performAnyNeededCrossReferenceSynchronizations();
+
+			final PersistenceContext.NaturalIdHelper naturalIdHelper = getPersistenceContext().getNaturalIdHelper();
+			final Serializable[] ids = new Serializable[orderedNaturalIdValues.size()];
+			final List<Integer> unresolvedPositions = new ArrayList<>();
+			for ( int i = 0; i < ids.length; i++ ) {
+				final Serializable id = naturalIdHelper.findCachedNaturalIdResolution(
+						entityPersister,
+						orderedNaturalIdValues.get( i )
+				);
+				if ( id == null ) {
+					unresolvedPositions.add( i );
+				}
+				else if ( id != PersistenceContext.NaturalIdHelper.INVALID_NATURAL_ID_REFERENCE ) {
+					ids[i] = id;
+				}
+			}
+			if ( unresolvedPositions.isEmpty() ) {
+				delayedAfterCompletion();
+				return ids;
+			}
+
+			final int maxBatchSize;
+			if ( batchSize != null && batchSize > 0 ) {
+				maxBatchSize = batchSize;
+			}
+			else {
+				int naturalIdColumnSpan = 0;
+				for ( int naturalIdPropertyIndex : entityPersister.getNaturalIdentifierProperties() ) {
+					naturalIdColumnSpan += entityPersister.getPropertyTypes()[naturalIdPropertyIndex].getColumnSpan( getFactory() );
+				}
+				maxBatchSize = getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy()
+						.determineOptimalBatchLoadSize( naturalIdColumnSpan, unresolvedPositions.size() );
+			}
+
+			final StatisticsImplementor statistics = getFactory().getStatistics();
+			for ( int start = 0; start < unresolvedPositions.size(); start += maxBatchSize ) {
+				final List<Integer> batchPositions = unresolvedPositions.subList(
+						start,
+						Math.min( start + maxBatchSize, unresolvedPositions.size() )
+				);
+				final Object[][] batch = new Object[batchPositions.size()][];
+				for ( int i = 0; i < batch.length; i++ ) {
+					batch[i] = orderedNaturalIdValues.get( batchPositions.get( i ) );
+				}
+
+				final long startTime = statistics.isStatisticsEnabled() ? System.nanoTime() : 0;
+				final Serializable[] batchIds = entityPersister.loadEntityIdsByNaturalIds(
+						batch,
+						lockOptions == null ? new LockOptions() : lockOptions,
+						SessionImpl.this
+				);
+				if ( statistics.isStatisticsEnabled() ) {
+					statistics.naturalIdQueryExecuted(
+							entityPersister.getRootEntityName(),
+							TimeUnit.MILLISECONDS.convert( System.nanoTime() - startTime, TimeUnit.NANOSECONDS )
+					);
+				}
+
+				for ( int i = 0; i < batch.length; i++ ) {
+					if ( batchIds[i] != null ) {
+						ids[batchPositions.get( i )] = batchIds[i];
+						naturalIdHelper.cacheNaturalIdCrossReferenceFromLoad( entityPersister, batchIds[i], batch[i] );
+					}
+				}
+			}
+
+			delayedAfterCompletion();
+			return ids;
+		}
+
 		protected void performAnyNeededCrossReferenceSynchronizations() {
 			if ( !synchronizationEnabled ) {
 				// synchronization (this process) was disabled
@@ -3141,11 +3342,12 @@ public final class SessionImpl
 			}
 
 			final boolean debugEnabled = log.isDebugEnabled();
-			for ( Serializable pk : getPersistenceContext().getNaturalIdHelper()
-					.getCachedPkResolutions( entityPersister ) ) {
+			final PersistenceContext persistenceContext = getPersistenceContext();
+			final PersistenceContext.NaturalIdHelper naturalIdHelper = persistenceContext.getNaturalIdHelper();
+			for ( Serializable pk : naturalIdHelper.getSynchronizationCandidates( entityPersister ) ) {
 				final EntityKey entityKey = generateEntityKey( pk, entityPersister );
-				final Object entity = getPersistenceContext().getEntity( entityKey );
-				final EntityEntry entry = getPersistenceContext().getEntry( entity );
+				final Object entity = persistenceContext.getEntity( entityKey );
+				final EntityEntry entry = persistenceContext.getEntry( entity );
 
 				if ( entry == null ) {
 					if ( debugEnabled ) {
@@ -3154,6 +3356,13 @@ public final class SessionImpl
 										+ MessageHelper.infoString( entityPersister, pk, getFactory() )
 						);
 					}
+					naturalIdHelper.removeSynchronizationCandidate( entityPersister, pk );
+					continue;
+				}
+
+				if ( entry.getStatus() == Status.READ_ONLY ) {
+					// a candidate again once made modifiable
+					naturalIdHelper.removeSynchronizationCandidate( entityPersister, pk );
 					continue;
 				}
 
@@ -3166,7 +3375,8 @@ public final class SessionImpl
 					continue;
 				}
 
-				getPersistenceContext().getNaturalIdHelper().handleSynchronization(
+				// only compares the natural id values when they may have changed since the last flush
+				naturalIdHelper.handleSynchronization(
 						entityPersister,
 						pk,
 						entity
@@ -3185,6 +3395,10 @@ public final class SessionImpl
 		protected EntityPersister entityPersister() {
 			return entityPersister;
 		}
+
+		protected LockOptions lockOptions() {
+			return lockOptions;
+		}
 	}
 
 	private class NaturalIdLoadAccessImpl<T> extends BaseNaturalIdLoadAccessImpl<T> implements NaturalIdLoadAccess<T> {
@@ -3326,6 +3540,149 @@ public final class SessionImpl
 		}
 	}
 
+	private class MultiNaturalIdLoadAccessImpl<T> extends BaseNaturalIdLoadAccessImpl<T>
+			implements MultiNaturalIdLoadAccess<T> {
+		private CacheMode cacheMode;
+		private Integer batchSize;
+		private boolean orderedReturnEnabled = true;
+
+		private MultiNaturalIdLoadAccessImpl(EntityPersister entityPersister) {
+			super( entityPersister );
+		}
+
+		@Override
+		public MultiNaturalIdLoadAccessImpl<T> with(LockOptions lockOptions) {
+			return (MultiNaturalIdLoadAccessImpl<T>) super.with( lockOptions );
+		}
+
+		@Override
+		public MultiNaturalIdLoadAccessImpl<T> with(CacheMode cacheMode) {
+			this.cacheMode = cacheMode;
+			return this;
+		}
+
+		@Override
+		public MultiNaturalIdLoadAccessImpl<T> withBatchSize(int batchSize) {
+			if ( batchSize < 1 ) {
+				this.batchSize = null;
+			}
+			else {
+				this.batchSize = batchSize;
+			}
+			return this;
+		}
+
+		@Override
+		public MultiNaturalIdLoadAccessImpl<T> setSynchronizationEnabled(boolean synchronizationEnabled) {
+			super.synchronizationEnabled( synchronizationEnabled );
+			return this;
+		}
+
+		@Override
+		public MultiNaturalIdLoadAccessImpl<T> enableOrderedReturn(boolean enabled) {
+			this.orderedReturnEnabled = enabled;
+			return this;
+		}
+
+		@Override
+		public List<T> multiLoad(Object... naturalIds) {
+			return multiLoad( Arrays.asList( naturalIds ) );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public List<T> multiLoad(List<?> naturalIds) {
+			final List<Object[]> orderedNaturalIdValues = new ArrayList<>( naturalIds.size() );
+			for ( Object naturalId : naturalIds ) {
+				orderedNaturalIdValues.add( toOrderedNaturalIdValues( naturalId ) );
+			}
+
+			final Serializable[] ids;
+			final CacheMode sessionCacheMode = getCacheMode();
+			final boolean cacheModeChanged = cacheMode != null && cacheMode != sessionCacheMode;
+			if ( cacheModeChanged ) {
+				setCacheMode( cacheMode );
+			}
+			try {
+				ids = resolveNaturalIds( orderedNaturalIdValues, batchSize );
+			}
+			finally {
+				if ( cacheModeChanged ) {
+					// change it back
+					setCacheMode( sessionCacheMode );
+				}
+			}
+
+			// load each resolved entity once, in batches, positional to the distinct ids
+			final Map<Serializable, Integer> idPositions = new LinkedHashMap<>();
+			for ( Serializable id : ids ) {
+				if ( id != null && !idPositions.containsKey( id ) ) {
+					idPositions.put( id, idPositions.size() );
+				}
+			}
+			final List<T> entities = idPositions.isEmpty()
+					? Collections.emptyList()
+					: new MultiIdentifierLoadAccessImpl<T>( entityPersister() )
+							.with( lockOptions() )
+							.with( cacheMode )
+							.withBatchSize( batchSize == null ? 0 : batchSize )
+							.enableSessionCheck( true )
+							.multiLoad( new ArrayList<>( idPositions.keySet() ) );
+
+			final List<T> result = new ArrayList<>( ids.length );
+			for ( Serializable id : ids ) {
+				final T entity = id == null ? null : entities.get( idPositions.get( id ) );
+				if ( entity != null || orderedReturnEnabled ) {
+					result.add( entity );
+				}
+			}
+			return result;
+		}
+
+		private Object[] toOrderedNaturalIdValues(Object naturalId) {
+			final EntityPersister persister = entityPersister();
+			final int[] naturalIdPropertyIndexes = persister.getNaturalIdentifierProperties();
+			if ( !( naturalId instanceof Map ) ) {
+				if ( naturalIdPropertyIndexes.length != 1 ) {
+					throw new HibernateException(
+							String.format(
+									"Entity [%s] did not define a simple natural id, its natural ids must be given as Maps",
+									persister.getEntityName()
+							)
+					);
+				}
+				return new Object[] { naturalId };
+			}
+
+			final Map<?, ?> naturalIdValues = (Map<?, ?>) naturalId;
+			if ( naturalIdPropertyIndexes.length != naturalIdValues.size() ) {
+				throw new HibernateException(
+						String.format(
+								"Entity [%s] defines its natural-id with %d properties but only %d were specified",
+								persister.getEntityName(),
+								naturalIdPropertyIndexes.length,
+								naturalIdValues.size()
+						)
+				);
+			}
+			final Object[] orderedNaturalIdValues = new Object[naturalIdPropertyIndexes.length];
+			for ( int i = 0; i < naturalIdPropertyIndexes.length; i++ ) {
+				final String propertyName = persister.getPropertyNames()[naturalIdPropertyIndexes[i]];
+				if ( !naturalIdValues.containsKey( propertyName ) ) {
+					throw new HibernateException(
+							String.format(
+									"No value specified for natural-id property %s#%s",
+									persister.getEntityName(),
+									propertyName
+							)
+					);
+				}
+				orderedNaturalIdValues[i] = naturalIdValues.get( propertyName );
+			}
+			return orderedNaturalIdValues;
+		}
+	}
+
 	@Override
 	public void startTransactionBoundary() {
 		checkOpenOrWaitingForAutoClose();
@@ -8,14 +8,23 @@ package org.hibernate.internal;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 import javax.transaction.SystemException;
 
 import org.hibernate.CacheMode;
 import org.hibernate.Criteria;
 import org.hibernate.EntityMode;
+import org.hibernate.Filter;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -35,9 +44,11 @@ import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.transaction.internal.jta.JtaStatusHelper;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
 import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.PostInsertIdentityPersister;
 import org.hibernate.loader.criteria.CriteriaLoader;
 import org.hibernate.loader.custom.CustomLoader;
 import org.hibernate.loader.custom.CustomQuery;
@@ -46,6 +57,9 @@ import org.hibernate.persister.entity.OuterJoinLoadable;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.ManyToOneType;
+import org.hibernate.type.Type;
 
 /**
  * @author Gavin King
@@ -54,16 +68,9 @@ import org.hibernate.query.spi.ScrollableResultsImplementor;
 public class StatelessSessionImpl extends AbstractSharedSessionContract implements StatelessSession {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( StatelessSessionImpl.class );
 
-	private static LoadQueryInfluencers NO_INFLUENCERS = new LoadQueryInfluencers( null ) {
-		@Override
-		public String getInternalFetchProfile() {
-			return null;
-		}
+	private static LoadQueryInfluencers NO_INFLUENCERS = new StatelessLoadQueryInfluencers( null );
 
-		@Override
-		public void setInternalFetchProfile(String internalFetchProfile) {
-		}
-	};
+	private LoadQueryInfluencers loadQueryInfluencers = NO_INFLUENCERS;
 
 	private PersistenceContext temporaryPersistenceContext = new StatefulPersistenceContext( this );
 
@@ -92,6 +99,137 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		checkOpen();
 		EntityPersister persister = getEntityPersister( entityName, entity );
 		Serializable id = persister.getIdentifierGenerator().generate( this, entity );
+		Object[] state = getInsertState( persister, entity );
+		if ( id == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
+			id = persister.insert( state, entity, this );
+		}
+		else {
+			persister.insert( id, state, entity, this );
+		}
+		persister.setIdentifier( entity, id, this );
+		return id;
+	}
+
+	@Override
+	public List<Serializable> insertAll(Collection<?> entities) {
+		checkOpen();
+		final Map<Object, Serializable> ids = new IdentityHashMap<>( entities.size() );
+		for ( Map.Entry<EntityPersister, List<Object>> group : groupByPersister( entities, false ).entrySet() ) {
+			insertGroup( group.getKey(), group.getValue(), ids );
+		}
+		getJdbcCoordinator().executeBatch();
+
+		final List<Serializable> result = new ArrayList<>( entities.size() );
+		for ( Object entity : entities ) {
+			result.add( ids.get( entity ) );
+		}
+		return result;
+	}
+
+	private void insertGroup(EntityPersister persister, List<Object> entities, Map<Object, Serializable> ids) {
+		// generate all the identifiers first, so that the inserts of the group follow each other
+		final Serializable[] generatedIds = new Serializable[entities.size()];
+		final Object[][] states = new Object[entities.size()][];
+		final List<Integer> postInsertIdentifiers = new ArrayList<>();
+		for ( int i = 0; i < entities.size(); i++ ) {
+			final Object entity = entities.get( i );
+			generatedIds[i] = persister.getIdentifierGenerator().generate( this, entity );
+			states[i] = getInsertState( persister, entity );
+			if ( generatedIds[i] == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
+				postInsertIdentifiers.add( i );
+			}
+		}
+
+		for ( int i = 0; i < entities.size(); i++ ) {
+			if ( generatedIds[i] != IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
+				persister.insert( generatedIds[i], states[i], entities.get( i ), this );
+				persister.setIdentifier( entities.get( i ), generatedIds[i], this );
+				ids.put( entities.get( i ), generatedIds[i] );
+			}
+		}
+
+		if ( !postInsertIdentifiers.isEmpty() ) {
+			insertWithPostInsertIdentifiers( persister, entities, states, postInsertIdentifiers, ids );
+		}
+	}
+
+	private void insertWithPostInsertIdentifiers(
+			EntityPersister persister,
+			List<Object> entities,
+			Object[][] states,
+			List<Integer> indexes,
+			Map<Object, Serializable> ids) {
+		final boolean batchable = persister instanceof PostInsertIdentityPersister
+				&& ( (PostInsertIdentityPersister) persister ).isIdentityInsertBatchable();
+		final int batchSize = batchable ? Math.max( 1, getConfiguredJdbcBatchSize() ) : 1;
+		final Type[] types = persister.getPropertyTypes();
+
+		final List<Object> batchEntities = new ArrayList<>( batchSize );
+		final List<Object[]> batchStates = new ArrayList<>( batchSize );
+		for ( Integer index : indexes ) {
+			// the identifiers of the entities of a batch are not known until the batch is executed,
+			// so an entity referencing one of them starts a new batch
+			if ( batchEntities.size() == batchSize
+					|| !batchEntities.isEmpty() && referencesAny( states[index], types, batchEntities ) ) {
+				insertBatch( persister, batchable, batchEntities, batchStates, ids );
+			}
+			batchEntities.add( entities.get( index ) );
+			batchStates.add( states[index] );
+		}
+		if ( !batchEntities.isEmpty() ) {
+			insertBatch( persister, batchable, batchEntities, batchStates, ids );
+		}
+	}
+
+	private void insertBatch(
+			EntityPersister persister,
+			boolean batchable,
+			List<Object> batchEntities,
+			List<Object[]> batchStates,
+			Map<Object, Serializable> ids) {
+		final Serializable[] batchIds = batchable
+				? ( (PostInsertIdentityPersister) persister ).insert(
+						batchStates.toArray( new Object[batchStates.size()][] ),
+						batchEntities.toArray(),
+						this
+				)
+				: new Serializable[] { persister.insert( batchStates.get( 0 ), batchEntities.get( 0 ), this ) };
+		for ( int i = 0; i < batchIds.length; i++ ) {
+			persister.setIdentifier( batchEntities.get( i ), batchIds[i], this );
+			ids.put( batchEntities.get( i ), batchIds[i] );
+		}
+		batchEntities.clear();
+		batchStates.clear();
+	}
+
+	private boolean referencesAny(Object[] state, Type[] types, List<Object> batchEntities) {
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( referencesAny( state[i], types[i], batchEntities ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean referencesAny(Object value, Type type, List<Object> batchEntities) {
+		if ( value == null ) {
+			return false;
+		}
+		if ( type.isEntityType() || type.isAnyType() ) {
+			for ( Object entity : batchEntities ) {
+				if ( entity == value ) {
+					return true;
+				}
+			}
+		}
+		else if ( type.isComponentType() ) {
+			final CompositeType compositeType = (CompositeType) type;
+			return referencesAny( compositeType.getPropertyValues( value, this ), compositeType.getSubtypes(), batchEntities );
+		}
+		return false;
+	}
+
+	private Object[] getInsertState(EntityPersister persister, Object entity) {
 		Object[] state = persister.getPropertyValues( entity );
 		if ( persister.isVersioned() ) {
 			boolean substitute = Versioning.seedVersion(
@@ -104,14 +242,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 				persister.setPropertyValues( entity, state );
 			}
 		}
-		if ( id == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
-			id = persister.insert( state, entity, this );
-		}
-		else {
-			persister.insert( id, state, entity, this );
-		}
-		persister.setIdentifier( entity, id, this );
-		return id;
+		return state;
 	}
 
 
@@ -126,7 +257,21 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public void delete(String entityName, Object entity) {
 		checkOpen();
-		EntityPersister persister = getEntityPersister( entityName, entity );
+		doDelete( getEntityPersister( entityName, entity ), entity );
+	}
+
+	@Override
+	public void deleteAll(Collection<?> entities) {
+		checkOpen();
+		for ( Map.Entry<EntityPersister, List<Object>> group : groupByPersister( entities, true ).entrySet() ) {
+			for ( Object entity : group.getValue() ) {
+				doDelete( group.getKey(), entity );
+			}
+		}
+		getJdbcCoordinator().executeBatch();
+	}
+
+	private void doDelete(EntityPersister persister, Object entity) {
 		Serializable id = persister.getIdentifier( entity, this );
 		Object version = persister.getVersion( entity );
 		persister.delete( id, version, entity, this );
@@ -144,7 +289,21 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	@Override
 	public void update(String entityName, Object entity) {
 		checkOpen();
-		EntityPersister persister = getEntityPersister( entityName, entity );
+		doUpdate( getEntityPersister( entityName, entity ), entity );
+	}
+
+	@Override
+	public void updateAll(Collection<?> entities) {
+		checkOpen();
+		for ( Map.Entry<EntityPersister, List<Object>> group : groupByPersister( entities, false ).entrySet() ) {
+			for ( Object entity : group.getValue() ) {
+				doUpdate( group.getKey(), entity );
+			}
+		}
+		getJdbcCoordinator().executeBatch();
+	}
+
+	private void doUpdate(EntityPersister persister, Object entity) {
 		Serializable id = persister.getIdentifier( entity, this );
 		Object[] state = persister.getPropertyValues( entity );
 		Object oldVersion;
@@ -161,6 +320,79 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	}
 
 
+	// bulk operations ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Group the given entities by persister, so that the statements of each group make up JDBC
+	 * batches rather than interrupting each other's batch.  The groups are ordered so that the
+	 * entities referenced through many-to-one associations are inserted before (or, in reverse,
+	 * deleted after) the entities referencing them.  Should the associations between the groups
+	 * form a cycle, the groups are kept in the order of their first entity.
+	 */
+	private Map<EntityPersister, List<Object>> groupByPersister(Collection<?> entities, boolean reverse) {
+		final Map<EntityPersister, List<Object>> groups = new LinkedHashMap<>();
+		for ( Object entity : entities ) {
+			groups.computeIfAbsent( getEntityPersister( null, entity ), persister -> new ArrayList<>() ).add( entity );
+		}
+		if ( groups.size() < 2 ) {
+			return groups;
+		}
+
+		final List<EntityPersister> remaining = new ArrayList<>( groups.keySet() );
+		final List<EntityPersister> ordered = new ArrayList<>( remaining.size() );
+		while ( !remaining.isEmpty() ) {
+			EntityPersister next = null;
+			for ( EntityPersister candidate : remaining ) {
+				if ( !referencesAnyOf( candidate, remaining ) ) {
+					next = candidate;
+					break;
+				}
+			}
+			if ( next == null ) {
+				// cyclic references, keep the order of appearance
+				ordered.addAll( remaining );
+				break;
+			}
+			ordered.add( next );
+			remaining.remove( next );
+		}
+		if ( reverse ) {
+			Collections.reverse( ordered );
+		}
+
+		final Map<EntityPersister, List<Object>> orderedGroups = new LinkedHashMap<>();
+		for ( EntityPersister persister : ordered ) {
+			orderedGroups.put( persister, groups.get( persister ) );
+		}
+		return orderedGroups;
+	}
+
+	private boolean referencesAnyOf(EntityPersister persister, List<EntityPersister> persisters) {
+		final Set<String> referencedEntityNames = new HashSet<>();
+		collectManyToOneEntityNames( persister.getPropertyTypes(), referencedEntityNames );
+		for ( String referencedEntityName : referencedEntityNames ) {
+			final EntityPersister referencedPersister = getFactory().getMetamodel().entityPersister( referencedEntityName );
+			for ( EntityPersister other : persisters ) {
+				if ( other != persister && referencedPersister.isSubclassEntityName( other.getEntityName() ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static void collectManyToOneEntityNames(Type[] types, Set<String> entityNames) {
+		for ( Type type : types ) {
+			if ( type instanceof ManyToOneType ) {
+				entityNames.add( ( (ManyToOneType) type ).getAssociatedEntityName() );
+			}
+			else if ( type instanceof CompositeType ) {
+				collectManyToOneEntityNames( ( (CompositeType) type ).getSubtypes(), entityNames );
+			}
+		}
+	}
+
+
 	// loading ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override
@@ -247,6 +479,20 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		UnresolvableObjectException.throwIfNull( result, id, persister.getEntityName() );
 	}
 
+	@Override
+	public <T> Stream<T> streamPartitioned(Class<T> entityClass, int partitionCount) {
+		checkOpen();
+		final EntityPersister persister = getFactory().getMetamodel().entityPersister( entityClass );
+		final String identifierPropertyName = persister.getIdentifierPropertyName();
+		if ( identifierPropertyName == null ) {
+			throw new MappingException(
+					"Entity [" + persister.getEntityName() + "] has no identifier property to partition on"
+			);
+		}
+		return createQuery( "select e from " + persister.getEntityName() + " e", entityClass )
+				.partitionedStream( "e." + identifierPropertyName, partitionCount );
+	}
+
 	@Override
 	public Object immediateLoad(String entityName, Serializable id)
 			throws HibernateException {
@@ -618,7 +864,45 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 
 	@Override
 	public LoadQueryInfluencers getLoadQueryInfluencers() {
-		return NO_INFLUENCERS;
+		return loadQueryInfluencers;
+	}
+
+	@Override
+	public Filter enableFilter(String filterName) {
+		checkOpen();
+		if ( loadQueryInfluencers == NO_INFLUENCERS ) {
+			loadQueryInfluencers = new StatelessLoadQueryInfluencers( getFactory() );
+		}
+		return loadQueryInfluencers.enableFilter( filterName );
+	}
+
+	@Override
+	public Filter getEnabledFilter(String filterName) {
+		checkOpen();
+		return loadQueryInfluencers.getEnabledFilter( filterName );
+	}
+
+	@Override
+	public void disableFilter(String filterName) {
+		checkOpen();
+		if ( loadQueryInfluencers != NO_INFLUENCERS ) {
+			loadQueryInfluencers.disableFilter( filterName );
+		}
+	}
+
+	private static class StatelessLoadQueryInfluencers extends LoadQueryInfluencers {
+		private StatelessLoadQueryInfluencers(SessionFactoryImplementor sessionFactory) {
+			super( sessionFactory );
+		}
+
+		@Override
+		public String getInternalFetchProfile() {
+			return null;
+		}
+
+		@Override
+		public void setInternalFetchProfile(String internalFetchProfile) {
+		}
 	}
 
 	@Override
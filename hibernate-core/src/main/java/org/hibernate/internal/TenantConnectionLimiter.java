@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the number of connections the sessions of each tenant may hold at the same time.  Sessions
+ * waiting for a connection of the same tenant are served in arrival order.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#MULTI_TENANT_CONNECTION_LIMIT
+ */
+public class TenantConnectionLimiter {
+	private final int limit;
+	private final long timeout;
+	private final ConcurrentMap<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+	/**
+	 * @param limit The maximum number of connections per tenant
+	 * @param timeout The maximum time to wait for a connection, in milliseconds, or a negative value
+	 * to wait as long as needed
+	 */
+	public TenantConnectionLimiter(int limit, long timeout) {
+		this.limit = limit;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Wait until the tenant holds less connections than the limit, and count one more.
+	 *
+	 * @param tenantIdentifier The tenant about to obtain a connection
+	 *
+	 * @throws SQLException If no connection of the tenant was released in time
+	 */
+	public void acquire(String tenantIdentifier) throws SQLException {
+		final Semaphore semaphore = permits.computeIfAbsent( tenantIdentifier, t -> new Semaphore( limit, true ) );
+		try {
+			if ( timeout < 0 ) {
+				semaphore.acquire();
+			}
+			else if ( !semaphore.tryAcquire( timeout, TimeUnit.MILLISECONDS ) ) {
+				throw new SQLTransientConnectionException(
+						"Tenant [" + tenantIdentifier + "] already holds " + limit
+								+ " connections, none of which was released within " + timeout + " ms"
+				);
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLTransientConnectionException(
+					"Interrupted while waiting for a connection of tenant [" + tenantIdentifier + "]",
+					e
+			);
+		}
+	}
+
+	/**
+	 * Count one less connection held by the tenant, letting the next waiting session through.
+	 *
+	 * @param tenantIdentifier The tenant which released a connection
+	 */
+	public void release(String tenantIdentifier) {
+		permits.get( tenantIdentifier ).release();
+	}
+}
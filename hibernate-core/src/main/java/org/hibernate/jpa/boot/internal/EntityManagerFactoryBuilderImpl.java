@@ -61,6 +61,7 @@ import org.hibernate.id.factory.spi.MutableIdentifierGeneratorFactory;
 import org.hibernate.integrator.spi.Integrator;
 import org.hibernate.internal.EntityManagerMessageLogger;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.jpa.AvailableSettings;
 import org.hibernate.jpa.boot.spi.EntityManagerFactoryBuilder;
 import org.hibernate.jpa.boot.spi.IntegratorProvider;
@@ -838,7 +839,16 @@ public class EntityManagerFactoryBuilderImpl implements EntityManagerFactoryBuil
 		metamodelBuilder.applyScanOptions(
 				new StandardScanOptions(
 						(String) configurationValues.get( org.hibernate.cfg.AvailableSettings.SCANNER_DISCOVERY ),
-						persistenceUnit.isExcludeUnlistedClasses()
+						persistenceUnit.isExcludeUnlistedClasses(),
+						ConfigurationHelper.getBoolean(
+								org.hibernate.cfg.AvailableSettings.SCANNER_USE_ARCHIVE_INDEX,
+								configurationValues,
+								false
+						),
+						ConfigurationHelper.getString(
+								org.hibernate.cfg.AvailableSettings.SCANNER_ARCHIVE_INDEX_CACHE,
+								configurationValues
+						)
 				)
 		);
 
@@ -1006,6 +1006,9 @@ public abstract class Loader {
 		}
 
 		LOG.tracev( "Done processing result set ({0} rows)", count );
+		if ( session.getTenantIdentifier() != null && getFactory().getStatistics().isStatisticsEnabled() ) {
+			getFactory().getStatistics().tenantRowsRead( session.getTenantIdentifier(), count );
+		}
 
 		initializeEntitiesAndCollections(
 				hydratedObjects,
@@ -43,6 +43,11 @@ public abstract class AbstractEntityLoader
 
 	}
 
+	@Override
+	public void collectFootprint(LoaderFootprint footprint) {
+		footprint.addLoader( getSQLString() );
+	}
+
 	@Override
 	public Object load(Serializable id, Object optionalObject, SharedSessionContractImplementor session) {
 		// this form is deprecated!
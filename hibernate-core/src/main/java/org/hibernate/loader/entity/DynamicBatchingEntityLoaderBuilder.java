@@ -389,6 +389,12 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			this.dynamicLoader = new DynamicEntityLoader( persister, maxBatchSize, lockOptions, factory, loadQueryInfluencers );
 		}
 
+		@Override
+		public void collectFootprint(LoaderFootprint footprint) {
+			singleKeyLoader.collectFootprint( footprint );
+			dynamicLoader.collectFootprint( footprint );
+		}
+
 		@Override
 		public Object load(
 				Serializable id,
@@ -0,0 +1,71 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.entity;
+
+/**
+ * Accumulates the number of loaders and the SQL strings retained by an entity persister, as
+ * reported by {@link org.hibernate.persister.entity.AbstractEntityPersister#getLoaderFootprint()}.
+ * <p/>
+ * Only the loaders that have actually been built are accounted for; loaders created lazily
+ * on first use show up once they have been used.
+ */
+public class LoaderFootprint {
+	private final String entityName;
+	private int loaderCount;
+	private int sqlStringCount;
+	private long sqlStringLength;
+
+	public LoaderFootprint(String entityName) {
+		this.entityName = entityName;
+	}
+
+	/**
+	 * Account for a loader executing the given SQL.
+	 *
+	 * @param sql The SQL of the loader, or {@code null} if unknown
+	 */
+	public void addLoader(String sql) {
+		loaderCount++;
+		addSqlString( sql );
+	}
+
+	/**
+	 * Account for a retained SQL string.
+	 *
+	 * @param sql The SQL string, may be {@code null}
+	 */
+	public void addSqlString(String sql) {
+		if ( sql != null ) {
+			sqlStringCount++;
+			sqlStringLength += sql.length();
+		}
+	}
+
+	public String getEntityName() {
+		return entityName;
+	}
+
+	public int getLoaderCount() {
+		return loaderCount;
+	}
+
+	public int getSqlStringCount() {
+		return sqlStringCount;
+	}
+
+	public long getSqlStringLength() {
+		return sqlStringLength;
+	}
+
+	@Override
+	public String toString() {
+		return "LoaderFootprint(" + entityName
+				+ ") [loaders=" + loaderCount
+				+ ", sqlStrings=" + sqlStringCount
+				+ ", sqlStringLength=" + sqlStringLength + ']';
+	}
+}
@@ -7,6 +7,7 @@
 package org.hibernate.loader.entity;
 
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -47,7 +48,12 @@ class PaddedBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuilder {
 
 	public static class PaddedBatchingEntityLoader extends BatchingEntityLoader {
 		private final int[] batchSizes;
-		private final Loader[] loaders;
+		private final AtomicReferenceArray<Loader> loaders;
+		private final OuterJoinLoadable persister;
+		private final LockMode lockMode;
+		private final LockOptions lockOptions;
+		private final SessionFactoryImplementor factory;
+		private final LoadQueryInfluencers loadQueryInfluencers;
 
 		public PaddedBatchingEntityLoader(
 				OuterJoinLoadable persister,
@@ -55,13 +61,41 @@ class PaddedBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuilder {
 				LockMode lockMode,
 				SessionFactoryImplementor factory,
 				LoadQueryInfluencers loadQueryInfluencers) {
+			this( persister, maxBatchSize, lockMode, null, factory, loadQueryInfluencers );
+		}
+
+		public PaddedBatchingEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				LockOptions lockOptions,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers) {
+			this( persister, maxBatchSize, null, lockOptions, factory, loadQueryInfluencers );
+		}
+
+		private PaddedBatchingEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				LockMode lockMode,
+				LockOptions lockOptions,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers) {
 			super( persister );
 			this.batchSizes = ArrayHelper.getBatchSizes( maxBatchSize );
-			this.loaders = new Loader[ batchSizes.length ];
-			for ( int i = 0; i < batchSizes.length; i++ ) {
-				this.loaders[i] = new EntityLoader( persister, batchSizes[i], lockMode, factory, loadQueryInfluencers);
-			}
+			this.loaders = new AtomicReferenceArray<>( batchSizes.length );
+			this.persister = persister;
+			this.lockMode = lockMode;
+			this.lockOptions = lockOptions;
+			this.factory = factory;
+			this.loadQueryInfluencers = loadQueryInfluencers;
 			validate( maxBatchSize );
+
+			// unless delayed, all the loaders of the batch-size ladder are built up front
+			if ( !factory.getSessionFactoryOptions().isDelayBatchFetchLoaderCreationsEnabled() ) {
+				for ( int i = 0; i < batchSizes.length; i++ ) {
+					getLoader( i );
+				}
+			}
 		}
 
 		private void validate(int max) {
@@ -74,19 +108,27 @@ class PaddedBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuilder {
 			}
 		}
 
-		public PaddedBatchingEntityLoader(
-				OuterJoinLoadable persister,
-				int maxBatchSize,
-				LockOptions lockOptions,
-				SessionFactoryImplementor factory,
-				LoadQueryInfluencers loadQueryInfluencers) {
-			super( persister );
-			this.batchSizes = ArrayHelper.getBatchSizes( maxBatchSize );
-			this.loaders = new Loader[ batchSizes.length ];
+		private Loader getLoader(int index) {
+			Loader loader = loaders.get( index );
+			if ( loader == null ) {
+				loader = lockOptions == null
+						? new EntityLoader( persister, batchSizes[index], lockMode, factory, loadQueryInfluencers )
+						: new EntityLoader( persister, batchSizes[index], lockOptions, factory, loadQueryInfluencers );
+				if ( !loaders.compareAndSet( index, null, loader ) ) {
+					loader = loaders.get( index );
+				}
+			}
+			return loader;
+		}
+
+		@Override
+		public void collectFootprint(LoaderFootprint footprint) {
 			for ( int i = 0; i < batchSizes.length; i++ ) {
-				this.loaders[i] = new EntityLoader( persister, batchSizes[i], lockOptions, factory, loadQueryInfluencers);
+				final Loader loader = loaders.get( i );
+				if ( loader != null ) {
+					( (UniqueEntityLoader) loader ).collectFootprint( footprint );
+				}
 			}
-			validate( maxBatchSize );
 		}
 
 		@Override
@@ -97,7 +139,7 @@ class PaddedBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuilder {
 
 			final int numberOfIds = ArrayHelper.countNonNull( batch );
 			if ( numberOfIds <= 1 ) {
-				final Object result =  ( (UniqueEntityLoader) loaders[batchSizes.length-1] ).load( id, optionalObject, session );
+				final Object result =  ( (UniqueEntityLoader) getLoader( batchSizes.length - 1 ) ).load( id, optionalObject, session );
 				if ( result == null ) {
 					// There was no entity with the specified ID. Make sure the EntityKey does not remain
 					// in the batch to avoid including it in future batches that get executed.
@@ -123,7 +165,7 @@ class PaddedBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuilder {
 				idsToLoad[i] = id;
 			}
 
-			return doBatchLoad( id, loaders[indexToUse], session, idsToLoad, optionalObject, lockOptions );
+			return doBatchLoad( id, getLoader( indexToUse ), session, idsToLoad, optionalObject, lockOptions );
 		}
 	}
 
@@ -47,4 +47,13 @@ public interface UniqueEntityLoader {
 			Object optionalObject,
 			SharedSessionContractImplementor session,
 			LockOptions lockOptions);
+
+	/**
+	 * Account for the loaders built by this loader, and the SQL they retain.
+	 *
+	 * @param footprint The footprint to add to
+	 */
+	default void collectFootprint(LoaderFootprint footprint) {
+		footprint.addLoader( null );
+	}
 }
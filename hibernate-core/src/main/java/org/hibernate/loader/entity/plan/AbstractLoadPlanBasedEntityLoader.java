@@ -22,6 +22,7 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.loader.entity.LoaderFootprint;
 import org.hibernate.loader.entity.UniqueEntityLoader;
 import org.hibernate.loader.plan.build.internal.FetchGraphLoadPlanBuildingStrategy;
 import org.hibernate.loader.plan.build.internal.FetchStyleLoadPlanBuildingAssociationVisitationStrategy;
@@ -122,6 +123,11 @@ public abstract class AbstractLoadPlanBasedEntityLoader extends AbstractLoadPlan
 		return staticLoadQuery;
 	}
 
+	@Override
+	public void collectFootprint(LoaderFootprint footprint) {
+		footprint.addLoader( staticLoadQuery.getSqlStatement() );
+	}
+
 	protected String getEntityName() {
 		return entityName;
 	}
@@ -8,6 +8,7 @@ package org.hibernate.loader.entity.plan;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -16,6 +17,7 @@ import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.loader.entity.LoaderFootprint;
 import org.hibernate.loader.entity.UniqueEntityLoader;
 import org.hibernate.persister.entity.OuterJoinLoadable;
 
@@ -49,7 +51,11 @@ public class LegacyBatchingEntityLoaderBuilder extends AbstractBatchingEntityLoa
 
 	public static class LegacyBatchingEntityLoader extends BatchingEntityLoader  {
 		private final int[] batchSizes;
-		private final EntityLoader[] loaders;
+		private final AtomicReferenceArray<EntityLoader> loaders;
+		private final OuterJoinLoadable persister;
+		private final LockMode lockMode;
+		private final LockOptions lockOptions;
+		private final LoadQueryInfluencers loadQueryInfluencers;
 
 		public LegacyBatchingEntityLoader(
 				OuterJoinLoadable persister,
@@ -78,17 +84,47 @@ public class LegacyBatchingEntityLoaderBuilder extends AbstractBatchingEntityLoa
 				LoadQueryInfluencers loadQueryInfluencers) {
 			super( persister );
 			this.batchSizes = ArrayHelper.getBatchSizes( maxBatchSize );
-			this.loaders = new EntityLoader[ batchSizes.length ];
-			final EntityLoader.Builder entityLoaderBuilder = EntityLoader.forEntity( persister )
-					.withInfluencers( loadQueryInfluencers )
-					.withLockMode( lockMode )
-					.withLockOptions( lockOptions );
+			this.loaders = new AtomicReferenceArray<>( batchSizes.length );
+			this.persister = persister;
+			this.lockMode = lockMode;
+			this.lockOptions = lockOptions;
+			this.loadQueryInfluencers = loadQueryInfluencers;
 
-			// we create a first entity loader to use it as a template for the others
-			this.loaders[0] = entityLoaderBuilder.withBatchSize( batchSizes[0] ).byPrimaryKey();
+			// unless delayed, all the loaders of the batch-size ladder are built up front
+			if ( !factory.getSessionFactoryOptions().isDelayBatchFetchLoaderCreationsEnabled() ) {
+				for ( int i = 0; i < batchSizes.length; i++ ) {
+					getLoader( i );
+				}
+			}
+		}
+
+		private EntityLoader getLoader(int index) {
+			EntityLoader loader = loaders.get( index );
+			if ( loader == null ) {
+				final EntityLoader.Builder entityLoaderBuilder = EntityLoader.forEntity( persister )
+						.withInfluencers( loadQueryInfluencers )
+						.withLockMode( lockMode )
+						.withLockOptions( lockOptions )
+						.withBatchSize( batchSizes[index] );
+				if ( index > 0 ) {
+					// the first entity loader is used as a template for the others
+					entityLoaderBuilder.withEntityLoaderTemplate( getLoader( 0 ) );
+				}
+				loader = entityLoaderBuilder.byPrimaryKey();
+				if ( !loaders.compareAndSet( index, null, loader ) ) {
+					loader = loaders.get( index );
+				}
+			}
+			return loader;
+		}
 
-			for ( int i = 1; i < batchSizes.length; i++ ) {
-				this.loaders[i] = entityLoaderBuilder.withEntityLoaderTemplate( this.loaders[0] ).withBatchSize( batchSizes[i] ).byPrimaryKey();
+		@Override
+		public void collectFootprint(LoaderFootprint footprint) {
+			for ( int i = 0; i < batchSizes.length; i++ ) {
+				final EntityLoader loader = loaders.get( i );
+				if ( loader != null ) {
+					loader.collectFootprint( footprint );
+				}
 			}
 		}
 
@@ -104,7 +140,7 @@ public class LegacyBatchingEntityLoaderBuilder extends AbstractBatchingEntityLoa
 					Serializable[] smallBatch = new Serializable[smallBatchSize];
 					System.arraycopy(batch, 0, smallBatch, 0, smallBatchSize);
 					// for now...
-					final List results = loaders[i].loadEntityBatch(
+					final List results = getLoader( i ).loadEntityBatch(
 							session,
 							smallBatch,
 							persister().getIdentifierType(),
@@ -128,7 +164,7 @@ public class LegacyBatchingEntityLoaderBuilder extends AbstractBatchingEntityLoa
 					return getObjectFromList( results, id, session );
 				}
 			}
-			final Object result = ( loaders[batchSizes.length-1] ).load( id, optionalObject, session, lockOptions );
+			final Object result = getLoader( batchSizes.length - 1 ).load( id, optionalObject, session, lockOptions );
 			if ( result == null ) {
 				// There was no entity with the specified ID. Make sure the EntityKey does not remain
 				// in the batch to avoid including it in future batches that get executed.
@@ -15,6 +15,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.HibernateException;
@@ -619,6 +620,103 @@ public class QueryLoader extends BasicLoader {
 		return info.getSourceLocations();
 	}
 
+	/**
+	 * Can the placeholder of the given named parameter be expanded in the SQL?  That is not the
+	 * case if the placeholder could not be located, or if the SQL of the query is reused to fetch
+	 * collections by subselect, as the parameters of those are bound by their original locations.
+	 *
+	 * @param name The name of the parameter
+	 *
+	 * @return {@code true} if the placeholder can be expanded
+	 */
+	public boolean canExpandParameterListInSql(String name) {
+		return queryTranslator.getNamedParameterPlaceholderLocations( name ) != null
+				&& !hasSubselectLoadableCollections();
+	}
+
+	@Override
+	protected SqlStatementWrapper executeQueryStatement(
+			String sqlStatement,
+			QueryParameters queryParameters,
+			boolean scroll,
+			List<AfterLoadAction> afterLoadActions,
+			SharedSessionContractImplementor session) throws SQLException {
+		return super.executeQueryStatement(
+				expandParameterLists( sqlStatement, queryParameters ),
+				queryParameters,
+				scroll,
+				afterLoadActions,
+				session
+		);
+	}
+
+	/**
+	 * Expand the placeholder of each multi-valued named parameter into as many placeholders as there
+	 * are values bound to the parameter.
+	 */
+	private String expandParameterLists(String sql, QueryParameters queryParameters) {
+		final Map<String, Integer> parameterListSizes = queryParameters.getNamedParameterListSizes();
+		if ( parameterListSizes.isEmpty() ) {
+			return sql;
+		}
+
+		final TreeMap<Integer, Integer> expansions = new TreeMap<>();
+		for ( Map.Entry<String, Integer> entry : parameterListSizes.entrySet() ) {
+			final int[] locations = queryTranslator.getNamedParameterPlaceholderLocations( entry.getKey() );
+			if ( locations == null ) {
+				throw new QueryException(
+						"Unable to expand multi-valued parameter [" + entry.getKey() + "] in the SQL",
+						sql
+				);
+			}
+			for ( int location : locations ) {
+				expansions.put( location, entry.getValue() );
+			}
+		}
+
+		final StringBuilder buffer = new StringBuilder( sql.length() + 3 * expansions.size() * 8 );
+		int start = 0;
+		for ( Map.Entry<Integer, Integer> expansion : expansions.entrySet() ) {
+			final int location = expansion.getKey();
+			final boolean enclosedInParens = previousNonWhitespaceCharacter( sql, location ) == '('
+					&& nextNonWhitespaceCharacter( sql, location ) == ')';
+			buffer.append( sql, start, location );
+			if ( !enclosedInParens ) {
+				buffer.append( '(' );
+			}
+			for ( int i = 0; i < expansion.getValue(); i++ ) {
+				if ( i > 0 ) {
+					buffer.append( ", " );
+				}
+				buffer.append( '?' );
+			}
+			if ( !enclosedInParens ) {
+				buffer.append( ')' );
+			}
+			start = location + 1;
+		}
+		buffer.append( sql, start, sql.length() );
+		return buffer.toString();
+	}
+
+	private static char previousNonWhitespaceCharacter(String sql, int location) {
+		for ( int i = location - 1; i >= 0; i-- ) {
+			if ( !Character.isWhitespace( sql.charAt( i ) ) ) {
+				return sql.charAt( i );
+			}
+		}
+		return 0;
+	}
+
+	private static char nextNonWhitespaceCharacter(String sql, int location) {
+		for ( int i = location + 1; i < sql.length(); i++ ) {
+			if ( !Character.isWhitespace( sql.charAt( i ) ) ) {
+				return sql.charAt( i );
+			}
+		}
+		return 0;
+	}
+
 	/**
 	 * We specifically override this method here, because in general we know much more
 	 * about the parameters and their appropriate bind positions here then we do in
@@ -129,6 +129,9 @@ public class ResultSetProcessorImpl implements ResultSetProcessor {
 		}
 
 		LOG.tracev( "Done processing result set ({0} rows)", count );
+		if ( session.getTenantIdentifier() != null && session.getFactory().getStatistics().isStatisticsEnabled() ) {
+			session.getFactory().getStatistics().tenantRowsRead( session.getTenantIdentifier(), count );
+		}
 
 		rowReader.finishUp( context, afterLoadActionList );
 		context.wrapUp();
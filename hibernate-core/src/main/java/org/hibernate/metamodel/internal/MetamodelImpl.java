@@ -18,6 +18,12 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import javax.persistence.EntityGraph;
 import javax.persistence.NamedAttributeNode;
 import javax.persistence.NamedEntityGraph;
@@ -253,11 +259,23 @@ public class MetamodelImpl implements MetamodelImplementor, Serializable {
 		// after *all* persisters and named queries are registered
 		entityPersisterMap.values().forEach( EntityPersister::generateEntityDefinition );
 
-		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.postInstantiate();
-			registerEntityNameResolvers( persister, entityNameResolvers );
+		final int initializationThreadCount = sessionFactory.getSessionFactoryOptions().getPersisterInitializationThreadCount();
+		if ( initializationThreadCount > 1 ) {
+			// the SQL and Loaders of each persister only depend on the (by now complete) state
+			// of the persisters, so they can be generated concurrently
+			postInstantiateConcurrently( entityPersisterMap.values(), EntityPersister::postInstantiate, initializationThreadCount );
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				registerEntityNameResolvers( persister, entityNameResolvers );
+			}
+			postInstantiateConcurrently( collectionPersisterMap.values(), CollectionPersister::postInstantiate, initializationThreadCount );
+		}
+		else {
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				persister.postInstantiate();
+				registerEntityNameResolvers( persister, entityNameResolvers );
+			}
+			collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
 		}
-		collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
 
 		if ( jpaMetaModelPopulationSetting != JpaMetaModelPopulationSetting.DISABLED ) {
 			MetadataContext context = new MetadataContext(
@@ -286,6 +304,51 @@ public class MetamodelImpl implements MetamodelImplementor, Serializable {
 
 	}
 
+	private static <P> void postInstantiateConcurrently(
+			java.util.Collection<P> persisters,
+			Consumer<P> postInstantiation,
+			int threadCount) {
+		if ( persisters.isEmpty() ) {
+			return;
+		}
+
+		final AtomicInteger threadCounter = new AtomicInteger();
+		final ExecutorService executor = Executors.newFixedThreadPool(
+				Math.min( threadCount, persisters.size() ),
+				runnable -> {
+					final Thread thread = new Thread( runnable, "hibernate-persister-initialization-" + threadCounter.incrementAndGet() );
+					thread.setDaemon( true );
+					return thread;
+				}
+		);
+		try {
+			final List<Future<?>> futures = new ArrayList<>( persisters.size() );
+			for ( P persister : persisters ) {
+				futures.add( executor.submit( () -> postInstantiation.accept( persister ) ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while initializing persisters", e );
+		}
+		catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			throw new HibernateException( "Unable to initialize persisters", cause );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 	private void primeSecondLevelCacheRegions(MetadataImplementor mappingMetadata) {
 		final Map<String, DomainDataRegionConfigImpl.Builder> regionConfigBuilders = new ConcurrentHashMap<>();
 
@@ -85,4 +85,12 @@ public class DynamicFilterParameterSpecification implements ParameterSpecificati
 	public String renderDisplayInfo() {
 		return "dynamic-filter={filterName=" + filterName + ",paramName=" + parameterName + "}";
 	}
+
+	public String getFilterName() {
+		return filterName;
+	}
+
+	public String getParameterName() {
+		return parameterName;
+	}
 }
@@ -49,6 +49,18 @@ public class NamedParameterSpecification extends AbstractExplicitParameterSpecif
 			QueryParameters qp,
 			SharedSessionContractImplementor session,
 			int position) throws SQLException {
+		final Integer listSize = qp.getNamedParameterListSizes().get( name );
+		if ( listSize != null ) {
+			// the placeholder was expanded in the SQL, bind each of the values of the list
+			int span = 0;
+			for ( int i = 0; i < listSize; i++ ) {
+				final TypedValue typedValue = qp.getNamedParameters().get( name + '_' + i );
+				typedValue.getType().nullSafeSet( statement, typedValue.getValue(), position + span, session );
+				span += typedValue.getType().getColumnSpan( session.getFactory() );
+			}
+			return span;
+		}
+
 		TypedValue typedValue = qp.getNamedParameters().get( name );
 		typedValue.getType().nullSafeSet( statement, typedValue.getValue(), position, session );
 		return typedValue.getType().getColumnSpan( session.getFactory() );
@@ -10,6 +10,7 @@ import java.io.Serializable;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -19,6 +20,7 @@ import java.util.Set;
 import org.hibernate.AssertionFailure;
 import org.hibernate.FetchMode;
 import org.hibernate.HibernateException;
+import org.hibernate.LockOptions;
 import org.hibernate.MappingException;
 import org.hibernate.QueryException;
 import org.hibernate.TransientObjectException;
@@ -31,6 +33,9 @@ import org.hibernate.cache.spi.entry.StructuredMapCacheEntry;
 import org.hibernate.cache.spi.entry.UnstructuredCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.pagination.LimitHandler;
+import org.hibernate.dialect.pagination.LimitHelper;
+import org.hibernate.dialect.pagination.NoopLimitHandler;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
@@ -38,6 +43,7 @@ import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.ExecuteUpdateResultCheckStyle;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
@@ -63,8 +69,10 @@ import org.hibernate.metadata.CollectionMetadata;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.Loadable;
+import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.persister.entity.PropertyMapping;
 import org.hibernate.persister.entity.Queryable;
+import org.hibernate.persister.entity.SingleTableEntityPersister;
 import org.hibernate.persister.spi.PersisterCreationContext;
 import org.hibernate.persister.walking.internal.CompositionSingularSubAttributesHelper;
 import org.hibernate.persister.walking.internal.StandardAnyTypeDefinition;
@@ -93,6 +101,7 @@ import org.hibernate.type.AssociationType;
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.EntityType;
+import org.hibernate.type.SetType;
 import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
@@ -110,6 +119,38 @@ public abstract class AbstractCollectionPersister
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class,
 			AbstractCollectionPersister.class.getName() );
 
+	private static final MultiLoadOptions WINDOW_LOAD_OPTIONS = new MultiLoadOptions() {
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return false;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return LockOptions.NONE;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	};
+
 	// TODO: encapsulate the protected instance variables!
 
 	private final NavigableRole navigableRole;
@@ -123,6 +164,7 @@ public abstract class AbstractCollectionPersister
 	private final String sqlSelectRowByIndexString;
 	private final String sqlDetectRowByIndexString;
 	private final String sqlDetectRowByElementString;
+	private final String sqlSelectRowsString;
 
 	protected final boolean hasWhere;
 	protected final String sqlWhereString;
@@ -592,6 +634,9 @@ public abstract class AbstractCollectionPersister
 			manyToManyOrderByTranslation = null;
 		}
 
+		// needs the order-by translation
+		sqlSelectRowsString = generateSelectRowsString();
+
 		initCollectionPropertyMap();
 	}
 
@@ -1080,6 +1125,67 @@ public abstract class AbstractCollectionPersister
 				.toStatementString();
 	}
 
+	/**
+	 * Generates the statement reading the elements of a collection in a stable order, to which a limit gets
+	 * applied: ordered by the mapped order-by, if any, then by the identifier of an id bag, or by the index or
+	 * element columns otherwise.
+	 *
+	 * @return The statement, or {@code null} if the elements or their order involve formulas, or if the mapped
+	 * order-by refers to columns of another table
+	 */
+	protected String generateSelectRowsString() {
+		final String[] orderColumns;
+		if ( hasIdentifier ) {
+			orderColumns = new String[] { identifierColumnName };
+		}
+		else if ( hasIndex() ) {
+			orderColumns = getIndexColumnNames();
+		}
+		else {
+			orderColumns = getElementColumnNames();
+		}
+		if ( !ArrayHelper.isAllTrue( elementColumnIsSettable ) || Arrays.asList( orderColumns ).contains( null ) ) {
+			return null;
+		}
+
+		String orderBy = String.join( ", ", orderColumns );
+		if ( hasOrder ) {
+			// the statement has no alias, so qualify the mapped order-by with the table name
+			final String tableName = getTableName();
+			final StandardOrderByAliasResolver aliasResolver = new StandardOrderByAliasResolver( tableName );
+			// the table of a subclass entity does not hold the columns it inherits, unless all share one table
+			final boolean[] singleTable = {
+					!tableName.startsWith( "(" )
+							&& ( elementPersister == null
+									|| isManyToMany()
+									|| !elementPersister.isInherited()
+									|| elementPersister instanceof SingleTableEntityPersister )
+			};
+			final String mappedOrderBy = orderByTranslation.injectAliases(
+					columnReference -> {
+						final String alias = aliasResolver.resolveTableAlias( columnReference );
+						if ( !tableName.equals( alias ) ) {
+							singleTable[0] = false;
+						}
+						return alias;
+					}
+			);
+			if ( !singleTable[0] ) {
+				return null;
+			}
+			// the columns of the stable order break the ties of the mapped one
+			orderBy = mappedOrderBy + ", " + orderBy;
+		}
+
+		return new SimpleSelect( dialect )
+				.setTableName( getTableName() )
+				.addCondition( getKeyColumnNames(), "=?" )
+				.addWhereToken( sqlWhereString )
+				.addColumns( getElementColumnNames(), elementColumnAliases )
+				.setOrderBy( " order by " + orderBy )
+				.toStatementString();
+	}
+
 	protected SelectFragment generateSelectFragment(String alias, String columnSuffix) {
 		return new SelectFragment()
 				.setSuffix( columnSuffix )
@@ -2054,6 +2160,187 @@ public abstract class AbstractCollectionPersister
 		}
 	}
 
+	@Override
+	public boolean elementsExist(
+			Serializable key,
+			java.util.Collection elements,
+			int batchSize,
+			SharedSessionContractImplementor session) {
+		// counting the matching rows only tells whether all elements exist if each element has one row at most
+		final boolean uniqueElements = isOneToMany() || getCollectionType() instanceof SetType;
+		if ( !uniqueElements || !ArrayHelper.isAllTrue( elementColumnIsSettable ) ) {
+			return SQLLoadableCollection.super.elementsExist( key, elements, batchSize, session );
+		}
+
+		final java.util.List<Object> batch = new ArrayList<>( batchSize );
+		for ( Object element : elements ) {
+			if ( element == null ) {
+				return false;
+			}
+			if ( !containsElement( batch, element ) ) {
+				batch.add( element );
+			}
+			if ( batch.size() == batchSize ) {
+				if ( !elementsExist( key, batch, session ) ) {
+					return false;
+				}
+				batch.clear();
+			}
+		}
+		return batch.isEmpty() || elementsExist( key, batch, session );
+	}
+
+	private boolean containsElement(java.util.List<Object> elements, Object element) {
+		for ( Object other : elements ) {
+			if ( getElementType().isEqual( other, element ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean elementsExist(Serializable key, java.util.List<Object> elements, SharedSessionContractImplementor session) {
+		final StringBuilder elementConditions = new StringBuilder( "(" );
+		final String elementCondition = "(" + String.join( "=? and ", getElementColumnNames() ) + "=?)";
+		for ( int i = 0; i < elements.size(); i++ ) {
+			if ( i > 0 ) {
+				elementConditions.append( " or " );
+			}
+			elementConditions.append( elementCondition );
+		}
+		elementConditions.append( ')' );
+		final String sql = new SimpleSelect( dialect )
+				.setTableName( getTableName() )
+				.addCondition( getKeyColumnNames(), "=?" )
+				.addWhereToken( elementConditions.toString() )
+				.addWhereToken( sqlWhereString )
+				.addColumn( "count(*)" )
+				.toStatementString();
+		try {
+			PreparedStatement st = session
+					.getJdbcCoordinator()
+					.getStatementPreparer()
+					.prepareStatement( sql );
+			try {
+				getKeyType().nullSafeSet( st, key, 1, session );
+				int col = keyColumnNames.length + 1;
+				for ( Object element : elements ) {
+					getElementType().nullSafeSet( st, element, col, session );
+					col += elementColumnNames.length;
+				}
+				ResultSet rs = session.getJdbcCoordinator().getResultSetReturn().extract( st );
+				try {
+					return rs.next() && rs.getInt( 1 ) == elements.size();
+				}
+				finally {
+					session.getJdbcCoordinator().getResourceRegistry().release( rs, st );
+				}
+			}
+			catch ( TransientObjectException e ) {
+				return false;
+			}
+			finally {
+				session.getJdbcCoordinator().getResourceRegistry().release( st );
+				session.getJdbcCoordinator().afterStatementExecution();
+			}
+		}
+		catch ( SQLException sqle ) {
+			throw getSQLExceptionHelper().convert(
+					sqle,
+					"could not check row existence: " +
+							MessageHelper.collectionInfoString( this, key, getFactory() ),
+					sql
+			);
+		}
+	}
+
+	@Override
+	public java.util.List getElements(
+			Serializable key,
+			int firstRow,
+			int maxRows,
+			SharedSessionContractImplementor session,
+			Object owner) {
+		if ( sqlSelectRowsString == null ) {
+			return null;
+		}
+
+		final RowSelection selection = new RowSelection();
+		selection.setFirstRow( firstRow );
+		selection.setMaxRows( maxRows );
+		final LimitHandler limitHandler = LimitHelper.useLimit( dialect.getLimitHandler(), selection )
+				? dialect.getLimitHandler()
+				: NoopLimitHandler.INSTANCE;
+		final String sql = limitHandler.processSql( sqlSelectRowsString, selection );
+
+		final java.util.List<Object> hydratedElements = new ArrayList<>( maxRows );
+		try {
+			PreparedStatement st = session
+					.getJdbcCoordinator()
+					.getStatementPreparer()
+					.prepareStatement( sql );
+			try {
+				int col = 1;
+				col += limitHandler.bindLimitParametersAtStartOfQuery( selection, st, col );
+				getKeyType().nullSafeSet( st, key, col, session );
+				col += keyColumnNames.length;
+				limitHandler.bindLimitParametersAtEndOfQuery( selection, st, col );
+				limitHandler.setMaxRows( selection, st );
+				if ( limitHandler == NoopLimitHandler.INSTANCE ) {
+					st.setMaxRows( firstRow + maxRows );
+				}
+
+				ResultSet rs = session.getJdbcCoordinator().getResultSetReturn().extract( st );
+				try {
+					if ( limitHandler == NoopLimitHandler.INSTANCE || !limitHandler.supportsLimitOffset() ) {
+						// step through the rows the statement could not skip
+						int skipped = 0;
+						while ( skipped < firstRow && rs.next() ) {
+							skipped++;
+						}
+					}
+					while ( rs.next() ) {
+						hydratedElements.add( getElementType().hydrate( rs, elementColumnAliases, session, owner ) );
+					}
+				}
+				finally {
+					session.getJdbcCoordinator().getResourceRegistry().release( rs, st );
+				}
+			}
+			finally {
+				session.getJdbcCoordinator().getResourceRegistry().release( st );
+				session.getJdbcCoordinator().afterStatementExecution();
+			}
+		}
+		catch ( SQLException sqle ) {
+			throw getSQLExceptionHelper().convert(
+					sqle,
+					"could not read rows: " +
+							MessageHelper.collectionInfoString( this, key, getFactory() ),
+					sql
+			);
+		}
+
+		// load the entities of the window together rather than one by one
+		if ( elementPersister != null && ( (EntityType) getElementType() ).isReferenceToPrimaryKey() ) {
+			final java.util.List<Serializable> ids = new ArrayList<>( hydratedElements.size() );
+			for ( Object hydratedElement : hydratedElements ) {
+				if ( hydratedElement != null ) {
+					ids.add( (Serializable) hydratedElement );
+				}
+			}
+			if ( !ids.isEmpty() ) {
+				elementPersister.multiLoad( ids.toArray( new Serializable[ids.size()] ), session, WINDOW_LOAD_OPTIONS );
+			}
+		}
+
+		final java.util.List<Object> elements = new ArrayList<>( hydratedElements.size() );
+		for ( Object hydratedElement : hydratedElements ) {
+			elements.add( getElementType().resolve( hydratedElement, session, owner ) );
+		}
+		return elements;
+	}
+
 	@Override
 	public boolean isExtraLazy() {
 		return isExtraLazy;
@@ -9,6 +9,8 @@ package org.hibernate.persister.collection;
 import java.io.Serializable;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.HibernateException;
@@ -314,6 +316,43 @@ public interface CollectionPersister extends CollectionDefinition {
 	boolean indexExists(Serializable key, Object index, SharedSessionContractImplementor session);
 	boolean elementExists(Serializable key, Object element, SharedSessionContractImplementor session);
 	Object getElementByIndex(Serializable key, Object index, SharedSessionContractImplementor session, Object owner);
+
+	/**
+	 * Does the collection contain all of the given elements?  Ideally checked with a single statement per
+	 * batch of elements.
+	 *
+	 * @param batchSize The maximum number of elements checked per statement
+	 */
+	default boolean elementsExist(
+			Serializable key,
+			Collection elements,
+			int batchSize,
+			SharedSessionContractImplementor session) {
+		for ( Object element : elements ) {
+			if ( !elementExists( key, element, session ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Read a window of the elements of the collection, in a stable order.
+	 *
+	 * @param firstRow The position of the first element to read, starting from 0
+	 * @param maxRows The maximum number of elements to read
+	 *
+	 * @return The elements, or {@code null} if this collection cannot be read by windows
+	 */
+	default List getElements(
+			Serializable key,
+			int firstRow,
+			int maxRows,
+			SharedSessionContractImplementor session,
+			Object owner) {
+		return null;
+	}
+
 	int getBatchSize();
 
 	/**
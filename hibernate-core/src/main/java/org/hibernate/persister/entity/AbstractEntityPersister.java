@@ -17,6 +17,7 @@ import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -52,9 +53,11 @@ import org.hibernate.cache.spi.entry.StructuredCacheEntry;
 import org.hibernate.cache.spi.entry.UnstructuredCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.identity.GetGeneratedKeysDelegate;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.internal.CacheHelper;
+import org.hibernate.engine.internal.Cascade;
 import org.hibernate.engine.internal.ImmutableEntityEntryFactory;
 import org.hibernate.engine.internal.MutableEntityEntryFactory;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
@@ -64,6 +67,7 @@ import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
 import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingAction;
 import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
@@ -72,6 +76,7 @@ import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.ExecuteUpdateResultCheckStyle;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.PersistenceContext.NaturalIdHelper;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -95,6 +100,7 @@ import org.hibernate.loader.entity.BatchingEntityLoaderBuilder;
 import org.hibernate.loader.entity.CascadeEntityLoader;
 import org.hibernate.loader.entity.DynamicBatchingEntityLoaderBuilder;
 import org.hibernate.loader.entity.EntityLoader;
+import org.hibernate.loader.entity.LoaderFootprint;
 import org.hibernate.loader.entity.UniqueEntityLoader;
 import org.hibernate.mapping.Column;
 import org.hibernate.mapping.Component;
@@ -165,6 +171,7 @@ public abstract class AbstractEntityPersister
 	private final boolean isLazyPropertiesCacheable;
 	private final CacheEntryHelper cacheEntryHelper;
 	private final EntityMetamodel entityMetamodel;
+	private final Map<CascadingAction, int[]> cascadePlans;
 	private final EntityTuplizer entityTuplizer;
 	private final EntityEntryFactory entityEntryFactory;
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -248,6 +255,10 @@ public abstract class AbstractEntityPersister
 	private String sqlVersionSelectString;
 	private String sqlSnapshotSelectString;
 	private Map<String,String> sqlLazySelectStringsByFetchGroup;
+	// indexed by batch size, generated on first use
+	private final Map<String,String[]> sqlLazyBatchSelectStringsByFetchGroup = new ConcurrentHashMap<>();
+	// by batch size, generated on first use
+	private final Map<Integer,String> sqlEntityIdsByNaturalIdsStrings = new ConcurrentHashMap<>();
 
 	private String sqlIdentityInsertString;
 	private String sqlUpdateByRowIdString;
@@ -273,6 +284,7 @@ public abstract class AbstractEntityPersister
 	protected ExecuteUpdateResultCheckStyle[] deleteResultCheckStyles;
 
 	private InsertGeneratedIdentifierDelegate identityDelegate;
+	private boolean identityInsertBatchable;
 
 	private boolean[] tableHasColumns;
 
@@ -555,6 +567,7 @@ public abstract class AbstractEntityPersister
 
 		this.entityMetamodel = new EntityMetamodel( persistentClass, this, factory );
 		this.entityTuplizer = this.entityMetamodel.getTuplizer();
+		this.cascadePlans = Cascade.buildCascadePlans( entityMetamodel.getPropertyTypes(), entityMetamodel.getCascadeStyles() );
 
 		if ( entityMetamodel.isMutable() ) {
 			this.entityEntryFactory = MutableEntityEntryFactory.INSTANCE;
@@ -978,53 +991,91 @@ public abstract class AbstractEntityPersister
 
 		final LazyAttributesMetadata lazyAttributesMetadata = enhancementMetadata.getLazyAttributesMetadata();
 		for ( String groupName : lazyAttributesMetadata.getFetchGroupNames() ) {
-			HashSet tableNumbers = new HashSet();
-			ArrayList columnNumbers = new ArrayList();
-			ArrayList formulaNumbers = new ArrayList();
-
-			for ( LazyAttributeDescriptor lazyAttributeDescriptor :
-					lazyAttributesMetadata.getFetchGroupAttributeDescriptors( groupName ) ) {
-				// all this only really needs to consider properties
-				// of this class, not its subclasses, but since we
-				// are reusing code used for sequential selects, we
-				// use the subclass closure
-				int propertyNumber = getSubclassPropertyIndex( lazyAttributeDescriptor.getName() );
-
-				int tableNumber = getSubclassPropertyTableNumber( propertyNumber );
-				tableNumbers.add( tableNumber );
-
-				int[] colNumbers = subclassPropertyColumnNumberClosure[propertyNumber];
-				for ( int colNumber : colNumbers ) {
-					if ( colNumber != -1 ) {
-						columnNumbers.add( colNumber );
-					}
-				}
-				int[] formNumbers = subclassPropertyFormulaNumberClosure[propertyNumber];
-				for ( int formNumber : formNumbers ) {
-					if ( formNumber != -1 ) {
-						formulaNumbers.add( formNumber );
-					}
-				}
-			}
-
-			if ( columnNumbers.size() == 0 && formulaNumbers.size() == 0 ) {
+			final String lazySelect = generateLazySelectString( groupName, 1 );
+			if ( lazySelect == null ) {
 				// only one-to-one is lazy fetched
 				continue;
 			}
 
-			result.put(
-					groupName,
-					renderSelect(
-							ArrayHelper.toIntArray( tableNumbers ),
-							ArrayHelper.toIntArray( columnNumbers ),
-							ArrayHelper.toIntArray( formulaNumbers )
-					)
-			);
+			result.put( groupName, lazySelect );
 		}
 
 		return result;
 	}
 
+	/**
+	 * The select of the lazy attributes of the given fetch group for a batch of the given number of identifiers,
+	 * at most the batch size of the entity.
+	 */
+	private String getSQLLazyBatchSelectString(String fetchGroup, int batchSize) {
+		final String[] lazySelects = sqlLazyBatchSelectStringsByFetchGroup.computeIfAbsent(
+				fetchGroup,
+				groupName -> new String[ this.batchSize + 1 ]
+		);
+		String lazySelect = lazySelects[batchSize];
+		if ( lazySelect == null ) {
+			// concurrent loads may both generate it, to the same string
+			lazySelect = generateLazySelectString( fetchGroup, batchSize );
+			lazySelects[batchSize] = lazySelect;
+		}
+		return lazySelect;
+	}
+
+	/**
+	 * Generates the select of the lazy attributes of the given fetch group, by identifier or, for a batch size
+	 * greater than one, by that many identifiers, in which case the identifier is selected too.
+	 *
+	 * @return the select, or {@code null} if only one-to-one is lazy fetched
+	 */
+	private String generateLazySelectString(String groupName, int batchSize) {
+		HashSet tableNumbers = new HashSet();
+		ArrayList columnNumbers = new ArrayList();
+		ArrayList formulaNumbers = new ArrayList();
+
+		for ( LazyAttributeDescriptor lazyAttributeDescriptor :
+				entityMetamodel.getBytecodeEnhancementMetadata().getLazyAttributesMetadata().getFetchGroupAttributeDescriptors( groupName ) ) {
+			// all this only really needs to consider properties
+			// of this class, not its subclasses, but since we
+			// are reusing code used for sequential selects, we
+			// use the subclass closure
+			int propertyNumber = getSubclassPropertyIndex( lazyAttributeDescriptor.getName() );
+
+			int tableNumber = getSubclassPropertyTableNumber( propertyNumber );
+			tableNumbers.add( tableNumber );
+
+			int[] colNumbers = subclassPropertyColumnNumberClosure[propertyNumber];
+			for ( int colNumber : colNumbers ) {
+				if ( colNumber != -1 ) {
+					columnNumbers.add( colNumber );
+				}
+			}
+			int[] formNumbers = subclassPropertyFormulaNumberClosure[propertyNumber];
+			for ( int formNumber : formNumbers ) {
+				if ( formNumber != -1 ) {
+					formulaNumbers.add( formNumber );
+				}
+			}
+		}
+
+		if ( columnNumbers.size() == 0 && formulaNumbers.size() == 0 ) {
+			return null;
+		}
+
+		if ( batchSize == 1 ) {
+			return renderSelect(
+					ArrayHelper.toIntArray( tableNumbers ),
+					ArrayHelper.toIntArray( columnNumbers ),
+					ArrayHelper.toIntArray( formulaNumbers )
+			);
+		}
+		return renderBatchSelect(
+				ArrayHelper.toIntArray( tableNumbers ),
+				ArrayHelper.toIntArray( columnNumbers ),
+				ArrayHelper.toIntArray( formulaNumbers ),
+				batchSize
+		);
+	}
+
 	public Object initializeLazyProperty(String fieldName, Object entity, SharedSessionContractImplementor session) {
 		final EntityEntry entry = session.getPersistenceContext().getEntry( entity );
 		final InterceptorImplementor interceptor = ( (PersistentAttributeInterceptable) entity ).$$_hibernate_getInterceptor();
@@ -1148,9 +1199,6 @@ public abstract class AbstractEntityPersister
 			throw new AssertionFailure( "no lazy properties" );
 		}
 
-		final InterceptorImplementor interceptor = ( (PersistentAttributeInterceptable) entity ).$$_hibernate_getInterceptor();
-		assert interceptor != null : "Expecting bytecode interceptor to be non-null";
-
 		LOG.trace( "Initializing lazy properties from datastore" );
 
 		final String fetchGroup = getEntityMetamodel().getBytecodeEnhancementMetadata()
@@ -1160,10 +1208,24 @@ public abstract class AbstractEntityPersister
 				.getLazyAttributesMetadata()
 				.getFetchGroupAttributeDescriptors( fetchGroup );
 
-		final Set<String> initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
-
 		final String lazySelect = getSQLLazySelectString( fetchGroup );
 
+		if ( lazySelect != null && isBatchLoadable() ) {
+			final Serializable[] ids = session.getPersistenceContext()
+					.getBatchFetchQueue()
+					.getLazyAttributesBatch( this, id, batchSize, fieldName );
+			if ( ids.length > 1 ) {
+				return initializeLazyPropertiesFromDatastore(
+						fieldName,
+						entity,
+						session,
+						ids,
+						fetchGroup,
+						fetchGroupAttributeDescriptors
+				);
+			}
+		}
+
 		try {
 			Object result = null;
 			PreparedStatement ps = null;
@@ -1181,75 +1243,174 @@ public abstract class AbstractEntityPersister
 						rs = session.getJdbcCoordinator().getResultSetReturn().extract( ps );
 						rs.next();
 					}
-					final Object[] snapshot = entry.getLoadedState();
-					for ( LazyAttributeDescriptor fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
-						final boolean previousInitialized = initializedLazyAttributeNames.contains( fetchGroupAttributeDescriptor.getName() );
-
-						if ( previousInitialized ) {
-							// todo : one thing we should consider here is potentially un-marking an attribute as dirty based on the selected value
-							// 		we know the current value - getPropertyValue( entity, fetchGroupAttributeDescriptor.getAttributeIndex() );
-							// 		we know the selected value (see selectedValue below)
-							//		we can use the attribute Type to tell us if they are the same
-							//
-							//		assuming entity is a SelfDirtinessTracker we can also know if the attribute is
-							//			currently considered dirty, and if really not dirty we would do the un-marking
-							//
-							//		of course that would mean a new method on SelfDirtinessTracker to allow un-marking
-
-							// its already been initialized (e.g. by a write) so we don't want to overwrite
-							continue;
-						}
+					result = initializeLazyProperties( fieldName, entity, session, entry, fetchGroupAttributeDescriptors, rs );
+				}
+				finally {
+					if ( rs != null ) {
+						session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( rs, ps );
+					}
+				}
+			}
+			finally {
+				if ( ps != null ) {
+					session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( ps );
+					session.getJdbcCoordinator().afterStatementExecution();
+				}
+			}
+
+			LOG.trace( "Done initializing lazy properties" );
+
+			return result;
+
+		}
+		catch (SQLException sqle) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					sqle,
+					"could not initialize lazy properties: " + MessageHelper.infoString( this, id, getFactory() ),
+					lazySelect
+			);
+		}
+	}
+
+	/**
+	 * Initializes the lazy properties of the given fetch group of the entity and of the other entities of the
+	 * batch of identifiers, the first one being the identifier of the entity, with one select.
+	 */
+	private Object initializeLazyPropertiesFromDatastore(
+			final String fieldName,
+			final Object entity,
+			final SharedSessionContractImplementor session,
+			final Serializable[] ids,
+			final String fetchGroup,
+			final List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors) {
 
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev(
+					"Batch initializing lazy properties of: {0}",
+					MessageHelper.infoString( this, ids, getFactory() )
+			);
+		}
 
-						final Object selectedValue = fetchGroupAttributeDescriptor.getType().nullSafeGet(
+		final String lazySelect = getSQLLazyBatchSelectString( fetchGroup, ids.length );
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+
+		try {
+			Object result = null;
+			PreparedStatement ps = session.getJdbcCoordinator()
+					.getStatementPreparer()
+					.prepareStatement( lazySelect );
+			try {
+				int position = 1;
+				for ( Serializable batchId : ids ) {
+					getIdentifierType().nullSafeSet( ps, batchId, position, session );
+					position += getIdentifierColumnSpan();
+				}
+				ResultSet rs = session.getJdbcCoordinator().getResultSetReturn().extract( ps );
+				try {
+					while ( rs.next() ) {
+						final Serializable rowId = (Serializable) getIdentifierType().nullSafeGet(
 								rs,
-								lazyPropertyColumnAliases[fetchGroupAttributeDescriptor.getLazyIndex()],
+								getIdentifierAliases(),
 								session,
-								entity
+								null
 						);
-
-						final boolean set = initializeLazyProperty(
+						final Object rowEntity = persistenceContext.getEntity( session.generateEntityKey( rowId, this ) );
+						final EntityEntry rowEntry = rowEntity == null ? null : persistenceContext.getEntry( rowEntity );
+						if ( rowEntry == null ) {
+							continue;
+						}
+						final Object value = initializeLazyProperties(
 								fieldName,
-								entity,
+								rowEntity,
 								session,
-								snapshot,
-								fetchGroupAttributeDescriptor.getLazyIndex(),
-								selectedValue
+								rowEntry,
+								fetchGroupAttributeDescriptors,
+								rs
 						);
-						if ( set ) {
-							result = selectedValue;
-							interceptor.attributeInitialized( fetchGroupAttributeDescriptor.getName() );
+						if ( rowEntity == entity ) {
+							result = value;
 						}
-
 					}
 				}
 				finally {
-					if ( rs != null ) {
-						session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( rs, ps );
-					}
+					session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( rs, ps );
 				}
 			}
 			finally {
-				if ( ps != null ) {
-					session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( ps );
-					session.getJdbcCoordinator().afterStatementExecution();
-				}
+				session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( ps );
+				session.getJdbcCoordinator().afterStatementExecution();
 			}
 
 			LOG.trace( "Done initializing lazy properties" );
 
 			return result;
-
 		}
 		catch (SQLException sqle) {
 			throw session.getJdbcServices().getSqlExceptionHelper().convert(
 					sqle,
-					"could not initialize lazy properties: " + MessageHelper.infoString( this, id, getFactory() ),
+					"could not initialize lazy properties: " + MessageHelper.infoString( this, ids, getFactory() ),
 					lazySelect
 			);
 		}
 	}
 
+	private Object initializeLazyProperties(
+			final String fieldName,
+			final Object entity,
+			final SharedSessionContractImplementor session,
+			final EntityEntry entry,
+			final List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors,
+			final ResultSet rs) throws SQLException {
+		final InterceptorImplementor interceptor = ( (PersistentAttributeInterceptable) entity ).$$_hibernate_getInterceptor();
+		assert interceptor != null : "Expecting bytecode interceptor to be non-null";
+
+		final Set<String> initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
+
+		Object result = null;
+		final Object[] snapshot = entry.getLoadedState();
+		for ( LazyAttributeDescriptor fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
+			final boolean previousInitialized = initializedLazyAttributeNames.contains( fetchGroupAttributeDescriptor.getName() );
+
+			if ( previousInitialized ) {
+				// todo : one thing we should consider here is potentially un-marking an attribute as dirty based on the selected value
+				// 		we know the current value - getPropertyValue( entity, fetchGroupAttributeDescriptor.getAttributeIndex() );
+				// 		we know the selected value (see selectedValue below)
+				//		we can use the attribute Type to tell us if they are the same
+				//
+				//		assuming entity is a SelfDirtinessTracker we can also know if the attribute is
+				//			currently considered dirty, and if really not dirty we would do the un-marking
+				//
+				//		of course that would mean a new method on SelfDirtinessTracker to allow un-marking
+
+				// its already been initialized (e.g. by a write) so we don't want to overwrite
+				continue;
+			}
+
+
+			final Object selectedValue = fetchGroupAttributeDescriptor.getType().nullSafeGet(
+					rs,
+					lazyPropertyColumnAliases[fetchGroupAttributeDescriptor.getLazyIndex()],
+					session,
+					entity
+			);
+
+			final boolean set = initializeLazyProperty(
+					fieldName,
+					entity,
+					session,
+					snapshot,
+					fetchGroupAttributeDescriptor.getLazyIndex(),
+					selectedValue
+			);
+			if ( set ) {
+				result = selectedValue;
+				interceptor.attributeInitialized( fetchGroupAttributeDescriptor.getName() );
+			}
+
+		}
+		return result;
+	}
+
 	private Object initializeLazyPropertiesFromCache(
 			final String fieldName,
 			final Object entity,
@@ -3651,6 +3812,54 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	@Override
+	public boolean isIdentityInsertBatchable() {
+		return identityInsertBatchable;
+	}
+
+	@Override
+	public Serializable[] insert(Object[][] fields, Object[] objects, SharedSessionContractImplementor session)
+			throws HibernateException {
+		if ( !identityInsertBatchable ) {
+			return PostInsertIdentityPersister.super.insert( fields, objects, session );
+		}
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Inserting {0} entities: {1} (native id, batched)", objects.length, getEntityName() );
+		}
+
+		final List<Binder> binders = new ArrayList<>( objects.length );
+		for ( int i = 0; i < objects.length; i++ ) {
+			final Object[] entityFields = fields[i];
+			final Object object = objects[i];
+			// apply any pre-insert in-memory value generation
+			preInsertInMemoryValueGeneration( entityFields, object, session );
+			binders.add(
+					new Binder() {
+						public void bindValues(PreparedStatement ps) throws SQLException {
+							dehydrate( null, entityFields, getPropertyInsertability(), propertyColumnInsertable, 0, ps, session, false );
+						}
+
+						public Object getEntity() {
+							return object;
+						}
+					}
+			);
+		}
+
+		final Serializable[] ids = ( (GetGeneratedKeysDelegate) identityDelegate ).performBatchedInsert(
+				getSQLIdentityInsertString(),
+				session,
+				binders
+		);
+		for ( int j = 1; j < getTableSpan(); j++ ) {
+			for ( int i = 0; i < objects.length; i++ ) {
+				insert( ids[i], fields[i], getPropertyInsertability(), j, getSQLInsertStrings()[j], objects[i], session );
+			}
+		}
+		return ids;
+	}
+
 	public Serializable insert(Object[] fields, Object object, SharedSessionContractImplementor session)
 			throws HibernateException {
 		// apply any pre-insert in-memory value generation
@@ -4070,6 +4279,43 @@ public abstract class AbstractEntityPersister
 		return select.toStatementString();
 	}
 
+	private String renderBatchSelect(
+			final int[] tableNumbers,
+			final int[] columnNumbers,
+			final int[] formulaNumbers,
+			final int batchSize) {
+
+		Arrays.sort( tableNumbers );
+
+		int drivingTable = tableNumbers[0];
+		final String drivingAlias = generateTableAlias( getRootAlias(), drivingTable );
+		final String[] keyColumns = getSubclassTableKeyColumns( drivingTable );
+		final String where = renderKeyRestrictions(
+				Arrays.asList( StringHelper.qualify( drivingAlias, keyColumns ) ),
+				batchSize
+		);
+		final String from = createFrom( drivingTable, drivingAlias );
+
+		JoinFragment jf = createJoin( tableNumbers, drivingAlias );
+
+		// the identifier is selected to tell which entity each row belongs to
+		SelectFragment selectFragment = new SelectFragment()
+				.addColumns( drivingAlias, keyColumns, getIdentifierAliases() );
+
+		Select select = new Select( getFactory().getDialect() );
+		select.setSelectClause(
+				selectFragment.toFragmentString().substring( 2 )
+						+ createSelect( columnNumbers, formulaNumbers ).toFragmentString()
+		);
+		select.setFromClause( from );
+		select.setWhereClause( where );
+		select.setOuterJoins( jf.toFromFragmentString(), jf.toWhereFragmentString() );
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			select.setComment( "sequential batch select " + getEntityName() );
+		}
+		return select.toStatementString();
+	}
+
 	private String getRootAlias() {
 		return StringHelper.generateAlias( getEntityName() );
 	}
@@ -4141,6 +4387,12 @@ public abstract class AbstractEntityPersister
 			sqlIdentityInsertString = customSQLInsert[0] == null
 					? generateIdentityInsertString( getPropertyInsertability() )
 					: substituteBrackets( customSQLInsert[0] );
+			identityInsertBatchable = getFactory().getSessionFactoryOptions().isIdentityInsertBatchingEnabled()
+					&& identityDelegate instanceof GetGeneratedKeysDelegate
+					&& getFactory().getDialect().getIdentityColumnSupport().supportsBatchedGetGeneratedKeys()
+					&& customSQLInsert[0] == null
+					&& !entityMetamodel.isDynamicInsert()
+					&& !hasNaturalIdentifier();
 		}
 		else {
 			sqlIdentityInsertString = null;
@@ -4193,16 +4445,30 @@ public abstract class AbstractEntityPersister
 		}
 
 
-		// And finally, create the internal merge and refresh load plans
+		// And finally, create the internal merge and refresh load plans, unless they are lazily loaded
+		//		as well (see #getLoaderByInternalFetchProfile)
+		if ( ! factory.getSessionFactoryOptions().isDelayBatchFetchLoaderCreationsEnabled() ) {
+			loaders.put( "merge", createCascadeEntityLoader( "merge" ) );
+			loaders.put( "refresh", createCascadeEntityLoader( "refresh" ) );
+		}
+	}
 
-		loaders.put(
-				"merge",
-				new CascadeEntityLoader( this, CascadingActions.MERGE, getFactory() )
-		);
-		loaders.put(
-				"refresh",
-				new CascadeEntityLoader( this, CascadingActions.REFRESH, getFactory() )
-		);
+	private UniqueEntityLoader getLoaderByInternalFetchProfile(String internalFetchProfile) {
+		return loaders.computeIfAbsent( internalFetchProfile, this::generateDelayedEntityLoader );
+	}
+
+	private UniqueEntityLoader createCascadeEntityLoader(String internalFetchProfile) {
+		switch ( internalFetchProfile ) {
+			case "merge": {
+				return new CascadeEntityLoader( this, CascadingActions.MERGE, getFactory() );
+			}
+			case "refresh": {
+				return new CascadeEntityLoader( this, CascadingActions.REFRESH, getFactory() );
+			}
+			default: {
+				return null;
+			}
+		}
 	}
 
 	protected final UniqueEntityLoader getLoaderByLockMode(LockMode lockMode) {
@@ -4218,7 +4484,10 @@ public abstract class AbstractEntityPersister
 
 	private UniqueEntityLoader generateDelayedEntityLoader(Object lockModeObject) {
 		// Unfortunately, the loaders map mixes LockModes and Strings as keys so we need to accept an Object.
-		// The cast is safe as we will always call this method with a LockMode.
+		// The Strings are the names of the internal fetch profiles.
+		if ( lockModeObject instanceof String ) {
+			return createCascadeEntityLoader( (String) lockModeObject );
+		}
 		LockMode lockMode = (LockMode) lockModeObject;
 
 		switch ( lockMode ) {
@@ -4248,6 +4517,59 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	/**
+	 * Reports the loaders built so far for this entity, along with the SQL strings they and this
+	 * persister retain.  Loaders which are lazily created (see
+	 * {@link org.hibernate.cfg.AvailableSettings#DELAY_ENTITY_LOADER_CREATIONS}) are only accounted
+	 * for once they have been used.
+	 *
+	 * @return The footprint
+	 */
+	public LoaderFootprint getLoaderFootprint() {
+		final LoaderFootprint footprint = new LoaderFootprint( getEntityName() );
+
+		// the same loader may be registered for several lock modes
+		final Set<UniqueEntityLoader> builtLoaders = Collections.newSetFromMap( new IdentityHashMap<>() );
+		if ( noneLockLoader != null ) {
+			builtLoaders.add( noneLockLoader );
+		}
+		if ( readLockLoader != null ) {
+			builtLoaders.add( readLockLoader );
+		}
+		builtLoaders.addAll( loaders.values() );
+		for ( Object uniqueKeyLoader : uniqueKeyLoaders.values() ) {
+			builtLoaders.add( (UniqueEntityLoader) uniqueKeyLoader );
+		}
+		for ( UniqueEntityLoader loader : builtLoaders ) {
+			loader.collectFootprint( footprint );
+		}
+
+		footprint.addSqlString( sqlVersionSelectString );
+		footprint.addSqlString( sqlSnapshotSelectString );
+		if ( sqlLazySelectStringsByFetchGroup != null ) {
+			sqlLazySelectStringsByFetchGroup.values().forEach( footprint::addSqlString );
+		}
+		footprint.addSqlString( sqlIdentityInsertString );
+		footprint.addSqlString( sqlUpdateByRowIdString );
+		footprint.addSqlString( sqlLazyUpdateByRowIdString );
+		addSqlStrings( footprint, sqlDeleteStrings );
+		addSqlStrings( footprint, sqlInsertStrings );
+		addSqlStrings( footprint, sqlUpdateStrings );
+		addSqlStrings( footprint, sqlLazyUpdateStrings );
+		footprint.addSqlString( sqlInsertGeneratedValuesSelectString );
+		footprint.addSqlString( sqlUpdateGeneratedValuesSelectString );
+
+		return footprint;
+	}
+
+	private static void addSqlStrings(LoaderFootprint footprint, String[] sqlStrings) {
+		if ( sqlStrings != null ) {
+			for ( String sqlString : sqlStrings ) {
+				footprint.addSqlString( sqlString );
+			}
+		}
+	}
+
 	protected void createQueryLoader() {
 		if ( loaderName != null ) {
 			queryLoader = new NamedQueryLoader( loaderName, this );
@@ -4326,7 +4648,7 @@ public abstract class AbstractEntityPersister
 			// Next, we consider whether an 'internal' fetch profile has been set.
 			// This indicates a special fetch profile Hibernate needs applied
 			// (for its merge loading process e.g.).
-			return loaders.get( session.getLoadQueryInfluencers().getInternalFetchProfile() );
+			return getLoaderByInternalFetchProfile( session.getLoadQueryInfluencers().getInternalFetchProfile() );
 		}
 		else if ( isAffectedByEnabledFetchProfiles( session ) ) {
 			// If the session has associated influencers we need to adjust the
@@ -4543,6 +4865,11 @@ public abstract class AbstractEntityPersister
 		return entityMetamodel.hasCascades();
 	}
 
+	@Override
+	public int[] getCascadingPropertyIndexes(CascadingAction action) {
+		return cascadePlans.get( action );
+	}
+
 	public boolean hasIdentifierProperty() {
 		return !entityMetamodel.getIdentifierProperty().isVirtual();
 	}
@@ -4836,6 +5163,17 @@ public abstract class AbstractEntityPersister
 	@Override
 	public void afterInitialize(Object entity, SharedSessionContractImplementor session) {
 		getEntityTuplizer().afterInitialize( entity, session );
+
+		if ( isBatchLoadable() && hasLazyProperties() && entity instanceof PersistentAttributeInterceptable ) {
+			final LazyAttributeLoadingInterceptor interceptor = getEntityMetamodel().getBytecodeEnhancementMetadata()
+					.extractInterceptor( entity );
+			final EntityEntry entry = session.getPersistenceContext().getEntry( entity );
+			if ( interceptor != null && interceptor.hasAnyUninitializedAttributes() && entry != null ) {
+				// the lazy attributes of the entity may then be loaded in a batch with those of its siblings
+				session.getPersistenceContext().getBatchFetchQueue()
+						.addBatchLoadableLazyAttributesEntityKey( entry.getEntityKey() );
+			}
+		}
 	}
 
 	public String[] getPropertyNames() {
@@ -5320,6 +5658,137 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	@Override
+	public Serializable[] loadEntityIdsByNaturalIds(
+			Object[][] naturalIdValues,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		final Serializable[] ids = new Serializable[naturalIdValues.length];
+
+		// natural ids with null values need their own "is null" restrictions, resolve them one by one
+		final List<Integer> batchPositions = new ArrayList<>( naturalIdValues.length );
+		for ( int i = 0; i < naturalIdValues.length; i++ ) {
+			if ( ArrayHelper.isAllFalse( determineValueNullness( naturalIdValues[i] ) ) ) {
+				batchPositions.add( i );
+			}
+			else {
+				ids[i] = loadEntityIdByNaturalId( naturalIdValues[i], lockOptions, session );
+			}
+		}
+		if ( batchPositions.isEmpty() ) {
+			return ids;
+		}
+		if ( batchPositions.size() == 1 ) {
+			final int position = batchPositions.get( 0 );
+			ids[position] = loadEntityIdByNaturalId( naturalIdValues[position], lockOptions, session );
+			return ids;
+		}
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracef(
+					"Resolving %s natural-ids to ids : %s ",
+					batchPositions.size(),
+					MessageHelper.infoString( this )
+			);
+		}
+
+		final int[] naturalIdPropertyIndexes = getNaturalIdentifierProperties();
+		final Type[] propertyTypes = getPropertyTypes();
+		// only the statements without lock are cached, the others depend on the lock options
+		final String sql = getFactory().getDialect().getForUpdateString( lockOptions ).isEmpty()
+				? sqlEntityIdsByNaturalIdsStrings.computeIfAbsent(
+						batchPositions.size(),
+						batchSize -> generateEntityIdsByNaturalIdsSql( batchSize, null )
+				)
+				: generateEntityIdsByNaturalIdsSql( batchPositions.size(), lockOptions );
+		try {
+			PreparedStatement ps = session
+					.getJdbcCoordinator()
+					.getStatementPreparer()
+					.prepareStatement( sql );
+			try {
+				int positions = 1;
+				for ( int position : batchPositions ) {
+					int loop = 0;
+					for ( int idPosition : naturalIdPropertyIndexes ) {
+						final Type type = propertyTypes[idPosition];
+						type.nullSafeSet( ps, naturalIdValues[position][loop++], positions, session );
+						positions += type.getColumnSpan( session.getFactory() );
+					}
+				}
+				ResultSet rs = session.getJdbcCoordinator().getResultSetReturn().extract( ps );
+				boolean unmatchedRows = false;
+				try {
+					while ( rs.next() ) {
+						final Object hydratedId = getIdentifierType().hydrate( rs, getIdentifierAliases(), session, null );
+						final Serializable id = (Serializable) getIdentifierType().resolve( hydratedId, session, null );
+
+						final Object[] rowNaturalIdValues = new Object[naturalIdPropertyIndexes.length];
+						for ( int i = 0; i < naturalIdPropertyIndexes.length; i++ ) {
+							final int idPosition = naturalIdPropertyIndexes[i];
+							rowNaturalIdValues[i] = propertyTypes[idPosition].nullSafeGet(
+									rs,
+									getPropertyAliases( "", idPosition ),
+									session,
+									null
+							);
+						}
+
+						// the same natural id may have been requested more than once
+						boolean matched = false;
+						for ( int position : batchPositions ) {
+							if ( isSameNaturalId( naturalIdValues[position], rowNaturalIdValues ) ) {
+								ids[position] = id;
+								matched = true;
+							}
+						}
+						unmatchedRows = unmatchedRows || !matched;
+					}
+				}
+				finally {
+					session.getJdbcCoordinator().getResourceRegistry().release( rs, ps );
+				}
+
+				if ( unmatchedRows ) {
+					// the database compares the values differently (e.g. case insensitive or blank padded collation):
+					// let it match the natural ids left unresolved one by one
+					for ( int position : batchPositions ) {
+						if ( ids[position] == null ) {
+							ids[position] = loadEntityIdByNaturalId( naturalIdValues[position], lockOptions, session );
+						}
+					}
+				}
+				return ids;
+			}
+			finally {
+				session.getJdbcCoordinator().getResourceRegistry().release( ps );
+				session.getJdbcCoordinator().afterStatementExecution();
+			}
+		}
+		catch (SQLException e) {
+			throw getFactory().getSQLExceptionHelper().convert(
+					e,
+					String.format(
+							"could not resolve %s natural-ids to ids : %s",
+							batchPositions.size(),
+							MessageHelper.infoString( this )
+					),
+					sql
+			);
+		}
+	}
+
+	private boolean isSameNaturalId(Object[] naturalIdValues, Object[] otherNaturalIdValues) {
+		final int[] naturalIdPropertyIndexes = getNaturalIdentifierProperties();
+		for ( int i = 0; i < naturalIdPropertyIndexes.length; i++ ) {
+			final Type type = getPropertyTypes()[naturalIdPropertyIndexes[i]];
+			if ( !type.isEqual( naturalIdValues[i], otherNaturalIdValues[i], getFactory() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private boolean[] determineValueNullness(Object[] naturalIdValues) {
 		boolean[] nullness = new boolean[naturalIdValues.length];
 		for ( int i = 0; i < naturalIdValues.length; i++ ) {
@@ -5418,6 +5887,87 @@ public abstract class AbstractEntityPersister
 		return select.setOuterJoins( "", "" ).setWhereClause( whereClause.toString() ).toStatementString();
 	}
 
+	/**
+	 * Generates the SQL resolving the ids of several entities by their (non-null) natural ids at once.
+	 * The natural id columns are selected as well, to match the rows with the requested natural ids
+	 * through {@link Type#isEqual}; when some rows match none of them that way, the natural ids left
+	 * unresolved are resolved one by one by {@link #loadEntityIdByNaturalId}.
+	 * Multi-column natural ids are restricted with a row value constructor "in" list when the Dialect
+	 * supports it, otherwise with a disjunction of the restrictions on each natural id.
+	 */
+	private String generateEntityIdsByNaturalIdsSql(int batchSize, LockOptions lockOptions) {
+		EntityPersister rootPersister = getFactory().getEntityPersister( getRootEntityName() );
+		if ( rootPersister != this ) {
+			if ( rootPersister instanceof AbstractEntityPersister ) {
+				return ( (AbstractEntityPersister) rootPersister ).generateEntityIdsByNaturalIdsSql( batchSize, lockOptions );
+			}
+		}
+
+		Select select = new Select( getFactory().getDialect() );
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			select.setComment( "get current natural-id->entity-id state " + getEntityName() );
+		}
+		if ( lockOptions != null ) {
+			select.setLockOptions( lockOptions );
+		}
+
+		final String rootAlias = getRootAlias();
+		final int[] propertyTableNumbers = getPropertyTableNumbers();
+		final int[] naturalIdPropertyIndexes = this.getNaturalIdentifierProperties();
+
+		final SelectFragment naturalIdSelectFragment = new SelectFragment();
+		final List<String> aliasedColumns = new ArrayList<>();
+		for ( int naturalIdIdx : naturalIdPropertyIndexes ) {
+			final String tableAlias = generateTableAlias( rootAlias, propertyTableNumbers[naturalIdIdx] );
+			naturalIdSelectFragment.addColumns( tableAlias, getPropertyColumnNames( naturalIdIdx ), propertyColumnAliases[naturalIdIdx] );
+			aliasedColumns.addAll( Arrays.asList( StringHelper.qualify( tableAlias, getPropertyColumnNames( naturalIdIdx ) ) ) );
+		}
+
+		select.setSelectClause( identifierSelectFragment( rootAlias, "" ) + naturalIdSelectFragment.toFragmentString() );
+		select.setFromClause( fromTableFragment( rootAlias ) + fromJoinFragment( rootAlias, true, false ) );
+
+		final StringBuilder whereClause = new StringBuilder( renderKeyRestrictions( aliasedColumns, batchSize ) );
+
+		whereClause.append( whereJoinFragment( getRootAlias(), true, false ) );
+
+		return select.setOuterJoins( "", "" ).setWhereClause( whereClause.toString() ).toStatementString();
+	}
+
+	/**
+	 * Renders the restriction of the given columns to {@code batchSize} values, each bound as a parameter.
+	 */
+	private String renderKeyRestrictions(List<String> aliasedColumns, int batchSize) {
+		final StringBuilder whereClause = new StringBuilder();
+		if ( aliasedColumns.size() == 1 ) {
+			whereClause.append( aliasedColumns.get( 0 ) ).append( " in (" )
+					.append( StringHelper.repeat( "?", batchSize, ", " ) )
+					.append( ')' );
+		}
+		else if ( getFactory().getDialect().supportsRowValueConstructorSyntaxInInList() ) {
+			final String tuple = StringHelper.repeat( "?", aliasedColumns.size(), ", " );
+			whereClause.append( '(' ).append( String.join( ", ", aliasedColumns ) ).append( ") in (" );
+			for ( int i = 0; i < batchSize; i++ ) {
+				if ( i > 0 ) {
+					whereClause.append( ", " );
+				}
+				whereClause.append( '(' ).append( tuple ).append( ')' );
+			}
+			whereClause.append( ')' );
+		}
+		else {
+			final String restriction = '(' + String.join( "=? and ", aliasedColumns ) + "=?)";
+			whereClause.append( '(' );
+			for ( int i = 0; i < batchSize; i++ ) {
+				if ( i > 0 ) {
+					whereClause.append( " or " );
+				}
+				whereClause.append( restriction );
+			}
+			whereClause.append( ')' );
+		}
+		return whereClause.toString();
+	}
+
 	protected String concretePropertySelectFragmentSansLeadingComma(String alias, boolean[] include) {
 		String concretePropertySelectFragment = concretePropertySelectFragment( alias, include );
 		int firstComma = concretePropertySelectFragment.indexOf( ", " );
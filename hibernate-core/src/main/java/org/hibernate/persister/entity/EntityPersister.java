@@ -21,6 +21,7 @@ import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingAction;
 import org.hibernate.engine.spi.EntityEntryFactory;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -354,6 +355,22 @@ public interface EntityPersister extends EntityDefinition {
 			Object[] naturalIdValues, LockOptions lockOptions,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Load the ids for several entities based on their natural ids, ideally in a single statement.
+	 *
+	 * @return The ids, positional to the given natural ids; {@code null} where no entity matches
+	 */
+	default Serializable[] loadEntityIdsByNaturalIds(
+			Object[][] naturalIdValues,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		final Serializable[] ids = new Serializable[naturalIdValues.length];
+		for ( int i = 0; i < naturalIdValues.length; i++ ) {
+			ids[i] = loadEntityIdByNaturalId( naturalIdValues[i], lockOptions, session );
+		}
+		return ids;
+	}
+
 	/**
 	 * Load an instance of the persistent class.
 	 */
@@ -812,6 +829,17 @@ public interface EntityPersister extends EntityDefinition {
 
 	boolean canUseReferenceCacheEntries();
 
+	/**
+	 * The indexes of the properties the given action has to visit when cascading from an entity of this type.
+	 *
+	 * @return The property indexes, or {@code null} if all properties have to be visited
+	 *
+	 * @see org.hibernate.engine.internal.Cascade#buildCascadePlans
+	 */
+	default int[] getCascadingPropertyIndexes(CascadingAction action) {
+		return null;
+	}
+
 	/**
 	 * @deprecated Since 5.4.1, this is no longer used.
 	 */
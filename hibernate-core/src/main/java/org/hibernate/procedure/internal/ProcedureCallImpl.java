@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 import javax.persistence.FlushModeType;
 import javax.persistence.LockModeType;
 import javax.persistence.NoResultException;
@@ -785,6 +786,11 @@ public class ProcedureCallImpl<R>
 		throw new IllegalStateException( "javax.persistence.Query.getHibernateFlushMode not valid on javax.persistence.StoredProcedureQuery" );
 	}
 
+	@Override
+	public Stream<R> partitionedStream(String partitionPath, int partitionCount) {
+		throw new IllegalStateException( "Illegal attempt to partition the results of a stored procedure call" );
+	}
+
 	@Override
 	public ProcedureCallImplementor<R> setHint(String hintName, Object value) {
 		super.setHint( hintName, value );
@@ -93,6 +93,40 @@ public interface Query<R> extends TypedQuery<R>, org.hibernate.Query<R>, CommonQ
 	 */
 	Stream<R> stream();
 
+	/**
+	 * Retrieve the query results as a parallel <tt>Stream</tt>, scanning the results in key-range
+	 * partitions.  The range of values of the given numeric path (typically an identifier) is read
+	 * first and split into the given number of partitions, each of which is then executed against
+	 * its own stateless session - and so its own JDBC connection - as the stream is consumed.
+	 * <p/>
+	 * The entities returned are not associated with this query's session.  The filters enabled on
+	 * this query's session are applied to each partition.  The order of the results across
+	 * partitions is unspecified.
+	 * <p/>
+	 * The bounds and the partitions are read through stateless sessions, on connections other than
+	 * the one of this query's session: they only see committed data.  A session with changes not
+	 * flushed yet is rejected; changes flushed but not committed are not seen.
+	 * <p/>
+	 * The partitions still open are closed once a terminal operation completes, or when
+	 * {@link java.util.stream.Stream#close()} is called.
+	 *
+	 * @param partitionPath The path of the integral attribute to partition the scan on, qualified
+	 * by its alias in the query (for example {@code "e.id"})
+	 * @param partitionCount The number of partitions
+	 *
+	 * @return The results Stream
+	 *
+	 * @throws IllegalStateException If called for a native SQL query, a stored procedure call or a
+	 * collection filter, for a query with a first result or a maximum number of results, or for a query
+	 * of a session with changes not flushed.  Only HQL/JPQL queries can be partitioned.
+	 * @throws org.hibernate.QueryException If the query has a group by clause or fetch joins
+	 *
+	 * @since 5.4.2
+	 */
+	default Stream<R> partitionedStream(String partitionPath, int partitionCount) {
+		throw new IllegalStateException( "Illegal attempt to partition the results of query [" + getQueryString() + "]" );
+	}
+
 	/**
 	 * Apply the given graph using the given semantic
 	 *
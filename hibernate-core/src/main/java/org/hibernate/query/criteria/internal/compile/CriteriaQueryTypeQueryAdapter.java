@@ -91,6 +91,11 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		return jpqlQuery.stream();
 	}
 
+	@Override
+	public Stream<X> partitionedStream(String partitionPath, int partitionCount) {
+		return jpqlQuery.partitionedStream( partitionPath, partitionCount );
+	}
+
 	@Override
 	public List<X> list() {
 		return jpqlQuery.list();
@@ -52,6 +52,7 @@ import org.hibernate.engine.query.spi.HQLQueryPlan;
 import org.hibernate.engine.spi.ExceptionConverter;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.TypedValue;
 import org.hibernate.graph.GraphSemantic;
@@ -886,6 +887,10 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		return this;
 	}
 
+	protected ResultTransformer getResultTransformer() {
+		return resultTransformer;
+	}
+
 	@Override
 	public RowSelection getQueryOptions() {
 		return queryOptions;
@@ -1399,8 +1404,21 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		return queryParameters;
 	}
 
+	/**
+	 * Expand the multi-valued parameters of the query for its execution.
+	 *
+	 * @return The query string to execute
+	 */
+	protected String expandListValuedParameters() {
+		return getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() );
+	}
+
+	protected boolean hasEntityGraphQueryHint() {
+		return entityGraphQueryHint != null;
+	}
+
 	public QueryParameters getQueryParameters() {
-		final String expandedQuery = getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() );
+		final String expandedQuery = expandListValuedParameters();
 		return makeQueryParametersForExecution( expandedQuery );
 	}
 
@@ -1469,7 +1487,7 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 			return Collections.emptyIterator();
 		}
 		return getProducer().iterate(
-				getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() ),
+				expandListValuedParameters(),
 				getQueryParameters()
 		);
 	}
@@ -1494,7 +1512,7 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		if (getMaxResults() == 0){
 			return EmptyScrollableResults.INSTANCE;
 		}
-		final String query = getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() );
+		final String query = expandListValuedParameters();
 		QueryParameters queryParameters = makeQueryParametersForExecution( query );
 		queryParameters.setScrollMode( scrollMode );
 		return getProducer().scroll( query, queryParameters );
@@ -1507,14 +1525,38 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 			final Spliterator<R> spliterator = Spliterators.emptySpliterator();
 			return StreamSupport.stream( spliterator, false );
 		}
-		final ScrollableResultsImplementor scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
-		final ScrollableResultsIterator<R> iterator = new ScrollableResultsIterator<>( scrollableResults );
+		final boolean streaming = getProducer().getFactory().getSessionFactoryOptions().isQueryStreamingEnabled();
+
+		final ScrollableResultsImplementor scrollableResults = streaming
+				? scrollWithStreamingFetchSize()
+				: scroll( ScrollMode.FORWARD_ONLY );
+		final ScrollableResultsIterator<R> iterator = new ScrollableResultsIterator<>(
+				scrollableResults,
+				streaming && getProducer() instanceof SessionImplementor ? (SessionImplementor) getProducer() : null
+		);
 		final Spliterator<R> spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
-		final Stream<R> stream = StreamSupport.stream( spliterator, false );
-		stream.onClose( scrollableResults::close );
+		return new StreamDecorator<>( StreamSupport.stream( spliterator, false ), scrollableResults::close );
+	}
+
+	/**
+	 * Scroll through the results applying the Dialect's streaming fetch size, unless a fetch size was
+	 * explicitly set on this query.
+	 */
+	private ScrollableResultsImplementor scrollWithStreamingFetchSize() {
+		final int streamingFetchSize = getProducer().getJdbcServices().getJdbcEnvironment().getDialect()
+				.getDefaultStreamingFetchSize();
+		if ( queryOptions.getFetchSize() != null || streamingFetchSize == 0 ) {
+			return scroll( ScrollMode.FORWARD_ONLY );
+		}
 
-		return stream;
+		queryOptions.setFetchSize( streamingFetchSize );
+		try {
+			return scroll( ScrollMode.FORWARD_ONLY );
+		}
+		finally {
+			queryOptions.setFetchSize( null );
+		}
 	}
 
 	@Override
@@ -1557,7 +1599,7 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 			}
 		}
 
-		final String expandedQuery = getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() );
+		final String expandedQuery = expandListValuedParameters();
 		return getProducer().list(
 				expandedQuery,
 				makeQueryParametersForExecution( expandedQuery )
@@ -19,6 +19,7 @@ import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 import javax.persistence.FlushModeType;
 import javax.persistence.LockModeType;
 import javax.persistence.Parameter;
@@ -271,7 +272,7 @@ public class NativeQueryImpl<T> extends AbstractProducedQuery<T> implements Nati
 	}
 
 	private boolean shouldFlush() {
-		if ( getProducer().isTransactionInProgress() ) {
+		if ( getProducer().isTransactionInProgress() && !getProducer().getPersistenceContext().isReadOnlySession() ) {
 			FlushMode effectiveFlushMode = getHibernateFlushMode();
 			if ( effectiveFlushMode == null ) {
 				effectiveFlushMode = getProducer().getHibernateFlushMode();
@@ -547,6 +548,11 @@ public class NativeQueryImpl<T> extends AbstractProducedQuery<T> implements Nati
 		throw new IllegalStateException( "Illegal attempt to set lock mode on a native SQL query" );
 	}
 
+	@Override
+	public Stream<T> partitionedStream(String partitionPath, int partitionCount) {
+		throw new IllegalStateException( "Illegal attempt to partition the results of a native SQL query" );
+	}
+
 	@Override
 	public NativeQueryImplementor<T> setComment(String comment) {
 		super.setComment( comment );
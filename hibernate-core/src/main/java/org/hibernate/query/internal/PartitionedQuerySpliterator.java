@@ -0,0 +1,412 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+import org.hibernate.Filter;
+import org.hibernate.QueryException;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.Query;
+
+/**
+ * Spliterator over the results of a query executed in key-range partitions, each partition being
+ * scrolled through its own {@link StatelessSession}.  Splitting hands over half of the partitions not
+ * yet started to the new spliterator, so that a parallel stream reads several partitions at once.
+ *
+ * @see Query#partitionedStream(String, int)
+ *
+ * @since 5.4.2
+ */
+class PartitionedQuerySpliterator<R> implements Spliterator<R> {
+	static final String LOWER_BOUND_PARAMETER = "hibernate_partition_lower_bound";
+	static final String UPPER_BOUND_PARAMETER = "hibernate_partition_upper_bound";
+
+	/**
+	 * An inclusive range of values of the partition path.
+	 */
+	static class Partition {
+		private final Object lowerBound;
+		private final Object upperBound;
+
+		Partition(Object lowerBound, Object upperBound) {
+			this.lowerBound = lowerBound;
+			this.upperBound = upperBound;
+		}
+	}
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final String tenantIdentifier;
+	private final Map<String, Map<String, ?>> enabledFilters;
+	private final String partitionQueryString;
+	private final Consumer<Query> queryPreparer;
+	private final List<Partition> partitions;
+	// shared with the spliterators split off this one, so that closing the stream closes them all
+	private final Queue<StatelessSession> openSessions;
+
+	private int nextPartition;
+	private int endPartition;
+
+	private StatelessSession session;
+	private ScrollableResults results;
+
+	/**
+	 * @param enabledFilters The parameter values of the filters to enable in the session of each partition,
+	 * by filter name
+	 */
+	PartitionedQuerySpliterator(
+			SessionFactoryImplementor sessionFactory,
+			String tenantIdentifier,
+			Map<String, Map<String, ?>> enabledFilters,
+			String partitionQueryString,
+			Consumer<Query> queryPreparer,
+			List<Partition> partitions) {
+		this(
+				sessionFactory,
+				tenantIdentifier,
+				enabledFilters,
+				partitionQueryString,
+				queryPreparer,
+				partitions,
+				new ConcurrentLinkedQueue<>(),
+				0,
+				partitions.size()
+		);
+	}
+
+	private PartitionedQuerySpliterator(
+			SessionFactoryImplementor sessionFactory,
+			String tenantIdentifier,
+			Map<String, Map<String, ?>> enabledFilters,
+			String partitionQueryString,
+			Consumer<Query> queryPreparer,
+			List<Partition> partitions,
+			Queue<StatelessSession> openSessions,
+			int nextPartition,
+			int endPartition) {
+		this.sessionFactory = sessionFactory;
+		this.tenantIdentifier = tenantIdentifier;
+		this.enabledFilters = enabledFilters;
+		this.partitionQueryString = partitionQueryString;
+		this.queryPreparer = queryPreparer;
+		this.partitions = partitions;
+		this.openSessions = openSessions;
+		this.nextPartition = nextPartition;
+		this.endPartition = endPartition;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean tryAdvance(Consumer<? super R> action) {
+		while ( true ) {
+			if ( results == null ) {
+				if ( nextPartition >= endPartition ) {
+					return false;
+				}
+				openPartition( partitions.get( nextPartition++ ) );
+			}
+
+			if ( results.next() ) {
+				final Object[] row = results.get();
+				action.accept( (R) ( row.length == 1 ? row[0] : row ) );
+				return true;
+			}
+
+			closePartition();
+		}
+	}
+
+	/**
+	 * Open a stateless session enabling the given filters.
+	 *
+	 * @param enabledFilters The parameter values of the filters to enable, by filter name
+	 */
+	static StatelessSession openSession(
+			SessionFactoryImplementor sessionFactory,
+			String tenantIdentifier,
+			Map<String, Map<String, ?>> enabledFilters) {
+		final StatelessSession session = sessionFactory.withStatelessOptions()
+				.tenantIdentifier( tenantIdentifier )
+				.openStatelessSession();
+		for ( Map.Entry<String, Map<String, ?>> enabledFilter : enabledFilters.entrySet() ) {
+			final Filter filter = session.enableFilter( enabledFilter.getKey() );
+			for ( Map.Entry<String, ?> parameter : enabledFilter.getValue().entrySet() ) {
+				if ( parameter.getValue() instanceof Collection ) {
+					filter.setParameterList( parameter.getKey(), (Collection) parameter.getValue() );
+				}
+				else {
+					filter.setParameter( parameter.getKey(), parameter.getValue() );
+				}
+			}
+		}
+		return session;
+	}
+
+	private void openPartition(Partition partition) {
+		session = openSession( sessionFactory, tenantIdentifier, enabledFilters );
+		openSessions.add( session );
+
+		final Query query = session.createQuery( partitionQueryString );
+		queryPreparer.accept( query );
+		query.setParameter( LOWER_BOUND_PARAMETER, partition.lowerBound );
+		query.setParameter( UPPER_BOUND_PARAMETER, partition.upperBound );
+		results = query.scroll( ScrollMode.FORWARD_ONLY );
+	}
+
+	private void closePartition() {
+		try {
+			results.close();
+		}
+		finally {
+			results = null;
+			openSessions.remove( session );
+			session.close();
+			session = null;
+		}
+	}
+
+	@Override
+	public Spliterator<R> trySplit() {
+		final int remaining = endPartition - nextPartition;
+		if ( remaining < 2 ) {
+			return null;
+		}
+
+		final int middle = nextPartition + remaining / 2;
+		final PartitionedQuerySpliterator<R> split = new PartitionedQuerySpliterator<>(
+				sessionFactory,
+				tenantIdentifier,
+				enabledFilters,
+				partitionQueryString,
+				queryPreparer,
+				partitions,
+				openSessions,
+				middle,
+				endPartition
+		);
+		endPartition = middle;
+		return split;
+	}
+
+	@Override
+	public long estimateSize() {
+		// the number of rows is unknown, but only splitting across partitions makes sense
+		return endPartition - nextPartition > 1 ? Long.MAX_VALUE : 1;
+	}
+
+	@Override
+	public int characteristics() {
+		return 0;
+	}
+
+	/**
+	 * Close the stateless sessions of the partitions still being read, by this spliterator as well as
+	 * by the spliterators split off it.
+	 */
+	void close() {
+		StatelessSession openSession;
+		while ( ( openSession = openSessions.poll() ) != null ) {
+			if ( openSession.isOpen() ) {
+				openSession.close();
+			}
+		}
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// partitioning
+
+	/**
+	 * Split the inclusive range of values between the given bounds into (at most) the given number
+	 * of partitions.
+	 */
+	static List<Partition> partitions(Object minimum, Object maximum, int partitionCount) {
+		if ( minimum == null || maximum == null ) {
+			return Collections.emptyList();
+		}
+		if ( !isIntegral( minimum ) || !isIntegral( maximum ) ) {
+			throw new QueryException(
+					"Partitioning requires an integral path, but the values are of type " + minimum.getClass().getName()
+			);
+		}
+
+		final BigInteger lower = toBigInteger( minimum );
+		final BigInteger upper = toBigInteger( maximum );
+		final BigInteger span = upper.subtract( lower ).add( BigInteger.ONE );
+		final BigInteger count = span.min( BigInteger.valueOf( partitionCount ) );
+		// ceiling of span / count
+		final BigInteger step = span.add( count ).subtract( BigInteger.ONE ).divide( count );
+
+		final List<Partition> partitions = new ArrayList<>( count.intValue() );
+		BigInteger partitionLower = lower;
+		while ( partitionLower.compareTo( upper ) <= 0 ) {
+			final BigInteger partitionUpper = partitionLower.add( step ).subtract( BigInteger.ONE ).min( upper );
+			partitions.add(
+					new Partition(
+							fromBigInteger( partitionLower, minimum.getClass() ),
+							fromBigInteger( partitionUpper, minimum.getClass() )
+					)
+			);
+			partitionLower = partitionUpper.add( BigInteger.ONE );
+		}
+		return partitions;
+	}
+
+	private static boolean isIntegral(Object value) {
+		return value instanceof Long
+				|| value instanceof Integer
+				|| value instanceof Short
+				|| value instanceof Byte
+				|| value instanceof BigInteger;
+	}
+
+	private static BigInteger toBigInteger(Object value) {
+		return value instanceof BigInteger ? (BigInteger) value : BigInteger.valueOf( ( (Number) value ).longValue() );
+	}
+
+	private static Object fromBigInteger(BigInteger value, Class type) {
+		if ( type == Integer.class ) {
+			return value.intValue();
+		}
+		else if ( type == Short.class ) {
+			return value.shortValue();
+		}
+		else if ( type == Byte.class ) {
+			return value.byteValue();
+		}
+		else if ( type == BigInteger.class ) {
+			return value;
+		}
+		else {
+			return value.longValue();
+		}
+	}
+
+	/**
+	 * The query selecting the minimum and maximum values of the partition path among the results of
+	 * the given query.
+	 */
+	static String boundsQueryString(String queryString, String partitionPath) {
+		final int from = indexOfTopLevelKeyword( queryString, "from", 0 );
+		if ( from < 0 ) {
+			throw new QueryException( "Unable to locate the from clause of the query to partition", queryString );
+		}
+		return "select min(" + partitionPath + "), max(" + partitionPath + ") "
+				+ queryString.substring( from, endOfRestriction( queryString ) );
+	}
+
+	/**
+	 * The query restricted to the range of values of the partition path between the bounds parameters.
+	 */
+	static String partitionQueryString(String queryString, String partitionPath) {
+		if ( indexOfTopLevelClause( queryString, "group" ) >= 0
+				|| indexOfTopLevelKeyword( queryString, "having", 0 ) >= 0 ) {
+			throw new QueryException( "Queries with a group by clause cannot be partitioned", queryString );
+		}
+		if ( indexOfTopLevelKeyword( queryString, "fetch", 0 ) >= 0 ) {
+			// the bounds query selects aggregates, which cannot own fetched associations
+			throw new QueryException( "Queries with fetch joins cannot be partitioned", queryString );
+		}
+
+		final int endOfRestriction = endOfRestriction( queryString );
+		final int where = indexOfTopLevelKeyword( queryString, "where", 0 );
+
+		final StringBuilder buffer = new StringBuilder( queryString.length() + 128 );
+		if ( where < 0 ) {
+			buffer.append( queryString, 0, endOfRestriction ).append( " where " );
+		}
+		else {
+			buffer.append( queryString, 0, where )
+					.append( "where (" )
+					.append( queryString, where + "where".length(), endOfRestriction )
+					.append( ") and " );
+		}
+		buffer.append( partitionPath ).append( " >= :" ).append( LOWER_BOUND_PARAMETER )
+				.append( " and " )
+				.append( partitionPath ).append( " <= :" ).append( UPPER_BOUND_PARAMETER );
+		if ( endOfRestriction < queryString.length() ) {
+			buffer.append( ' ' ).append( queryString, endOfRestriction, queryString.length() );
+		}
+		return buffer.toString();
+	}
+
+	private static int endOfRestriction(String queryString) {
+		final int orderBy = indexOfTopLevelClause( queryString, "order" );
+		return orderBy < 0 ? queryString.length() : orderBy;
+	}
+
+	/**
+	 * Locate the given keyword followed by {@code by}, so that an entity or alias named after the
+	 * keyword (such as {@code Order}) is not mistaken for the clause.
+	 */
+	private static int indexOfTopLevelClause(String queryString, String keyword) {
+		int index = indexOfTopLevelKeyword( queryString, keyword, 0 );
+		while ( index >= 0 ) {
+			int next = index + keyword.length();
+			while ( next < queryString.length() && Character.isWhitespace( queryString.charAt( next ) ) ) {
+				next++;
+			}
+			if ( next > index + keyword.length()
+					&& queryString.regionMatches( true, next, "by", 0, 2 )
+					&& ( next + 2 == queryString.length() || !isIdentifierPart( queryString.charAt( next + 2 ) ) ) ) {
+				return index;
+			}
+			index = indexOfTopLevelKeyword( queryString, keyword, index + keyword.length() );
+		}
+		return -1;
+	}
+
+	/**
+	 * Locate the given keyword outside of any parentheses (subqueries, function arguments) and
+	 * string literals.
+	 */
+	private static int indexOfTopLevelKeyword(String queryString, String keyword, int start) {
+		int depth = 0;
+		boolean inLiteral = false;
+		for ( int i = start; i < queryString.length(); i++ ) {
+			final char character = queryString.charAt( i );
+			if ( inLiteral ) {
+				if ( character == '\'' ) {
+					inLiteral = false;
+				}
+			}
+			else if ( character == '\'' ) {
+				inLiteral = true;
+			}
+			else if ( character == '(' ) {
+				depth++;
+			}
+			else if ( character == ')' ) {
+				depth--;
+			}
+			else if ( depth == 0
+					&& queryString.regionMatches( true, i, keyword, 0, keyword.length() )
+					&& ( i == 0 || !isIdentifierPart( queryString.charAt( i - 1 ) ) )
+					&& ( i + keyword.length() == queryString.length()
+							|| !isIdentifierPart( queryString.charAt( i + keyword.length() ) ) ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean isIdentifierPart(char character) {
+		// also excludes attribute names and parameter names matching the keyword
+		return Character.isJavaIdentifierPart( character ) || character == '.' || character == ':';
+	}
+}
@@ -6,10 +6,23 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.hibernate.Filter;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.query.spi.HQLQueryPlan;
+import org.hibernate.engine.query.spi.ReturnMetadata;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.hql.spi.QueryTranslator;
 import org.hibernate.query.ParameterMetadata;
 import org.hibernate.query.Query;
 import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.transform.ResultTransformer;
 import org.hibernate.type.Type;
 
 /**
@@ -50,12 +63,126 @@ public class QueryImpl<R> extends AbstractProducedQuery<R> implements Query<R> {
 
 	@Override
 	public Type[] getReturnTypes() {
-		return getProducer().getFactory().getReturnTypes( queryString );
+		final ReturnMetadata metadata = getQueryPlan().getReturnMetadata();
+		return metadata == null ? null : metadata.getReturnTypes();
 	}
 
 	@Override
 	public String[] getReturnAliases() {
-		return getProducer().getFactory().getReturnAliases( queryString );
+		final ReturnMetadata metadata = getQueryPlan().getReturnMetadata();
+		return metadata == null ? null : metadata.getReturnAliases();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Stream<R> partitionedStream(String partitionPath, int partitionCount) {
+		if ( partitionCount < 1 ) {
+			throw new IllegalArgumentException( "The number of partitions must be positive" );
+		}
+		if ( getQueryOptions().getFirstRow() != null || getQueryOptions().getMaxRows() != null ) {
+			throw new IllegalStateException( "Paginated queries cannot be partitioned" );
+		}
+
+		final String partitionQueryString = PartitionedQuerySpliterator.partitionQueryString( queryString, partitionPath );
+		if ( getProducer() instanceof Session && ( (Session) getProducer() ).isDirty() ) {
+			throw new IllegalStateException(
+					"The session has changes not flushed, which the partitions would not see: flush and commit them before partitioning a query"
+			);
+		}
+
+		// the filters of this query's session apply to each partition
+		final LoadQueryInfluencers loadQueryInfluencers = getProducer().getLoadQueryInfluencers();
+		final Map<String, Map<String, ?>> enabledFilters = new HashMap<>();
+		for ( Filter filter : loadQueryInfluencers.getEnabledFilters().values() ) {
+			final Map<String, Object> parameters = new HashMap<>();
+			for ( String parameterName : filter.getFilterDefinition().getParameterNames() ) {
+				parameters.put(
+						parameterName,
+						loadQueryInfluencers.getFilterParameterValue( filter.getName() + '.' + parameterName )
+				);
+			}
+			enabledFilters.put( filter.getName(), parameters );
+		}
+
+		// the bounds are read like the partitions, through a stateless session of its own
+		final Object[] bounds;
+		try ( StatelessSession boundsSession = PartitionedQuerySpliterator.openSession(
+				getProducer().getFactory(),
+				getProducer().getTenantIdentifier(),
+				enabledFilters
+		) ) {
+			final Query<Object[]> boundsQuery = boundsSession.createQuery(
+					PartitionedQuerySpliterator.boundsQueryString( queryString, partitionPath )
+			);
+			queryParameterBindings.applyBindingsTo( boundsQuery );
+			bounds = boundsQuery.uniqueResult();
+		}
+
+		final Integer fetchSize = getQueryOptions().getFetchSize();
+		final ResultTransformer resultTransformer = getResultTransformer();
+		final PartitionedQuerySpliterator<R> spliterator = new PartitionedQuerySpliterator<>(
+				getProducer().getFactory(),
+				getProducer().getTenantIdentifier(),
+				enabledFilters,
+				partitionQueryString,
+				partitionQuery -> {
+					queryParameterBindings.applyBindingsTo( partitionQuery );
+					if ( fetchSize != null ) {
+						partitionQuery.setFetchSize( fetchSize );
+					}
+					if ( resultTransformer != null ) {
+						partitionQuery.setResultTransformer( resultTransformer );
+					}
+				},
+				PartitionedQuerySpliterator.partitions( bounds[0], bounds[1], partitionCount )
+		);
+
+		return new StreamDecorator<>( StreamSupport.stream( spliterator, true ), spliterator::close );
+	}
+
+	/**
+	 * When enabled, expand the multi-valued parameters in the SQL of the translated query rather than
+	 * in the query string, so that a query is translated once whatever the number of values bound.
+	 * Queries the SQL of which cannot be expanded fall back to the expansion of the query string.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_SQL_EXPANSION
+	 */
+	@Override
+	protected String expandListValuedParameters() {
+		if ( getProducer().getFactory().getSessionFactoryOptions().isInClauseParameterSqlExpansionEnabled()
+				&& !hasEntityGraphQueryHint() ) {
+			final QueryTranslator[] translators = getQueryPlan().getTranslators();
+			final boolean expanded = queryParameterBindings.expandListValuedParametersInSql(
+					getProducer(),
+					name -> canExpandParameterListInSql( translators, name )
+			);
+			if ( expanded ) {
+				return queryString;
+			}
+		}
+		return super.expandListValuedParameters();
+	}
+
+	private static boolean canExpandParameterListInSql(QueryTranslator[] translators, String name) {
+		for ( QueryTranslator translator : translators ) {
+			if ( !translator.canExpandParameterListInSql( name ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The plan the query is executed with, that is the one applying the filters enabled in the
+	 * session.  Looking it up (rather than the unfiltered plan) avoids translating the query a
+	 * second time when filters are enabled.
+	 */
+	private HQLQueryPlan getQueryPlan() {
+		return getProducer().getFactory().getQueryPlanCache().getHQLQueryPlan(
+				queryString,
+				false,
+				getProducer().getLoadQueryInfluencers().getEnabledFilters()
+		);
 	}
 
 	@Override
@@ -7,6 +7,7 @@
 package org.hibernate.query.internal;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -14,6 +15,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.persistence.Parameter;
 
@@ -35,6 +37,7 @@ import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.query.ParameterMetadata;
+import org.hibernate.query.Query;
 import org.hibernate.query.QueryParameter;
 import org.hibernate.query.spi.QueryParameterBinding;
 import org.hibernate.query.spi.QueryParameterBindings;
@@ -63,6 +66,7 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 	private Map<QueryParameter, QueryParameterBinding> parameterBindingMap;
 	private Map<QueryParameter, QueryParameterListBinding> parameterListBindingMap;
 	private Set<QueryParameter> parametersConvertedToListBindings;
+	private Map<String, Integer> parameterListSizes;
 
 	public static QueryParameterBindingsImpl from(
 			ParameterMetadata parameterMetadata,
@@ -506,6 +510,8 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 			return null;
 		}
 
+		parameterListSizes = null;
+
 		if ( parameterListBindingMap == null || parameterListBindingMap.isEmpty() ) {
 			return queryString;
 		}
@@ -517,10 +523,7 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 		// NOTE that this is essentially the legacy logical prior to modeling QueryParameterBinding/QueryParameterListBinding.
 		// 		Fully expect the details of how this is handled in 6.0
 
-		// HHH-1123
-		// Some DBs limit number of IN expressions.  For now, warn...
 		final Dialect dialect = session.getFactory().getServiceRegistry().getService( JdbcServices.class ).getJdbcEnvironment().getDialect();
-		final int inExprLimit = dialect.getInExpressionCountLimit();
 
 		int maxOrdinalPosition = getMaxOrdinalPosition();
 
@@ -529,23 +532,7 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 			final Collection bindValues = entry.getValue().getBindValues();
 
 			int bindValueCount = bindValues.size();
-			int bindValueMaxCount = bindValueCount;
-
-			boolean inClauseParameterPaddingEnabled =
-					session.getFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled() &&
-					bindValueCount > 2;
-
-			if ( inClauseParameterPaddingEnabled ) {
-				int bindValuePaddingCount = MathHelper.ceilingPowerOfTwo( bindValueCount );
-
-				if ( bindValueCount < bindValuePaddingCount && (inExprLimit == 0 || bindValuePaddingCount < inExprLimit) ) {
-					bindValueMaxCount = bindValuePaddingCount;
-				}
-			}
-
-			if ( inExprLimit > 0 && bindValueCount > inExprLimit ) {
-				log.tooManyInExpressions( dialect.getClass().getName(), inExprLimit, sourceParam.getName(), bindValueCount );
-			}
+			int bindValueMaxCount = determineBindValueMaxCount( sourceParam, bindValueCount, dialect, session );
 
 			final String sourceToken;
 			if ( sourceParam instanceof NamedParameterDescriptor ) {
@@ -650,6 +637,169 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 		return queryString;
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean expandListValuedParametersInSql(
+			SharedSessionContractImplementor session,
+			Predicate<String> canExpandInSql) {
+		parameterListSizes = null;
+
+		if ( parameterListBindingMap == null || parameterListBindingMap.isEmpty() ) {
+			return false;
+		}
+
+		for ( Map.Entry<QueryParameter, QueryParameterListBinding> entry : parameterListBindingMap.entrySet() ) {
+			if ( !( entry.getKey() instanceof NamedParameterDescriptor ) ) {
+				return false;
+			}
+			final Type bindType = entry.getValue().getBindType();
+			if ( bindType != null && bindType.getColumnSpan( sessionFactory ) != 1 ) {
+				return false;
+			}
+			if ( !canExpandInSql.test( entry.getKey().getName() ) ) {
+				return false;
+			}
+		}
+
+		expandListValuedParametersInSql( session );
+		return true;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void expandListValuedParametersInSql(SharedSessionContractImplementor session) {
+		parameterListSizes = new HashMap<>();
+
+		if ( parameterListBindingMap == null || parameterListBindingMap.isEmpty() ) {
+			return;
+		}
+
+		final Dialect dialect = session.getFactory().getServiceRegistry().getService( JdbcServices.class ).getJdbcEnvironment().getDialect();
+
+		for ( Map.Entry<QueryParameter, QueryParameterListBinding> entry : parameterListBindingMap.entrySet() ) {
+			final NamedParameterDescriptor sourceParam = (NamedParameterDescriptor) entry.getKey();
+			final Collection bindValues = entry.getValue().getBindValues();
+
+			final int bindValueCount = bindValues.size();
+			final int bindValueMaxCount = determineBindValueMaxCount( sourceParam, bindValueCount, dialect, session );
+
+			// same synthetic bindings as for the expansion of the query string, the translated
+			// query being reused though, only the number of placeholders in its SQL differs
+			final Iterator bindValueIterator = bindValues.iterator();
+			Object bindValue = null;
+			for ( int i = 0; i < bindValueMaxCount; i++ ) {
+				if ( i < bindValueCount ) {
+					bindValue = bindValueIterator.next();
+				}
+
+				final QueryParameter syntheticParam = new NamedParameterDescriptor(
+						sourceParam.getName() + '_' + i,
+						sourceParam.getHibernateType(),
+						sourceParam.getSourceLocations()
+				);
+				final QueryParameterBinding syntheticBinding = makeBinding( entry.getValue().getBindType() );
+				syntheticBinding.setBindValue( bindValue );
+				parameterBindingMap.put( syntheticParam, syntheticBinding );
+			}
+
+			parameterListSizes.put( sourceParam.getName(), bindValueMaxCount );
+		}
+	}
+
+	@Override
+	public Map<String, Integer> collectNamedParameterListSizes() {
+		return parameterListSizes == null ? Collections.emptyMap() : parameterListSizes;
+	}
+
+	/**
+	 * Bind the values bound to the parameters of this query to the same parameters of the given
+	 * query, by name or position.
+	 *
+	 * @param target The query to bind the values to
+	 */
+	@SuppressWarnings("unchecked")
+	public void applyBindingsTo(Query target) {
+		for ( QueryParameter<?> parameter : parameterMetadata.collectAllParameters() ) {
+			final QueryParameterListBinding listBinding = parameterListBindingMap == null
+					? null
+					: parameterListBindingMap.get( parameter );
+			if ( listBinding != null ) {
+				final Type bindType = listBinding.getBindType();
+				if ( parameter.getName() != null ) {
+					if ( bindType == null ) {
+						target.setParameterList( parameter.getName(), listBinding.getBindValues() );
+					}
+					else {
+						target.setParameterList( parameter.getName(), listBinding.getBindValues(), bindType );
+					}
+				}
+				else {
+					if ( bindType == null ) {
+						target.setParameterList( parameter.getPosition(), listBinding.getBindValues() );
+					}
+					else {
+						target.setParameterList( parameter.getPosition(), listBinding.getBindValues(), bindType );
+					}
+				}
+				continue;
+			}
+
+			final QueryParameterBinding binding = parameterBindingMap.get( parameter );
+			if ( binding == null || !binding.isBound() ) {
+				continue;
+			}
+			final Type bindType = binding.getBindType();
+			if ( parameter.getName() != null ) {
+				if ( bindType == null ) {
+					target.setParameter( parameter.getName(), binding.getBindValue() );
+				}
+				else {
+					target.setParameter( parameter.getName(), binding.getBindValue(), bindType );
+				}
+			}
+			else {
+				if ( bindType == null ) {
+					target.setParameter( parameter.getPosition(), binding.getBindValue() );
+				}
+				else {
+					target.setParameter( parameter.getPosition(), binding.getBindValue(), bindType );
+				}
+			}
+		}
+	}
+
+	/**
+	 * The number of values to bind for a multi-valued parameter, accounting for in clause parameter padding.
+	 */
+	private int determineBindValueMaxCount(
+			QueryParameter sourceParam,
+			int bindValueCount,
+			Dialect dialect,
+			SharedSessionContractImplementor session) {
+		// HHH-1123
+		// Some DBs limit number of IN expressions.  For now, warn...
+		final int inExprLimit = dialect.getInExpressionCountLimit();
+
+		int bindValueMaxCount = bindValueCount;
+
+		boolean inClauseParameterPaddingEnabled =
+				session.getFactory().getSessionFactoryOptions().inClauseParameterPaddingEnabled() &&
+				bindValueCount > 2;
+
+		if ( inClauseParameterPaddingEnabled ) {
+			int bindValuePaddingCount = MathHelper.ceilingPowerOfTwo( bindValueCount );
+
+			if ( bindValueCount < bindValuePaddingCount && (inExprLimit == 0 || bindValuePaddingCount < inExprLimit) ) {
+				bindValueMaxCount = bindValuePaddingCount;
+			}
+		}
+
+		if ( inExprLimit > 0 && bindValueCount > inExprLimit ) {
+			log.tooManyInExpressions( dialect.getClass().getName(), inExprLimit, sourceParam.getName(), bindValueCount );
+		}
+
+		return bindValueMaxCount;
+	}
+
 	private int getMaxOrdinalPosition() {
 		int maxOrdinalPosition = 0;
 		for ( QueryParameter<?> queryParameter : parameterBindingMap.keySet() ) {
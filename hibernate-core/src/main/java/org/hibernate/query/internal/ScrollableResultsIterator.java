@@ -6,7 +6,15 @@
  */
 package org.hibernate.query.internal;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 import org.hibernate.Incubating;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.query.spi.CloseableIterator;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 
@@ -18,9 +26,28 @@ import org.hibernate.query.spi.ScrollableResultsImplementor;
 @Incubating
 class ScrollableResultsIterator<T> implements CloseableIterator {
 	private final ScrollableResultsImplementor scrollableResults;
+	private final SessionImplementor evictingSession;
+	private final Set<EntityKey> preexistingEntityKeys;
+
+	private Object[] previousRow;
 
 	ScrollableResultsIterator(ScrollableResultsImplementor scrollableResults) {
+		this( scrollableResults, null );
+	}
+
+	/**
+	 * @param scrollableResults The results to iterate over
+	 * @param evictingSession The session to evict the entities of a row from once the iteration moves on
+	 * to the next row, or {@code null} to leave them in its persistence context.  Only the entities which
+	 * were not already managed by the session when the iteration started are evicted.
+	 */
+	@SuppressWarnings("unchecked")
+	ScrollableResultsIterator(ScrollableResultsImplementor scrollableResults, SessionImplementor evictingSession) {
 		this.scrollableResults = scrollableResults;
+		this.evictingSession = evictingSession;
+		this.preexistingEntityKeys = evictingSession == null
+				? Collections.emptySet()
+				: new HashSet<>( evictingSession.getPersistenceContext().getEntitiesByKey().keySet() );
 	}
 
 	@Override
@@ -30,13 +57,27 @@ class ScrollableResultsIterator<T> implements CloseableIterator {
 
 	@Override
 	public boolean hasNext() {
-		return !scrollableResults.isClosed() && scrollableResults.next();
+		if ( scrollableResults.isClosed() ) {
+			return false;
+		}
+
+		evictPreviousRow();
+
+		if ( !scrollableResults.next() ) {
+			// release the JDBC resources as soon as the results are exhausted
+			scrollableResults.close();
+			return false;
+		}
+		return true;
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	public T next() {
 		Object[] next = scrollableResults.get();
+		if ( evictingSession != null ) {
+			previousRow = next;
+		}
 		if ( next.length == 1 ) {
 			return (T) next[0];
 		}
@@ -44,4 +85,22 @@ class ScrollableResultsIterator<T> implements CloseableIterator {
 			return (T) next;
 		}
 	}
+
+	private void evictPreviousRow() {
+		if ( previousRow == null ) {
+			return;
+		}
+		final PersistenceContext persistenceContext = evictingSession.getPersistenceContext();
+		for ( Object element : previousRow ) {
+			if ( element == null ) {
+				continue;
+			}
+			final EntityEntry entry = persistenceContext.getEntry( element );
+			// leave alone the entities the session managed, and possibly modified, before the iteration started
+			if ( entry != null && !preexistingEntityKeys.contains( entry.getEntityKey() ) ) {
+				evictingSession.evict( element );
+			}
+		}
+		previousRow = null;
+	}
 }
@@ -0,0 +1,281 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.hibernate.Incubating;
+
+/**
+ * A {@link Stream} over query results which closes itself, and so releases the underlying JDBC
+ * resources, as soon as a terminal operation completes.  Intermediate operations return decorated
+ * streams as well, so that the terminal operation closes the whole pipeline whatever the shape of it.
+ * <p/>
+ * Streams returned by {@link #iterator()} and {@link #spliterator()} are the exception: the caller
+ * decides when they are done with the results and so is responsible for closing the stream.  The same
+ * goes for primitive streams obtained through {@code mapToInt()} and the like.
+ *
+ * @param <R> The type of the stream elements
+ *
+ * @since 5.4.2
+ */
+@Incubating
+public class StreamDecorator<R> implements Stream<R> {
+	private final Stream<R> delegate;
+
+	public StreamDecorator(Stream<R> delegate, Runnable closeHandler) {
+		this.delegate = delegate.onClose( closeHandler );
+	}
+
+	private StreamDecorator(Stream<R> delegate) {
+		this.delegate = delegate;
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// intermediate operations
+
+	@Override
+	public Stream<R> filter(Predicate<? super R> predicate) {
+		return new StreamDecorator<>( delegate.filter( predicate ) );
+	}
+
+	@Override
+	public <R1> Stream<R1> map(Function<? super R, ? extends R1> mapper) {
+		return new StreamDecorator<>( delegate.map( mapper ) );
+	}
+
+	@Override
+	public IntStream mapToInt(ToIntFunction<? super R> mapper) {
+		return delegate.mapToInt( mapper );
+	}
+
+	@Override
+	public LongStream mapToLong(ToLongFunction<? super R> mapper) {
+		return delegate.mapToLong( mapper );
+	}
+
+	@Override
+	public DoubleStream mapToDouble(ToDoubleFunction<? super R> mapper) {
+		return delegate.mapToDouble( mapper );
+	}
+
+	@Override
+	public <R1> Stream<R1> flatMap(Function<? super R, ? extends Stream<? extends R1>> mapper) {
+		return new StreamDecorator<>( delegate.flatMap( mapper ) );
+	}
+
+	@Override
+	public IntStream flatMapToInt(Function<? super R, ? extends IntStream> mapper) {
+		return delegate.flatMapToInt( mapper );
+	}
+
+	@Override
+	public LongStream flatMapToLong(Function<? super R, ? extends LongStream> mapper) {
+		return delegate.flatMapToLong( mapper );
+	}
+
+	@Override
+	public DoubleStream flatMapToDouble(Function<? super R, ? extends DoubleStream> mapper) {
+		return delegate.flatMapToDouble( mapper );
+	}
+
+	@Override
+	public Stream<R> distinct() {
+		return new StreamDecorator<>( delegate.distinct() );
+	}
+
+	@Override
+	public Stream<R> sorted() {
+		return new StreamDecorator<>( delegate.sorted() );
+	}
+
+	@Override
+	public Stream<R> sorted(Comparator<? super R> comparator) {
+		return new StreamDecorator<>( delegate.sorted( comparator ) );
+	}
+
+	@Override
+	public Stream<R> peek(Consumer<? super R> action) {
+		return new StreamDecorator<>( delegate.peek( action ) );
+	}
+
+	@Override
+	public Stream<R> limit(long maxSize) {
+		return new StreamDecorator<>( delegate.limit( maxSize ) );
+	}
+
+	@Override
+	public Stream<R> skip(long n) {
+		return new StreamDecorator<>( delegate.skip( n ) );
+	}
+
+	@Override
+	public boolean isParallel() {
+		return delegate.isParallel();
+	}
+
+	@Override
+	public Stream<R> sequential() {
+		return new StreamDecorator<>( delegate.sequential() );
+	}
+
+	@Override
+	public Stream<R> parallel() {
+		return new StreamDecorator<>( delegate.parallel() );
+	}
+
+	@Override
+	public Stream<R> unordered() {
+		return new StreamDecorator<>( delegate.unordered() );
+	}
+
+	@Override
+	public Stream<R> onClose(Runnable closeHandler) {
+		return new StreamDecorator<>( delegate.onClose( closeHandler ) );
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// terminal operations
+
+	@Override
+	public void forEach(Consumer<? super R> action) {
+		try {
+			delegate.forEach( action );
+		}
+		finally {
+			close();
+		}
+	}
+
+	@Override
+	public void forEachOrdered(Consumer<? super R> action) {
+		try {
+			delegate.forEachOrdered( action );
+		}
+		finally {
+			close();
+		}
+	}
+
+	@Override
+	public Object[] toArray() {
+		return closeAfter( delegate::toArray );
+	}
+
+	@Override
+	public <A> A[] toArray(IntFunction<A[]> generator) {
+		return closeAfter( () -> delegate.toArray( generator ) );
+	}
+
+	@Override
+	public R reduce(R identity, BinaryOperator<R> accumulator) {
+		return closeAfter( () -> delegate.reduce( identity, accumulator ) );
+	}
+
+	@Override
+	public Optional<R> reduce(BinaryOperator<R> accumulator) {
+		return closeAfter( () -> delegate.reduce( accumulator ) );
+	}
+
+	@Override
+	public <U> U reduce(U identity, BiFunction<U, ? super R, U> accumulator, BinaryOperator<U> combiner) {
+		return closeAfter( () -> delegate.reduce( identity, accumulator, combiner ) );
+	}
+
+	@Override
+	public <R1> R1 collect(Supplier<R1> supplier, BiConsumer<R1, ? super R> accumulator, BiConsumer<R1, R1> combiner) {
+		return closeAfter( () -> delegate.collect( supplier, accumulator, combiner ) );
+	}
+
+	@Override
+	public <R1, A> R1 collect(Collector<? super R, A, R1> collector) {
+		return closeAfter( () -> delegate.collect( collector ) );
+	}
+
+	@Override
+	public Optional<R> min(Comparator<? super R> comparator) {
+		return closeAfter( () -> delegate.min( comparator ) );
+	}
+
+	@Override
+	public Optional<R> max(Comparator<? super R> comparator) {
+		return closeAfter( () -> delegate.max( comparator ) );
+	}
+
+	@Override
+	public long count() {
+		return closeAfter( delegate::count );
+	}
+
+	@Override
+	public boolean anyMatch(Predicate<? super R> predicate) {
+		return closeAfter( () -> delegate.anyMatch( predicate ) );
+	}
+
+	@Override
+	public boolean allMatch(Predicate<? super R> predicate) {
+		return closeAfter( () -> delegate.allMatch( predicate ) );
+	}
+
+	@Override
+	public boolean noneMatch(Predicate<? super R> predicate) {
+		return closeAfter( () -> delegate.noneMatch( predicate ) );
+	}
+
+	@Override
+	public Optional<R> findFirst() {
+		return closeAfter( delegate::findFirst );
+	}
+
+	@Override
+	public Optional<R> findAny() {
+		return closeAfter( delegate::findAny );
+	}
+
+	@Override
+	public Iterator<R> iterator() {
+		return delegate.iterator();
+	}
+
+	@Override
+	public Spliterator<R> spliterator() {
+		return delegate.spliterator();
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+
+	private <T> T closeAfter(Supplier<T> terminalOperation) {
+		try {
+			return terminalOperation.get();
+		}
+		finally {
+			close();
+		}
+	}
+}
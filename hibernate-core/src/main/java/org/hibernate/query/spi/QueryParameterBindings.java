@@ -6,7 +6,9 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.function.Predicate;
 
 import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -35,4 +37,34 @@ public interface QueryParameterBindings {
 	Type[] collectPositionalBindTypes();
 	Object[] collectPositionalBindValues();
 	Map<String,TypedValue> collectNamedParameterBindings();
+
+	/**
+	 * Expand the multi-valued parameters in the generated SQL rather than in the query string,
+	 * so that the query does not need to be translated again for each number of values.  Each of
+	 * the values of a list-valued named parameter is bound under a synthetic name ({@code name_0},
+	 * {@code name_1}, ...) and the number of values is reported by {@link #collectNamedParameterListSizes()}.
+	 *
+	 * @param producer The session executing the query
+	 * @param canExpandInSql Whether the placeholder of the named parameter can be expanded in the SQL
+	 *
+	 * @return {@code true} if the parameters were expanded, {@code false} if the query string needs
+	 * to be expanded instead
+	 *
+	 * @since 5.4.2
+	 */
+	default boolean expandListValuedParametersInSql(
+			SharedSessionContractImplementor producer,
+			Predicate<String> canExpandInSql) {
+		return false;
+	}
+
+	/**
+	 * The number of values bound to each multi-valued named parameter expanded by
+	 * {@link #expandListValuedParametersInSql(SharedSessionContractImplementor, Predicate)}.
+	 *
+	 * @since 5.4.2
+	 */
+	default Map<String,Integer> collectNamedParameterListSizes() {
+		return Collections.emptyMap();
+	}
 }
@@ -44,4 +44,13 @@ public interface CollectionStatistics extends CacheableDataStatistics, Serializa
 	 * has been updated
 	 */
 	long getUpdateCount();
+
+	/**
+	 * The number of keys currently fetched per batch for this collection, as tuned by
+	 * {@link org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH adaptive batch fetching},
+	 * or {@code -1} if it has not been tuned (since last Statistics clearing).
+	 */
+	default int getBatchFetchSize() {
+		return -1;
+	}
 }
@@ -50,4 +50,13 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * The number of keys currently fetched per batch for this entity, as tuned by
+	 * {@link org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH adaptive batch fetching},
+	 * or {@code -1} if it has not been tuned (since last Statistics clearing).
+	 */
+	default int getBatchFetchSize() {
+		return -1;
+	}
 }
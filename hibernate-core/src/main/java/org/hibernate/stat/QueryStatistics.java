@@ -99,4 +99,25 @@ public interface QueryStatistics extends Serializable {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * The number of association fetches (lazy entity and collection initializations hitting the database)
+	 * which followed executions of this query, when N+1 select detection is enabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_DETECTION_THRESHOLD
+	 */
+	default long getAssociationFetchCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * The number of N+1 selects detected following executions of this query.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_DETECTION_THRESHOLD
+	 */
+	default long getNPlusOneCount() {
+		//For backward compatibility
+		return 0;
+	}
 }
@@ -386,4 +386,27 @@ public interface Statistics {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * Get the identifiers of the tenants for which database usage was recorded
+	 *
+	 * @since 5.4.2
+	 */
+	default String[] getTenantIdentifiers() {
+		//For backward compatibility
+		return new String[0];
+	}
+
+	/**
+	 * Database usage statistics of a tenant
+	 *
+	 * @param tenantIdentifier The tenant identifier
+	 * @return TenantStatistics object
+	 *
+	 * @since 5.4.2
+	 */
+	default TenantStatistics getTenantStatistics(String tenantIdentifier) {
+		//For backward compatibility
+		return null;
+	}
 }
@@ -0,0 +1,48 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+/**
+ * Statistics pertaining to the database usage of a specific tenant, when using
+ * {@link org.hibernate.MultiTenancyStrategy multi-tenancy} backed by a
+ * {@link org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider}
+ *
+ * @since 5.4.2
+ */
+public interface TenantStatistics extends Serializable {
+	/**
+	 * Number of connections (since last Statistics clearing) obtained for the tenant
+	 */
+	long getConnectCount();
+
+	/**
+	 * The total amount of time, in milliseconds, the connections of the tenant
+	 * have been held by its sessions
+	 */
+	long getConnectionHoldTime();
+
+	/**
+	 * The total amount of time, in milliseconds, the sessions of the tenant have
+	 * waited for a connection because the tenant already held as many connections
+	 * as {@value org.hibernate.cfg.AvailableSettings#MULTI_TENANT_CONNECTION_LIMIT}
+	 * allows
+	 */
+	long getConnectionWaitTime();
+
+	/**
+	 * Number of statements (since last Statistics clearing) prepared for the tenant
+	 */
+	long getPrepareStatementCount();
+
+	/**
+	 * Number of ResultSet rows (since last Statistics clearing) read by the queries
+	 * and entity loads of the tenant
+	 */
+	long getRowReadCount();
+}
@@ -37,6 +37,9 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final LongAdder planCacheMissCount = new LongAdder();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
 
+	private final LongAdder associationFetchCount = new LongAdder();
+	private final LongAdder nPlusOneCount = new LongAdder();
+
 
 	private final Lock readLock;
 	private final Lock writeLock;
@@ -153,6 +156,20 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		return planCompilationTotalMicroseconds.get();
 	}
 
+	/**
+	 * Association fetches which followed executions of this query
+	 */
+	public long getAssociationFetchCount() {
+		return associationFetchCount.sum();
+	}
+
+	/**
+	 * N+1 selects detected following executions of this query
+	 */
+	public long getNPlusOneCount() {
+		return nPlusOneCount.sum();
+	}
+
 	/**
 	 * add statistics report of a DB query
 	 *
@@ -202,6 +219,14 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		planCacheHitCount.increment();
 	}
 
+	void incrementAssociationFetchCount() {
+		associationFetchCount.increment();
+	}
+
+	void incrementNPlusOneCount() {
+		nPlusOneCount.increment();
+	}
+
 	public String toString() {
 		return "QueryStatistics"
 				+ "[query=" + query
@@ -107,6 +107,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 
 	private final ConcurrentMap<String,DeprecatedNaturalIdCacheStatisticsImpl> deprecatedNaturalIdStatsMap = new ConcurrentHashMap();
 
+	/**
+	 * Keyed by tenant identifier
+	 */
+	private final ConcurrentMap<String,TenantStatisticsImpl> tenantStatsMap = new ConcurrentHashMap<>();
+
 
 	@SuppressWarnings({ "UnusedDeclaration" })
 	public StatisticsImpl() {
@@ -183,6 +188,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		l2CacheStatsMap.clear();
 		queryStatsMap.clear();
 		deprecatedNaturalIdStatsMap.clear();
+		tenantStatsMap.clear();
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
@@ -844,6 +850,61 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		}
 	}
 
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Tenant statistics
+
+	@Override
+	public String[] getTenantIdentifiers() {
+		return ArrayHelper.toStringArray( tenantStatsMap.keySet() );
+	}
+
+	@Override
+	public TenantStatisticsImpl getTenantStatistics(String tenantIdentifier) {
+		return tenantStatsMap.computeIfAbsent( tenantIdentifier, TenantStatisticsImpl::new );
+	}
+
+	@Override
+	public void tenantConnect(String tenantIdentifier, long waitNanos) {
+		getTenantStatistics( tenantIdentifier ).connected( waitNanos );
+	}
+
+	@Override
+	public void tenantConnectionRelease(String tenantIdentifier, long holdNanos) {
+		getTenantStatistics( tenantIdentifier ).connectionReleased( holdNanos );
+	}
+
+	@Override
+	public void tenantPrepareStatement(String tenantIdentifier) {
+		getTenantStatistics( tenantIdentifier ).incrementPrepareStatementCount();
+	}
+
+	@Override
+	public void tenantRowsRead(String tenantIdentifier, long rows) {
+		getTenantStatistics( tenantIdentifier ).rowsRead( rows );
+	}
+
+	@Override
+	public void entityBatchFetchSizeTuned(String entityName, int batchSize) {
+		getEntityStatistics( entityName ).setBatchFetchSize( batchSize );
+	}
+
+	@Override
+	public void collectionBatchFetchSizeTuned(String role, int batchSize) {
+		getCollectionStatistics( role ).setBatchFetchSize( batchSize );
+	}
+
+	@Override
+	public void queryAssociationFetched(String query) {
+		getQueryStatistics( query ).incrementAssociationFetchCount();
+	}
+
+	@Override
+	public void queryNPlusOneDetected(String query, String role) {
+		LOG.tracef( "Statistics#queryNPlusOneDetected( `%s`, `%s` )", query, role );
+
+		getQueryStatistics( query ).incrementNPlusOneCount();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return l2CacheStatsMap.computeIfAbsent(
 				regionName,
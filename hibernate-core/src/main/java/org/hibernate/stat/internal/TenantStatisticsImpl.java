@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.TenantStatistics;
+
+/**
+ * Database usage statistics of a specific tenant
+ */
+public class TenantStatisticsImpl implements TenantStatistics, Serializable {
+
+	private final String tenantIdentifier;
+	private final LongAdder connectCount = new LongAdder();
+	private final LongAdder connectionHoldNanos = new LongAdder();
+	private final LongAdder connectionWaitNanos = new LongAdder();
+	private final LongAdder prepareStatementCount = new LongAdder();
+	private final LongAdder rowReadCount = new LongAdder();
+
+	TenantStatisticsImpl(String tenantIdentifier) {
+		this.tenantIdentifier = tenantIdentifier;
+	}
+
+	public long getConnectCount() {
+		return connectCount.sum();
+	}
+
+	public long getConnectionHoldTime() {
+		return TimeUnit.NANOSECONDS.toMillis( connectionHoldNanos.sum() );
+	}
+
+	public long getConnectionWaitTime() {
+		return TimeUnit.NANOSECONDS.toMillis( connectionWaitNanos.sum() );
+	}
+
+	public long getPrepareStatementCount() {
+		return prepareStatementCount.sum();
+	}
+
+	public long getRowReadCount() {
+		return rowReadCount.sum();
+	}
+
+	void connected(long waitNanos) {
+		connectCount.increment();
+		connectionWaitNanos.add( waitNanos );
+	}
+
+	void connectionReleased(long holdNanos) {
+		connectionHoldNanos.add( holdNanos );
+	}
+
+	void incrementPrepareStatementCount() {
+		prepareStatementCount.increment();
+	}
+
+	void rowsRead(long rows) {
+		rowReadCount.add( rows );
+	}
+
+	public String toString() {
+		return new StringBuilder()
+				.append( "TenantStatistics" )
+				.append( "[tenantIdentifier=" ).append( tenantIdentifier )
+				.append( ",connectCount=" ).append( this.connectCount )
+				.append( ",connectionHoldTime=" ).append( getConnectionHoldTime() )
+				.append( ",connectionWaitTime=" ).append( getConnectionWaitTime() )
+				.append( ",prepareStatementCount=" ).append( this.prepareStatementCount )
+				.append( ",rowReadCount=" ).append( this.rowReadCount )
+				.append( ']' )
+				.toString();
+	}
+}
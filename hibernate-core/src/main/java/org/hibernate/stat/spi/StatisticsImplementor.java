@@ -266,4 +266,86 @@ public interface StatisticsImplementor extends Statistics, Service {
 	default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
+
+	/**
+	 * Callback about a connection being obtained for a tenant
+	 *
+	 * @param tenantIdentifier The tenant
+	 * @param waitNanos The time spent waiting for the tenant to release a connection, in nanoseconds
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_TENANT_CONNECTION_LIMIT
+	 */
+	default void tenantConnect(String tenantIdentifier, long waitNanos) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about a connection of a tenant being released
+	 *
+	 * @param tenantIdentifier The tenant
+	 * @param holdNanos The time the connection was held, in nanoseconds
+	 */
+	default void tenantConnectionRelease(String tenantIdentifier, long holdNanos) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about a statement being prepared for a tenant
+	 *
+	 * @param tenantIdentifier The tenant
+	 */
+	default void tenantPrepareStatement(String tenantIdentifier) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about ResultSet rows read for a tenant
+	 *
+	 * @param tenantIdentifier The tenant
+	 * @param rows The number of rows read
+	 */
+	default void tenantRowsRead(String tenantIdentifier, long rows) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about the batch fetch size of an entity being tuned
+	 *
+	 * @param entityName The entity name
+	 * @param batchSize The tuned batch size
+	 */
+	default void entityBatchFetchSizeTuned(String entityName, int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about the batch fetch size of a collection being tuned
+	 *
+	 * @param role The collection role
+	 * @param batchSize The tuned batch size
+	 */
+	default void collectionBatchFetchSizeTuned(String role, int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about an association fetch following the execution of a query
+	 *
+	 * @param query The query
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_DETECTION_THRESHOLD
+	 */
+	default void queryAssociationFetched(String query) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about an N+1 select being detected following the execution of a query
+	 *
+	 * @param query The query
+	 * @param role The fetched entity name or collection role
+	 */
+	default void queryNPlusOneDetected(String query, String role) {
+		//For backward compatibility
+	}
 }
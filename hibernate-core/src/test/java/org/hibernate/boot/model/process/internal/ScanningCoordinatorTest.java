@@ -1,9 +1,14 @@
 package org.hibernate.boot.model.process.internal;
 
+import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.boot.AttributeConverterInfo;
 import org.hibernate.boot.MetadataSources;
@@ -13,6 +18,7 @@ import org.hibernate.boot.archive.scan.internal.DisabledScanner;
 import org.hibernate.boot.archive.scan.internal.MappingFileDescriptorImpl;
 import org.hibernate.boot.archive.scan.internal.PackageDescriptorImpl;
 import org.hibernate.boot.archive.scan.internal.ScanResultImpl;
+import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
 import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
 import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
@@ -22,10 +28,16 @@ import org.hibernate.boot.archive.scan.spi.ScanParameters;
 import org.hibernate.boot.archive.scan.spi.ScanResult;
 import org.hibernate.boot.archive.scan.spi.Scanner;
 import org.hibernate.boot.archive.spi.InputStreamAccess;
+import org.hibernate.boot.jaxb.Origin;
+import org.hibernate.boot.jaxb.SourceType;
+import org.hibernate.boot.jaxb.spi.Binding;
 import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.boot.spi.XmlMappingBinderAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.internal.CoreMessageLogger;
 
 import org.hibernate.testing.TestForIssue;
@@ -41,6 +53,11 @@ import org.jboss.logging.Logger;
 import org.mockito.Mockito;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 /**
@@ -172,6 +189,136 @@ public class ScanningCoordinatorTest extends BaseUnitTestCase {
 		assertEquals( IntegerToVarcharConverter.class, attributeConverterInfo.getConverterClass() );
 	}
 
+	@Test
+	public void testCoordinateScanWithSnapshot() throws Exception {
+		final File rootDir = Files.createTempDirectory( "scan-root" ).toFile();
+		final File snapshotFile = new File( rootDir.getParentFile(), rootDir.getName() + ".snapshot" );
+		try {
+			final StandardServiceRegistry serviceRegistry = Mockito.mock( StandardServiceRegistry.class );
+			final ConfigurationService configurationService = Mockito.mock( ConfigurationService.class );
+			when( bootstrapContext.getServiceRegistry() ).thenReturn( serviceRegistry );
+			when( serviceRegistry.getService( ClassLoaderService.class ) ).thenReturn( classLoaderService );
+			when( serviceRegistry.getService( ConfigurationService.class ) ).thenReturn( configurationService );
+			when( configurationService.getSetting( eq( AvailableSettings.SCANNER_SNAPSHOT_FILE ), any( ConfigurationService.Converter.class ) ) )
+					.thenReturn( snapshotFile.getAbsolutePath() );
+			when( bootstrapContext.getScanOptions() ).thenReturn( new StandardScanOptions() );
+			when( scanEnvironment.getRootUrl() ).thenReturn( rootDir.toURI().toURL() );
+			when( classLoaderService.classForName( "converter" ) ).thenReturn( (Class) IntegerToVarcharConverter.class );
+			when( classLoaderService.classForName( IntegerToVarcharConverter.class.getName() ) )
+					.thenReturn( (Class) IntegerToVarcharConverter.class );
+
+			final AtomicInteger scanCount = new AtomicInteger();
+			final Scanner scanner = (ScanEnvironment environment, ScanOptions options, ScanParameters parameters) -> {
+				scanCount.incrementAndGet();
+				final InputStreamAccess dummyInputStreamAccess = new ByteArrayInputStreamAccess( "dummy", new byte[0] );
+				return new ScanResultImpl(
+						Collections.singleton( new PackageDescriptorImpl( "dummy.pkg", dummyInputStreamAccess ) ),
+						new HashSet<>( Arrays.asList(
+								new ClassDescriptorImpl( "dummy.Entity", ClassDescriptor.Categorization.MODEL, dummyInputStreamAccess ),
+								new ClassDescriptorImpl( "converter", ClassDescriptor.Categorization.CONVERTER, dummyInputStreamAccess )
+						) ),
+						Collections.emptySet()
+				);
+			};
+			when( bootstrapContext.getScanner() ).thenReturn( scanner );
+
+			// the first scan stores the snapshot, the second one uses it
+			for ( int i = 0; i < 2; i++ ) {
+				final ManagedResourcesImpl managedResources = ManagedResourcesImpl.baseline( new MetadataSources(), bootstrapContext );
+				ScanningCoordinator.INSTANCE.coordinateScan( managedResources, bootstrapContext, xmlMappingBinderAccess );
+
+				assertEquals( 1, scanCount.get() );
+				assertTrue( snapshotFile.isFile() );
+				assertEquals( Collections.singleton( "dummy.Entity" ), new HashSet<>( managedResources.getAnnotatedClassNames() ) );
+				assertEquals( Collections.singleton( "dummy.pkg" ), new HashSet<>( managedResources.getAnnotatedPackageNames() ) );
+				assertEquals( 1, managedResources.getAttributeConverterDefinitions().size() );
+			}
+
+			// changing the content of the scanned archive invalidates the snapshot
+			assertTrue( new File( rootDir, "Added.class" ).createNewFile() );
+			ScanningCoordinator.INSTANCE.coordinateScan(
+					ManagedResourcesImpl.baseline( new MetadataSources(), bootstrapContext ),
+					bootstrapContext,
+					xmlMappingBinderAccess
+			);
+			assertEquals( 2, scanCount.get() );
+		}
+		finally {
+			new File( rootDir, "Added.class" ).delete();
+			rootDir.delete();
+			snapshotFile.delete();
+		}
+	}
+
+	@Test
+	public void testIncompatibleSnapshotIsIgnored() throws Exception {
+		final File snapshotFile = File.createTempFile( "scan", ".snapshot" );
+		try {
+			ScanSnapshot.write( snapshotFile, "fingerprint", new ManagedResourcesImpl() );
+			assertNotNull( ScanSnapshot.read( snapshotFile, "fingerprint" ) );
+
+			// alter the serialVersionUID recorded in the class descriptor, following the class name
+			final byte[] bytes = Files.readAllBytes( snapshotFile.toPath() );
+			final byte[] className = ScanSnapshot.class.getName().getBytes( StandardCharsets.UTF_8 );
+			final int uidPosition = indexOf( bytes, className ) + className.length;
+			for ( int i = uidPosition; i < uidPosition + 8; i++ ) {
+				bytes[i] = (byte) ~bytes[i];
+			}
+			Files.write( snapshotFile.toPath(), bytes );
+
+			assertNull( ScanSnapshot.read( snapshotFile, "fingerprint" ) );
+		}
+		finally {
+			snapshotFile.delete();
+		}
+	}
+
+	@Test
+	public void testSnapshotWithHbmBindings() throws Exception {
+		final File snapshotFile = File.createTempFile( "scan", ".snapshot" );
+		try ( StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder().build() ) {
+			final XmlMappingBinderAccess binderAccess = new XmlMappingBinderAccess( serviceRegistry );
+			final ManagedResourcesImpl scannedResources = new ManagedResourcesImpl();
+			scannedResources.addXmlBinding( binderAccess.bind( "org/hibernate/test/filter/defs.hbm.xml" ) );
+			scannedResources.addXmlBinding( binderAccess.bind( "org/hibernate/test/filter/Order.hbm.xml" ) );
+			ScanSnapshot.write( snapshotFile, "fingerprint", scannedResources );
+
+			final ScanSnapshot snapshot = ScanSnapshot.read( snapshotFile, "fingerprint" );
+			assertNotNull( snapshot );
+			final ManagedResourcesImpl managedResources = new ManagedResourcesImpl();
+			snapshot.applyTo( managedResources, classLoaderService );
+			assertEquals( 2, managedResources.getXmlMappingBindings().size() );
+		}
+		finally {
+			snapshotFile.delete();
+		}
+	}
+
+	@Test
+	public void testSnapshotReferencingOtherClassesIsIgnored() throws Exception {
+		final File snapshotFile = File.createTempFile( "scan", ".snapshot" );
+		try {
+			final ManagedResourcesImpl scannedResources = new ManagedResourcesImpl();
+			scannedResources.addXmlBinding( new Binding<>( new File( "any" ), new Origin( SourceType.FILE, "any" ) ) );
+			ScanSnapshot.write( snapshotFile, "fingerprint", scannedResources );
+			assertTrue( snapshotFile.isFile() );
+
+			assertNull( ScanSnapshot.read( snapshotFile, "fingerprint" ) );
+		}
+		finally {
+			snapshotFile.delete();
+		}
+	}
+
+	private static int indexOf(byte[] bytes, byte[] sequence) {
+		for ( int i = 0; i <= bytes.length - sequence.length; i++ ) {
+			if ( Arrays.equals( Arrays.copyOfRange( bytes, i, i + sequence.length ), sequence ) ) {
+				return i;
+			}
+		}
+		throw new AssertionError( "Sequence not found" );
+	}
+
 	/**
 	 * Run coordinateScan() with the given Scanner and assert the emptiness
 	 * of ManagedResources.
@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.model.source.internal.annotations;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.MappedSuperclass;
+import javax.persistence.OneToMany;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.mapping.PersistentClass;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Verifies that binding works the same when
+ * {@link AvailableSettings#ANNOTATION_PRELOAD_THREADS} is enabled.
+ */
+public class AnnotationPreloadTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Parent.class, Child.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.ANNOTATION_PRELOAD_THREADS, "4" );
+	}
+
+	@Test
+	public void testBinding() {
+		final PersistentClass parentBinding = metadata().getEntityBinding( Parent.class.getName() );
+		assertNotNull( parentBinding );
+		assertNotNull( parentBinding.getProperty( "children" ) );
+
+		final PersistentClass childBinding = metadata().getEntityBinding( Child.class.getName() );
+		assertNotNull( childBinding );
+		assertNotNull( childBinding.getProperty( "name" ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Parent parent = new Parent();
+			parent.id = 1L;
+			session.persist( parent );
+			final Child child = new Child();
+			child.id = 2L;
+			child.name = "child";
+			child.parent = parent;
+			session.persist( child );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 1, session.get( Parent.class, 1L ).children.size() );
+		} );
+	}
+
+	@MappedSuperclass
+	public static abstract class Named {
+		String name;
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		Long id;
+
+		@OneToMany(mappedBy = "parent")
+		List<Child> children;
+	}
+
+	@Entity(name = "Child")
+	public static class Child extends Named {
+		@Id
+		Long id;
+
+		@ManyToOne
+		Parent parent;
+	}
+}
@@ -6,12 +6,22 @@
  */
 package org.hibernate.jpa.test.packaging;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.InputStream;
+import java.net.URL;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.Persistence;
 
+import org.hibernate.boot.archive.internal.StandardArchiveDescriptorFactory;
+import org.hibernate.boot.archive.scan.internal.ArchiveIndexResolver;
 import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
 import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
 import org.hibernate.boot.archive.scan.internal.StandardScanner;
@@ -21,6 +31,11 @@ import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
 import org.hibernate.boot.archive.scan.spi.ScanOptions;
 import org.hibernate.boot.archive.scan.spi.ScanResult;
 import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.archive.spi.ArchiveContext;
+import org.hibernate.boot.archive.spi.ArchiveDescriptor;
+import org.hibernate.boot.archive.spi.ArchiveEntry;
+import org.hibernate.boot.archive.spi.ArchiveEntryHandler;
+import org.hibernate.boot.archive.spi.InputStreamAccess;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.jpa.boot.internal.ParsedPersistenceXmlDescriptor;
 import org.hibernate.jpa.boot.internal.StandardJpaScanEnvironmentImpl;
@@ -28,10 +43,13 @@ import org.hibernate.jpa.boot.spi.PersistenceUnitDescriptor;
 import org.hibernate.jpa.test.pack.defaultpar.ApplicationServer;
 import org.hibernate.jpa.test.pack.defaultpar.Version;
 
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -69,6 +87,152 @@ public class ScannerTest extends PackagingTestCase {
 		}
 	}
 
+	@Test
+	public void testNativeScannerWithArchiveIndexCache() throws Exception {
+		File defaultPar = buildDefaultPar();
+		addPackageToClasspath( defaultPar );
+
+		File indexCacheDir = new File( packageTargetDir, "jandex-cache" );
+		PersistenceUnitDescriptor descriptor = new ParsedPersistenceXmlDescriptor( defaultPar.toURL() );
+		ScanEnvironment env = new StandardJpaScanEnvironmentImpl( descriptor );
+		ScanOptions options = new StandardScanOptions(
+				"hbm,class",
+				descriptor.isExcludeUnlistedClasses(),
+				true,
+				indexCacheDir.getAbsolutePath()
+		);
+
+		// the first scan reads the class files and persists the index built from them,
+		// the second one categorizes the classes from that index
+		for ( int i = 0; i < 2; i++ ) {
+			ClassReadCountingArchiveDescriptorFactory descriptorFactory = new ClassReadCountingArchiveDescriptorFactory();
+			ScanResult scanResult = new StandardScanner( descriptorFactory ).scan( env, options, StandardScanParameters.INSTANCE );
+
+			assertEquals( 3, scanResult.getLocatedClasses().size() );
+			assertClassesContained( scanResult, ApplicationServer.class );
+			assertClassesContained( scanResult, Version.class );
+			assertEquals( 2, scanResult.getLocatedMappingFiles().size() );
+
+			File[] indexFiles = indexCacheDir.listFiles( (dir, name) -> name.endsWith( ".idx" ) );
+			assertNotNull( indexFiles );
+			assertEquals( 1, indexFiles.length );
+
+			Set<String> locatedClassNames = new HashSet<>();
+			for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
+				locatedClassNames.add( classDescriptor.getName() );
+				// the archive is closed by now, the bytes must have been read while it was visited
+				try ( InputStream stream = classDescriptor.getStreamAccess().accessInputStream() ) {
+					assertTrue( stream.read() >= 0 );
+				}
+			}
+
+			if ( i == 0 ) {
+				assertTrue( descriptorFactory.readClassNames.containsAll( locatedClassNames ) );
+				assertTrue( descriptorFactory.readClassNames.size() > locatedClassNames.size() );
+			}
+			else {
+				// only the located classes are read, for their descriptors
+				assertEquals( locatedClassNames, descriptorFactory.readClassNames );
+			}
+		}
+	}
+
+	@Test
+	public void testOutOfDateBundledArchiveIndexIsIgnored() throws Exception {
+		ScanOptions options = new StandardScanOptions( "hbm,class", false, true, null );
+		ArchiveIndexResolver indexResolver = new ArchiveIndexResolver( options );
+		long indexTime = System.currentTimeMillis() - 60_000L;
+
+		File upToDateJar = buildIndexedJar( "indexed-up-to-date.jar", indexTime, indexTime );
+		assertNotNull( indexResolver.resolveIndex( upToDateJar.toURI().toURL() ) );
+
+		File outOfDateJar = buildIndexedJar( "indexed-out-of-date.jar", indexTime, indexTime + 10_000L );
+		assertNull( indexResolver.resolveIndex( outOfDateJar.toURI().toURL() ) );
+	}
+
+	private File buildIndexedJar(String name, long indexTime, long classTime) throws Exception {
+		String classEntryName = ApplicationServer.class.getName().replace( '.', '/' ) + ".class";
+		byte[] classBytes;
+		try ( InputStream stream = ApplicationServer.class.getClassLoader().getResourceAsStream( classEntryName ) ) {
+			classBytes = toByteArray( stream );
+		}
+		Indexer indexer = new Indexer();
+		indexer.index( new ByteArrayInputStream( classBytes ) );
+		ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+		new IndexWriter( indexBytes ).write( indexer.complete() );
+
+		File jar = new File( packageTargetDir, name );
+		try ( JarOutputStream stream = new JarOutputStream( new FileOutputStream( jar ) ) ) {
+			JarEntry indexEntry = new JarEntry( ArchiveIndexResolver.INDEX_ENTRY_NAME );
+			indexEntry.setTime( indexTime );
+			stream.putNextEntry( indexEntry );
+			stream.write( indexBytes.toByteArray() );
+			stream.closeEntry();
+
+			JarEntry classEntry = new JarEntry( classEntryName );
+			classEntry.setTime( classTime );
+			stream.putNextEntry( classEntry );
+			stream.write( classBytes );
+			stream.closeEntry();
+		}
+		return jar;
+	}
+
+	private static byte[] toByteArray(InputStream stream) throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int read;
+		while ( ( read = stream.read( buffer ) ) != -1 ) {
+			bytes.write( buffer, 0, read );
+		}
+		return bytes.toByteArray();
+	}
+
+	private static class ClassReadCountingArchiveDescriptorFactory extends StandardArchiveDescriptorFactory {
+		private final Set<String> readClassNames = new HashSet<>();
+
+		@Override
+		public ArchiveDescriptor buildArchiveDescriptor(URL url, String entry) {
+			final ArchiveDescriptor descriptor = super.buildArchiveDescriptor( url, entry );
+			return context -> descriptor.visitArchive( new ArchiveContext() {
+				@Override
+				public boolean isRootUrl() {
+					return context.isRootUrl();
+				}
+
+				@Override
+				public ArchiveEntryHandler obtainArchiveEntryHandler(ArchiveEntry archiveEntry) {
+					final ArchiveEntryHandler handler = context.obtainArchiveEntryHandler( archiveEntry );
+					return (handledEntry, handlerContext) -> handler.handleEntry( countClassReads( handledEntry ), handlerContext );
+				}
+			} );
+		}
+
+		private ArchiveEntry countClassReads(ArchiveEntry entry) {
+			return new ArchiveEntry() {
+				@Override
+				public String getName() {
+					return entry.getName();
+				}
+
+				@Override
+				public String getNameWithinArchive() {
+					return entry.getNameWithinArchive();
+				}
+
+				@Override
+				public InputStreamAccess getStreamAccess() {
+					final String nameWithinArchive = entry.getNameWithinArchive();
+					// package-info files are not indexed, their descriptors keep reading them
+					if ( nameWithinArchive.endsWith( ".class" ) && !nameWithinArchive.endsWith( "package-info.class" ) ) {
+						readClassNames.add( nameWithinArchive.substring( 0, nameWithinArchive.length() - ".class".length() ).replace( '/', '.' ) );
+					}
+					return entry.getStreamAccess();
+				}
+			};
+		}
+	}
+
 	private void assertClassesContained(ScanResult scanResult, Class classToCheckFor) {
 		for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
 			if ( classDescriptor.getName().equals( classToCheckFor.getName() ) ) {
@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.persister.entity;
+
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.loader.entity.LoaderFootprint;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies that the merge and refresh loaders and the batch-size ladders are only built on
+ * first use, as reported by {@link AbstractEntityPersister#getLoaderFootprint()}.
+ */
+public class LoaderFootprintTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Author.class, Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.DELAY_ENTITY_LOADER_CREATIONS, "true" );
+	}
+
+	@Test
+	public void testLoadersBuiltOnFirstUse() {
+		final AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory().getMetamodel()
+				.entityPersister( Author.class );
+
+		// none of the loaders of the batch-size ladders is built up front
+		final LoaderFootprint initial = persister.getLoaderFootprint();
+		assertEquals( Author.class.getName(), initial.getEntityName() );
+		assertEquals( 0, initial.getLoaderCount() );
+		assertTrue( initial.getSqlStringLength() > 0 );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Author author = new Author();
+				author.id = i;
+				session.persist( author );
+				final Book book = new Book();
+				book.id = i;
+				book.author = author;
+				session.persist( book );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.get( Book.class, i );
+			}
+			// batch loads all three authors
+			Hibernate.initialize( session.get( Book.class, 1 ).author );
+		} );
+
+		final LoaderFootprint afterLoad = persister.getLoaderFootprint();
+		assertTrue( afterLoad.getLoaderCount() > initial.getLoaderCount() );
+		assertTrue( afterLoad.getSqlStringLength() > initial.getSqlStringLength() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Author author = new Author();
+			author.id = 1;
+			author.name = "merged";
+			session.merge( author );
+		} );
+
+		final LoaderFootprint afterMerge = persister.getLoaderFootprint();
+		assertEquals( afterLoad.getLoaderCount() + 1, afterMerge.getLoaderCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "merged", session.get( Author.class, 1 ).name );
+		} );
+	}
+
+	@Entity(name = "Author")
+	@BatchSize(size = 10)
+	public static class Author {
+		@Id
+		Integer id;
+
+		String name;
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+
+		@ManyToOne(fetch = javax.persistence.FetchType.LAZY)
+		Author author;
+	}
+}
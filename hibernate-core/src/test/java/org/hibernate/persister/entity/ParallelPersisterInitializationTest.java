@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.persister.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Inheritance;
+import javax.persistence.InheritanceType;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Verifies that the persisters are usable when initialized concurrently, as enabled by
+ * {@link AvailableSettings#PERSISTER_INITIALIZATION_THREADS}.
+ */
+public class ParallelPersisterInitializationTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Customer.class, Order.class, Animal.class, Dog.class, Cat.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.PERSISTER_INITIALIZATION_THREADS, "4" );
+	}
+
+	@Test
+	public void testPersistersInitialized() {
+		assertEquals( 4, sessionFactory().getSessionFactoryOptions().getPersisterInitializationThreadCount() );
+
+		final AbstractEntityPersister persister = (AbstractEntityPersister) sessionFactory().getMetamodel()
+				.entityPersister( Customer.class );
+		assertNotNull( persister.getSQLSnapshotSelectString() );
+		assertNotNull( sessionFactory().getMetamodel().collectionPersister( Customer.class.getName() + ".orders" ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Customer customer = new Customer();
+			customer.id = 1L;
+			session.persist( customer );
+			final Order order = new Order();
+			order.id = 2L;
+			order.customer = customer;
+			customer.orders.add( order );
+			session.persist( order );
+			final Dog dog = new Dog();
+			dog.id = 3L;
+			session.persist( dog );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Customer customer = session.get( Customer.class, 1L, LockMode.PESSIMISTIC_WRITE );
+			assertEquals( 1, customer.orders.size() );
+			assertEquals( Dog.class, session.get( Animal.class, 3L ).getClass() );
+			session.refresh( customer, LockOptions.UPGRADE );
+		} );
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		Long id;
+
+		@OneToMany(mappedBy = "customer")
+		List<Order> orders = new ArrayList<>();
+	}
+
+	@Entity(name = "CustomerOrder")
+	public static class Order {
+		@Id
+		Long id;
+
+		@ManyToOne
+		Customer customer;
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Animal {
+		@Id
+		Long id;
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+	}
+
+	@Entity(name = "Cat")
+	public static class Cat extends Animal {
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.ScrollableResults;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Verifies that multi-valued parameters are expanded in the SQL, without translating the query
+ * again for each number of values, when {@link AvailableSettings#IN_CLAUSE_PARAMETER_SQL_EXPANSION}
+ * is enabled.
+ */
+public class InClauseParameterSqlExpansionTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Person.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.IN_CLAUSE_PARAMETER_SQL_EXPANSION, "true" );
+		settings.put( AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected void afterSessionFactoryBuilt(SessionFactoryImplementor sessionFactory) {
+		doInHibernate( () -> sessionFactory, session -> {
+			for ( int i = 1; i < 10; i++ ) {
+				final Person person = new Person();
+				person.id = i;
+				person.name = "Person nr " + i;
+				person.age = i * 10;
+				session.persist( person );
+			}
+		} );
+	}
+
+	@Test
+	public void testQueryTranslatedOnce() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int size = 1; size < 10; size++ ) {
+				final List<Integer> ids = new ArrayList<>();
+				for ( int i = 1; i <= size; i++ ) {
+					ids.add( i );
+				}
+				final List<Person> persons = session.createQuery(
+						"select p from Person p where p.id in :ids and p.age >= :age order by p.id", Person.class )
+						.setParameterList( "ids", ids )
+						.setParameter( "age", 20 )
+						.list();
+				assertEquals( size - 1, persons.size() );
+				if ( size > 1 ) {
+					assertEquals( Integer.valueOf( size ), persons.get( persons.size() - 1 ).id );
+				}
+			}
+		} );
+
+		assertEquals( 1, statistics.getQueryPlanCacheMissCount() );
+	}
+
+	@Test
+	public void testSeveralListsAndScroll() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Query<Long> query = session.createQuery(
+					"select count(p) from Person p where p.id in (:ids) or p.name in (:names)", Long.class );
+
+			query.setParameterList( "ids", Arrays.asList( 1, 2, 3 ) )
+					.setParameterList( "names", Collections.singletonList( "Person nr 9" ) );
+			assertEquals( Long.valueOf( 4 ), query.uniqueResult() );
+
+			query.setParameterList( "ids", Collections.singletonList( 1 ) )
+					.setParameterList( "names", Arrays.asList( "Person nr 8", "Person nr 9", "none" ) );
+			try ( ScrollableResults results = query.scroll() ) {
+				results.next();
+				assertEquals( 3L, results.get( 0 ) );
+			}
+		} );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		Integer id;
+
+		String name;
+
+		Integer age;
+	}
+}
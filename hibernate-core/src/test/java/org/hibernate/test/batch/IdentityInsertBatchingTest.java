@@ -0,0 +1,134 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Verifies that entities with IDENTITY generated identifiers persisted within a transaction are
+ * inserted as JDBC batches when {@link AvailableSettings#BATCH_IDENTITY_INSERTS} is enabled.
+ */
+@RequiresDialect(H2Dialect.class)
+public class IdentityInsertBatchingTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Department.class, Employee.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		settings.put( AvailableSettings.BATCH_IDENTITY_INSERTS, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testIdentityInsertsBatched() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		final List<Employee> employees = new ArrayList<>();
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Department> departments = new ArrayList<>();
+			for ( int i = 0; i < 3; i++ ) {
+				final Department department = new Department();
+				department.name = "department " + i;
+				session.persist( department );
+				departments.add( department );
+			}
+			for ( int i = 0; i < 6; i++ ) {
+				final Employee employee = new Employee();
+				employee.name = "employee " + i;
+				employee.department = departments.get( i % 3 );
+				session.persist( employee );
+				employees.add( employee );
+			}
+			// the inserts are delayed until flush time
+			assertNull( employees.get( 0 ).id );
+			assertEquals( 0, statistics.getPrepareStatementCount() );
+
+			session.flush();
+			// one batch per entity type
+			assertEquals( 2, statistics.getPrepareStatementCount() );
+			for ( Employee employee : employees ) {
+				assertNotNull( employee.id );
+				assertSame( employee, session.get( Employee.class, employee.id ) );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( Employee employee : employees ) {
+				final Employee loaded = session.get( Employee.class, employee.id );
+				assertEquals( employee.name, loaded.name );
+				assertEquals( employee.department.name, loaded.department.name );
+			}
+		} );
+	}
+
+	@Test
+	public void testSelfReferenceNotBatchedTogether() {
+		final Department parent = new Department();
+		final Department child = new Department();
+		doInHibernate( this::sessionFactory, session -> {
+			parent.name = "parent";
+			session.persist( parent );
+			child.name = "child";
+			child.parent = parent;
+			session.persist( child );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "parent", session.get( Department.class, child.id ).parent.name );
+		} );
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		Long id;
+
+		String name;
+
+		@ManyToOne
+		Department parent;
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		Long id;
+
+		String name;
+
+		@ManyToOne
+		Department department;
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies that the batch size of a role shrinks when the Sessions use few of the instances fetched ahead of
+ * demand, and grows back towards the mapped batch size when they use them all.
+ */
+public class AdaptiveBatchFetchTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final String BOOKS_ROLE = Shelf.class.getName() + ".books";
+	private static final String LABELS_ROLE = Shelf.class.getName() + ".labels";
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Shelf.class, Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.ADAPTIVE_BATCH_FETCH, "true" );
+	}
+
+	@Override
+	protected void afterSessionFactoryBuilt(SessionFactoryImplementor sessionFactory) {
+		doInHibernate( () -> sessionFactory, session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				final Shelf shelf = new Shelf();
+				shelf.id = i;
+				session.persist( shelf );
+
+				final Book book = new Book();
+				book.id = i;
+				book.shelf = shelf;
+				session.persist( book );
+			}
+		} );
+	}
+
+	@Test
+	public void testCollectionBatchSizeTuned() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		assertEquals( -1, statistics.getCollectionStatistics( BOOKS_ROLE ).getBatchFetchSize() );
+
+		// a single collection is read: the batch size shrinks to the lower bound
+		for ( int i = 0; i < 4; i++ ) {
+			doInHibernate( this::sessionFactory, session -> {
+				final List<Shelf> shelves = session.createQuery( "from Shelf order by id", Shelf.class ).list();
+				assertEquals( 1, shelves.get( 0 ).getBooks().size() );
+			} );
+		}
+		assertEquals( 2, statistics.getCollectionStatistics( BOOKS_ROLE ).getBatchFetchSize() );
+
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Shelf> shelves = session.createQuery( "from Shelf order by id", Shelf.class ).list();
+			assertEquals( 1, shelves.get( 0 ).getBooks().size() );
+			assertTrue( Hibernate.isInitialized( shelves.get( 1 ).getBooks() ) );
+			assertFalse( Hibernate.isInitialized( shelves.get( 2 ).getBooks() ) );
+		} );
+
+		// all collections are read: the batch size grows back
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( Shelf shelf : session.createQuery( "from Shelf order by id", Shelf.class ).list() ) {
+				assertEquals( 1, shelf.getBooks().size() );
+			}
+		} );
+		// the query and 5 batches of 2 collections
+		assertEquals( 6, statistics.getPrepareStatementCount() );
+		final int grown = statistics.getCollectionStatistics( BOOKS_ROLE ).getBatchFetchSize();
+		assertTrue( grown > 2 && grown <= 10 );
+	}
+
+	@Test
+	public void testEntityBatchSizeTuned() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Book> books = session.createQuery( "from Book order by id", Book.class ).list();
+			assertEquals( 1, books.get( 0 ).getShelf().getBooks().size() );
+			assertFalse( Hibernate.isInitialized( books.get( 5 ).getShelf() ) );
+		} );
+		final int shrunk = statistics.getEntityStatistics( Shelf.class.getName() ).getBatchFetchSize();
+		assertTrue( shrunk < 10 );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Shelf> shelves = new ArrayList<>();
+			for ( Book book : session.createQuery( "from Book order by id", Book.class ).list() ) {
+				Hibernate.initialize( book.getShelf() );
+				shelves.add( book.getShelf() );
+			}
+			assertEquals( 10, shelves.size() );
+		} );
+		assertTrue( statistics.getEntityStatistics( Shelf.class.getName() ).getBatchFetchSize() > shrunk );
+	}
+
+	@Test
+	public void testUsageAfterFlushCounted() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Shelf> shelves = session.createQuery( "from Shelf order by id", Shelf.class ).list();
+			assertEquals( 0, shelves.get( 0 ).getLabels().size() );
+			assertTrue( Hibernate.isInitialized( shelves.get( 9 ).getLabels() ) );
+
+			// the batch fetch queue is cleared on flush, the collections fetched ahead of demand are read after it
+			session.flush();
+			for ( Shelf shelf : shelves ) {
+				assertEquals( 0, shelf.getLabels().size() );
+			}
+		} );
+		// a single batch fetch, whose 9 collections fetched ahead of demand were all read
+		assertEquals( 10, statistics.getCollectionStatistics( LABELS_ROLE ).getBatchFetchSize() );
+	}
+
+	@Entity(name = "Shelf")
+	@BatchSize(size = 10)
+	public static class Shelf {
+		@Id
+		Integer id;
+
+		@OneToMany(mappedBy = "shelf")
+		@BatchSize(size = 10)
+		List<Book> books = new ArrayList<>();
+
+		@ElementCollection
+		@BatchSize(size = 10)
+		List<String> labels = new ArrayList<>();
+
+		public List<Book> getBooks() {
+			return books;
+		}
+
+		public List<String> getLabels() {
+			return labels;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Shelf shelf;
+
+		public Shelf getShelf() {
+			return shelf;
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode.enhancement.dirty;
+
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies that mutable natural id lookups see the natural id changes of entities tracking their own
+ * dirtiness, which are the only ones compared against the cross-referenced values.
+ */
+@RunWith( BytecodeEnhancerRunner.class )
+public class NaturalIdDirtyTrackingTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Member.class };
+	}
+
+	@Before
+	public void prepare() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 1; id <= 3; id++ ) {
+				final Member member = new Member();
+				member.setId( id );
+				member.setUsername( "member" + id );
+				member.getRoles().add( "user" );
+				session.persist( member );
+			}
+		} );
+	}
+
+	@After
+	public void cleanup() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "from Member", Member.class ).list().forEach( session::remove );
+		} );
+	}
+
+	@Test
+	public void testChangedNaturalIdResolved() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Member first = session.bySimpleNaturalId( Member.class ).load( "member1" );
+			final Member second = session.bySimpleNaturalId( Member.class ).load( "member2" );
+			session.bySimpleNaturalId( Member.class ).load( "member3" );
+			assertFalse( ( (SelfDirtinessTracker) first ).$$_hibernate_hasDirtyAttributes() );
+
+			first.setUsername( "renamed" );
+			second.setDisplayName( "Second" );
+
+			assertSame( first, session.bySimpleNaturalId( Member.class ).load( "renamed" ) );
+			assertNull( session.bySimpleNaturalId( Member.class ).load( "member1" ) );
+			assertSame( second, session.bySimpleNaturalId( Member.class ).load( "member2" ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertNull( session.bySimpleNaturalId( Member.class ).load( "member1" ) );
+			assertTrue( session.bySimpleNaturalId( Member.class ).loadOptional( "renamed" ).isPresent() );
+		} );
+	}
+
+	@Test
+	public void testNaturalIdChangedAfterFlush() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Member first = session.bySimpleNaturalId( Member.class ).load( "member1" );
+			first.setUsername( "renamed" );
+			session.flush();
+			assertFalse( ( (SelfDirtinessTracker) first ).$$_hibernate_hasDirtyAttributes() );
+
+			first.setUsername( "renamed again" );
+
+			assertSame( first, session.bySimpleNaturalId( Member.class ).load( "renamed again" ) );
+			assertNull( session.bySimpleNaturalId( Member.class ).load( "renamed" ) );
+		} );
+	}
+
+	// --- //
+
+	@Entity(name = "Member")
+	@Table(name = "MEMBER_TBL")
+	private static class Member {
+
+		@Id
+		private Long id;
+
+		@NaturalId(mutable = true)
+		private String username;
+
+		private String displayName;
+
+		@ElementCollection
+		private Set<String> roles = new HashSet<>();
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getUsername() {
+			return username;
+		}
+
+		public void setUsername(String username) {
+			this.username = username;
+		}
+
+		public String getDisplayName() {
+			return displayName;
+		}
+
+		public void setDisplayName(String displayName) {
+			this.displayName = displayName;
+		}
+
+		public Set<String> getRoles() {
+			return roles;
+		}
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode.enhancement.lazy;
+
+import java.util.List;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies that the lazy attributes of enhanced entities having a batch size are loaded for a batch of
+ * entities of the persistence context with one statement.
+ */
+@RunWith( BytecodeEnhancerRunner.class )
+public class LazyAttributeBatchLoadingTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Document.class, Note.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		configuration.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Before
+	public void prepare() {
+		doInHibernate( this::sessionFactory, s -> {
+			if ( s.get( Document.class, 1L ) != null ) {
+				return;
+			}
+			for ( long id = 1; id <= 12; id++ ) {
+				final Document document = new Document();
+				document.id = id;
+				document.title = "title " + id;
+				document.text = "text " + id;
+				document.summary = "summary " + id;
+				s.persist( document );
+			}
+			for ( long id = 1; id <= 3; id++ ) {
+				final Note note = new Note();
+				note.id = id;
+				note.text = "note " + id;
+				s.persist( note );
+			}
+		} );
+	}
+
+	@Test
+	public void testBatchLoading() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		doInHibernate( this::sessionFactory, s -> {
+			final List<Document> documents = s.createQuery( "from Document d order by d.id", Document.class ).list();
+			assertFalse( Hibernate.isPropertyInitialized( documents.get( 0 ), "text" ) );
+
+			statistics.clear();
+			for ( Document document : documents ) {
+				assertEquals( "text " + document.id, document.text );
+			}
+			// batches of 5, 5 and 2 documents
+			assertEquals( 3, statistics.getPrepareStatementCount() );
+			for ( Document document : documents ) {
+				assertTrue( Hibernate.isPropertyInitialized( document, "summary" ) );
+			}
+
+			statistics.clear();
+			s.flush();
+			assertEquals( 0, statistics.getEntityUpdateCount() );
+		} );
+	}
+
+	@Test
+	public void testBatchLoadingAfterFlush() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		doInHibernate( this::sessionFactory, s -> {
+			final List<Document> documents = s.createQuery( "from Document d order by d.id", Document.class ).list();
+			documents.get( 0 ).title = "changed";
+			s.flush();
+
+			// flushing clears the batch fetch queue, but for the entities having lazy attributes to load
+			statistics.clear();
+			for ( Document document : documents ) {
+				assertEquals( "text " + document.id, document.text );
+			}
+			assertEquals( 3, statistics.getPrepareStatementCount() );
+
+			documents.get( 0 ).title = "title 1";
+		} );
+	}
+
+	@Test
+	public void testAlreadyInitializedAttributeIsKept() {
+		doInHibernate( this::sessionFactory, s -> {
+			final Document first = s.get( Document.class, 1L );
+			final Document second = s.get( Document.class, 2L );
+			second.summary = "changed";
+
+			assertEquals( "text 1", first.text );
+			assertTrue( Hibernate.isPropertyInitialized( second, "text" ) );
+			assertEquals( "changed", second.summary );
+			assertEquals( "text 2", second.text );
+		} );
+
+		doInHibernate( this::sessionFactory, s -> {
+			final Document second = s.get( Document.class, 2L );
+			assertEquals( "changed", second.summary );
+			second.summary = "summary 2";
+		} );
+	}
+
+	@Test
+	public void testNoBatchSize() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		doInHibernate( this::sessionFactory, s -> {
+			final List<Note> notes = s.createQuery( "from Note n order by n.id", Note.class ).list();
+
+			statistics.clear();
+			for ( Note note : notes ) {
+				assertEquals( "note " + note.id, note.text );
+			}
+			assertEquals( 3, statistics.getPrepareStatementCount() );
+		} );
+	}
+
+	// --- //
+
+	@Entity(name = "Document")
+	@Table(name = "LAZY_BATCH_DOCUMENT")
+	@BatchSize(size = 5)
+	private static class Document {
+		@Id
+		Long id;
+
+		String title;
+
+		@Basic(fetch = FetchType.LAZY)
+		String text;
+
+		@Basic(fetch = FetchType.LAZY)
+		String summary;
+	}
+
+	@Entity(name = "Note")
+	@Table(name = "LAZY_BATCH_NOTE")
+	private static class Note {
+		@Id
+		Long id;
+
+		@Basic(fetch = FetchType.LAZY)
+		String text;
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cascade;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.OneToOne;
+
+import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Verifies the properties cascading actions visit, as planned per entity.
+ */
+public class CascadePlanTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Order.class, OrderLine.class, Customer.class, Invoice.class };
+	}
+
+	@Test
+	public void testPlans() {
+		final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( Order.class );
+		final int customer = persister.getEntityMetamodel().getPropertyIndex( "customer" );
+		final int invoice = persister.getEntityMetamodel().getPropertyIndex( "invoice" );
+		final int lines = persister.getEntityMetamodel().getPropertyIndex( "lines" );
+
+		assertArrayEquals( sorted( invoice, lines ), persister.getCascadingPropertyIndexes( CascadingActions.PERSIST ) );
+		assertArrayEquals( new int[] { lines }, persister.getCascadingPropertyIndexes( CascadingActions.MERGE ) );
+		// the entity valued properties are verified not to reference transient instances
+		assertArrayEquals(
+				sorted( customer, invoice, lines ),
+				persister.getCascadingPropertyIndexes( CascadingActions.PERSIST_ON_FLUSH )
+		);
+		assertEquals( 0, persister.getCascadingPropertyIndexes( CascadingActions.LOCK ).length );
+
+		final EntityPersister customerPersister = sessionFactory().getMetamodel().entityPersister( Customer.class );
+		assertEquals( 0, customerPersister.getCascadingPropertyIndexes( CascadingActions.PERSIST ).length );
+	}
+
+	@Test
+	public void testCascades() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Customer customer = new Customer();
+			customer.id = 1;
+			session.persist( customer );
+
+			final Order order = new Order();
+			order.id = 1;
+			order.customer = customer;
+			order.invoice = new Invoice();
+			order.invoice.id = 1;
+			for ( int i = 1; i <= 2; i++ ) {
+				final OrderLine line = new OrderLine();
+				line.id = i;
+				line.order = order;
+				order.lines.add( line );
+			}
+			session.persist( order );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Order order = session.get( Order.class, 1 );
+			assertEquals( 2, order.lines.size() );
+			order.invoice = null;
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertNull( session.get( Invoice.class, 1 ) );
+			assertEquals( 2, session.get( Order.class, 1 ).lines.size() );
+		} );
+	}
+
+	private static int[] sorted(int... indexes) {
+		Arrays.sort( indexes );
+		return indexes;
+	}
+
+	@Entity(name = "PlannedOrder")
+	public static class Order {
+		@Id
+		Integer id;
+
+		String description;
+
+		int quantity;
+
+		@ManyToOne
+		Customer customer;
+
+		@OneToOne(cascade = CascadeType.PERSIST, orphanRemoval = true)
+		Invoice invoice;
+
+		@OneToMany(mappedBy = "order", cascade = { CascadeType.PERSIST, CascadeType.MERGE })
+		List<OrderLine> lines = new ArrayList<>();
+	}
+
+	@Entity(name = "PlannedOrderLine")
+	public static class OrderLine {
+		@Id
+		Integer id;
+
+		@ManyToOne
+		Order order;
+	}
+
+	@Entity(name = "PlannedCustomer")
+	public static class Customer {
+		@Id
+		Integer id;
+
+		String name;
+	}
+
+	@Entity(name = "PlannedInvoice")
+	public static class Invoice {
+		@Id
+		Integer id;
+	}
+}
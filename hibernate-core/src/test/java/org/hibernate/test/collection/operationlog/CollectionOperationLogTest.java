@@ -0,0 +1,325 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.collection.operationlog;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.CascadeType;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.OrderColumn;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.annotations.CollectionType;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.collection.internal.PersistentList;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.stat.Statistics;
+import org.hibernate.usertype.UserCollectionType;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies that large sets and bags record their modifications in an operation log standing for their
+ * snapshot, and that flushing applies the logged modifications only.
+ */
+public class CollectionOperationLogTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Board.class, Card.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.COLLECTION_OPERATION_LOG_THRESHOLD, "4" );
+	}
+
+	@Override
+	protected void afterSessionFactoryBuilt(SessionFactoryImplementor sessionFactory) {
+		doInHibernate( () -> sessionFactory, session -> {
+			final Board board = new Board();
+			board.id = 1;
+			board.tags.addAll( Arrays.asList( "a", "b", "c", "d", "e" ) );
+			board.labels.addAll( Arrays.asList( "a", "b", "c", "d", "e" ) );
+			session.persist( board );
+			for ( int i = 1; i <= 5; i++ ) {
+				final Card card = new Card();
+				card.id = i;
+				card.board = board;
+				board.cards.add( card );
+				session.persist( card );
+			}
+
+			final Board small = new Board();
+			small.id = 2;
+			small.tags.add( "a" );
+			session.persist( small );
+
+			final Board other = new Board();
+			other.id = 3;
+			other.tags.addAll( Arrays.asList( "a", "b", "c", "d", "e" ) );
+			session.persist( other );
+
+			final Board merged = new Board();
+			merged.id = 4;
+			merged.tags.addAll( Arrays.asList( "a", "b", "c", "d", "e" ) );
+			session.persist( merged );
+		} );
+	}
+
+	@Test
+	public void testSetModifications() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Board board = session.get( Board.class, 1 );
+			assertFalse( snapshot( session, board.tags ) instanceof Map );
+
+			board.tags.remove( "a" );
+			board.tags.add( "f" );
+			board.tags.add( "a" );
+			board.tags.remove( "a" );
+			board.tags.removeAll( Arrays.asList( "b", "x" ) );
+			board.tags.retainAll( Arrays.asList( "c", "d", "e", "f" ) );
+
+			statistics.clear();
+			session.flush();
+			// 2 deletes and an insert
+			assertEquals( 3, statistics.getPrepareStatementCount() );
+
+			// a new log is started after the flush
+			assertFalse( snapshot( session, board.tags ) instanceof Map );
+			board.tags.clear();
+			board.tags.addAll( Arrays.asList( "c", "d", "e", "f", "g" ) );
+			statistics.clear();
+			session.flush();
+			assertEquals( 1, statistics.getPrepareStatementCount() );
+
+			// the small set uses a full snapshot
+			final Board small = session.get( Board.class, 2 );
+			Hibernate.initialize( small.tags );
+			assertTrue( snapshot( session, small.tags ) instanceof Map );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Board board = session.get( Board.class, 1 );
+			assertEquals( new HashSet<>( Arrays.asList( "c", "d", "e", "f", "g" ) ), board.tags );
+		} );
+	}
+
+	@Test
+	public void testBagModificationsAndOrphans() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Board board = session.get( Board.class, 1 );
+			assertFalse( snapshot( session, board.cards ) instanceof List );
+
+			final Card removed = board.cards.remove( 0 );
+			final Card card = new Card();
+			card.id = 6;
+			card.board = board;
+			board.cards.add( card );
+			board.cards.remove( board.cards.get( 1 ) );
+			board.cards.add( session.get( Card.class, 3 ) );
+			assertEquals( 1, removed.id.intValue() );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Board board = session.get( Board.class, 1 );
+			final Set<Integer> ids = new HashSet<>();
+			for ( Card card : board.cards ) {
+				ids.add( card.id );
+			}
+			assertEquals( new HashSet<>( Arrays.asList( 2, 3, 4, 5, 6 ) ), ids );
+			assertNull( session.get( Card.class, 1 ) );
+		} );
+	}
+
+	@Test
+	public void testIteratorModificationFallsBackToFullSnapshot() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Board board = session.get( Board.class, 3 );
+			board.tags.add( "z" );
+			final Iterator<String> tags = board.tags.iterator();
+			while ( tags.hasNext() ) {
+				if ( !tags.next().equals( "z" ) ) {
+					tags.remove();
+					break;
+				}
+			}
+			assertTrue( snapshot( session, board.tags ) instanceof Map );
+			assertEquals( 5, ( (Map) snapshot( session, board.tags ) ).size() );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Board board = session.get( Board.class, 3 );
+			assertEquals( 5, board.tags.size() );
+			assertTrue( board.tags.contains( "z" ) );
+		} );
+	}
+
+	@Test
+	public void testIteratorModificationAfterMerge() {
+		final Board detached = doInHibernate( this::sessionFactory, session -> {
+			final Board board = session.get( Board.class, 4 );
+			Hibernate.initialize( board.tags );
+			return board;
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Board board = (Board) session.merge( detached );
+			session.flush();
+
+			final Iterator<String> tags = board.tags.iterator();
+			tags.next();
+			tags.remove();
+			assertTrue( snapshot( session, board.tags ) instanceof Map );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Board board = session.get( Board.class, 4 );
+			assertEquals( 4, board.tags.size() );
+		} );
+	}
+
+	@Test
+	public void testCollectionNotSupportingOperationLogs() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Board board = session.get( Board.class, 1 );
+			// a list, even one asking for an operation log, is snapshotted in full
+			board.labels.add( "f" );
+			assertTrue( snapshot( session, board.labels ) instanceof List );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Board board = session.get( Board.class, 1 );
+			assertEquals( 6, board.labels.size() );
+			board.labels.remove( "f" );
+		} );
+	}
+
+	private static Serializable snapshot(Session session, Object collection) {
+		return ( (SessionImplementor) session ).getPersistenceContext()
+				.getCollectionEntry( (PersistentCollection) collection )
+				.getSnapshot();
+	}
+
+	@Entity(name = "Board")
+	public static class Board {
+		@Id
+		Integer id;
+
+		@ElementCollection
+		Set<String> tags = new HashSet<>();
+
+		@OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true)
+		List<Card> cards = new ArrayList<>();
+
+		@ElementCollection
+		@OrderColumn
+		@CollectionType(type = "org.hibernate.test.collection.operationlog.CollectionOperationLogTest$OperationLogListType")
+		List<String> labels = new ArrayList<>();
+	}
+
+	@Entity(name = "Card")
+	public static class Card {
+		@Id
+		Integer id;
+
+		@ManyToOne
+		Board board;
+	}
+
+	public static class OperationLogListType implements UserCollectionType {
+		@Override
+		public PersistentCollection instantiate(SharedSessionContractImplementor session, CollectionPersister persister) {
+			return new OperationLogList( session );
+		}
+
+		@Override
+		public PersistentCollection wrap(SharedSessionContractImplementor session, Object collection) {
+			return new OperationLogList( session, (List) collection );
+		}
+
+		@Override
+		public Iterator getElementsIterator(Object collection) {
+			return ( (List) collection ).iterator();
+		}
+
+		@Override
+		public boolean contains(Object collection, Object entity) {
+			return ( (List) collection ).contains( entity );
+		}
+
+		@Override
+		public Object indexOf(Object collection, Object entity) {
+			final int index = ( (List) collection ).indexOf( entity );
+			return index >= 0 ? index : null;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object replaceElements(
+				Object original,
+				Object target,
+				CollectionPersister persister,
+				Object owner,
+				Map copyCache,
+				SharedSessionContractImplementor session) {
+			final List result = (List) target;
+			result.clear();
+			result.addAll( (List) original );
+			return result;
+		}
+
+		@Override
+		public Object instantiate(int anticipatedSize) {
+			return anticipatedSize < 0 ? new ArrayList() : new ArrayList( anticipatedSize );
+		}
+	}
+
+	/**
+	 * A list asking for an operation log, which lists do not support.
+	 */
+	public static class OperationLogList extends PersistentList {
+		public OperationLogList(SharedSessionContractImplementor session) {
+			super( session );
+		}
+
+		public OperationLogList(SharedSessionContractImplementor session, List list) {
+			super( session, list );
+		}
+
+		@Override
+		public Serializable getSnapshot(CollectionPersister persister) {
+			final Serializable operationLog = startOperationLog( persister, size() );
+			return operationLog != null ? operationLog : super.getSnapshot( persister );
+		}
+	}
+}
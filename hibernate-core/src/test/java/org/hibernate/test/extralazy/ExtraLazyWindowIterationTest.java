@@ -0,0 +1,208 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.extralazy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.LazyCollection;
+import org.hibernate.annotations.LazyCollectionOption;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies that extra-lazy sets and bags are iterated window by window, and check {@code containsAll()} by
+ * batches, without being initialized.
+ */
+public class ExtraLazyWindowIterationTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Folder.class, Sheet.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.EXTRA_LAZY_COLLECTION_PAGE_SIZE, "3" );
+	}
+
+	@Override
+	protected void afterSessionFactoryBuilt(SessionFactoryImplementor sessionFactory) {
+		doInHibernate( () -> sessionFactory, session -> {
+			for ( int id = 1; id <= 3; id++ ) {
+				final Folder folder = new Folder();
+				folder.id = id;
+				folder.labels.addAll( Arrays.asList( "a", "b", "c", "d", "e", "f", "g" ) );
+				session.persist( folder );
+			}
+			for ( int id = 1; id <= 11; id++ ) {
+				final Sheet sheet = new Sheet();
+				sheet.id = id;
+				sheet.position = id % 3;
+				sheet.folder = session.get( Folder.class, id <= 10 ? 1 : 2 );
+				session.persist( sheet );
+			}
+		} );
+	}
+
+	@Test
+	public void testIterationReadsWindows() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Folder folder = session.get( Folder.class, 1 );
+
+			statistics.clear();
+			final Set<Integer> ids = new HashSet<>();
+			for ( Sheet sheet : folder.sheets ) {
+				ids.add( sheet.id );
+			}
+			assertEquals( 10, ids.size() );
+			assertFalse( Hibernate.isInitialized( folder.sheets ) );
+			// 4 windows, each loading its sheets with one more statement
+			assertEquals( 8, statistics.getPrepareStatementCount() );
+			assertEquals( 10, statistics.getEntityLoadCount() );
+
+			statistics.clear();
+			final List<String> labels = new ArrayList<>();
+			for ( String label : folder.labels ) {
+				labels.add( label );
+			}
+			assertEquals( Arrays.asList( "a", "b", "c", "d", "e", "f", "g" ), labels );
+			assertFalse( Hibernate.isInitialized( folder.labels ) );
+			assertEquals( 3, statistics.getPrepareStatementCount() );
+		} );
+	}
+
+	@Test
+	public void testIterationFollowsMappedOrder() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Folder folder = session.get( Folder.class, 1 );
+
+			final List<Integer> ids = new ArrayList<>();
+			for ( Sheet sheet : folder.sheetsByPosition ) {
+				ids.add( sheet.id );
+			}
+			// by descending position, then by id
+			assertEquals( Arrays.asList( 2, 5, 8, 1, 4, 7, 10, 3, 6, 9 ), ids );
+			assertFalse( Hibernate.isInitialized( folder.sheetsByPosition ) );
+		} );
+	}
+
+	@Test
+	public void testContainsAllChecksBatches() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Folder folder = session.get( Folder.class, 1 );
+			final List<Sheet> sheets = new ArrayList<>();
+			for ( int id = 1; id <= 5; id++ ) {
+				sheets.add( session.load( Sheet.class, id ) );
+			}
+			sheets.add( sheets.get( 0 ) );
+
+			statistics.clear();
+			assertTrue( folder.sheets.containsAll( sheets ) );
+			assertEquals( 2, statistics.getPrepareStatementCount() );
+
+			assertFalse( folder.sheets.containsAll( Collections.singleton( session.load( Sheet.class, 11 ) ) ) );
+			assertFalse( Hibernate.isInitialized( folder.sheets ) );
+
+			statistics.clear();
+			assertTrue( folder.labels.containsAll( Arrays.asList( "a", "g" ) ) );
+			assertFalse( folder.labels.containsAll( Arrays.asList( "a", "z" ) ) );
+			assertFalse( Hibernate.isInitialized( folder.labels ) );
+		} );
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Folder folder = session.get( Folder.class, 3 );
+			final Iterator<String> labels = folder.labels.iterator();
+			while ( labels.hasNext() ) {
+				if ( labels.next().equals( "b" ) ) {
+					labels.remove();
+				}
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Folder folder = session.get( Folder.class, 3 );
+			assertEquals( 6, folder.labels.size() );
+			assertFalse( folder.labels.contains( "b" ) );
+		} );
+	}
+
+	@Test
+	public void testSizeIsCached() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Folder folder = session.get( Folder.class, 2 );
+
+			statistics.clear();
+			assertEquals( 1, folder.sheets.size() );
+			assertEquals( 1, folder.sheets.size() );
+			assertEquals( 1, statistics.getPrepareStatementCount() );
+			assertFalse( Hibernate.isInitialized( folder.sheets ) );
+		} );
+	}
+
+	@Entity(name = "Folder")
+	public static class Folder {
+		@Id
+		Integer id;
+
+		@OneToMany(mappedBy = "folder")
+		@LazyCollection(LazyCollectionOption.EXTRA)
+		Set<Sheet> sheets = new HashSet<>();
+
+		@OneToMany(mappedBy = "folder")
+		@OrderBy("position desc")
+		@LazyCollection(LazyCollectionOption.EXTRA)
+		List<Sheet> sheetsByPosition = new ArrayList<>();
+
+		@ElementCollection
+		@LazyCollection(LazyCollectionOption.EXTRA)
+		List<String> labels = new ArrayList<>();
+	}
+
+	@Entity(name = "Sheet")
+	public static class Sheet {
+		@Id
+		Integer id;
+
+		int position;
+
+		@ManyToOne
+		Folder folder;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.filter;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.criteria.LiteralHandlingMode;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Verifies that criteria queries compiled in a session with enabled filters are only translated
+ * once, and that criteria queries differing only by their literal values share their plan.
+ */
+public class CriteriaQueryPlanWithFilterTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Account.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.CRITERIA_LITERAL_HANDLING_MODE, LiteralHandlingMode.BIND );
+	}
+
+	@Test
+	public void testCriteriaTranslatedOnce() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 4; i++ ) {
+				final Account account = new Account();
+				account.id = i;
+				account.balance = i * 100;
+				account.region = i % 2 == 0 ? "EU" : "US";
+				session.persist( account );
+			}
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.enableFilter( "region" ).setParameter( "region", "EU" );
+
+			for ( int minimum = 0; minimum < 3; minimum++ ) {
+				final CriteriaBuilder builder = session.getCriteriaBuilder();
+				final CriteriaQuery<Account> criteria = builder.createQuery( Account.class );
+				final Root<Account> root = criteria.from( Account.class );
+				criteria.where( builder.ge( root.get( "balance" ), minimum * 100 ) );
+
+				final List<Account> accounts = session.createQuery( criteria ).getResultList();
+				assertEquals( 2, accounts.size() );
+			}
+		} );
+
+		// a single translation, against the filtered plan
+		assertEquals( 1, statistics.getQueryPlanCacheMissCount() );
+	}
+
+	@Entity(name = "Account")
+	@FilterDef(name = "region", parameters = @ParamDef(name = "region", type = "string"))
+	@Filter(name = "region", condition = "region = :region")
+	public static class Account {
+		@Id
+		Integer id;
+
+		Integer balance;
+
+		String region;
+	}
+}
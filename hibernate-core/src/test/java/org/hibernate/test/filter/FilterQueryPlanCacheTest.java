@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.filter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.Filters;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Verifies that HQL query plans are shared by sessions enabling the same filters with different
+ * parameter values, unless a different number of values is bound to a multi-valued parameter.
+ */
+public class FilterQueryPlanCacheTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final String QUERY = "select a.id from Account a order by a.id";
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Account.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected void afterSessionFactoryBuilt(SessionFactoryImplementor sessionFactory) {
+		doInHibernate( () -> sessionFactory, session -> {
+			for ( int i = 1; i <= 6; i++ ) {
+				final Account account = new Account();
+				account.id = i;
+				account.balance = i * 100;
+				account.region = i % 2 == 0 ? "EU" : "US";
+				session.persist( account );
+			}
+		} );
+	}
+
+	@Test
+	public void testPlanSharedAcrossFilterParameterValues() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		assertEquals( Arrays.asList( 2, 4, 6 ), query( "EU", 0 ) );
+		assertEquals( Arrays.asList( 3, 5 ), query( "US", 200 ) );
+		assertEquals( Arrays.asList( 6 ), query( "EU", 500 ) );
+
+		assertEquals( 1, statistics.getQueryPlanCacheMissCount() );
+	}
+
+	@Test
+	public void testPlanPerParameterListSize() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		assertEquals( Arrays.asList( 1, 2 ), queryIds( 1, 2 ) );
+		assertEquals( Arrays.asList( 3, 5 ), queryIds( 5, 3 ) );
+		assertEquals( Arrays.asList( 2, 4, 6 ), queryIds( 2, 4, 6 ) );
+		assertEquals( Arrays.asList( 4 ), queryIds( 4 ) );
+
+		// a single value renders the same SQL, whether bound as a list or not
+		assertEquals( 3, statistics.getQueryPlanCacheMissCount() );
+	}
+
+	private List<Integer> query(String region, int minimum) {
+		return doInHibernate( this::sessionFactory, session -> {
+			session.enableFilter( "region" ).setParameter( "region", region );
+			session.enableFilter( "minimum" ).setParameter( "minimum", minimum );
+			return session.createQuery( QUERY, Integer.class ).getResultList();
+		} );
+	}
+
+	private List<Integer> queryIds(Integer... ids) {
+		return doInHibernate( this::sessionFactory, session -> {
+			session.enableFilter( "ids" ).setParameterList( "ids", Arrays.asList( ids ) );
+			return session.createQuery( QUERY, Integer.class ).getResultList();
+		} );
+	}
+
+	@Entity(name = "Account")
+	@FilterDef(name = "region", parameters = @ParamDef(name = "region", type = "string"))
+	@FilterDef(name = "minimum", parameters = @ParamDef(name = "minimum", type = "integer"))
+	@FilterDef(name = "ids", parameters = @ParamDef(name = "ids", type = "integer"))
+	@Filters({
+			@Filter(name = "region", condition = "region = :region"),
+			@Filter(name = "minimum", condition = "{alias}.balance > :minimum", deduceAliasInjectionPoints = false),
+			@Filter(name = "ids", condition = "id in (:ids)")
+	})
+	public static class Account {
+		@Id
+		Integer id;
+
+		Integer balance;
+
+		String region;
+	}
+}
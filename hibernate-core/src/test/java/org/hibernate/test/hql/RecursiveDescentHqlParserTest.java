@@ -0,0 +1,138 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.hql;
+
+import org.hibernate.hql.internal.ast.HqlParser;
+import org.hibernate.hql.internal.ast.RecursiveDescentHqlParser;
+import org.hibernate.hql.internal.ast.tree.Node;
+
+import org.junit.Test;
+
+import antlr.collections.AST;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Verifies that {@link RecursiveDescentHqlParser} builds the same HQL AST as {@link HqlParser}, and leaves
+ * the syntax it does not handle to {@link HqlParser}.
+ */
+public class RecursiveDescentHqlParserTest {
+
+	@Test
+	public void testFromClause() throws Exception {
+		assertSameAst( "from eg.Cat" );
+		assertSameAst( "from eg.Cat as cat" );
+		assertSameAst( "FROM Formula form, Parameter AS param" );
+		assertSameAst( "from eg.Cat as cat inner join cat.mate as mate left outer join cat.kittens as kitten" );
+		assertSameAst( "from eg.Cat as cat\ninner join fetch cat.mate\r\nleft join fetch cat.kittens k" );
+		assertSameAst( "from Formula form full join form.parameter param right join form.other o" );
+		assertSameAst( "from Cat c join c.kittens k with k.age > 1 left join c.mate m on m.name = :name" );
+		assertSameAst( "from Order o" );
+		assertSameAst( "from Order order" );
+		assertSameAst( "select order.id from Order order where order.group.by.from is not null order by order.id" );
+		assertSameAst( "from Customer c where c.order.status = 'argh' order by c.group.name" );
+	}
+
+	@Test
+	public void testSelectClause() throws Exception {
+		assertSameAst( "select cat.mate from eg.Cat cat" );
+		assertSameAst( "select distinct cust.name.firstName as name, cust.id from Customer as cust" );
+		assertSameAst( "select count(*), count(distinct cat.name), count(all cat.id), count(cat) from Cat cat" );
+		assertSameAst( "select avg(cat.weight), sum(cat.weight + 1), max(cat.weight), min(cat.weight) from Cat cat" );
+		assertSameAst( "select upper(cat.name), concat(cat.name, 'x'), current_date(), cat.name || ' ' || cat.nick from Cat cat" );
+		assertSameAst( "select -cat.weight * 2 / 3 % 4 - +1 from Cat cat" );
+		assertSameAst( "select c.where, c.order, c.value, c.class from Customer c" );
+	}
+
+	@Test
+	public void testWhereClause() throws Exception {
+		assertSameAst( "from Cat c where c.name = :name and c.age >= ?1 or c.id <> 3 and c.x != 4 and c.y ^= 5" );
+		assertSameAst( "from Cat c where c.weight < 10 and c.weight <= 10L and c.weight > 1.5 and c.weight >= 2.5e3f" );
+		assertSameAst( "from Cat c where c.mate is null and c.name is not null and c.kittens is empty and c.toys is not empty" );
+		assertSameAst( "from Cat c where c.name in ('a', 'it''s') and c.id not in :ids and c.age in (?1) and c.x in ()" );
+		assertSameAst( "from Cat c where c.name like 'a%' escape '\\' and c.nick not like :nick" );
+		assertSameAst( "from Cat c where c.age between 1 and 10 and c.weight not between :low and :high" );
+		assertSameAst( "from Cat c where not c.age > 1 and not ( c.name = 'x' or c.name like 'y%' ) and not c.mate is null" );
+		assertSameAst( "from Cat c where not not c.alive = true and c.dead = false and not upper(c.name) = 'X'" );
+		assertSameAst( "from Cat c where (c.age, c.weight) = (1, 2) and c.x = :order and c.y = :where" );
+		assertSameAst( "from Cat c where c.age = 1bi and c.weight = 1.5bd and c.z = .5 and c.w = 10d" );
+		assertSameAst( "from Cat c where order.id = 1 and group.name is null" );
+	}
+
+	@Test
+	public void testGroupByAndOrderBy() throws Exception {
+		assertSameAst( "select c.color, count(c) from Cat c group by c.color having count(c) > 1 order by c.color" );
+		assertSameAst( "from Cat c order by c.name asc, c.age desc, c.weight ascending, c.id descending" );
+		assertSameAst( "from Cat c order by c.name nulls first, c.age desc nulls last, lower(c.nick)" );
+	}
+
+	@Test
+	public void testLinesAndColumns() throws Exception {
+		assertSameAst( "select c\n\tfrom Cat c\r\n\twhere\tc.name = 'a\nb' and c.age = 1" );
+	}
+
+	@Test
+	public void testLeftToAntlr() throws Exception {
+		assertLeftToAntlr( "update Cat set name = 'x'" );
+		assertLeftToAntlr( "delete from Cat" );
+		assertLeftToAntlr( "insert into Cat (name) select d.name from Dog d" );
+		assertLeftToAntlr( "select new Family(mother, mate) from DomesticCat mother join mother.mate mate" );
+		assertLeftToAntlr( "select object(a) from Animal a" );
+		assertLeftToAntlr( "from Cat c where c.id in (select k.id from Kitten k)" );
+		assertLeftToAntlr( "from Cat c where exists (from Kitten k)" );
+		assertLeftToAntlr( "select case when c.age > 1 then 'old' else 'young' end from Cat c" );
+		assertLeftToAntlr( "from Animal a where a.mother member of a.offspring" );
+		assertLeftToAntlr( "from Cat c join treat(c.mate as DomesticCat) m" );
+		assertLeftToAntlr( "select cast(c.age as string) from Cat c" );
+		assertLeftToAntlr( "select key(m), value(m) from Cat c join c.map m" );
+		assertLeftToAntlr( "select trim(both ' ' from c.name) from Cat c" );
+		assertLeftToAntlr( "from Cat c where c.kittens[0].name = 'x'" );
+		assertLeftToAntlr( "from Cat c where c.id = 0x1F" );
+		assertLeftToAntlr( "from c in class Cat" );
+		assertLeftToAntlr( "from Cat c fetch all properties" );
+		assertLeftToAntlr( "select elements(c.kittens) from Cat c" );
+		assertLeftToAntlr( "where c.name = 'x'" );
+		// not well-formed, left for HqlParser to report
+		assertLeftToAntlr( "from Cat c where" );
+		assertLeftToAntlr( "from Cat c where c.name = 'x" );
+		assertLeftToAntlr( "from Cat c where c.name = \"x\"" );
+		assertLeftToAntlr( "from Cat c order c.name" );
+		assertLeftToAntlr( "from Order order where maxindex(order.items) > 100" );
+	}
+
+	private static void assertSameAst(String hql) throws Exception {
+		final HqlParser parser = HqlParser.getInstance( hql );
+		parser.setFilter( true );
+		parser.statement();
+		assertEquals( 0, parser.getParseErrorHandler().getErrorCount() );
+
+		final AST ast = RecursiveDescentHqlParser.parse( hql, parser.getASTFactory() );
+		assertNotNull( "Query left to the ANTLR parser : " + hql, ast );
+		assertEquals( hql, render( parser.getAST() ), render( ast ) );
+	}
+
+	private static void assertLeftToAntlr(String hql) {
+		assertNull( hql, RecursiveDescentHqlParser.parse( hql, HqlParser.getInstance( hql ).getASTFactory() ) );
+	}
+
+	private static String render(AST ast) {
+		final StringBuilder buffer = new StringBuilder();
+		render( ast, buffer );
+		return buffer.toString();
+	}
+
+	private static void render(AST ast, StringBuilder buffer) {
+		for ( AST node = ast; node != null; node = node.getNextSibling() ) {
+			buffer.append( " [" ).append( node.getType() ).append( " '" ).append( node.getText() ).append( "' " )
+					.append( ( (Node) node ).getLine() ).append( ':' ).append( ( (Node) node ).getColumn() );
+			render( node.getFirstChild(), buffer );
+			buffer.append( ']' );
+		}
+	}
+}
@@ -0,0 +1,244 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.multitenancy;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.TableGenerator;
+
+import org.hibernate.MultiTenancyStrategy;
+import org.hibernate.Session;
+import org.hibernate.SessionBuilder;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.exception.JDBCConnectionException;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.stat.TenantStatistics;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.env.ConnectionProviderBuilder;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernateSessionBuilder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Verifies that the database usage of each tenant is reported in its {@link TenantStatistics},
+ * and that the number of connections held by a tenant can be limited.
+ */
+@RequiresDialect(H2Dialect.class)
+public class TenantStatisticsTest extends BaseUnitTestCase {
+
+	private DriverManagerConnectionProviderImpl acmeProvider;
+	private DriverManagerConnectionProviderImpl jbossProvider;
+	private ServiceRegistryImplementor serviceRegistry;
+	private SessionFactoryImplementor sessionFactory;
+
+	private void buildSessionFactory(Map<String, Object> extraSettings) {
+		acmeProvider = ConnectionProviderBuilder.buildConnectionProvider( "acme" );
+		jbossProvider = ConnectionProviderBuilder.buildConnectionProvider( "jboss" );
+		final Map<String, Object> settings = new HashMap<>( extraSettings );
+		settings.put( AvailableSettings.MULTI_TENANT, MultiTenancyStrategy.DATABASE );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+
+		serviceRegistry = (ServiceRegistryImplementor) new StandardServiceRegistryBuilder()
+				.applySettings( settings )
+				.addService(
+						MultiTenantConnectionProvider.class,
+						new TestingConnectionProvider(
+								new TestingConnectionProvider.NamedConnectionProviderPair( "acme", acmeProvider ),
+								new TestingConnectionProvider.NamedConnectionProviderPair( "jboss", jbossProvider )
+						)
+				)
+				.build();
+		sessionFactory = (SessionFactoryImplementor) new MetadataSources( serviceRegistry )
+				.addAnnotatedClass( Customer.class )
+				.addAnnotatedClass( Invoice.class )
+				.addAnnotatedClass( Payment.class )
+				.buildMetadata()
+				.buildSessionFactory();
+
+		for ( String tenant : Arrays.asList( "acme", "jboss" ) ) {
+			doInHibernateSessionBuilder( () -> newSession( tenant ), session -> {
+				session.createNativeQuery( "drop table Customer if exists" ).executeUpdate();
+				session.createNativeQuery( "create table Customer (id bigint not null, name varchar(255), primary key (id))" )
+						.executeUpdate();
+				session.createNativeQuery( "drop table Invoice if exists" ).executeUpdate();
+				session.createNativeQuery( "create table Invoice (id bigint not null, code varchar(255), primary key (id))" )
+						.executeUpdate();
+				session.createNativeQuery( "drop table invoice_ids if exists" ).executeUpdate();
+				session.createNativeQuery( "create table invoice_ids (sequence_name varchar(255) not null, next_val bigint, primary key (sequence_name))" )
+						.executeUpdate();
+				session.createNativeQuery( "drop table Payment if exists" ).executeUpdate();
+				session.createNativeQuery( "create table Payment (id bigint generated by default as identity, reference varchar(255), primary key (id))" )
+						.executeUpdate();
+			} );
+		}
+		sessionFactory.getStatistics().clear();
+	}
+
+	@After
+	public void tearDown() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+		if ( serviceRegistry != null ) {
+			serviceRegistry.destroy();
+		}
+		if ( jbossProvider != null ) {
+			jbossProvider.stop();
+		}
+		if ( acmeProvider != null ) {
+			acmeProvider.stop();
+		}
+	}
+
+	@Test
+	public void testUsageReportedPerTenant() {
+		buildSessionFactory( new HashMap<>() );
+
+		doInHibernateSessionBuilder( () -> newSession( "acme" ), session -> {
+			for ( long id = 1; id <= 3; id++ ) {
+				final Customer customer = new Customer();
+				customer.id = id;
+				customer.name = "customer " + id;
+				session.persist( customer );
+			}
+		} );
+		doInHibernateSessionBuilder( () -> newSession( "acme" ), session -> {
+			assertEquals( 3, session.createQuery( "from Customer", Customer.class ).getResultList().size() );
+		} );
+		doInHibernateSessionBuilder( () -> newSession( "jboss" ), session -> {
+			assertEquals( 0, session.createQuery( "from Customer", Customer.class ).getResultList().size() );
+		} );
+
+		assertEquals( 2, sessionFactory.getStatistics().getTenantIdentifiers().length );
+
+		final TenantStatistics acme = sessionFactory.getStatistics().getTenantStatistics( "acme" );
+		assertEquals( 2, acme.getConnectCount() );
+		// 3 inserts and a select
+		assertEquals( 4, acme.getPrepareStatementCount() );
+		assertEquals( 3, acme.getRowReadCount() );
+		assertEquals( 0, acme.getConnectionWaitTime() );
+
+		final TenantStatistics jboss = sessionFactory.getStatistics().getTenantStatistics( "jboss" );
+		assertEquals( 1, jboss.getConnectCount() );
+		assertEquals( 1, jboss.getPrepareStatementCount() );
+		assertEquals( 0, jboss.getRowReadCount() );
+	}
+
+	@Test
+	public void testConnectionLimit() {
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( AvailableSettings.MULTI_TENANT_CONNECTION_LIMIT, "1" );
+		settings.put( AvailableSettings.MULTI_TENANT_CONNECTION_LIMIT_TIMEOUT, "100" );
+		buildSessionFactory( settings );
+
+		try ( Session first = newSession( "acme" ).openSession() ) {
+			first.beginTransaction();
+
+			// another tenant is not held back
+			doInHibernateSessionBuilder( () -> newSession( "jboss" ), session -> {
+				session.createQuery( "from Customer" ).list();
+			} );
+
+			try ( Session second = newSession( "acme" ).openSession() ) {
+				second.beginTransaction();
+				fail( "The second connection of the tenant should have been refused" );
+			}
+			catch (JDBCConnectionException expected) {
+				// expected
+			}
+
+			first.getTransaction().commit();
+		}
+
+		// the connection of the first session has been released
+		doInHibernateSessionBuilder( () -> newSession( "acme" ), session -> {
+			session.createQuery( "from Customer" ).list();
+		} );
+
+		final TenantStatistics acme = sessionFactory.getStatistics().getTenantStatistics( "acme" );
+		assertEquals( 2, acme.getConnectCount() );
+		assertTrue( acme.getConnectionHoldTime() >= 100 );
+	}
+
+	@Test
+	public void testConnectionLimitWithGeneratedIdentifiers() {
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( AvailableSettings.MULTI_TENANT_CONNECTION_LIMIT, "1" );
+		settings.put( AvailableSettings.MULTI_TENANT_CONNECTION_LIMIT_TIMEOUT, "100" );
+		buildSessionFactory( settings );
+
+		// the table generator obtains a connection of its own while the session holds one
+		doInHibernateSessionBuilder( () -> newSession( "acme" ), session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Invoice invoice = new Invoice();
+				invoice.code = "invoice " + i;
+				session.persist( invoice );
+				final Payment payment = new Payment();
+				payment.reference = "payment " + i;
+				session.persist( payment );
+			}
+		} );
+
+		doInHibernateSessionBuilder( () -> newSession( "acme" ), session -> {
+			assertEquals( 3, session.createQuery( "from Invoice", Invoice.class ).getResultList().size() );
+			assertEquals( 3, session.createQuery( "from Payment", Payment.class ).getResultList().size() );
+		} );
+
+		final TenantStatistics acme = sessionFactory.getStatistics().getTenantStatistics( "acme" );
+		// the connections of the two sessions, and the ones of the table generator
+		assertTrue( acme.getConnectCount() > 2 );
+		assertEquals( 0, acme.getConnectionWaitTime() );
+	}
+
+	private SessionBuilder newSession(String tenant) {
+		return sessionFactory.withOptions().tenantIdentifier( tenant );
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		Long id;
+
+		String name;
+	}
+
+	@Entity(name = "Invoice")
+	public static class Invoice {
+		@Id
+		@GeneratedValue(strategy = GenerationType.TABLE, generator = "invoice_ids")
+		@TableGenerator(name = "invoice_ids", table = "invoice_ids", pkColumnName = "sequence_name", valueColumnName = "next_val")
+		Long id;
+
+		String code;
+	}
+
+	@Entity(name = "Payment")
+	public static class Payment {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		Long id;
+
+		String reference;
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.naturalid.multiload;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.MultiNaturalIdLoadAccess.compoundValue;
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Verifies that several natural ids are resolved with a batched query by
+ * {@link org.hibernate.Session#byMultipleNaturalIds}, skipping the ones already known to the Session.
+ */
+public class MultiNaturalIdLoadTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Account.class, Membership.class, Tag.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		sqlStatementInterceptor = new SQLStatementInterceptor( settings );
+	}
+
+	@Override
+	protected void afterSessionFactoryBuilt(SessionFactoryImplementor sessionFactory) {
+		doInHibernate( () -> sessionFactory, session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				final Account account = new Account();
+				account.id = i;
+				account.code = "A" + i;
+				session.persist( account );
+
+				final Membership membership = new Membership();
+				membership.id = i;
+				membership.system = i % 2 == 0 ? "prod" : "test";
+				membership.userName = "user" + i;
+				session.persist( membership );
+			}
+
+			final Tag java = new Tag();
+			java.id = 1;
+			java.name = "java";
+			session.persist( java );
+
+			final Tag sql = new Tag();
+			sql.id = 2;
+			sql.name = "SQL";
+			session.persist( sql );
+		} );
+	}
+
+	@Test
+	public void testSimpleNaturalIds() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Account> accounts = session.byMultipleNaturalIds( Account.class )
+					.multiLoad( "A3", "A1", "unknown", "A3" );
+			assertEquals( 4, accounts.size() );
+			assertEquals( "A3", accounts.get( 0 ).code );
+			assertEquals( "A1", accounts.get( 1 ).code );
+			assertNull( accounts.get( 2 ) );
+			assertSame( accounts.get( 0 ), accounts.get( 3 ) );
+			assertEquals( 1, statistics.getNaturalIdQueryExecutionCount() );
+
+			// already resolved natural ids are not queried again
+			final List<Account> unordered = session.byMultipleNaturalIds( Account.class )
+					.enableOrderedReturn( false )
+					.multiLoad( Arrays.asList( "A1", "A2", "unknown", "A3" ) );
+			assertEquals( 3, unordered.size() );
+			assertSame( accounts.get( 1 ), unordered.get( 0 ) );
+			assertEquals( 2, statistics.getNaturalIdQueryExecutionCount() );
+		} );
+	}
+
+	@Test
+	public void testBatchSize() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Account> accounts = session.byMultipleNaturalIds( Account.class )
+					.withBatchSize( 2 )
+					.multiLoad( "A1", "A2", "A3", "A4", "A5" );
+			for ( int i = 0; i < accounts.size(); i++ ) {
+				assertEquals( "A" + ( i + 1 ), accounts.get( i ).code );
+			}
+			assertEquals( 3, statistics.getNaturalIdQueryExecutionCount() );
+		} );
+	}
+
+	@Test
+	public void testCompoundNaturalIds() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Membership> memberships = session.byMultipleNaturalIds( Membership.class ).multiLoad(
+					compoundValue( "system", "prod", "userName", "user4" ),
+					compoundValue( "system", "prod", "userName", "user1" ),
+					compoundValue( "system", "test", "userName", "user1" )
+			);
+			assertEquals( 3, memberships.size() );
+			assertEquals( "user4", memberships.get( 0 ).userName );
+			assertNull( memberships.get( 1 ) );
+			assertEquals( "user1", memberships.get( 2 ).userName );
+			assertEquals( 1, statistics.getNaturalIdQueryExecutionCount() );
+
+			try {
+				session.byMultipleNaturalIds( Membership.class ).multiLoad( "user1" );
+				fail( "A compound natural id should have been required" );
+			}
+			catch (HibernateException expected) {
+				// expected
+			}
+		} );
+	}
+
+	@Test
+	@RequiresDialect(H2Dialect.class)
+	public void testNaturalIdsMatchedByDatabaseCollation() {
+		doInHibernate( this::sessionFactory, session -> {
+			// the natural id column ignores the case, the values of the rows differ from the requested ones
+			final List<Tag> tags = session.byMultipleNaturalIds( Tag.class ).multiLoad( "JAVA", "sql", "none" );
+			assertEquals( 3, tags.size() );
+			assertEquals( Integer.valueOf( 1 ), tags.get( 0 ).id );
+			assertEquals( Integer.valueOf( 2 ), tags.get( 1 ).id );
+			assertNull( tags.get( 2 ) );
+			assertSame( tags.get( 0 ), session.bySimpleNaturalId( Tag.class ).load( "Java" ) );
+		} );
+	}
+
+	@Test
+	@RequiresDialect(H2Dialect.class)
+	public void testLockOptionsApplied() {
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.clear();
+			final List<Account> accounts = session.byMultipleNaturalIds( Account.class )
+					.with( new LockOptions( LockMode.PESSIMISTIC_WRITE ) )
+					.multiLoad( "A4", "A5" );
+			assertEquals( 2, accounts.size() );
+			assertTrue( sqlStatementInterceptor.getSqlQueries().getFirst().endsWith( " for update" ) );
+			assertEquals( LockMode.PESSIMISTIC_WRITE, session.getCurrentLockMode( accounts.get( 0 ) ) );
+		} );
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		Integer id;
+
+		@NaturalId
+		String code;
+	}
+
+	@Entity(name = "Membership")
+	public static class Membership {
+		@Id
+		Integer id;
+
+		@NaturalId
+		String system;
+
+		@NaturalId
+		String userName;
+	}
+
+	@Entity(name = "Tag")
+	public static class Tag {
+		@Id
+		Integer id;
+
+		@NaturalId
+		@Column(columnDefinition = "varchar_ignorecase(20)")
+		String name;
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.naturalid.mutable;
+
+import java.io.Serializable;
+import java.util.Collection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Verifies that only the modifiable entities of the persistence context are synchronized before a mutable
+ * natural id lookup, and that they are tracked as they are loaded, made read-only or modifiable and evicted.
+ */
+public class NaturalIdSynchronizationCandidatesTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Account.class };
+	}
+
+	@Override
+	protected void afterSessionFactoryBuilt(SessionFactoryImplementor sessionFactory) {
+		doInHibernate( () -> sessionFactory, session -> {
+			for ( long id = 1; id <= 3; id++ ) {
+				final Account account = new Account();
+				account.id = id;
+				account.login = "login" + id;
+				session.persist( account );
+			}
+		} );
+	}
+
+	@Test
+	public void testCandidatesTracked() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Account first = session.get( Account.class, 1L );
+			final Account second = session.get( Account.class, 2L );
+			final Account third = session.get( Account.class, 3L );
+			assertEquals( 3, candidates( session ).size() );
+
+			session.setReadOnly( second, true );
+			assertSame( first, session.bySimpleNaturalId( Account.class ).load( "login1" ) );
+			assertEquals( 2, candidates( session ).size() );
+
+			session.setReadOnly( second, false );
+			assertEquals( 3, candidates( session ).size() );
+			second.login = "renamed";
+			assertSame( second, session.bySimpleNaturalId( Account.class ).load( "renamed" ) );
+			assertNull( session.bySimpleNaturalId( Account.class ).load( "login2" ) );
+
+			session.evict( third );
+			assertEquals( 2, candidates( session ).size() );
+
+			second.login = "login2";
+		} );
+	}
+
+	@Test
+	public void testReadOnlyEntitiesNotSynchronized() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.setDefaultReadOnly( true );
+			final Account first = session.bySimpleNaturalId( Account.class ).load( "login1" );
+			final Account second = session.bySimpleNaturalId( Account.class ).load( "login2" );
+			// the read-only entities are dropped by the next lookup
+			assertSame( second, session.bySimpleNaturalId( Account.class ).load( "login2" ) );
+			assertEquals( 0, candidates( session ).size() );
+
+			session.setReadOnly( first, false );
+			first.login = "renamed";
+			assertSame( first, session.bySimpleNaturalId( Account.class ).load( "renamed" ) );
+			assertEquals( 1, candidates( session ).size() );
+
+			first.login = "login1";
+		} );
+	}
+
+	private static Collection<Serializable> candidates(Session session) {
+		final SessionImplementor sessionImplementor = (SessionImplementor) session;
+		return sessionImplementor.getPersistenceContext().getNaturalIdHelper().getSynchronizationCandidates(
+				sessionImplementor.getFactory().getMetamodel().entityPersister( Account.class )
+		);
+	}
+
+	@Entity(name = "Account")
+	public static class Account {
+		@Id
+		Long id;
+
+		@NaturalId(mutable = true)
+		String login;
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.ops;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Verifies that {@link org.hibernate.Session#mergeAll} loads the persistent instances of the detached
+ * instances, and of their cascaded associations, with one statement per entity type.
+ */
+public class MergeAllTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Catalog.class, Product.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected void afterSessionFactoryBuilt(SessionFactoryImplementor sessionFactory) {
+		doInHibernate( () -> sessionFactory, session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Catalog catalog = new Catalog();
+				catalog.id = i;
+				catalog.name = "catalog " + i;
+				session.persist( catalog );
+				for ( int j = 1; j <= 5; j++ ) {
+					final Product product = new Product();
+					product.id = i * 10 + j;
+					product.name = "product " + product.id;
+					product.catalog = catalog;
+					catalog.products.add( product );
+					session.persist( product );
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testMergeAll() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		final List<Catalog> detached = doInHibernate( this::sessionFactory, session -> {
+			final List<Catalog> catalogs = session.createQuery(
+					"select distinct c from Catalog c join fetch c.products order by c.id", Catalog.class )
+					.list();
+			for ( Catalog catalog : catalogs ) {
+				catalog.name = catalog.name + " (updated)";
+				for ( Product product : catalog.products ) {
+					product.name = product.name + " (updated)";
+				}
+			}
+			return catalogs;
+		} );
+
+		final Catalog created = new Catalog();
+		created.id = 4;
+		created.name = "catalog 4";
+		detached.add( created );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Catalog managed = session.get( Catalog.class, 1 );
+
+			statistics.clear();
+			final List<Catalog> merged = session.mergeAll( detached );
+			// one statement per entity type, and one for the new catalog the merge looks for
+			assertEquals( 3, statistics.getPrepareStatementCount() );
+
+			assertEquals( 4, merged.size() );
+			assertSame( managed, merged.get( 0 ) );
+			assertNotSame( detached.get( 1 ), merged.get( 1 ) );
+			assertEquals( 5, merged.get( 1 ).products.size() );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "catalog 2 (updated)", session.get( Catalog.class, 2 ).name );
+			assertEquals( "product 35 (updated)", session.get( Product.class, 35 ).name );
+			assertEquals( "catalog 4", session.get( Catalog.class, 4 ).name );
+		} );
+	}
+
+	@Entity(name = "Catalog")
+	public static class Catalog {
+		@Id
+		Integer id;
+
+		String name;
+
+		@OneToMany(mappedBy = "catalog", cascade = CascadeType.MERGE)
+		List<Product> products = new ArrayList<>();
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		Integer id;
+
+		String name;
+
+		@ManyToOne
+		Catalog catalog;
+	}
+}
@@ -0,0 +1,248 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.readonly;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.LockModeType;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Version;
+
+import org.hibernate.FlushMode;
+import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Verifies sessions opened read-only through {@link org.hibernate.SessionBuilder#readOnly}.
+ */
+public class ReadOnlySessionBuilderTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Shelf.class, Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected void afterSessionFactoryBuilt(SessionFactoryImplementor sessionFactory) {
+		doInHibernate( () -> sessionFactory, session -> {
+			for ( int id = 1; id <= 3; id++ ) {
+				final Shelf shelf = new Shelf();
+				shelf.id = id;
+				shelf.name = "shelf " + id;
+				session.persist( shelf );
+				for ( int i = 1; i <= 2; i++ ) {
+					final Book book = new Book();
+					book.id = id * 10 + i;
+					book.title = "book " + book.id;
+					book.shelf = shelf;
+					shelf.books.add( book );
+					session.persist( book );
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testNoSnapshotsAndNoFlush() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		try ( Session session = sessionFactory().withOptions().readOnly( true ).openSession() ) {
+			assertTrue( session.isDefaultReadOnly() );
+			assertEquals( FlushMode.MANUAL, session.getHibernateFlushMode() );
+
+			session.beginTransaction();
+			final Shelf shelf = session.get( Shelf.class, 1 );
+			assertTrue( session.isReadOnly( shelf ) );
+			assertEquals( 2, shelf.books.size() );
+			assertNull(
+					( (SessionImplementor) session ).getPersistenceContext().getCollectionEntry(
+							(org.hibernate.collection.spi.PersistentCollection) shelf.books
+					).getSnapshot()
+			);
+
+			shelf.name = "changed";
+			shelf.books.clear();
+
+			statistics.clear();
+			final List<Book> books = session.createQuery( "from Book b where b.shelf.id = 1", Book.class ).list();
+			assertEquals( 2, books.size() );
+			assertFalse( session.isDirty() );
+			assertEquals(
+					2,
+					( (Number) session.createNativeQuery( "select count(*) from Book where shelf_id = 1" )
+							.setHibernateFlushMode( FlushMode.ALWAYS )
+							.getSingleResult() ).intValue()
+			);
+			try {
+				session.flush();
+				fail( "flush should be rejected" );
+			}
+			catch (IllegalStateException expected) {
+			}
+
+			// the transaction completion does not flush either
+			session.setHibernateFlushMode( FlushMode.AUTO );
+			session.getTransaction().commit();
+			assertEquals( 0, statistics.getEntityUpdateCount() );
+			assertEquals( 0, statistics.getCollectionUpdateCount() );
+			assertEquals( 0, statistics.getFlushCount() );
+		}
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Shelf shelf = session.get( Shelf.class, 1 );
+			assertEquals( "shelf 1", shelf.name );
+			assertEquals( 2, shelf.books.size() );
+		} );
+	}
+
+	@Test
+	public void testWritesAreRejected() {
+		try ( Session session = sessionFactory().withOptions().readOnly( true ).openSession() ) {
+			session.beginTransaction();
+			final Book book = new Book();
+			book.id = 100;
+			try {
+				session.persist( book );
+				fail( "persist should be rejected" );
+			}
+			catch (IllegalStateException expected) {
+			}
+			try {
+				session.delete( session.get( Book.class, 21 ) );
+				fail( "delete should be rejected" );
+			}
+			catch (IllegalStateException expected) {
+			}
+			try {
+				session.createQuery( "delete from Book" ).executeUpdate();
+				fail( "bulk delete should be rejected" );
+			}
+			catch (IllegalStateException expected) {
+			}
+			session.getTransaction().rollback();
+		}
+	}
+
+	@Test
+	public void testVersionIncrementsAreRejected() {
+		try ( Session session = sessionFactory().withOptions().readOnly( true ).openSession() ) {
+			session.beginTransaction();
+			final Shelf shelf = session.get( Shelf.class, 1 );
+			for ( LockMode lockMode : new LockMode[] { LockMode.OPTIMISTIC_FORCE_INCREMENT, LockMode.PESSIMISTIC_FORCE_INCREMENT } ) {
+				try {
+					session.buildLockRequest( new LockOptions( lockMode ) ).lock( shelf );
+					fail( lockMode + " should be rejected" );
+				}
+				catch (IllegalStateException expected) {
+				}
+			}
+			try {
+				session.get( Shelf.class, 2, LockMode.PESSIMISTIC_FORCE_INCREMENT );
+				fail( "loading with a version increment should be rejected" );
+			}
+			catch (IllegalStateException expected) {
+			}
+			try {
+				session.createQuery( "from Shelf", Shelf.class )
+						.setLockMode( LockModeType.OPTIMISTIC_FORCE_INCREMENT )
+						.list();
+				fail( "querying with a version increment should be rejected" );
+			}
+			catch (IllegalStateException expected) {
+			}
+			session.getTransaction().commit();
+		}
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 0, (int) session.get( Shelf.class, 1 ).version );
+		} );
+	}
+
+	@Test
+	public void testReattachCollectionLoadedReadOnly() {
+		final Shelf unchanged;
+		final Shelf changed;
+		try ( Session session = sessionFactory().withOptions().readOnly( true ).openSession() ) {
+			unchanged = session.get( Shelf.class, 2 );
+			changed = session.get( Shelf.class, 3 );
+			assertEquals( 2, unchanged.books.size() );
+			assertEquals( 2, changed.books.size() );
+		}
+
+		doInHibernate( this::sessionFactory, session -> {
+			unchanged.name = "shelf 2 (updated)";
+			session.update( unchanged );
+		} );
+
+		changed.books.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			try {
+				session.update( changed );
+				fail( "reattaching a collection modified without snapshot should fail" );
+			}
+			catch (HibernateException expected) {
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Shelf shelf = session.get( Shelf.class, 2 );
+			assertEquals( "shelf 2 (updated)", shelf.name );
+			assertEquals( 2, shelf.books.size() );
+		} );
+	}
+
+	@Entity(name = "Shelf")
+	public static class Shelf {
+		@Id
+		Integer id;
+
+		String name;
+
+		@Version
+		Integer version;
+
+		@OneToMany(mappedBy = "shelf")
+		Set<Book> books = new HashSet<>();
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+
+		String title;
+
+		@ManyToOne
+		Shelf shelf;
+	}
+}
@@ -0,0 +1,216 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stateless;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.QueryException;
+import org.hibernate.StatelessSession;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Verifies that query results streamed in key-range partitions are all read exactly once.
+ */
+public class PartitionedStreamTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Measurement.class, Order.class, Group.class };
+	}
+
+	@Override
+	protected void afterSessionFactoryBuilt(SessionFactoryImplementor sessionFactory) {
+		doInHibernate( () -> sessionFactory, session -> {
+			for ( long i = 1; i <= 100; i++ ) {
+				final Measurement measurement = new Measurement();
+				measurement.id = i;
+				measurement.sensor = i % 2 == 0 ? "even" : "odd";
+				measurement.reading = (int) i;
+				session.persist( measurement );
+			}
+			for ( long i = 1; i <= 10; i++ ) {
+				final Group group = new Group();
+				group.id = i;
+				session.persist( group );
+				final Order order = new Order();
+				order.id = i;
+				order.group = group;
+				session.persist( order );
+			}
+		} );
+	}
+
+	@Test
+	public void testStreamPartitionedEntities() {
+		try ( StatelessSession session = sessionFactory().openStatelessSession() ) {
+			final List<Long> ids;
+			try ( Stream<Measurement> stream = session.streamPartitioned( Measurement.class, 4 ) ) {
+				assertTrue( stream.isParallel() );
+				ids = stream.map( measurement -> measurement.id ).sorted().collect( Collectors.toList() );
+			}
+			assertEquals( IntStream.rangeClosed( 1, 100 ).asLongStream().boxed().collect( Collectors.toList() ), ids );
+		}
+	}
+
+	@Test
+	public void testPartitionedQueryWithRestriction() {
+		try ( StatelessSession session = sessionFactory().openStatelessSession() ) {
+			final List<Integer> readings = session.createQuery(
+					"select m.reading from Measurement m where m.sensor = :sensor or m.reading > :reading order by m.reading",
+					Integer.class
+			)
+					.setParameter( "sensor", "even" )
+					.setParameter( "reading", 90 )
+					.partitionedStream( "m.id", 7 )
+					.sorted()
+					.collect( Collectors.toList() );
+
+			// 50 even readings, plus the 5 odd ones above 90
+			assertEquals( 55, readings.size() );
+			assertEquals( Integer.valueOf( 2 ), readings.get( 0 ) );
+			assertEquals( Integer.valueOf( 100 ), readings.get( 54 ) );
+		}
+	}
+
+	@Test
+	public void testMorePartitionsThanValues() {
+		try ( StatelessSession session = sessionFactory().openStatelessSession() ) {
+			final long count = session.createQuery( "from Measurement m where m.id <= 3", Measurement.class )
+					.partitionedStream( "m.id", 10 )
+					.count();
+			assertEquals( 3, count );
+
+			final long none = session.createQuery( "from Measurement m where m.id > 1000", Measurement.class )
+					.partitionedStream( "m.id", 10 )
+					.count();
+			assertEquals( 0, none );
+		}
+	}
+
+	@Test
+	public void testEntitiesNamedAfterKeywords() {
+		try ( StatelessSession session = sessionFactory().openStatelessSession() ) {
+			final List<Long> ids = session.createQuery(
+					"select o.id from Order o join o.group g where g.id > 2 order by o.id",
+					Long.class
+			)
+					.partitionedStream( "o.id", 3 )
+					.sorted()
+					.collect( Collectors.toList() );
+			assertEquals( LongStream.rangeClosed( 3, 10 ).boxed().collect( Collectors.toList() ), ids );
+
+			assertEquals( 10, session.streamPartitioned( Group.class, 3 ).count() );
+		}
+	}
+
+	@Test
+	public void testFiltersApplyToPartitions() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.enableFilter( "sensor" ).setParameter( "sensor", "odd" );
+			final List<Measurement> measurements = session.createQuery( "from Measurement m", Measurement.class )
+					.partitionedStream( "m.id", 4 )
+					.collect( Collectors.toList() );
+			assertEquals( 50, measurements.size() );
+			for ( Measurement measurement : measurements ) {
+				assertEquals( "odd", measurement.sensor );
+			}
+		} );
+	}
+
+	@Test
+	public void testStatelessSessionFilters() {
+		try ( StatelessSession session = sessionFactory().openStatelessSession() ) {
+			session.enableFilter( "sensor" ).setParameter( "sensor", "even" );
+			assertEquals( "sensor", session.getEnabledFilter( "sensor" ).getName() );
+			assertEquals( 50, session.createQuery( "from Measurement m" ).list().size() );
+			assertEquals( 50, session.streamPartitioned( Measurement.class, 4 ).count() );
+
+			session.disableFilter( "sensor" );
+			assertNull( session.getEnabledFilter( "sensor" ) );
+			assertEquals( 100, session.createQuery( "from Measurement m" ).list().size() );
+		}
+	}
+
+	@Test(expected = QueryException.class)
+	public void testFetchJoinsCannotBePartitioned() {
+		try ( StatelessSession session = sessionFactory().openStatelessSession() ) {
+			session.createQuery( "select o from Order o join fetch o.group", Order.class ).partitionedStream( "o.id", 2 );
+		}
+	}
+
+	@Test
+	public void testPendingChangesRejected() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Measurement measurement = session.get( Measurement.class, 1L );
+			measurement.reading = -1;
+			try {
+				session.createQuery( "from Measurement m where m.reading < 0", Measurement.class )
+						.partitionedStream( "m.id", 2 );
+				fail( "a session with changes not flushed should be rejected" );
+			}
+			catch (IllegalStateException expected) {
+			}
+			measurement.reading = 1;
+		} );
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testNativeQueryCannotBePartitioned() {
+		try ( StatelessSession session = sessionFactory().openStatelessSession() ) {
+			session.createNativeQuery( "select id from Measurement" ).partitionedStream( "id", 2 );
+		}
+	}
+
+	@Entity(name = "Measurement")
+	@FilterDef(name = "sensor", parameters = @ParamDef(name = "sensor", type = "string"))
+	@Filter(name = "sensor", condition = "sensor = :sensor")
+	public static class Measurement {
+		@Id
+		Long id;
+
+		String sensor;
+
+		Integer reading;
+	}
+
+	@Entity(name = "Order")
+	@Table(name = "PARTITIONED_ORDER")
+	public static class Order {
+		@Id
+		Long id;
+
+		@ManyToOne
+		Group group;
+	}
+
+	@Entity(name = "Group")
+	@Table(name = "PARTITIONED_GROUP")
+	public static class Group {
+		@Id
+		Long id;
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stateless;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Verifies that the bulk operations of {@link StatelessSession} group the statements of each
+ * entity into JDBC batches, in an order compatible with the foreign keys.
+ */
+public class StatelessSessionBulkOperationsTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Department.class, Employee.class, Category.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		settings.put( AvailableSettings.BATCH_IDENTITY_INSERTS, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testBulkOperations() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		// children listed before their parents, interleaved
+		final List<Object> entities = new ArrayList<>();
+		for ( int i = 1; i <= 5; i++ ) {
+			final Department department = new Department();
+			department.id = i;
+			department.name = "department " + i;
+			final Employee employee = new Employee();
+			employee.id = i;
+			employee.name = "employee " + i;
+			employee.department = department;
+			entities.add( employee );
+			entities.add( department );
+		}
+
+		try ( StatelessSession session = sessionFactory().openStatelessSession() ) {
+			Transaction transaction = session.beginTransaction();
+			statistics.clear();
+			final List<Serializable> ids = session.insertAll( entities );
+			// one batch per entity, the departments first
+			assertEquals( 2, statistics.getPrepareStatementCount() );
+			assertEquals( entities.size(), ids.size() );
+			assertEquals( 1, ids.get( 0 ) );
+			transaction.commit();
+
+			transaction = session.beginTransaction();
+			for ( Object entity : entities ) {
+				if ( entity instanceof Employee ) {
+					( (Employee) entity ).name += " (updated)";
+				}
+				else {
+					( (Department) entity ).name += " (updated)";
+				}
+			}
+			statistics.clear();
+			session.updateAll( entities );
+			assertEquals( 2, statistics.getPrepareStatementCount() );
+			transaction.commit();
+
+			assertEquals(
+					"employee 3 (updated)",
+					( (Employee) session.get( Employee.class, 3 ) ).name
+			);
+
+			transaction = session.beginTransaction();
+			statistics.clear();
+			// the employees are deleted first
+			session.deleteAll( entities );
+			assertEquals( 2, statistics.getPrepareStatementCount() );
+			transaction.commit();
+
+			assertEquals(
+					Long.valueOf( 0 ),
+					session.createQuery( "select count(d) from Department d", Long.class ).uniqueResult()
+			);
+		}
+	}
+
+	@Test
+	public void testIdentityInsertsReferencingEachOther() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		final Category root = new Category();
+		root.name = "root";
+		final Category first = new Category();
+		first.name = "first";
+		first.parent = root;
+		final Category second = new Category();
+		second.name = "second";
+		second.parent = root;
+		final Category nested = new Category();
+		nested.name = "nested";
+		nested.parent = first;
+
+		try ( StatelessSession session = sessionFactory().openStatelessSession() ) {
+			final Transaction transaction = session.beginTransaction();
+			statistics.clear();
+			final List<Serializable> ids = session.insertAll( Arrays.asList( root, first, second, nested ) );
+			if ( getDialect() instanceof H2Dialect ) {
+				// a new batch starts with each category referencing one of the current batch
+				assertEquals( 3, statistics.getPrepareStatementCount() );
+			}
+			transaction.commit();
+
+			assertEquals( 4, new HashSet<>( ids ).size() );
+			assertEquals( ids.get( 0 ), root.id );
+			assertEquals(
+					root.id,
+					( (Category) session.get( Category.class, second.id ) ).parent.id
+			);
+			assertEquals(
+					first.id,
+					( (Category) session.get( Category.class, nested.id ) ).parent.id
+			);
+		}
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		Integer id;
+
+		String name;
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		Integer id;
+
+		String name;
+
+		@ManyToOne
+		Department department;
+	}
+
+	@Entity(name = "Category")
+	public static class Category {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		Long id;
+
+		String name;
+
+		@ManyToOne
+		Category parent;
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernateSessionBuilder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies that association fetches following a query are attributed to it, and reported as an N+1 select
+ * once they reach the configured threshold.
+ */
+public class NPlusOneDetectionTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private static final String AUTHORS_QUERY = "from Author order by id";
+	private static final String BOOKS_QUERY = "from Book order by id";
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Author.class, Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.N_PLUS_ONE_DETECTION_THRESHOLD, "3" );
+		settings.put( AvailableSettings.N_PLUS_ONE_DETECTION_WINDOW, "60000" );
+	}
+
+	@Override
+	protected void afterSessionFactoryBuilt(SessionFactoryImplementor sessionFactory) {
+		doInHibernate( () -> sessionFactory, session -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				final Author author = new Author();
+				author.id = i;
+				session.persist( author );
+
+				final Book book = new Book();
+				book.id = i;
+				book.author = author;
+				session.persist( book );
+			}
+		} );
+	}
+
+	@Test
+	public void testCollectionFetches() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		final FindingCollector findings = new FindingCollector();
+
+		doInHibernateSessionBuilder( () -> sessionFactory().withOptions().eventListeners( findings ), session -> {
+			final List<Author> authors = session.createQuery( AUTHORS_QUERY, Author.class ).list();
+			assertEquals( 1, authors.get( 0 ).getBooks().size() );
+			assertEquals( 1, authors.get( 1 ).getBooks().size() );
+			assertTrue( findings.findings.isEmpty() );
+
+			for ( Author author : authors ) {
+				Hibernate.initialize( author.getBooks() );
+			}
+		} );
+
+		assertEquals( 1, findings.findings.size() );
+		assertEquals( AUTHORS_QUERY + "|" + Author.class.getName() + ".books|true|3", findings.findings.get( 0 ) );
+
+		final QueryStatistics queryStatistics = statistics.getQueryStatistics( AUTHORS_QUERY );
+		assertEquals( 5, queryStatistics.getAssociationFetchCount() );
+		assertEquals( 1, queryStatistics.getNPlusOneCount() );
+	}
+
+	@Test
+	public void testEntityFetches() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		final FindingCollector findings = new FindingCollector();
+
+		doInHibernateSessionBuilder( () -> sessionFactory().withOptions().eventListeners( findings ), session -> {
+			final List<Book> books = session.createQuery( BOOKS_QUERY, Book.class ).list();
+			Hibernate.initialize( books.get( 0 ).getAuthor() );
+			Hibernate.initialize( books.get( 1 ).getAuthor() );
+
+			// a new query starts counting again
+			final List<Book> again = session.createQuery( "from Book where id > 2", Book.class ).list();
+			assertFalse( Hibernate.isInitialized( again.get( 0 ).getAuthor() ) );
+			Hibernate.initialize( again.get( 0 ).getAuthor() );
+		} );
+
+		assertTrue( findings.findings.isEmpty() );
+		assertEquals( 2, statistics.getQueryStatistics( BOOKS_QUERY ).getAssociationFetchCount() );
+		assertEquals( 0, statistics.getQueryStatistics( BOOKS_QUERY ).getNPlusOneCount() );
+
+		doInHibernateSessionBuilder( () -> sessionFactory().withOptions().eventListeners( findings ), session -> {
+			for ( Book book : session.createQuery( BOOKS_QUERY, Book.class ).list() ) {
+				Hibernate.initialize( book.getAuthor() );
+			}
+		} );
+
+		assertEquals( 1, findings.findings.size() );
+		assertEquals( BOOKS_QUERY + "|" + Author.class.getName() + "|false|3", findings.findings.get( 0 ) );
+		assertEquals( 1, statistics.getQueryStatistics( BOOKS_QUERY ).getNPlusOneCount() );
+	}
+
+	public static class FindingCollector extends BaseSessionEventListener {
+		private final List<String> findings = new ArrayList<>();
+
+		@Override
+		public void nPlusOneDetected(String query, String role, boolean collection, int fetchCount) {
+			findings.add( query + "|" + role + "|" + collection + "|" + fetchCount );
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		Integer id;
+
+		@OneToMany(mappedBy = "author")
+		List<Book> books = new ArrayList<>();
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		Author author;
+
+		public Author getAuthor() {
+			return author;
+		}
+	}
+}
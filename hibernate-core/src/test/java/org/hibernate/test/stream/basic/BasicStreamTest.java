@@ -6,6 +6,9 @@
  */
 package org.hibernate.test.stream.basic;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.stream.Stream;
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -48,8 +51,6 @@ public class BasicStreamTest extends BaseNonConfigCoreFunctionalTestCase {
 		assertThat( ( (SessionImplementor) session ).getJdbcCoordinator().getLogicalConnection().getResourceRegistry().hasRegisteredResources(), is( false ) );
 		final Stream<MyEntity> stream = session.createQuery( "from MyEntity", MyEntity.class ).stream();
 		assertThat( ( (SessionImplementor) session ).getJdbcCoordinator().getLogicalConnection().getResourceRegistry().hasRegisteredResources(), is( true ) );
-		stream.forEach( System.out::println );
-		assertThat( ( (SessionImplementor) session ).getJdbcCoordinator().getLogicalConnection().getResourceRegistry().hasRegisteredResources(), is( true ) );
 		stream.close();
 		assertThat( ( (SessionImplementor) session ).getJdbcCoordinator().getLogicalConnection().getResourceRegistry().hasRegisteredResources(), is( false ) );
 
@@ -57,6 +58,28 @@ public class BasicStreamTest extends BaseNonConfigCoreFunctionalTestCase {
 		session.close();
 	}
 
+	@Test
+	public void testTerminalOperationReleasesResources() {
+		doInHibernate( this::sessionFactory, session -> {
+			final MyEntity entity = new MyEntity();
+			entity.id = 3;
+			entity.name = "streamed";
+			session.persist( entity );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Stream<MyEntity> stream = session.createQuery( "from MyEntity", MyEntity.class ).stream();
+			assertThat( ( (SessionImplementor) session ).getJdbcCoordinator().getLogicalConnection().getResourceRegistry().hasRegisteredResources(), is( true ) );
+			final List<String> names = new ArrayList<>();
+			stream.filter( entity -> entity.id == 3 ).forEach( entity -> names.add( entity.name ) );
+			assertThat( names, is( Collections.singletonList( "streamed" ) ) );
+			assertThat( ( (SessionImplementor) session ).getJdbcCoordinator().getLogicalConnection().getResourceRegistry().hasRegisteredResources(), is( false ) );
+
+			session.createQuery( "from MyEntity", MyEntity.class ).stream().findFirst();
+			assertThat( ( (SessionImplementor) session ).getJdbcCoordinator().getLogicalConnection().getResourceRegistry().hasRegisteredResources(), is( false ) );
+		} );
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HHH-10824")
 	public void testQueryStream() {
@@ -0,0 +1,124 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.test.stream.basic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies that with {@link AvailableSettings#QUERY_STREAMING} enabled, the entities emitted by
+ * {@link org.hibernate.query.Query#stream()} do not pile up in the persistence context.
+ */
+public class QueryStreamingTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class, Part.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.QUERY_STREAMING, "true" );
+	}
+
+	@Test
+	public void testEmittedEntitiesEvicted() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				final Item item = new Item();
+				item.id = i;
+				item.name = "item " + i;
+				session.persist( item );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Item> emitted = new ArrayList<>();
+			session.createQuery( "from Item i order by i.id", Item.class ).stream().forEach( item -> {
+				// only the entity of the current row is managed
+				assertTrue( session.contains( item ) );
+				for ( Item previous : emitted ) {
+					assertFalse( session.contains( previous ) );
+				}
+				emitted.add( item );
+			} );
+
+			assertEquals( 10, emitted.size() );
+			assertFalse( session.contains( emitted.get( 9 ) ) );
+			assertFalse( ( (SessionImplementor) session ).getJdbcCoordinator().getLogicalConnection().getResourceRegistry().hasRegisteredResources() );
+		} );
+	}
+
+	@Test
+	public void testManagedEntitiesKept() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Part part = new Part();
+				part.id = i;
+				part.name = "part " + i;
+				session.persist( part );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Part managed = session.get( Part.class, 2 );
+			managed.name = "changed";
+
+			final List<Part> emitted = new ArrayList<>();
+			session.createQuery( "from Part p order by p.id", Part.class ).stream().forEach( emitted::add );
+
+			assertEquals( 3, emitted.size() );
+			assertSame( managed, emitted.get( 1 ) );
+			assertFalse( session.contains( emitted.get( 0 ) ) );
+			assertTrue( session.contains( managed ) );
+			assertFalse( session.contains( emitted.get( 2 ) ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "changed", session.get( Part.class, 2 ).name );
+		} );
+	}
+
+	@Test
+	public void testScalarResults() {
+		doInHibernate( this::sessionFactory, session -> {
+			final long count = session.createQuery( "select i.name from Item i", String.class ).stream().count();
+			assertEquals( session.createQuery( "select count(i) from Item i", Long.class ).uniqueResult().longValue(), count );
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		Integer id;
+
+		String name;
+	}
+
+	@Entity(name = "Part")
+	public static class Part {
+		@Id
+		Integer id;
+
+		String name;
+	}
+}